@@ -0,0 +1,211 @@
+package com.appsmith.external.annotations.encryption;
+
+import com.appsmith.external.models.AppsmithDomain;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The encrypted fields of every {@link AppsmithDomain} class in a set of packages, and the fields through which more
+ * encrypted fields can be reached, computed once from the declared types of the fields.
+ * <p>
+ * A field of an Appsmith type, or a collection or map of one, leads to encrypted fields if any of the scanned classes
+ * that can be assigned to it does. Fields whose declared type is outside the scanned packages are always followed,
+ * since their subtypes aren't known. Classes from which no encrypted field can be reached aren't traversed at all.
+ */
+class EncryptedFieldGraph {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    enum Kind {
+        ENCRYPTED,
+        APPSMITH_FIELD,
+        APPSMITH_COLLECTION,
+        APPSMITH_MAP
+    }
+
+    record FieldAccess(Kind kind, MethodHandle getter, MethodHandle setter) {
+
+        Object get(Object source) {
+            try {
+                return (Object) getter.invokeExact(source);
+            } catch (Throwable e) {
+                throw new IllegalStateException("Unable to read encryption candidate field", e);
+            }
+        }
+
+        void set(Object source, Object value) {
+            try {
+                setter.invokeExact(source, value);
+            } catch (Throwable e) {
+                throw new IllegalStateException("Unable to write encrypted field", e);
+            }
+        }
+    }
+
+    record ClassMetadata(boolean reachesEncryptedFields, List<FieldAccess> fields) {}
+
+    // A field of a scanned class that is either encrypted or of an Appsmith type, or a collection or map of one
+    private record FieldInfo(Field field, Kind kind, Class<?> targetType) {}
+
+    static final EncryptedFieldGraph EMPTY = new EncryptedFieldGraph(Map.of());
+
+    private final Map<Class<?>, ClassMetadata> metadataByClass;
+
+    private EncryptedFieldGraph(Map<Class<?>, ClassMetadata> metadataByClass) {
+        this.metadataByClass = metadataByClass;
+    }
+
+    /**
+     * Returns the metadata of the given class, or null if it wasn't scanned.
+     */
+    ClassMetadata get(Class<?> clazz) {
+        return metadataByClass.get(clazz);
+    }
+
+    static EncryptedFieldGraph scan(Collection<String> basePackages) {
+        if (basePackages.isEmpty()) {
+            return EMPTY;
+        }
+
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AssignableTypeFilter(AppsmithDomain.class));
+
+        Set<Class<?>> classes = new HashSet<>();
+        for (String basePackage : basePackages) {
+            for (BeanDefinition bd : scanner.findCandidateComponents(basePackage)) {
+                try {
+                    classes.add(Class.forName(bd.getBeanClassName()));
+                } catch (ClassNotFoundException e) {
+                    throw new IllegalStateException(
+                            String.format("Class [%s] could not be loaded.", bd.getBeanClassName()), e);
+                }
+            }
+        }
+
+        Map<Class<?>, List<FieldInfo>> fieldsByClass = new HashMap<>();
+        for (Class<?> clazz : classes) {
+            fieldsByClass.put(clazz, findFields(clazz));
+        }
+
+        // Start with the classes that have encrypted fields of their own, or fields that are always followed, and keep
+        // adding the classes that lead to any of them until there are no more
+        Set<Class<?>> reachingClasses = new HashSet<>();
+        fieldsByClass.forEach((clazz, fields) -> {
+            if (fields.stream()
+                    .anyMatch(
+                            info -> info.kind() == Kind.ENCRYPTED || isOutsideScan(info.targetType(), basePackages))) {
+                reachingClasses.add(clazz);
+            }
+        });
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (Map.Entry<Class<?>, List<FieldInfo>> entry : fieldsByClass.entrySet()) {
+                if (!reachingClasses.contains(entry.getKey())
+                        && entry.getValue().stream()
+                                .anyMatch(info -> leadsToEncryptedFields(info, reachingClasses, basePackages))) {
+                    reachingClasses.add(entry.getKey());
+                    changed = true;
+                }
+            }
+        }
+
+        Map<Class<?>, ClassMetadata> metadataByClass = new HashMap<>();
+        fieldsByClass.forEach((clazz, fields) -> {
+            if (!reachingClasses.contains(clazz)) {
+                metadataByClass.put(clazz, new ClassMetadata(false, List.of()));
+                return;
+            }
+            List<FieldAccess> fieldAccesses = fields.stream()
+                    .filter(info -> leadsToEncryptedFields(info, reachingClasses, basePackages))
+                    .map(EncryptedFieldGraph::fieldAccess)
+                    .toList();
+            metadataByClass.put(clazz, new ClassMetadata(true, fieldAccesses));
+        });
+
+        return new EncryptedFieldGraph(Map.copyOf(metadataByClass));
+    }
+
+    private static List<FieldInfo> findFields(Class<?> clazz) {
+        List<FieldInfo> fields = new ArrayList<>();
+        ReflectionUtils.doWithFields(clazz, field -> {
+            if (Modifier.isStatic(field.getModifiers())) {
+                return;
+            }
+            if (field.getAnnotation(Encrypted.class) != null) {
+                fields.add(new FieldInfo(field, Kind.ENCRYPTED, null));
+            } else if (AppsmithDomain.class.isAssignableFrom(field.getType())) {
+                fields.add(new FieldInfo(field, Kind.APPSMITH_FIELD, field.getType()));
+            } else if (Collection.class.isAssignableFrom(field.getType())) {
+                Class<?> elementType = typeArgument(field, 0);
+                if (elementType != null && AppsmithDomain.class.isAssignableFrom(elementType)) {
+                    fields.add(new FieldInfo(field, Kind.APPSMITH_COLLECTION, elementType));
+                }
+            } else if (Map.class.isAssignableFrom(field.getType())) {
+                Class<?> valueType = typeArgument(field, 1);
+                if (valueType != null && AppsmithDomain.class.isAssignableFrom(valueType)) {
+                    fields.add(new FieldInfo(field, Kind.APPSMITH_MAP, valueType));
+                }
+            }
+        });
+        return fields;
+    }
+
+    private static Class<?> typeArgument(Field field, int index) {
+        if (!(field.getGenericType() instanceof ParameterizedType parameterizedType)) {
+            return null;
+        }
+        Type[] typeArguments = parameterizedType.getActualTypeArguments();
+        return typeArguments.length > index && typeArguments[index] instanceof Class<?> clazz ? clazz : null;
+    }
+
+    private static boolean isOutsideScan(Class<?> type, Collection<String> basePackages) {
+        return type != null
+                && basePackages.stream().noneMatch(basePackage -> type.getName().startsWith(basePackage + "."));
+    }
+
+    private static boolean leadsToEncryptedFields(
+            FieldInfo info, Set<Class<?>> reachingClasses, Collection<String> basePackages) {
+        if (info.kind() == Kind.ENCRYPTED || isOutsideScan(info.targetType(), basePackages)) {
+            return true;
+        }
+        return reachingClasses.stream().anyMatch(info.targetType()::isAssignableFrom);
+    }
+
+    private static FieldAccess fieldAccess(FieldInfo info) {
+        Field field = info.field();
+        try {
+            MethodHandles.Lookup lookup =
+                    MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup());
+            MethodHandle getter = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+            MethodHandle setter = info.kind() == Kind.ENCRYPTED
+                    ? lookup.unreflectSetter(field).asType(SETTER_TYPE)
+                    : null;
+            return new FieldAccess(info.kind(), getter, setter);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(
+                    String.format(
+                            "Field [%s] of [%s] could not be accessed.", field.getName(), field.getDeclaringClass()),
+                    e);
+        }
+    }
+}
@@ -25,6 +25,24 @@ public class EncryptionHandler {
 
     Map<Class<?>, List<CandidateField>> encryptedFieldsMap = new ConcurrentHashMap<>();
 
+    // Field metadata computed up front for the domain classes in the scanned packages. Instances of these classes are
+    // converted without taking the lock that guards the adaptive candidate field cache above
+    private final EncryptedFieldGraph encryptedFieldGraph;
+
+    public EncryptionHandler() {
+        this.encryptedFieldGraph = EncryptedFieldGraph.EMPTY;
+    }
+
+    /**
+     * Creates a handler that precomputes the encrypted fields of every {@link AppsmithDomain} class in the given
+     * packages. Objects of other classes are still scanned as they are seen.
+     *
+     * @param basePackages packages to scan for domain classes
+     */
+    public EncryptionHandler(Collection<String> basePackages) {
+        this.encryptedFieldGraph = EncryptedFieldGraph.scan(basePackages);
+    }
+
     /**
      * This method finds all the candidate fields for a given type
      * Candidate fields will ony ever be fields that have either been directly annotated,
@@ -233,11 +251,44 @@ public class EncryptionHandler {
         return finalCandidateFields;
     }
 
-    synchronized boolean convertEncryption(Object source, UnaryOperator<String> transformer) {
+    boolean convertEncryption(Object source, UnaryOperator<String> transformer) {
         if (source == null) {
             return false;
         }
 
+        EncryptedFieldGraph.ClassMetadata classMetadata = encryptedFieldGraph.get(source.getClass());
+        if (classMetadata == null) {
+            return convertEncryptionReflectively(source, transformer);
+        }
+        if (!classMetadata.reachesEncryptedFields()) {
+            return false;
+        }
+
+        for (EncryptedFieldGraph.FieldAccess fieldAccess : classMetadata.fields()) {
+            Object fieldValue = fieldAccess.get(source);
+            if (fieldValue == null) {
+                continue;
+            }
+            switch (fieldAccess.kind()) {
+                case ENCRYPTED -> fieldAccess.set(source, transformer.apply(String.valueOf(fieldValue)));
+                case APPSMITH_FIELD -> convertEncryption(fieldValue, transformer);
+                case APPSMITH_COLLECTION -> {
+                    for (Object element : (Collection<?>) fieldValue) {
+                        convertEncryption(element, transformer);
+                    }
+                }
+                case APPSMITH_MAP -> {
+                    for (Object value : ((Map<?, ?>) fieldValue).values()) {
+                        convertEncryption(value, transformer);
+                    }
+                }
+            }
+        }
+
+        return true;
+    }
+
+    private synchronized boolean convertEncryptionReflectively(Object source, UnaryOperator<String> transformer) {
         boolean hasEncryptedFields = false;
 
         // find the candidate fields for this object
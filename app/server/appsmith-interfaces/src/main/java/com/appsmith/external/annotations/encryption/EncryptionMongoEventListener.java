@@ -6,6 +6,8 @@ import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventLis
 import org.springframework.data.mongodb.core.mapping.event.AfterConvertEvent;
 import org.springframework.data.mongodb.core.mapping.event.BeforeConvertEvent;
 
+import java.util.Collection;
+
 @Slf4j
 public class EncryptionMongoEventListener<E> extends AbstractMongoEventListener<E> {
 
@@ -17,6 +19,13 @@ public class EncryptionMongoEventListener<E> extends AbstractMongoEventListener<
         this.encryptionService = encryptionService;
     }
 
+    // Precomputes the encrypted fields of the domain classes in the given packages, instead of discovering them from
+    // the documents as they are converted
+    public EncryptionMongoEventListener(EncryptionService encryptionService, Collection<String> basePackages) {
+        encryptionHandler = new EncryptionHandler(basePackages);
+        this.encryptionService = encryptionService;
+    }
+
     // This lifecycle event is before we save a document into the DB,
     // and even before the mapper has converted the object into a document type
     @Override
@@ -7,6 +7,7 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -44,6 +45,11 @@ public class ExecuteActionDTO {
     // This map is where we store the string values of the blob parts for replacement into evaluated value params
     Map<String, String> blobValuesMap; // e.g. {"blobId": "stringified-blob-data"}
 
+    // Blobs that were too large to be held in memory while the request was being read are spilled to temporary files,
+    // and only read back when they are substituted into the params
+    @JsonIgnore
+    Map<String, Path> blobFilePathsMap; // e.g. {"blobId": "/tmp/appsmith-blob-123.tmp"}
+
     Map<String, String> invertParameterMap; // e.g. {"k1":"Text1.text","k2":"Table1.data", "k3": "Api1.data"}
 
     Map<String, Object> analyticsProperties;
@@ -37,6 +37,11 @@ public class ActionConfiguration implements AppsmithDomain, ExecutableConfigurat
     private static final int MAX_TIMEOUT_VALUE = 60000; // in Milliseconds
     private static final String TIMEOUT_OUT_OF_RANGE_MESSAGE =
             "'Query timeout' field must be an integer between " + MIN_TIMEOUT_VALUE + " and " + MAX_TIMEOUT_VALUE;
+    private static final int MIN_CACHE_DURATION_VALUE = 0; // in Seconds
+    private static final int MAX_CACHE_DURATION_VALUE = 3600; // in Seconds
+    private static final String CACHE_DURATION_OUT_OF_RANGE_MESSAGE =
+            "'Cache results for' field must be an integer between " + MIN_CACHE_DURATION_VALUE + " and "
+                    + MAX_CACHE_DURATION_VALUE;
     /*
      * Any of the fields mentioned below could be represented in mustache
      * template. If the mustache template is found, it would be replaced
@@ -50,6 +55,17 @@ public class ActionConfiguration implements AppsmithDomain, ExecutableConfigurat
     @JsonView({Views.Public.class, FromRequest.class, Git.class})
     Integer timeoutInMillisecond;
 
+    /*
+     * Number of seconds for which the results of a published execution of this action may be served from the server
+     * side result cache. Null or 0 disables caching, which is the default. Only meant for idempotent, read-only queries.
+     */
+    @Range(
+            min = MIN_CACHE_DURATION_VALUE,
+            max = MAX_CACHE_DURATION_VALUE,
+            message = CACHE_DURATION_OUT_OF_RANGE_MESSAGE)
+    @JsonView({Views.Public.class, FromRequest.class, Git.class})
+    Integer cacheDurationInSeconds;
+
     @JsonView({Views.Public.class, FromRequest.class, Git.class})
     PaginationType paginationType = PaginationType.NONE;
 
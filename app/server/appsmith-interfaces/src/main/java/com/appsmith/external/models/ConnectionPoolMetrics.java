@@ -0,0 +1,28 @@
+package com.appsmith.external.models;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.function.IntSupplier;
+
+/**
+ * Live view of the connection pool behind a datasource connection. The suppliers are read by the server every time
+ * its metrics are collected, so they must be cheap and must not block. Counts that the pool doesn't expose are left
+ * out.
+ */
+@Getter
+@Builder
+public class ConnectionPoolMetrics {
+
+    // Connections that are currently handed out
+    private final IntSupplier activeConnections;
+
+    // Connections that are open and waiting to be handed out
+    private final IntSupplier idleConnections;
+
+    // Requests that are waiting for a connection to become available
+    private final IntSupplier pendingConnections;
+
+    // All the connections that are open, whether active or idle
+    private final IntSupplier totalConnections;
+}
@@ -6,6 +6,7 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException
 import com.appsmith.external.helpers.MustacheHelper;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.ConnectionPoolMetrics;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceStorage;
 import com.appsmith.external.models.DatasourceStructure;
@@ -92,6 +93,17 @@ public interface PluginExecutor<C> extends ExtensionPoint, CrudTemplateService {
      */
     void datasourceDestroy(C connection);
 
+    /**
+     * This function exposes the connection pool held by the connection, so that the server can publish its usage
+     * as metrics. Plugins that don't pool connections don't need to override it.
+     *
+     * @param connection
+     * @return live view of the pool, or null if the connection has no pool
+     */
+    default ConnectionPoolMetrics getConnectionPoolMetrics(C connection) {
+        return null;
+    }
+
     /**
      * This function tells the platform if datasource is valid by checking the set of invalid strings.
      * If empty, the datasource is valid. This set of invalid strings is populated by
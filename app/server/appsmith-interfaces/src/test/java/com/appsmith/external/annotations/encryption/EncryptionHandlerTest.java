@@ -232,6 +232,63 @@ public class EncryptionHandlerTest {
         assertFalse(b);
     }
 
+    @Test
+    public void testConvertEncryption_PrecomputedFieldMetadata() {
+        EncryptionHandler encryptionHandler =
+                new EncryptionHandler(List.of("com.appsmith.external.annotations.encryption"));
+
+        final TestDomain testDomain = new TestDomain();
+        testDomain.setEncryptedInDomain("String");
+        testDomain.setNotEncrypted("String");
+
+        final TestSubDomainWithoutEncryption testSubDomainWithoutEncryption = new TestSubDomainWithoutEncryption();
+        testSubDomainWithoutEncryption.setNotEncryptedInSubDomain("String");
+        testDomain.setTestSubDomainWithoutEncryption(testSubDomainWithoutEncryption);
+
+        final TestSubDomain testSubDomain = new TestSubDomain();
+        testSubDomain.setEncryptedInSubDomain("String");
+        testDomain.setEncryptedSubDomainWithValue(testSubDomain);
+
+        final PolymorphicSubdomain1 polymorphicSubdomain1 = new PolymorphicSubdomain1();
+        polymorphicSubdomain1.setEncryptedInPolymorphicSubdomain1("String");
+        testDomain.setPolymorphicSubDomainListWithElements(List.of(polymorphicSubdomain1));
+
+        final PolymorphicSubdomain1 polymorphicSubdomain2 = new PolymorphicSubdomain1();
+        polymorphicSubdomain2.setEncryptedInPolymorphicSubdomain1("String");
+        testDomain.setPolymorphicSubDomainMapWithElements(Map.of("Test", polymorphicSubdomain2));
+
+        final boolean b = encryptionHandler.convertEncryption(testDomain, "Encrypted-"::concat);
+
+        assertTrue(b);
+        // None of these classes should have been scanned as they were seen
+        assertTrue(encryptionHandler.encryptedFieldsMap.isEmpty());
+        assertEquals("Encrypted-String", testDomain.getEncryptedInDomain());
+        assertEquals("String", testDomain.getNotEncrypted());
+        assertEquals("String", testDomain.getTestSubDomainWithoutEncryption().getNotEncryptedInSubDomain());
+        assertEquals(
+                "Encrypted-String", testDomain.getEncryptedSubDomainWithValue().getEncryptedInSubDomain());
+        assertEquals("Encrypted-String", polymorphicSubdomain1.getEncryptedInPolymorphicSubdomain1());
+        assertEquals("Encrypted-String", polymorphicSubdomain2.getEncryptedInPolymorphicSubdomain1());
+    }
+
+    @Test
+    public void testConvertEncryption_PrecomputedFieldMetadataWithoutEncryptedFields() {
+        EncryptionHandler encryptionHandler =
+                new EncryptionHandler(List.of("com.appsmith.external.annotations.encryption"));
+
+        TestDomainWithSet testDomain = new TestDomainWithSet();
+        AppsmithTestSubDomainWithoutEncryption testSubDomainWithoutEncryption =
+                new AppsmithTestSubDomainWithoutEncryption();
+        testSubDomainWithoutEncryption.setNotEncryptedInSubDomain("String");
+        testDomain.setSet(new HashSet<>(Set.of(testSubDomainWithoutEncryption)));
+
+        // Known upfront to have no encrypted fields, whether the set has elements or not
+        assertFalse(encryptionHandler.convertEncryption(testDomain, "Encrypted-"::concat));
+        testDomain.setSet(new HashSet<>());
+        assertFalse(encryptionHandler.convertEncryption(testDomain, "Encrypted-"::concat));
+        assertEquals("String", testSubDomainWithoutEncryption.getNotEncryptedInSubDomain());
+    }
+
     @Getter
     @Setter
     static class TestDomain implements AppsmithDomain {
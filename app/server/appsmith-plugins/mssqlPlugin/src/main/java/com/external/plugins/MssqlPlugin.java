@@ -11,9 +11,11 @@ import com.appsmith.external.helpers.MustacheHelper;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.ConnectionPoolMetrics;
 import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceStructure;
+import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.models.Endpoint;
 import com.appsmith.external.models.MustacheBindingToken;
 import com.appsmith.external.models.Param;
@@ -53,7 +55,6 @@ import java.sql.Statement;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.sql.Types;
-import java.text.MessageFormat;
 import java.time.Duration;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
@@ -75,7 +76,6 @@ import static com.external.plugins.constants.MssqlPluginConstants.GENERATE_CRUD_
 import static com.external.plugins.exceptions.MssqlErrorMessages.CONNECTION_CLOSED_ERROR_MSG;
 import static com.external.plugins.exceptions.MssqlErrorMessages.CONNECTION_INVALID_ERROR_MSG;
 import static com.external.plugins.exceptions.MssqlErrorMessages.CONNECTION_NULL_ERROR_MSG;
-import static com.external.plugins.utils.MssqlDatasourceUtils.logHikariCPStatus;
 import static com.external.plugins.utils.MssqlExecuteUtils.closeConnectionPostExecution;
 import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
@@ -241,11 +241,6 @@ public class MssqlPlugin extends BasePlugin {
                             log.error("Error checking validity of MsSQL connection.", error);
                         }
 
-                        // Log HikariCP status
-                        logHikariCPStatus(
-                                MessageFormat.format("Before executing Mssql query [{0}]", query), hikariDSConnection);
-                        ;
-
                         try {
                             if (FALSE.equals(preparedStatement)) {
                                 statement = sqlConnectionFromPool.createStatement();
@@ -288,11 +283,6 @@ public class MssqlPlugin extends BasePlugin {
                                     "SQLSTATE: " + e.getSQLState()));
 
                         } finally {
-                            // Log HikariCP status
-                            logHikariCPStatus(
-                                    MessageFormat.format("After executing Mssql query [{0}]", query),
-                                    hikariDSConnection);
-
                             closeConnectionPostExecution(resultSet, statement, preparedQuery, sqlConnectionFromPool);
                         }
 
@@ -359,6 +349,34 @@ public class MssqlPlugin extends BasePlugin {
             }
         }
 
+        /**
+         * Checks out a connection from the pool and pings the database with it, so that a pool whose connections can
+         * no longer reach the database is caught before a query is run on it.
+         */
+        @Override
+        public Mono<DatasourceTestResult> testDatasource(HikariDataSource connection) {
+            return Mono.fromCallable(() -> {
+                        try (Connection connectionFromPool = mssqlDatasourceUtils.getConnectionFromHikariConnectionPool(
+                                connection, MSSQL_PLUGIN_NAME)) {
+                            return connectionFromPool.isValid(VALIDITY_CHECK_TIMEOUT)
+                                    ? new DatasourceTestResult()
+                                    : new DatasourceTestResult(
+                                            MssqlErrorMessages.CONNECTION_VALIDITY_CHECK_FAILED_ERROR_MSG);
+                        }
+                    })
+                    .subscribeOn(scheduler);
+        }
+
+        @Override
+        public ConnectionPoolMetrics getConnectionPoolMetrics(HikariDataSource connection) {
+            return ConnectionPoolMetrics.builder()
+                    .activeConnections(() -> connection.getHikariPoolMXBean().getActiveConnections())
+                    .idleConnections(() -> connection.getHikariPoolMXBean().getIdleConnections())
+                    .pendingConnections(() -> connection.getHikariPoolMXBean().getThreadsAwaitingConnection())
+                    .totalConnections(() -> connection.getHikariPoolMXBean().getTotalConnections())
+                    .build();
+        }
+
         @Override
         public Set<String> validateDatasource(@NonNull DatasourceConfiguration datasourceConfiguration) {
             Set<String> invalids = new HashSet<>();
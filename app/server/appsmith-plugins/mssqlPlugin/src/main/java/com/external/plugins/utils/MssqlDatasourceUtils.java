@@ -7,7 +7,6 @@ import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceStructure;
 import com.external.plugins.exceptions.MssqlErrorMessages;
 import com.zaxxer.hikari.HikariDataSource;
-import com.zaxxer.hikari.HikariPoolMXBean;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Mono;
 
@@ -108,8 +107,6 @@ public class MssqlDatasourceUtils {
                                         : new StaleConnectionException(e.getMessage()));
                     }
 
-                    logHikariCPStatus("Before getting Mssql DB schema", connection);
-
                     try (Statement statement = connectionFromPool.createStatement()) {
                         // Set table names. For each table set its column names and column types.
                         setTableNamesAndColumnNamesAndColumnTypes(statement, tableNameToTableMap);
@@ -124,7 +121,6 @@ public class MssqlDatasourceUtils {
                                 throwable.getCause(),
                                 "SQLSTATE: " + throwable.getSQLState()));
                     } finally {
-                        logHikariCPStatus("After getting Oracle DB schema", connection);
                         safelyCloseSingleConnectionFromHikariCP(
                                 connectionFromPool,
                                 "Error returning Oracle connection to pool " + "during get structure");
@@ -141,24 +137,6 @@ public class MssqlDatasourceUtils {
                 .subscribeOn(scheduler);
     }
 
-    /**
-     * First checks if the connection pool is still valid. If yes, we fetch a connection from the pool and return
-     * In case a connection is not available in the pool, SQL Exception is thrown
-     *
-     * @param connectionPool
-     * @return SQL Connection
-     */
-    public static void logHikariCPStatus(String logPrefix, HikariDataSource connectionPool) {
-        HikariPoolMXBean poolProxy = connectionPool.getHikariPoolMXBean();
-        int idleConnections = poolProxy.getIdleConnections();
-        int activeConnections = poolProxy.getActiveConnections();
-        int totalConnections = poolProxy.getTotalConnections();
-        int threadsAwaitingConnection = poolProxy.getThreadsAwaitingConnection();
-        log.debug(MessageFormat.format(
-                "{0}: Hikari Pool stats : active - {1} , idle - {2}, awaiting - {3} , total - {4}",
-                logPrefix, activeConnections, idleConnections, threadsAwaitingConnection, totalConnections));
-    }
-
     /**
      * Run a SQL query to fetch all tables accessible to user along with their columns and data  type of each column.
      * Then read the response and populate Appsmith's Table object with the same.
@@ -13,6 +13,7 @@ import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
 import com.appsmith.external.models.ConnectionContext;
+import com.appsmith.external.models.ConnectionPoolMetrics;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.models.DatasourceStructure.Template;
@@ -34,6 +35,7 @@ import com.external.utils.MySqlDatasourceUtils;
 import com.external.utils.MySqlErrorUtils;
 import com.external.utils.QueryUtils;
 import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.PoolMetrics;
 import io.r2dbc.spi.Connection;
 import io.r2dbc.spi.R2dbcBadGrammarException;
 import io.r2dbc.spi.R2dbcException;
@@ -699,6 +701,22 @@ public class MySqlPlugin extends BasePlugin {
             }
         }
 
+        @Override
+        public ConnectionPoolMetrics getConnectionPoolMetrics(ConnectionContext<ConnectionPool> connectionContext) {
+            final ConnectionPool connectionPool = connectionContext.getConnection();
+            if (connectionPool == null || connectionPool.getMetrics().isEmpty()) {
+                return null;
+            }
+
+            final PoolMetrics poolMetrics = connectionPool.getMetrics().get();
+            return ConnectionPoolMetrics.builder()
+                    .activeConnections(poolMetrics::acquiredSize)
+                    .idleConnections(poolMetrics::idleSize)
+                    .pendingConnections(poolMetrics::pendingAcquireSize)
+                    .totalConnections(poolMetrics::allocatedSize)
+                    .build();
+        }
+
         @Override
         public Set<String> validateDatasource(DatasourceConfiguration datasourceConfiguration) {
             return MySqlDatasourceUtils.validateDatasource(datasourceConfiguration);
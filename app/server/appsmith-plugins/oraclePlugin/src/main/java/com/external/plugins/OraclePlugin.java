@@ -10,8 +10,10 @@ import com.appsmith.external.helpers.MustacheHelper;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.ConnectionPoolMetrics;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceStructure;
+import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.models.Endpoint;
 import com.appsmith.external.models.MustacheBindingToken;
 import com.appsmith.external.models.Param;
@@ -46,7 +48,6 @@ import java.sql.Statement;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.sql.Types;
-import java.text.MessageFormat;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -70,7 +71,6 @@ import static com.appsmith.external.helpers.PluginUtils.setDataValueSafelyInForm
 import static com.appsmith.external.helpers.SmartSubstitutionHelper.replaceQuestionMarkWithDollarIndex;
 import static com.external.plugins.utils.OracleDatasourceUtils.JDBC_DRIVER;
 import static com.external.plugins.utils.OracleDatasourceUtils.createConnectionPool;
-import static com.external.plugins.utils.OracleDatasourceUtils.logHikariCPStatus;
 import static com.external.plugins.utils.OracleExecuteUtils.closeConnectionPostExecution;
 import static com.external.plugins.utils.OracleExecuteUtils.isPLSQL;
 import static com.external.plugins.utils.OracleExecuteUtils.populateRowsAndColumns;
@@ -82,6 +82,8 @@ import static org.apache.commons.lang3.StringUtils.isBlank;
 @Slf4j
 public class OraclePlugin extends BasePlugin {
     public static final Long ORACLE_DEFAULT_PORT = 1521L;
+    private static final int VALIDITY_CHECK_TIMEOUT = 5;
+
     public static final OracleDatasourceUtils oracleDatasourceUtils = new OracleDatasourceUtils();
 
     public OraclePlugin(PluginWrapper wrapper) {
@@ -115,6 +117,35 @@ public class OraclePlugin extends BasePlugin {
             OracleDatasourceUtils.datasourceDestroy(connection);
         }
 
+        /**
+         * Checks out a connection from the pool and pings the database with it, so that a pool whose connections can
+         * no longer reach the database is caught before a query is run on it.
+         */
+        @Override
+        public Mono<DatasourceTestResult> testDatasource(HikariDataSource connection) {
+            return Mono.fromCallable(() -> {
+                        try (Connection connectionFromPool =
+                                oracleDatasourceUtils.getConnectionFromHikariConnectionPool(
+                                        connection, ORACLE_PLUGIN_NAME)) {
+                            return connectionFromPool.isValid(VALIDITY_CHECK_TIMEOUT)
+                                    ? new DatasourceTestResult()
+                                    : new DatasourceTestResult(
+                                            OracleErrorMessages.CONNECTION_VALIDITY_CHECK_FAILED_ERROR_MSG);
+                        }
+                    })
+                    .subscribeOn(scheduler);
+        }
+
+        @Override
+        public ConnectionPoolMetrics getConnectionPoolMetrics(HikariDataSource connection) {
+            return ConnectionPoolMetrics.builder()
+                    .activeConnections(() -> connection.getHikariPoolMXBean().getActiveConnections())
+                    .idleConnections(() -> connection.getHikariPoolMXBean().getIdleConnections())
+                    .pendingConnections(() -> connection.getHikariPoolMXBean().getThreadsAwaitingConnection())
+                    .totalConnections(() -> connection.getHikariPoolMXBean().getTotalConnections())
+                    .build();
+        }
+
         @Override
         public Set<String> validateDatasource(DatasourceConfiguration datasourceConfiguration) {
             return OracleDatasourceUtils.validateDatasource(datasourceConfiguration);
@@ -237,10 +268,6 @@ public class OraclePlugin extends BasePlugin {
                         PreparedStatement preparedQuery = null;
                         boolean isResultSet;
 
-                        // Log HikariCP status
-                        logHikariCPStatus(
-                                MessageFormat.format("Before executing Oracle query [{0}]", query), connectionPool);
-
                         try {
                             if (FALSE.equals(preparedStatement)) {
                                 statement = connectionFromPool.createStatement();
@@ -283,10 +310,6 @@ public class OraclePlugin extends BasePlugin {
                                     e.getMessage(),
                                     "SQLSTATE: " + e.getSQLState()));
                         } finally {
-                            // Log HikariCP status
-                            logHikariCPStatus(
-                                    MessageFormat.format("After executing Oracle query [{0}]", query), connectionPool);
-
                             closeConnectionPostExecution(resultSet, statement, preparedQuery, connectionFromPool);
                         }
 
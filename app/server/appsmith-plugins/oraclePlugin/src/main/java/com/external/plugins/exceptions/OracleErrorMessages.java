@@ -27,6 +27,9 @@ public class OracleErrorMessages extends BasePluginErrorMessages {
     public static final String CONNECTION_POOL_CREATION_FAILED_ERROR_MSG = "An exception occurred while creating "
             + "connection pool. One or more arguments in the datasource configuration may be invalid.";
 
+    public static final String CONNECTION_VALIDITY_CHECK_FAILED_ERROR_MSG =
+            "A connection from the connection pool is no longer valid. Please check if the database is reachable.";
+
     /*
     ************************************************************************************************************************************************
                                        Error messages related to validation of datasource.
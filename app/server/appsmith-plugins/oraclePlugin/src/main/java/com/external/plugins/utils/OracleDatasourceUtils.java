@@ -12,7 +12,6 @@ import com.external.plugins.exceptions.OracleErrorMessages;
 import com.external.plugins.exceptions.OraclePluginError;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
-import com.zaxxer.hikari.HikariPoolMXBean;
 import com.zaxxer.hikari.pool.HikariPool;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang.ObjectUtils;
@@ -171,8 +170,6 @@ public class OracleDatasourceUtils {
                                         : new StaleConnectionException(e.getMessage()));
                     }
 
-                    logHikariCPStatus("Before getting Oracle DB schema", connectionPool);
-
                     try (Statement statement = connectionFromPool.createStatement()) {
                         // Set table names. For each table set its column names and column types.
                         setTableNamesAndColumnNamesAndColumnTypes(statement, tableNameToTableMap);
@@ -187,7 +184,6 @@ public class OracleDatasourceUtils {
                                 throwable.getCause(),
                                 "SQLSTATE: " + throwable.getSQLState()));
                     } finally {
-                        logHikariCPStatus("After getting Oracle DB schema", connectionPool);
                         safelyCloseSingleConnectionFromHikariCP(
                                 connectionFromPool,
                                 "Error returning Oracle connection to pool " + "during get structure");
@@ -458,17 +454,6 @@ public class OracleDatasourceUtils {
         return datasource;
     }
 
-    public static void logHikariCPStatus(String logPrefix, HikariDataSource connectionPool) {
-        HikariPoolMXBean poolProxy = connectionPool.getHikariPoolMXBean();
-        int idleConnections = poolProxy.getIdleConnections();
-        int activeConnections = poolProxy.getActiveConnections();
-        int totalConnections = poolProxy.getTotalConnections();
-        int threadsAwaitingConnection = poolProxy.getThreadsAwaitingConnection();
-        log.debug(MessageFormat.format(
-                "{0}: Hikari Pool stats : active - {1} , idle - {2}, awaiting - {3} , total - {4}",
-                logPrefix, activeConnections, idleConnections, threadsAwaitingConnection, totalConnections));
-    }
-
     public void checkHikariCPConnectionPoolValidity(HikariDataSource connectionPool, String pluginName)
             throws StaleConnectionException {
         if (connectionPool == null || connectionPool.isClosed() || !connectionPool.isRunning()) {
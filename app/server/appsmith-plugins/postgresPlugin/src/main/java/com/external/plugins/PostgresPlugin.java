@@ -12,10 +12,12 @@ import com.appsmith.external.helpers.MustacheHelper;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.ConnectionPoolMetrics;
 import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.models.DatasourceStructure.Template;
+import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.models.Endpoint;
 import com.appsmith.external.models.MustacheBindingToken;
 import com.appsmith.external.models.Param;
@@ -34,7 +36,6 @@ import com.external.plugins.utils.MutualTLSCertValidatingFactory;
 import com.external.plugins.utils.PostgresDatasourceUtils;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
-import com.zaxxer.hikari.HikariPoolMXBean;
 import com.zaxxer.hikari.pool.HikariPool.PoolInitializationException;
 import com.zaxxer.hikari.pool.HikariProxyConnection;
 import lombok.extern.slf4j.Slf4j;
@@ -135,6 +136,8 @@ public class PostgresPlugin extends BasePlugin {
 
     private static int MAX_SIZE_SUPPORTED;
 
+    private static final int VALIDITY_CHECK_TIMEOUT = 5;
+
     public static PostgresDatasourceUtils postgresDatasourceUtils = new PostgresDatasourceUtils();
 
     public PostgresPlugin(PluginWrapper wrapper) {
@@ -358,19 +361,6 @@ public class PostgresPlugin extends BasePlugin {
                         PreparedStatement preparedQuery = null;
                         boolean isResultSet;
 
-                        HikariPoolMXBean poolProxy = connection.getHikariPoolMXBean();
-
-                        int idleConnections = poolProxy.getIdleConnections();
-                        int activeConnections = poolProxy.getActiveConnections();
-                        int totalConnections = poolProxy.getTotalConnections();
-                        int threadsAwaitingConnection = poolProxy.getThreadsAwaitingConnection();
-                        log.debug(
-                                "Before executing postgres query [{}] Hikari Pool stats : active - {} , idle - {} , awaiting - {} , total - {}",
-                                query,
-                                activeConnections,
-                                idleConnections,
-                                threadsAwaitingConnection,
-                                totalConnections);
                         try {
                             if (FALSE.equals(preparedStatement)) {
                                 statement = connectionFromPool.createStatement();
@@ -515,16 +505,6 @@ public class PostgresPlugin extends BasePlugin {
                                     PostgresErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
                                     e.getMessage()));
                         } finally {
-                            idleConnections = poolProxy.getIdleConnections();
-                            activeConnections = poolProxy.getActiveConnections();
-                            totalConnections = poolProxy.getTotalConnections();
-                            threadsAwaitingConnection = poolProxy.getThreadsAwaitingConnection();
-                            log.debug(
-                                    "After executing postgres query, Hikari Pool stats active - {} , idle - {} , awaiting - {} , total - {} ",
-                                    activeConnections,
-                                    idleConnections,
-                                    threadsAwaitingConnection,
-                                    totalConnections);
                             if (resultSet != null) {
                                 try {
                                     resultSet.close();
@@ -653,6 +633,35 @@ public class PostgresPlugin extends BasePlugin {
             }
         }
 
+        /**
+         * Checks out a connection from the pool and pings the database with it, so that a pool whose connections can
+         * no longer reach the database is caught before a query is run on it.
+         */
+        @Override
+        public Mono<DatasourceTestResult> testDatasource(HikariDataSource connection) {
+            return Mono.fromCallable(() -> {
+                        try (Connection connectionFromPool =
+                                postgresDatasourceUtils.getConnectionFromHikariConnectionPool(
+                                        connection, POSTGRES_PLUGIN_NAME)) {
+                            return connectionFromPool.isValid(VALIDITY_CHECK_TIMEOUT)
+                                    ? new DatasourceTestResult()
+                                    : new DatasourceTestResult(
+                                            PostgresErrorMessages.CONNECTION_VALIDITY_CHECK_FAILED_ERROR_MSG);
+                        }
+                    })
+                    .subscribeOn(scheduler);
+        }
+
+        @Override
+        public ConnectionPoolMetrics getConnectionPoolMetrics(HikariDataSource connection) {
+            return ConnectionPoolMetrics.builder()
+                    .activeConnections(() -> connection.getHikariPoolMXBean().getActiveConnections())
+                    .idleConnections(() -> connection.getHikariPoolMXBean().getIdleConnections())
+                    .pendingConnections(() -> connection.getHikariPoolMXBean().getThreadsAwaitingConnection())
+                    .totalConnections(() -> connection.getHikariPoolMXBean().getTotalConnections())
+                    .build();
+        }
+
         @Override
         public Set<String> validateDatasource(DatasourceConfiguration datasourceConfiguration) {
             Set<String> invalids = new HashSet<>();
@@ -729,19 +738,6 @@ public class PostgresPlugin extends BasePlugin {
                                             : new StaleConnectionException(e.getMessage()));
                         }
 
-                        HikariPoolMXBean poolProxy = connection.getHikariPoolMXBean();
-
-                        int idleConnections = poolProxy.getIdleConnections();
-                        int activeConnections = poolProxy.getActiveConnections();
-                        int totalConnections = poolProxy.getTotalConnections();
-                        int threadsAwaitingConnection = poolProxy.getThreadsAwaitingConnection();
-                        log.debug(
-                                "Before getting postgres db structure Hikari Pool stats active - {} , idle - {} , awaiting - {} , total - {} ",
-                                activeConnections,
-                                idleConnections,
-                                threadsAwaitingConnection,
-                                totalConnections);
-
                         // Ref:
                         // <https://docs.oracle.com/en/java/javase/11/docs/api/java.sql/java/sql/DatabaseMetaData.html>.
                         try (Statement statement = connectionFromPool.createStatement()) {
@@ -918,17 +914,6 @@ public class PostgresPlugin extends BasePlugin {
                                     throwable.getMessage(),
                                     "SQLSTATE: " + throwable.getSQLState()));
                         } finally {
-                            idleConnections = poolProxy.getIdleConnections();
-                            activeConnections = poolProxy.getActiveConnections();
-                            totalConnections = poolProxy.getTotalConnections();
-                            threadsAwaitingConnection = poolProxy.getThreadsAwaitingConnection();
-                            log.debug(
-                                    "After postgres db structure, Hikari Pool stats active - {} , idle - {} , awaiting - {} , total - {} ",
-                                    activeConnections,
-                                    idleConnections,
-                                    threadsAwaitingConnection,
-                                    totalConnections);
-
                             if (connectionFromPool != null) {
                                 try {
                                     // Return the connection back to the pool
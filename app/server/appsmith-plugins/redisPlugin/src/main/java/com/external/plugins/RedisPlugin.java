@@ -5,6 +5,7 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.ConnectionPoolMetrics;
 import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceTestResult;
@@ -281,6 +282,16 @@ public class RedisPlugin extends BasePlugin {
                     .subscribe();
         }
 
+        @Override
+        public ConnectionPoolMetrics getConnectionPoolMetrics(JedisPool jedisPool) {
+            return ConnectionPoolMetrics.builder()
+                    .activeConnections(jedisPool::getNumActive)
+                    .idleConnections(jedisPool::getNumIdle)
+                    .pendingConnections(jedisPool::getNumWaiters)
+                    .totalConnections(() -> jedisPool.getNumActive() + jedisPool.getNumIdle())
+                    .build();
+        }
+
         @Override
         public Set<String> validateDatasource(DatasourceConfiguration datasourceConfiguration) {
             Set<String> invalids = new HashSet<>();
@@ -6,6 +6,7 @@ import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionExceptio
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.ConnectionPoolMetrics;
 import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceStructure;
@@ -17,7 +18,6 @@ import com.external.plugins.exceptions.RedshiftErrorMessages;
 import com.external.plugins.exceptions.RedshiftPluginError;
 import com.external.utils.RedshiftDatasourceUtils;
 import com.zaxxer.hikari.HikariDataSource;
-import com.zaxxer.hikari.HikariPoolMXBean;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang.ObjectUtils;
@@ -231,12 +231,6 @@ public class RedshiftPlugin extends BasePlugin {
                             return Mono.error(new StaleConnectionException(e.getMessage()));
                         }
 
-                        /**
-                         * Keeping this print statement post call to getConnectionFromHikariConnectionPool because it
-                         * checks for stale connection pool.
-                         */
-                        printConnectionPoolStatus(connectionPool, false);
-
                         List<Map<String, Object>> rowsList = new ArrayList<>(50);
                         final List<String> columnsList = new ArrayList<>();
                         Statement statement = null;
@@ -326,23 +320,6 @@ public class RedshiftPlugin extends BasePlugin {
                     .subscribeOn(scheduler);
         }
 
-        public void printConnectionPoolStatus(HikariDataSource connectionPool, boolean isFetchingStructure) {
-            HikariPoolMXBean poolProxy = connectionPool.getHikariPoolMXBean();
-            int idleConnections = poolProxy.getIdleConnections();
-            int activeConnections = poolProxy.getActiveConnections();
-            int totalConnections = poolProxy.getTotalConnections();
-            int threadsAwaitingConnection = poolProxy.getThreadsAwaitingConnection();
-            log.debug(Thread.currentThread().getName()
-                    + (isFetchingStructure
-                            ? "Before fetching Redshift db" + " structure."
-                            : "Before executing Redshift query.")
-                    + " Hikari Pool stats : " + " active - "
-                    + activeConnections + ", idle - "
-                    + idleConnections + ", awaiting - "
-                    + threadsAwaitingConnection + ", total - "
-                    + totalConnections);
-        }
-
         private Set<String> populateHintMessages(List<String> columnNames) {
 
             Set<String> messages = new HashSet<>();
@@ -383,6 +360,18 @@ public class RedshiftPlugin extends BasePlugin {
             }
         }
 
+        @Override
+        public ConnectionPoolMetrics getConnectionPoolMetrics(HikariDataSource connectionPool) {
+            return ConnectionPoolMetrics.builder()
+                    .activeConnections(
+                            () -> connectionPool.getHikariPoolMXBean().getActiveConnections())
+                    .idleConnections(() -> connectionPool.getHikariPoolMXBean().getIdleConnections())
+                    .pendingConnections(
+                            () -> connectionPool.getHikariPoolMXBean().getThreadsAwaitingConnection())
+                    .totalConnections(() -> connectionPool.getHikariPoolMXBean().getTotalConnections())
+                    .build();
+        }
+
         @Override
         public Set<String> validateDatasource(@NonNull DatasourceConfiguration datasourceConfiguration) {
             Set<String> invalids = new HashSet<>();
@@ -632,12 +621,6 @@ public class RedshiftPlugin extends BasePlugin {
                             return Mono.error(new StaleConnectionException(e.getMessage()));
                         }
 
-                        /**
-                         * Keeping this print statement post call to getConnectionFromConnectionPool because it checks for
-                         * stale connection pool.
-                         */
-                        printConnectionPoolStatus(connectionPool, true);
-
                         // Ref:
                         // <https://docs.oracle.com/en/java/javase/11/docs/api/java.sql/java/sql/DatabaseMetaData.html>.
                         log.debug(Thread.currentThread().getName() + ": Getting Redshift Db structure");
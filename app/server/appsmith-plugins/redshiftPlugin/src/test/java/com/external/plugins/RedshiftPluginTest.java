@@ -267,7 +267,6 @@ public class RedshiftPluginTest {
         Mono<HikariDataSource> dsConnectionMono = Mono.just(mockConnectionPool);
 
         RedshiftPlugin.RedshiftPluginExecutor spyPluginExecutor = spy(new RedshiftPlugin.RedshiftPluginExecutor());
-        doNothing().when(spyPluginExecutor).printConnectionPoolStatus(mockConnectionPool, false);
 
         Mono<ActionExecutionResult> executeMono = dsConnectionMono.flatMap(
                 connPool -> spyPluginExecutor.execute(connPool, dsConfig, actionConfiguration));
@@ -433,7 +432,6 @@ public class RedshiftPluginTest {
         doNothing().when(mockResultSet).close();
 
         RedshiftPlugin.RedshiftPluginExecutor spyPluginExecutor = spy(new RedshiftPlugin.RedshiftPluginExecutor());
-        doNothing().when(spyPluginExecutor).printConnectionPoolStatus(mockConnectionPool, true);
 
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
         Mono<HikariDataSource> dsConnectionMono = Mono.just(mockConnectionPool);
@@ -601,7 +599,6 @@ public class RedshiftPluginTest {
         Mono<HikariDataSource> dsConnectionMono = Mono.just(mockConnectionPool);
 
         RedshiftPlugin.RedshiftPluginExecutor spyPluginExecutor = spy(new RedshiftPlugin.RedshiftPluginExecutor());
-        doNothing().when(spyPluginExecutor).printConnectionPoolStatus(mockConnectionPool, false);
 
         Mono<ActionExecutionResult> executeMono = dsConnectionMono.flatMap(
                 connPool -> spyPluginExecutor.execute(connPool, dsConfig, actionConfiguration));
@@ -6,6 +6,7 @@ import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionExceptio
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.ConnectionPoolMetrics;
 import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceStructure;
@@ -16,7 +17,6 @@ import com.external.plugins.exceptions.SnowflakeErrorMessages;
 import com.external.utils.SqlUtils;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
-import com.zaxxer.hikari.HikariPoolMXBean;
 import com.zaxxer.hikari.pool.HikariPool;
 import lombok.extern.slf4j.Slf4j;
 import org.pf4j.Extension;
@@ -100,20 +100,6 @@ public class SnowflakePlugin extends BasePlugin {
                             }
                         }
 
-                        HikariPoolMXBean poolProxy = connection.getHikariPoolMXBean();
-
-                        int idleConnections = poolProxy.getIdleConnections();
-                        int activeConnections = poolProxy.getActiveConnections();
-                        int totalConnections = poolProxy.getTotalConnections();
-                        int threadsAwaitingConnection = poolProxy.getThreadsAwaitingConnection();
-                        log.debug(
-                                "Before executing snowflake query [{}] Hikari Pool stats : active - {} , idle - {} , awaiting - {} , total - {}",
-                                query,
-                                activeConnections,
-                                idleConnections,
-                                threadsAwaitingConnection,
-                                totalConnections);
-
                         try {
                             // Connection staleness is checked as part of this method call.
                             return getRowsFromQueryResult(connectionFromPool, query);
@@ -121,17 +107,6 @@ public class SnowflakePlugin extends BasePlugin {
                             throw e;
                         } finally {
 
-                            idleConnections = poolProxy.getIdleConnections();
-                            activeConnections = poolProxy.getActiveConnections();
-                            totalConnections = poolProxy.getTotalConnections();
-                            threadsAwaitingConnection = poolProxy.getThreadsAwaitingConnection();
-                            log.debug(
-                                    "After executing snowflake query, Hikari Pool stats active - {} , idle - {} , awaiting - {} , total - {} ",
-                                    activeConnections,
-                                    idleConnections,
-                                    threadsAwaitingConnection,
-                                    totalConnections);
-
                             if (connectionFromPool != null) {
                                 try {
                                     // Return the connection back to the pool
@@ -254,6 +229,16 @@ public class SnowflakePlugin extends BasePlugin {
             }
         }
 
+        @Override
+        public ConnectionPoolMetrics getConnectionPoolMetrics(HikariDataSource connection) {
+            return ConnectionPoolMetrics.builder()
+                    .activeConnections(() -> connection.getHikariPoolMXBean().getActiveConnections())
+                    .idleConnections(() -> connection.getHikariPoolMXBean().getIdleConnections())
+                    .pendingConnections(() -> connection.getHikariPoolMXBean().getThreadsAwaitingConnection())
+                    .totalConnections(() -> connection.getHikariPoolMXBean().getTotalConnections())
+                    .build();
+        }
+
         @Override
         public Set<String> validateDatasource(DatasourceConfiguration datasourceConfiguration) {
             Set<String> invalids = new HashSet<>();
@@ -378,19 +363,6 @@ public class SnowflakePlugin extends BasePlugin {
                             throw new StaleConnectionException(e.getMessage());
                         }
 
-                        HikariPoolMXBean poolProxy = connection.getHikariPoolMXBean();
-
-                        int idleConnections = poolProxy.getIdleConnections();
-                        int activeConnections = poolProxy.getActiveConnections();
-                        int totalConnections = poolProxy.getTotalConnections();
-                        int threadsAwaitingConnection = poolProxy.getThreadsAwaitingConnection();
-                        log.debug(
-                                "Before getting snowflake structure Hikari Pool stats active - {} , idle - {} , awaiting - {} , total - {} ",
-                                activeConnections,
-                                idleConnections,
-                                threadsAwaitingConnection,
-                                totalConnections);
-
                         try {
                             // Connection staleness is checked as part of this method call.
                             Set<String> invalids = validateWarehouseDatabaseSchema(connectionFromPool);
@@ -437,17 +409,6 @@ public class SnowflakePlugin extends BasePlugin {
                                     "SQLSTATE: " + throwable.getSQLState());
                         } finally {
 
-                            idleConnections = poolProxy.getIdleConnections();
-                            activeConnections = poolProxy.getActiveConnections();
-                            totalConnections = poolProxy.getTotalConnections();
-                            threadsAwaitingConnection = poolProxy.getThreadsAwaitingConnection();
-                            log.debug(
-                                    "After snowflake structure, Hikari Pool stats active - {} , idle - {} , awaiting - {} , total - {} ",
-                                    activeConnections,
-                                    idleConnections,
-                                    threadsAwaitingConnection,
-                                    totalConnections);
-
                             if (connectionFromPool != null) {
                                 try {
                                     // Return the connection back to the pool
@@ -15,7 +15,6 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.type.MapType;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.zaxxer.hikari.HikariDataSource;
-import com.zaxxer.hikari.HikariPoolMXBean;
 import lombok.extern.slf4j.Slf4j;
 import net.snowflake.client.jdbc.SnowflakeReauthenticationRequest;
 import org.junit.jupiter.api.Test;
@@ -111,17 +110,10 @@ public class SnowflakePluginTest {
         when(statement.executeQuery(testQuery))
                 .thenThrow(new SnowflakeReauthenticationRequest("1", "Authentication token expired", "", 0));
 
-        final HikariPoolMXBean hikariPoolMXBean = mock(HikariPoolMXBean.class);
-        when(hikariPoolMXBean.getActiveConnections()).thenReturn(1);
-        when(hikariPoolMXBean.getIdleConnections()).thenReturn(4);
-        when(hikariPoolMXBean.getTotalConnections()).thenReturn(5);
-        when(hikariPoolMXBean.getThreadsAwaitingConnection()).thenReturn(0);
-
         final HikariDataSource hikariDataSource = mock(HikariDataSource.class);
         when(hikariDataSource.getConnection()).thenReturn(connection);
         when(hikariDataSource.isClosed()).thenReturn(false);
         when(hikariDataSource.isRunning()).thenReturn(true);
-        when(hikariDataSource.getHikariPoolMXBean()).thenReturn(hikariPoolMXBean);
 
         final ActionConfiguration actionConfiguration = new ActionConfiguration();
         actionConfiguration.setBody(testQuery);
@@ -27,6 +27,7 @@ import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.exceptions.util.DuplicateKeyExceptionUtils;
 import com.appsmith.server.helpers.GitDeployKeyGenerator;
 import com.appsmith.server.helpers.GitUtils;
+import com.appsmith.server.helpers.RequestMemoUtils;
 import com.appsmith.server.helpers.ResponseUtils;
 import com.appsmith.server.helpers.TextUtils;
 import com.appsmith.server.migrations.ApplicationVersion;
@@ -90,6 +91,8 @@ public class ApplicationServiceCEImpl extends BaseService<ApplicationRepository,
 
     private static final Integer MAX_RETRIES = 5;
 
+    private static final String BRANCHED_APPLICATION_ID_MEMO_KEY = "branchedApplicationId";
+
     @Autowired
     public ApplicationServiceCEImpl(
             Validator validator,
@@ -629,17 +632,18 @@ public class ApplicationServiceCEImpl extends BaseService<ApplicationRepository,
                 applicationPolicyMap, Application.class, Theme.class);
 
         final Mono<Void> updatedPagesMono = policySolution
-                .updateWithApplicationPermissionsToAllItsPages(application.getId(), pagePolicyMap, addViewAccess)
+                .updateWithApplicationPermissionsToAllItsPagesInBulk(application.getId(), pagePolicyMap, addViewAccess)
                 .then();
         list.add(updatedPagesMono);
         final Mono<Void> updatedActionsMono = policySolution
-                .updateWithPagePermissionsToAllItsActions(application.getId(), actionPolicyMap, addViewAccess)
+                .updateWithPagePermissionsToAllItsActionsInBulk(application.getId(), actionPolicyMap, addViewAccess)
                 .then();
         list.add(updatedActionsMono);
         // Use the same policy map as actions for action collections since action collections have the same kind of
         // permissions
         final Mono<Void> updatedActionCollectionsMono = policySolution
-                .updateWithPagePermissionsToAllItsActionCollections(application.getId(), actionPolicyMap, addViewAccess)
+                .updateWithPagePermissionsToAllItsActionCollectionsInBulk(
+                        application.getId(), actionPolicyMap, addViewAccess)
                 .then();
         list.add(updatedActionCollectionsMono);
         final Mono<Void> updatedThemesMono = policySolution
@@ -869,13 +873,16 @@ public class ApplicationServiceCEImpl extends BaseService<ApplicationRepository,
             }
             return Mono.just(defaultApplicationId);
         }
-        return repository
-                .getApplicationByGitBranchAndDefaultApplicationId(defaultApplicationId, branchName, permission)
-                .switchIfEmpty(Mono.error(new AppsmithException(
-                        AppsmithError.NO_RESOURCE_FOUND,
-                        FieldName.APPLICATION,
-                        defaultApplicationId + ", " + branchName)))
-                .map(application -> application.getId());
+        // Fetches of the same request, like those of actions and action collections, usually resolve the same branch
+        return RequestMemoUtils.memoize(
+                RequestMemoUtils.key(BRANCHED_APPLICATION_ID_MEMO_KEY, defaultApplicationId, branchName, permission),
+                () -> repository
+                        .getApplicationByGitBranchAndDefaultApplicationId(defaultApplicationId, branchName, permission)
+                        .switchIfEmpty(Mono.error(new AppsmithException(
+                                AppsmithError.NO_RESOURCE_FOUND,
+                                FieldName.APPLICATION,
+                                defaultApplicationId + ", " + branchName)))
+                        .map(application -> application.getId()));
     }
 
     public Mono<String> findBranchedApplicationId(
@@ -0,0 +1,81 @@
+package com.appsmith.server.configurations;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Tunables for the server side action execution path. All values have defaults so that an instance without any of
+ * these environment variables behaves exactly like before.
+ */
+@Getter
+@Configuration
+public class ActionExecutionConfig {
+
+    // Result cache for published executions of actions that have opted in via `cacheDurationInSeconds`
+    @Value("${appsmith.execution.cache.max-size-mb:64}")
+    private long resultCacheMaxSizeInMb;
+
+    @Value("${appsmith.execution.cache.max-entry-size-kb:1024}")
+    private long resultCacheMaxEntrySizeInKb;
+
+    @Value("${appsmith.execution.cache.redis.enabled:false}")
+    private boolean resultCacheRedisEnabled;
+
+    // Upper bound on the bytes read from a single execute request, enforced while the parts are being streamed in
+    @Value("${appsmith.execution.request.max-size-mb:150}")
+    private long requestMaxSizeInMb;
+
+    // Blobs larger than this are written to a temporary file while the request is read. They are still substituted
+    // into the params as strings before the action is executed.
+    @Value("${appsmith.execution.request.blob-spill-threshold-kb:1024}")
+    private long blobSpillThresholdInKb;
+
+    // Execution analytics events are sent asynchronously, from a bounded queue that drops events when full
+    @Value("${appsmith.execution.analytics.queue-capacity:10000}")
+    private int analyticsQueueCapacity;
+
+    // Ratio, between 0 and 1, of executions for which an analytics event is sent
+    @Value("${appsmith.execution.analytics.sample-rate:1.0}")
+    private double analyticsSampleRate;
+
+    // Serialized request headers, body and properties in analytics events are truncated to this size
+    @Value("${appsmith.execution.analytics.max-field-size-kb:64}")
+    private int analyticsMaxFieldSizeInKb;
+
+    // Per datasource limit on concurrent executions, adapted to the observed latency between the min and max limits
+    @Value("${appsmith.execution.datasource-concurrency.enabled:false}")
+    private boolean datasourceConcurrencyLimitEnabled;
+
+    @Value("${appsmith.execution.datasource-concurrency.initial-limit:20}")
+    private int datasourceConcurrencyInitialLimit;
+
+    @Value("${appsmith.execution.datasource-concurrency.min-limit:5}")
+    private int datasourceConcurrencyMinLimit;
+
+    @Value("${appsmith.execution.datasource-concurrency.max-limit:200}")
+    private int datasourceConcurrencyMaxLimit;
+
+    // Executions beyond the limit wait in a queue of this size, and are rejected once it is full
+    @Value("${appsmith.execution.datasource-concurrency.max-queue-size:100}")
+    private int datasourceConcurrencyMaxQueueSize;
+
+    // Executions slower than this are treated as a sign of an overloaded datasource, and reduce its limit
+    @Value("${appsmith.execution.datasource-concurrency.latency-threshold-ms:5000}")
+    private long datasourceConcurrencyLatencyThresholdInMillis;
+
+    // The limit of a datasource, and its meters, are dropped once it has not been executed against for this long
+    @Value("${appsmith.execution.datasource-concurrency.idle-timeout-seconds:600}")
+    private long datasourceConcurrencyIdleTimeoutInSeconds;
+
+    // Identical published executions that overlap in time share a single call to the plugin when enabled
+    @Value("${appsmith.execution.coalescing.enabled:false}")
+    private boolean coalescingEnabled;
+
+    // Execute responses are serialized and written to the client in chunks of this size, instead of as a whole
+    @Value("${appsmith.execution.response.chunking.enabled:false}")
+    private boolean responseChunkingEnabled;
+
+    @Value("${appsmith.execution.response.chunk-size-kb:16}")
+    private int responseChunkSizeInKb;
+}
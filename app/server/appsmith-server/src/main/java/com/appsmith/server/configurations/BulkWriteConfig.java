@@ -0,0 +1,21 @@
+package com.appsmith.server.configurations;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Settings for the bulk inserts and updates of the repositories.
+ */
+@Getter
+@Configuration
+public class BulkWriteConfig {
+
+    // Number of documents sent to the database in a single bulk write
+    @Value("${appsmith.repository.bulk-write.chunk-size:500}")
+    private int chunkSize;
+
+    // Number of bulk writes of a single call that may be in flight at the same time
+    @Value("${appsmith.repository.bulk-write.concurrency:2}")
+    private int concurrency;
+}
@@ -0,0 +1,28 @@
+package com.appsmith.server.configurations;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Settings for the consolidated page load API.
+ */
+@Getter
+@Configuration
+public class ConsolidatedAPIConfig {
+
+    // The parts of the view mode response that are the same for every viewer of a deployment are cached
+    @Value("${appsmith.consolidated-api.view-cache.enabled:false}")
+    private boolean viewCacheEnabled;
+
+    @Value("${appsmith.consolidated-api.view-cache.max-size-mb:64}")
+    private long viewCacheMaxSizeInMb;
+
+    // Changes to the permissions on the pages and actions of a deployment aren't part of the key, so this bounds how
+    // long they can go unnoticed by viewers
+    @Value("${appsmith.consolidated-api.view-cache.ttl-minutes:5}")
+    private long viewCacheTtlInMinutes;
+
+    @Value("${appsmith.consolidated-api.view-cache.redis.enabled:true}")
+    private boolean viewCacheRedisEnabled;
+}
@@ -0,0 +1,49 @@
+package com.appsmith.server.configurations;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Limits on the datasource contexts, i.e. the connections and connection pools, that each node keeps open.
+ */
+@Getter
+@Configuration
+public class DatasourceContextConfig {
+
+    // Contexts beyond this count are torn down, least recently used first
+    @Value("${appsmith.datasource.context.max-size:1000}")
+    private int maxSize;
+
+    // Contexts that have not been used for this long are torn down
+    @Value("${appsmith.datasource.context.idle-timeout-minutes:30}")
+    private long idleTimeoutInMinutes;
+
+    // Contexts for the on page load actions of published applications are created ahead of the first viewer
+    @Value("${appsmith.datasource.context.warm-up.enabled:false}")
+    private boolean warmUpEnabled;
+
+    // Number of most recently deployed applications whose contexts are created when the server starts
+    @Value("${appsmith.datasource.context.warm-up.application-count:50}")
+    private int warmUpApplicationCount;
+
+    // Number of contexts that are created at the same time while warming up
+    @Value("${appsmith.datasource.context.warm-up.concurrency:4}")
+    private int warmUpConcurrency;
+
+    // Cached contexts are periodically tested in the background, and the broken ones are re-created
+    @Value("${appsmith.datasource.context.validation.enabled:false}")
+    private boolean validationEnabled;
+
+    // Each context is tested after a random delay of up to this many seconds, to spread the tests over time
+    @Value("${appsmith.datasource.context.validation.jitter-seconds:60}")
+    private long validationJitterInSeconds;
+
+    // A context whose test doesn't complete within this time is considered broken
+    @Value("${appsmith.datasource.context.validation.timeout-seconds:10}")
+    private long validationTimeoutInSeconds;
+
+    // Number of contexts that are tested at the same time
+    @Value("${appsmith.datasource.context.validation.concurrency:4}")
+    private int validationConcurrency;
+}
@@ -13,4 +13,13 @@ public class EncryptionConfig {
 
     @Value("${encrypt.password}")
     private String password;
+
+    // Number of decrypted values kept in memory, so that the secrets of documents that are read often aren't decrypted
+    // on every read. 0 turns the cache off.
+    @Value("${encrypt.decryption-cache.max-size:10000}")
+    private long decryptionCacheMaxSize;
+
+    // Decrypted values are kept in memory for at most this long
+    @Value("${encrypt.decryption-cache.ttl-seconds:300}")
+    private long decryptionCacheTtlInSeconds;
 }
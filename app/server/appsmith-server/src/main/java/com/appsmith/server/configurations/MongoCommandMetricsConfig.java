@@ -0,0 +1,62 @@
+package com.appsmith.server.configurations;
+
+import com.appsmith.server.configurations.mongo.MongoCommandMetricsListener;
+import com.appsmith.server.configurations.mongo.QueryShapeRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Instruments the commands that the server sends to MongoDB, see {@link MongoCommandMetricsListener}, and keeps track of
+ * their query shapes for the index advisor.
+ */
+@Getter
+@Configuration
+public class MongoCommandMetricsConfig {
+
+    @Value("${appsmith.mongo.command-metrics.enabled:true}")
+    private boolean enabled;
+
+    // Commands that take at least this long are logged, 0 turns the log off
+    @Value("${appsmith.mongo.slow-query.threshold-ms:500}")
+    private long slowQueryThresholdInMillis;
+
+    // Publishes a latency histogram per collection and command, for percentiles across instances
+    @Value("${appsmith.mongo.command-metrics.histogram.enabled:false}")
+    private boolean histogramEnabled;
+
+    // Query shapes are counted so that they can be checked against the indexes of their collections
+    @Value("${appsmith.mongo.index-advisor.enabled:true}")
+    private boolean indexAdvisorEnabled;
+
+    // Distinct query shapes beyond this count are not tracked
+    @Value("${appsmith.mongo.index-advisor.max-query-shapes:1000}")
+    private int maxQueryShapes;
+
+    // Number of most frequent query shapes that are explained to find collection scans
+    @Value("${appsmith.mongo.index-advisor.explain-sample-size:20}")
+    private int explainSampleSize;
+
+    @Bean
+    public QueryShapeRegistry queryShapeRegistry() {
+        return new QueryShapeRegistry(maxQueryShapes);
+    }
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoCommandMetricsCustomizer(
+            MeterRegistry meterRegistry, QueryShapeRegistry queryShapeRegistry) {
+        return builder -> {
+            if (enabled) {
+                builder.contextProvider(MongoCommandMetricsListener.contextProvider())
+                        .addCommandListener(new MongoCommandMetricsListener(
+                                meterRegistry,
+                                slowQueryThresholdInMillis,
+                                histogramEnabled,
+                                indexAdvisorEnabled ? queryShapeRegistry : null));
+            }
+        };
+    }
+}
@@ -267,7 +267,9 @@ public class MongoConfig {
 
     @Bean
     public EncryptionMongoEventListener encryptionMongoEventListener(EncryptionService encryptionService) {
-        return new EncryptionMongoEventListener(encryptionService);
+        return new EncryptionMongoEventListener(
+                encryptionService,
+                List.of("com.appsmith.external.models", "com.appsmith.server.domains", "com.appsmith.server.dtos"));
     }
 
     @Bean
@@ -0,0 +1,56 @@
+package com.appsmith.server.configurations;
+
+import com.appsmith.server.configurations.mongo.StaleReadMongoOperations;
+import com.mongodb.ReadPreference;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.ReactiveMongoDatabaseFactory;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Routes the repository reads that are marked as tolerant to staleness to the secondaries of the replica set, see
+ * {@link StaleReadMongoOperations}. Without secondaries, as on a standalone server, these reads go to the primary.
+ * <p>
+ * This is off by default, since the reads of a single request can then come from different members, and what's read
+ * from a secondary can be behind what's read from the primary.
+ */
+@Slf4j
+@Getter
+@Configuration
+public class MongoReadRoutingConfig {
+
+    @Value("${appsmith.mongo.stale-reads.enabled:false}")
+    private boolean staleReadsEnabled;
+
+    // Secondaries that lag the primary by more than this aren't read from. MongoDB requires this to be at least 90.
+    @Value("${appsmith.mongo.stale-reads.max-staleness-seconds:90}")
+    private long maxStalenessInSeconds;
+
+    @Bean
+    public StaleReadMongoOperations staleReadMongoOperations(
+            ReactiveMongoOperations mongoOperations,
+            ReactiveMongoDatabaseFactory mongoDatabaseFactory,
+            MongoConverter mongoConverter,
+            ApplicationContext applicationContext) {
+        if (!staleReadsEnabled) {
+            return new StaleReadMongoOperations(mongoOperations, Duration.ZERO);
+        }
+
+        log.info("Reads that tolerate staleness of up to {} seconds prefer secondaries", maxStalenessInSeconds);
+        ReactiveMongoTemplate staleReadTemplate = new ReactiveMongoTemplate(mongoDatabaseFactory, mongoConverter);
+        staleReadTemplate.setReadPreference(ReadPreference.secondaryPreferred(maxStalenessInSeconds, TimeUnit.SECONDS));
+        // Publishes the same mapping events and runs the same entity callbacks as the primary operations, which is
+        // where the encrypted fields are decrypted
+        staleReadTemplate.setApplicationContext(applicationContext);
+        return new StaleReadMongoOperations(staleReadTemplate, Duration.ofSeconds(maxStalenessInSeconds));
+    }
+}
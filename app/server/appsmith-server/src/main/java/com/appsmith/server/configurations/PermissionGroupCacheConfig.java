@@ -0,0 +1,24 @@
+package com.appsmith.server.configurations;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Settings for the per node cache of the permission groups of users.
+ */
+@Getter
+@Configuration
+public class PermissionGroupCacheConfig {
+
+    // Permission checked queries look up the permission groups of the user from memory instead of Redis
+    @Value("${appsmith.permission-groups.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${appsmith.permission-groups.cache.max-size:10000}")
+    private long maxSize;
+
+    // Evictions reach other nodes over Redis pub/sub, which doesn't retry, so entries are also dropped after a while
+    @Value("${appsmith.permission-groups.cache.ttl-seconds:300}")
+    private long ttlInSeconds;
+}
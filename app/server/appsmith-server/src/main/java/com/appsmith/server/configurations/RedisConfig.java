@@ -3,6 +3,7 @@ package com.appsmith.server.configurations;
 import com.appsmith.server.domains.LoginSource;
 import com.appsmith.server.dtos.OAuth2AuthorizedClientDTO;
 import com.appsmith.server.dtos.UserSessionDTO;
+import com.appsmith.server.helpers.UserSessionIndex;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import io.lettuce.core.AbstractRedisClient;
@@ -15,7 +16,9 @@ import io.lettuce.core.resource.ClientResources;
 import io.micrometer.observation.ObservationRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -42,6 +45,9 @@ import org.springframework.data.redis.util.ByteUtils;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextImpl;
 import org.springframework.security.oauth2.client.OAuth2AuthorizedClient;
+import org.springframework.session.ReactiveSessionRepository;
+import org.springframework.session.Session;
+import org.springframework.session.data.redis.ReactiveRedisSessionRepository;
 import org.springframework.session.data.redis.config.annotation.web.server.EnableRedisWebSession;
 
 import java.net.URI;
@@ -152,6 +158,26 @@ public class RedisConfig {
         }
     }
 
+    /**
+     * Wraps the session repository so that the sessions of each user are indexed as they are saved. Static, so that it
+     * is registered before the session repository is created.
+     */
+    @Bean
+    static BeanPostProcessor userSessionIndexingPostProcessor(
+            ObjectProvider<UserSessionIndex> userSessionIndexProvider) {
+        return new BeanPostProcessor() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof ReactiveRedisSessionRepository) {
+                    return new UserSessionIndexingSessionRepository<>(
+                            (ReactiveSessionRepository<Session>) bean, userSessionIndexProvider);
+                }
+                return bean;
+            }
+        };
+    }
+
     @Bean
     public RedisSerializer<Object> springSessionDefaultRedisSerializer() {
         return new JSONSessionRedisSerializer();
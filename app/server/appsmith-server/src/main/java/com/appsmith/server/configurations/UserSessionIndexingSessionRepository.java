@@ -0,0 +1,85 @@
+package com.appsmith.server.configurations;
+
+import com.appsmith.server.helpers.UserSessionIndex;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.session.ReactiveSessionRepository;
+import org.springframework.session.Session;
+import reactor.core.publisher.Mono;
+
+import static org.springframework.security.web.server.context.WebSessionServerSecurityContextRepository.DEFAULT_SPRING_SECURITY_CONTEXT_ATTR_NAME;
+
+/**
+ * Keeps {@link UserSessionIndex} up to date with the sessions that are saved to, and deleted from, the session
+ * repository it wraps.
+ * <p>
+ * Sessions are saved on every request, so each session is only added to the index again once
+ * {@link UserSessionIndex#REINDEX_INTERVAL} has passed since it was last added from this node, or when the user signed
+ * in to it changes.
+ */
+@Slf4j
+class UserSessionIndexingSessionRepository<S extends Session> implements ReactiveSessionRepository<S> {
+
+    private final ReactiveSessionRepository<S> delegate;
+
+    // Resolved lazily, as the session repository is created before most other beans
+    private final ObjectProvider<UserSessionIndex> userSessionIndexProvider;
+
+    // Email of the user signed in to each session that was recently added to the index
+    private final Cache<String, String> recentlyIndexedSessions = CacheBuilder.newBuilder()
+            .expireAfterWrite(UserSessionIndex.REINDEX_INTERVAL)
+            .maximumSize(100_000)
+            .build();
+
+    UserSessionIndexingSessionRepository(
+            ReactiveSessionRepository<S> delegate, ObjectProvider<UserSessionIndex> userSessionIndexProvider) {
+        this.delegate = delegate;
+        this.userSessionIndexProvider = userSessionIndexProvider;
+    }
+
+    @Override
+    public Mono<S> createSession() {
+        return delegate.createSession();
+    }
+
+    @Override
+    public Mono<Void> save(S session) {
+        return delegate.save(session).then(Mono.defer(() -> {
+            final String email =
+                    UserSessionIndex.getEmail(session.getAttribute(DEFAULT_SPRING_SECURITY_CONTEXT_ATTR_NAME));
+            final String sessionId = session.getId();
+            if (email == null || email.equals(recentlyIndexedSessions.getIfPresent(sessionId))) {
+                return Mono.empty();
+            }
+            return userSessionIndexProvider
+                    .getObject()
+                    .add(email, sessionId, session.getMaxInactiveInterval())
+                    .doOnSuccess(ignored -> recentlyIndexedSessions.put(sessionId, email))
+                    .onErrorResume(error -> {
+                        log.warn("Unable to add session to the index of its user", error);
+                        return Mono.empty();
+                    });
+        }));
+    }
+
+    @Override
+    public Mono<S> findById(String id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Mono<Void> deleteById(String id) {
+        recentlyIndexedSessions.invalidate(id);
+        return delegate.findById(id)
+                .mapNotNull(session ->
+                        UserSessionIndex.getEmail(session.getAttribute(DEFAULT_SPRING_SECURITY_CONTEXT_ATTR_NAME)))
+                .flatMap(email -> userSessionIndexProvider.getObject().remove(email, id))
+                .onErrorResume(error -> {
+                    log.warn("Unable to remove session from the index of its user", error);
+                    return Mono.empty();
+                })
+                .then(delegate.deleteById(id));
+    }
+}
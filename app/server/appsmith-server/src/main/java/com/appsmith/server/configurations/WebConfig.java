@@ -1,5 +1,7 @@
 package com.appsmith.server.configurations;
 
+import com.appsmith.server.newactions.execution.ChunkedActionExecutionResultWriter;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.codec.HttpMessageReader;
 import org.springframework.http.codec.ServerCodecConfigurer;
@@ -9,8 +11,11 @@ import org.springframework.http.codec.multipart.Part;
 import org.springframework.web.reactive.config.WebFluxConfigurer;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebFluxConfigurer {
 
+    private final ChunkedActionExecutionResultWriter chunkedActionExecutionResultWriter;
+
     @Override
     public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
         configurer.defaultCodecs().configureDefaultCodec(codec -> {
@@ -22,5 +27,8 @@ public class WebConfig implements WebFluxConfigurer {
                 }
             }
         });
+
+        // Custom writers that only handle specific types are consulted before the default JSON writer
+        configurer.customCodecs().register(chunkedActionExecutionResultWriter);
     }
 }
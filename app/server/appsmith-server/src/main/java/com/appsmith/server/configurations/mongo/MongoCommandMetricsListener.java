@@ -0,0 +1,279 @@
+package com.appsmith.server.configurations.mongo;
+
+import com.mongodb.RequestContext;
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import com.mongodb.reactivestreams.client.ReactiveContextProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import reactor.core.CoreSubscriber;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Times every command that is sent to the database, per collection, command and the repository method that issued it,
+ * optionally with a latency histogram per collection and command, and logs the commands that take longer than the slow
+ * query threshold along with the shape of their filter. The shapes are also counted in the {@link QueryShapeRegistry}
+ * for the index advisor.
+ * <p>
+ * The repository method is put in the Reactor context by {@link RepositoryMethodInterceptor} and handed over to the
+ * driver by the {@link #contextProvider()} of the client.
+ */
+@Slf4j
+public class MongoCommandMetricsListener implements CommandListener {
+
+    public static final String REPOSITORY_METHOD_CONTEXT_KEY = "appsmith.repository.method";
+
+    static final String COMMAND_METRIC_NAME = "appsmith.mongo.commands";
+
+    static final String COMMAND_LATENCY_METRIC_NAME = "appsmith.mongo.commands.latency";
+
+    private static final String UNKNOWN = "unknown";
+
+    private static final String NONE = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    private final long slowQueryThresholdInMillis;
+
+    // Histograms are only published per collection and command, the repository method would multiply their buckets
+    private final boolean latencyHistogramEnabled;
+
+    // Query shapes are only counted when the index advisor is enabled
+    private final QueryShapeRegistry queryShapeRegistry;
+
+    // Commands that have been sent and haven't completed yet, by the id of their request
+    private final Map<Integer, StartedCommand> startedCommands = new ConcurrentHashMap<>();
+
+    private record StartedCommand(String collection, String repositoryMethod, String filterShape) {}
+
+    public MongoCommandMetricsListener(
+            MeterRegistry meterRegistry,
+            long slowQueryThresholdInMillis,
+            boolean latencyHistogramEnabled,
+            QueryShapeRegistry queryShapeRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.slowQueryThresholdInMillis = slowQueryThresholdInMillis;
+        this.latencyHistogramEnabled = latencyHistogramEnabled;
+        this.queryShapeRegistry = queryShapeRegistry;
+    }
+
+    /**
+     * Hands the repository method from the Reactor context of the subscriber over to the driver, so that it's available
+     * on the command events.
+     */
+    public static ReactiveContextProvider contextProvider() {
+        return subscriber -> {
+            Optional<String> repositoryMethod = subscriber instanceof CoreSubscriber<?> coreSubscriber
+                    ? coreSubscriber.currentContext().getOrEmpty(REPOSITORY_METHOD_CONTEXT_KEY)
+                    : Optional.empty();
+            return new RepositoryMethodRequestContext(repositoryMethod.orElse(null));
+        };
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        BsonDocument command = event.getCommand();
+        String collection = collectionName(event.getCommandName(), command);
+        String repositoryMethod = repositoryMethod(event.getRequestContext());
+        // The command document is only valid during this call, so the filter shape is extracted right away, and only
+        // when it's going to be used
+        String filterShape = null;
+        if (slowQueryThresholdInMillis > 0 || queryShapeRegistry != null) {
+            BsonValue filter = filter(command);
+            filterShape = filter == null ? NONE : shapeOf(filter);
+            if (filter != null && queryShapeRegistry != null) {
+                queryShapeRegistry.record(collection, repositoryMethod, filter, filterShape);
+            }
+        }
+        startedCommands.put(event.getRequestId(), new StartedCommand(collection, repositoryMethod, filterShape));
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        record(event.getRequestId(), event.getCommandName(), event.getElapsedTime(TimeUnit.NANOSECONDS), "success");
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        record(event.getRequestId(), event.getCommandName(), event.getElapsedTime(TimeUnit.NANOSECONDS), "failure");
+    }
+
+    private void record(int requestId, String commandName, long elapsedNanos, String status) {
+        StartedCommand startedCommand = startedCommands.remove(requestId);
+        if (startedCommand == null) {
+            return;
+        }
+
+        Timer.builder(COMMAND_METRIC_NAME)
+                .tag("collection", startedCommand.collection())
+                .tag("command", commandName)
+                .tag("method", startedCommand.repositoryMethod())
+                .tag("status", status)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        if (latencyHistogramEnabled) {
+            Timer.builder(COMMAND_LATENCY_METRIC_NAME)
+                    .tag("collection", startedCommand.collection())
+                    .tag("command", commandName)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        }
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        if (slowQueryThresholdInMillis > 0 && elapsedMillis >= slowQueryThresholdInMillis) {
+            log.warn(
+                    "Slow Mongo command {} on {} from {} took {} ms with filter {}",
+                    commandName,
+                    startedCommand.collection(),
+                    startedCommand.repositoryMethod(),
+                    elapsedMillis,
+                    startedCommand.filterShape());
+        }
+    }
+
+    private static String repositoryMethod(RequestContext requestContext) {
+        return requestContext == null ? UNKNOWN : requestContext.getOrDefault(REPOSITORY_METHOD_CONTEXT_KEY, UNKNOWN);
+    }
+
+    static String collectionName(String commandName, BsonDocument command) {
+        BsonValue value = command.get(commandName);
+        if (value != null && value.isString()) {
+            return value.asString().getValue();
+        }
+        // getMore carries the cursor id in place of the collection name
+        BsonValue collection = command.get("collection");
+        return collection != null && collection.isString()
+                ? collection.asString().getValue()
+                : NONE;
+    }
+
+    /**
+     * Returns the filter of the command with all its values replaced by {@code ?}, which is enough to tell which
+     * indexes the command could use, without logging any of the data in it.
+     */
+    static String filterShape(BsonDocument command) {
+        BsonValue filter = filter(command);
+        return filter == null ? NONE : shapeOf(filter);
+    }
+
+    private static BsonValue filter(BsonDocument command) {
+        return switch (command.getFirstKey()) {
+            case "find" -> command.get("filter");
+            case "count", "distinct", "findAndModify" -> command.get("query");
+            case "aggregate" -> command.get("pipeline");
+            case "update" -> firstStatementField(command, "updates", "q");
+            case "delete" -> firstStatementField(command, "deletes", "q");
+            default -> null;
+        };
+    }
+
+    private static String shapeOf(BsonValue filter) {
+        StringBuilder shape = new StringBuilder();
+        appendShape(filter, shape);
+        return shape.toString();
+    }
+
+    private static BsonValue firstStatementField(BsonDocument command, String statementsKey, String field) {
+        BsonValue statements = command.get(statementsKey);
+        if (statements == null || !statements.isArray() || statements.asArray().isEmpty()) {
+            return null;
+        }
+        BsonValue statement = statements.asArray().get(0);
+        return statement.isDocument() ? statement.asDocument().get(field) : null;
+    }
+
+    private static void appendShape(BsonValue value, StringBuilder shape) {
+        if (value.isDocument()) {
+            shape.append('{');
+            boolean first = true;
+            for (Map.Entry<String, BsonValue> entry : value.asDocument().entrySet()) {
+                if (!first) {
+                    shape.append(", ");
+                }
+                first = false;
+                shape.append(entry.getKey()).append(": ");
+                appendShape(entry.getValue(), shape);
+            }
+            shape.append('}');
+        } else if (value.isArray() && isArrayOfDocuments(value.asArray())) {
+            // Arrays of documents are conditions, as in $or or a pipeline, rather than values
+            shape.append('[');
+            boolean first = true;
+            for (BsonValue element : value.asArray()) {
+                if (!first) {
+                    shape.append(", ");
+                }
+                first = false;
+                appendShape(element, shape);
+            }
+            shape.append(']');
+        } else {
+            shape.append('?');
+        }
+    }
+
+    private static boolean isArrayOfDocuments(BsonArray array) {
+        return !array.isEmpty() && array.stream().allMatch(BsonValue::isDocument);
+    }
+
+    /**
+     * Request context of a single command. It only ever holds the repository method that issued the command.
+     */
+    private static class RepositoryMethodRequestContext implements RequestContext {
+
+        private final Map<Object, Object> values = new ConcurrentHashMap<>();
+
+        RepositoryMethodRequestContext(String repositoryMethod) {
+            putNonNull(REPOSITORY_METHOD_CONTEXT_KEY, repositoryMethod);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T get(Object key) {
+            return (T) values.get(key);
+        }
+
+        @Override
+        public boolean hasKey(Object key) {
+            return values.containsKey(key);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return values.isEmpty();
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            values.put(key, value);
+        }
+
+        @Override
+        public void delete(Object key) {
+            values.remove(key);
+        }
+
+        @Override
+        public int size() {
+            return values.size();
+        }
+
+        @Override
+        public Stream<Map.Entry<Object, Object>> stream() {
+            return values.entrySet().stream();
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.appsmith.server.configurations.mongo;
+
+import lombok.Getter;
+import org.bson.BsonArray;
+import org.bson.BsonBinary;
+import org.bson.BsonBoolean;
+import org.bson.BsonDateTime;
+import org.bson.BsonDecimal128;
+import org.bson.BsonDocument;
+import org.bson.BsonDouble;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonObjectId;
+import org.bson.BsonRegularExpression;
+import org.bson.BsonString;
+import org.bson.BsonTimestamp;
+import org.bson.BsonValue;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps count of the query shapes that the server sends to each collection, as seen by
+ * {@link MongoCommandMetricsListener}, so that they can be checked against the indexes of the collection.
+ * <p>
+ * The first filter seen for each shape is kept as a sample to explain the shape with. The values in the sample are
+ * replaced with placeholders of the same type before it's kept, so that no data read by the server lingers in memory.
+ */
+public class QueryShapeRegistry {
+
+    private static final String REDACTED = "?";
+
+    private final int maxSize;
+
+    private final Map<Key, QueryShape> queryShapes = new ConcurrentHashMap<>();
+
+    private record Key(String collection, String filterShape) {}
+
+    @Getter
+    public static class QueryShape {
+        private final String collection;
+
+        private final String filterShape;
+
+        // The first repository method that was seen sending this shape
+        private final String repositoryMethod;
+
+        // Fields that the filter matches on, which an index could be used for
+        private final Set<String> fields;
+
+        // Filter that is explained for this shape with its values redacted, null if it can't be explained as a find
+        private final BsonDocument sampleFilter;
+
+        private final LongAdder count = new LongAdder();
+
+        QueryShape(
+                String collection,
+                String filterShape,
+                String repositoryMethod,
+                Set<String> fields,
+                BsonDocument sampleFilter) {
+            this.collection = collection;
+            this.filterShape = filterShape;
+            this.repositoryMethod = repositoryMethod;
+            this.fields = fields;
+            this.sampleFilter = sampleFilter;
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+    }
+
+    public QueryShapeRegistry(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Counts a command with the given filter. Shapes beyond the maximum size of the registry aren't counted, to keep the
+     * memory it takes bounded.
+     */
+    void record(String collection, String repositoryMethod, BsonValue filter, String filterShape) {
+        Key key = new Key(collection, filterShape);
+        QueryShape queryShape = queryShapes.get(key);
+        if (queryShape == null) {
+            if (queryShapes.size() >= maxSize) {
+                return;
+            }
+            queryShape = queryShapes.computeIfAbsent(key, ignored -> newQueryShape(key, repositoryMethod, filter));
+        }
+        queryShape.count.increment();
+    }
+
+    /**
+     * Returns the query shapes seen so far, the most frequent ones first.
+     */
+    public List<QueryShape> getQueryShapes() {
+        return queryShapes.values().stream()
+                .sorted(Comparator.comparingLong(QueryShape::getCount).reversed())
+                .toList();
+    }
+
+    private static QueryShape newQueryShape(Key key, String repositoryMethod, BsonValue filter) {
+        BsonDocument matchFilter = matchFilter(filter);
+        Set<String> fields = new LinkedHashSet<>();
+        if (matchFilter != null) {
+            collectFields(matchFilter, fields);
+        }
+        // The command document is only valid while the driver notifies the listeners, redacting copies the sample
+        return new QueryShape(
+                key.collection(),
+                key.filterShape(),
+                repositoryMethod,
+                Set.copyOf(fields),
+                matchFilter == null ? null : redact(matchFilter).asDocument());
+    }
+
+    /**
+     * Returns a copy of the filter with each value replaced by a placeholder of the same type. The field names,
+     * operators and types are kept, which is what the query planner chooses an index by.
+     */
+    static BsonValue redact(BsonValue value) {
+        return switch (value.getBsonType()) {
+            case DOCUMENT -> {
+                BsonDocument redacted = new BsonDocument();
+                value.asDocument().forEach((name, fieldValue) -> redacted.append(name, redact(fieldValue)));
+                yield redacted;
+            }
+            case ARRAY -> {
+                BsonArray redacted = new BsonArray();
+                value.asArray().forEach(element -> redacted.add(redact(element)));
+                yield redacted;
+            }
+            case INT32 -> new BsonInt32(0);
+            case INT64 -> new BsonInt64(0);
+            case DOUBLE -> new BsonDouble(0);
+            case DECIMAL128 -> new BsonDecimal128(Decimal128.POSITIVE_ZERO);
+            case BOOLEAN -> BsonBoolean.FALSE;
+            case OBJECT_ID -> new BsonObjectId(new ObjectId(new byte[12]));
+            case DATE_TIME -> new BsonDateTime(0);
+            case TIMESTAMP -> new BsonTimestamp(0);
+            case REGULAR_EXPRESSION -> new BsonRegularExpression(REDACTED);
+            case BINARY -> new BsonBinary(new byte[0]);
+            case NULL, UNDEFINED, MIN_KEY, MAX_KEY -> value;
+            default -> new BsonString(REDACTED);
+        };
+    }
+
+    /**
+     * Returns the filter that decides which documents the command reads, which for a pipeline is its leading $match.
+     */
+    private static BsonDocument matchFilter(BsonValue filter) {
+        if (filter.isDocument()) {
+            return filter.asDocument();
+        }
+        if (filter.isArray() && !filter.asArray().isEmpty()) {
+            BsonValue firstStage = filter.asArray().get(0);
+            if (firstStage.isDocument() && firstStage.asDocument().isDocument("$match")) {
+                return firstStage.asDocument().getDocument("$match");
+            }
+        }
+        return null;
+    }
+
+    private static void collectFields(BsonDocument filter, Set<String> fields) {
+        for (Map.Entry<String, BsonValue> entry : filter.entrySet()) {
+            if ("$and".equals(entry.getKey()) && entry.getValue().isArray()) {
+                for (BsonValue condition : entry.getValue().asArray()) {
+                    if (condition.isDocument()) {
+                        collectFields(condition.asDocument(), fields);
+                    }
+                }
+            } else if (!entry.getKey().startsWith("$")) {
+                fields.add(entry.getKey());
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.appsmith.server.configurations.mongo;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Puts the name of the repository method that's being called in the Reactor context of its result, so that the
+ * commands it sends to the database can be attributed to it by {@link MongoCommandMetricsListener}.
+ */
+public class RepositoryMethodInterceptor implements MethodInterceptor {
+
+    private final String repositoryName;
+
+    public RepositoryMethodInterceptor(Class<?> repositoryInterface) {
+        this.repositoryName = repositoryInterface.getSimpleName();
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Object result = invocation.proceed();
+        if (result instanceof Mono<?> mono) {
+            String repositoryMethod =
+                    repositoryName + "." + invocation.getMethod().getName();
+            return mono.contextWrite(context ->
+                    context.put(MongoCommandMetricsListener.REPOSITORY_METHOD_CONTEXT_KEY, repositoryMethod));
+        }
+        if (result instanceof Flux<?> flux) {
+            String repositoryMethod =
+                    repositoryName + "." + invocation.getMethod().getName();
+            return flux.contextWrite(context ->
+                    context.put(MongoCommandMetricsListener.REPOSITORY_METHOD_CONTEXT_KEY, repositoryMethod));
+        }
+        return result;
+    }
+}
@@ -8,7 +8,8 @@ import org.springframework.data.repository.query.QueryMethodEvaluationContextPro
 import java.util.Optional;
 
 /**
- * This custom factory returns our custom QueryLookupStrategy so that we can filter out deleted records
+ * This custom factory returns our custom QueryLookupStrategy so that we can filter out deleted records. It also
+ * attributes the database commands of every repository method to that method, see {@link RepositoryMethodInterceptor}.
  */
 public class SoftDeleteMongoRepositoryFactory extends ReactiveMongoRepositoryFactory {
     private final ReactiveMongoOperations mongoOperations;
@@ -16,6 +17,8 @@ public class SoftDeleteMongoRepositoryFactory extends ReactiveMongoRepositoryFac
     public SoftDeleteMongoRepositoryFactory(ReactiveMongoOperations mongoOperations) {
         super(mongoOperations);
         this.mongoOperations = mongoOperations;
+        addRepositoryProxyPostProcessor((factory, repositoryInformation) ->
+                factory.addAdvice(new RepositoryMethodInterceptor(repositoryInformation.getRepositoryInterface())));
     }
 
     @Override
@@ -0,0 +1,37 @@
+package com.appsmith.server.configurations.mongo;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Operations for the reads that can be served slightly stale, such as those of applications in view mode. These prefer
+ * the secondaries of the replica set, so that this read traffic scales with the number of replicas instead of all of
+ * it going to the primary.
+ * <p>
+ * This deliberately doesn't implement {@link ReactiveMongoOperations} itself, so that it's never injected in place of
+ * the primary operations, which every write and every read-your-writes path must keep using.
+ */
+@Getter
+@RequiredArgsConstructor
+public class StaleReadMongoOperations {
+
+    private final ReactiveMongoOperations operations;
+
+    // How far behind the primary the reads through these operations can be. Zero when they go to the primary.
+    private final Duration maxStaleness;
+
+    /**
+     * Whether the reads through these operations are certain to see a write made on the primary at the given time.
+     * Anything that is derived from these reads and kept under a key that comes from the primary, like a cache entry
+     * or an ETag, must only be kept once this holds, else it would keep the stale data under the new key.
+     */
+    public boolean hasCaughtUpWith(Instant writtenAt) {
+        return writtenAt == null
+                || maxStaleness.isZero()
+                || writtenAt.plus(maxStaleness).isBefore(Instant.now());
+    }
+}
@@ -10,16 +10,20 @@ import com.appsmith.server.services.ConsolidatedAPIService;
 import com.fasterxml.jackson.annotation.JsonView;
 import io.micrometer.observation.ObservationRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
 import reactor.core.observability.micrometer.Micrometer;
 import reactor.core.publisher.Mono;
 
 import java.util.Objects;
+import java.util.stream.Stream;
 
 import static com.appsmith.external.constants.spans.ConsolidatedApiSpanNames.CONSOLIDATED_API_ROOT_EDIT;
 import static com.appsmith.external.constants.spans.ConsolidatedApiSpanNames.CONSOLIDATED_API_ROOT_VIEW;
@@ -67,12 +71,17 @@ public class ConsolidatedAPIController {
                 .tap(Micrometer.observation(observationRegistry));
     }
 
+    /**
+     * Same as the edit mode endpoint, for viewing a published application. The response carries an ETag, and a request
+     * whose If-None-Match header has the current ETag is answered with a 304 without computing the response.
+     */
     @JsonView(Views.Public.class)
     @GetMapping("/view")
     public Mono<ResponseDTO<ConsolidatedAPIResponseDTO>> getAllDataForFirstPageLoadForViewMode(
             @RequestParam(required = false) String applicationId,
             @RequestParam(required = false) String defaultPageId,
-            @RequestHeader(name = FieldName.BRANCH_NAME, required = false) String branchName) {
+            @RequestHeader(name = FieldName.BRANCH_NAME, required = false) String branchName,
+            ServerWebExchange exchange) {
         log.debug(
                 "Going to fetch consolidatedAPI response for applicationId: {}, defaultPageId: {}, branchName: {}, "
                         + "mode: {}",
@@ -82,13 +91,59 @@ public class ConsolidatedAPIController {
                 ApplicationMode.PUBLISHED);
 
         return consolidatedAPIService
-                .getConsolidatedInfoForPageLoad(defaultPageId, applicationId, branchName, ApplicationMode.PUBLISHED)
-                .map(consolidatedAPIResponseDTO ->
-                        new ResponseDTO<>(HttpStatus.OK.value(), consolidatedAPIResponseDTO, null))
+                .getConsolidatedInfoForPageLoadETag(defaultPageId, applicationId, branchName)
+                .onErrorResume(error -> {
+                    // The response itself reports the errors, it's just not cacheable
+                    log.debug("Unable to compute ETag for consolidatedAPI response", error);
+                    return Mono.empty();
+                })
+                .map(eTag -> {
+                    exchange.getResponse()
+                            .getHeaders()
+                            .setCacheControl(CacheControl.noCache().cachePrivate());
+                    return exchange.checkNotModified(eTag);
+                })
+                .defaultIfEmpty(false)
+                .flatMap(isNotModified -> {
+                    if (isNotModified) {
+                        return consolidatedAPIService
+                                .markApplicationRecentlyAccessed(defaultPageId, applicationId, branchName)
+                                .then(Mono.<ResponseDTO<ConsolidatedAPIResponseDTO>>empty());
+                    }
+
+                    return consolidatedAPIService
+                            .getConsolidatedInfoForPageLoad(
+                                    defaultPageId, applicationId, branchName, ApplicationMode.PUBLISHED)
+                            .map(consolidatedAPIResponseDTO -> {
+                                if (hasFailedParts(consolidatedAPIResponseDTO)) {
+                                    // A partial failure must not be reused by the client on the next page load
+                                    exchange.getResponse().getHeaders().remove(HttpHeaders.ETAG);
+                                }
+                                return new ResponseDTO<>(HttpStatus.OK.value(), consolidatedAPIResponseDTO, null);
+                            });
+                })
                 .tag("pageId", Objects.toString(defaultPageId))
                 .tag("applicationId", Objects.toString(applicationId))
                 .tag("branchName", Objects.toString(branchName))
                 .name(CONSOLIDATED_API_ROOT_VIEW)
                 .tap(Micrometer.observation(observationRegistry));
     }
+
+    private static boolean hasFailedParts(ConsolidatedAPIResponseDTO consolidatedAPIResponseDTO) {
+        return Stream.of(
+                        consolidatedAPIResponseDTO.getUserProfile(),
+                        consolidatedAPIResponseDTO.getFeatureFlags(),
+                        consolidatedAPIResponseDTO.getTenantConfig(),
+                        consolidatedAPIResponseDTO.getProductAlert(),
+                        consolidatedAPIResponseDTO.getPages(),
+                        consolidatedAPIResponseDTO.getPublishedActions(),
+                        consolidatedAPIResponseDTO.getPublishedActionCollections(),
+                        consolidatedAPIResponseDTO.getCurrentTheme(),
+                        consolidatedAPIResponseDTO.getThemes(),
+                        consolidatedAPIResponseDTO.getPageWithMigratedDsl(),
+                        consolidatedAPIResponseDTO.getCustomJSLibraries())
+                .filter(Objects::nonNull)
+                .anyMatch(responseDTO -> responseDTO.getResponseMeta() == null
+                        || !responseDTO.getResponseMeta().isSuccess());
+    }
 }
@@ -2,6 +2,7 @@ package com.appsmith.server.controllers;
 
 import com.appsmith.server.constants.Url;
 import com.appsmith.server.controllers.ce.InstanceAdminControllerCE;
+import com.appsmith.server.services.IndexAdvisorService;
 import com.appsmith.server.solutions.EnvManager;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -12,7 +13,7 @@ import org.springframework.web.bind.annotation.RestController;
 @Slf4j
 public class InstanceAdminController extends InstanceAdminControllerCE {
 
-    public InstanceAdminController(EnvManager envManager) {
-        super(envManager);
+    public InstanceAdminController(EnvManager envManager, IndexAdvisorService indexAdvisorService) {
+        super(envManager, indexAdvisorService);
     }
 }
@@ -2,8 +2,10 @@ package com.appsmith.server.controllers.ce;
 
 import com.appsmith.external.views.Views;
 import com.appsmith.server.constants.Url;
+import com.appsmith.server.dtos.QueryShapeIndexAdviceDTO;
 import com.appsmith.server.dtos.ResponseDTO;
 import com.appsmith.server.dtos.TestEmailConfigRequestDTO;
+import com.appsmith.server.services.IndexAdvisorService;
 import com.appsmith.server.solutions.EnvManager;
 import com.fasterxml.jackson.annotation.JsonView;
 import jakarta.validation.Valid;
@@ -20,6 +22,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.Map;
 
 @RequestMapping(Url.INSTANCE_ADMIN_URL)
@@ -29,6 +32,8 @@ public class InstanceAdminControllerCE {
 
     private final EnvManager envManager;
 
+    private final IndexAdvisorService indexAdvisorService;
+
     @JsonView(Views.Public.class)
     @GetMapping("/env")
     public Mono<ResponseDTO<Map<String, String>>> getAll() {
@@ -74,4 +79,13 @@ public class InstanceAdminControllerCE {
         log.debug("Sending test email");
         return envManager.sendTestEmail(requestDTO).thenReturn(new ResponseDTO<>(HttpStatus.OK.value(), true, null));
     }
+
+    @JsonView(Views.Public.class)
+    @GetMapping("/index-advice")
+    public Mono<ResponseDTO<List<QueryShapeIndexAdviceDTO>>> getIndexAdvice() {
+        log.debug("Getting index advice for the query shapes seen so far");
+        return indexAdvisorService
+                .getIndexAdvice()
+                .map(advice -> new ResponseDTO<>(HttpStatus.OK.value(), advice, null));
+    }
 }
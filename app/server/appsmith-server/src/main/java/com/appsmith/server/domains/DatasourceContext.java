@@ -5,6 +5,7 @@ import lombok.Setter;
 import lombok.ToString;
 
 import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Getter
 @Setter
@@ -14,7 +15,35 @@ public class DatasourceContext<T> {
 
     Instant creationTime;
 
+    // Used to find the plugin executor that can tear down the connection, when this context gets evicted
+    String pluginId;
+
+    volatile Instant lastAccessedTime;
+
+    // Number of executions running on the connection right now. A context that is in use is not evicted.
+    final AtomicInteger usageCount = new AtomicInteger();
+
+    // Set until the creation of the connection completes. A context whose connection is being created is not evicted.
+    volatile boolean creating;
+
     public DatasourceContext() {
         creationTime = Instant.now();
+        lastAccessedTime = creationTime;
+    }
+
+    public void markAccessed() {
+        lastAccessedTime = Instant.now();
+    }
+
+    public void markInUse() {
+        usageCount.incrementAndGet();
+    }
+
+    public void markNotInUse() {
+        usageCount.decrementAndGet();
+    }
+
+    public boolean isInUse() {
+        return usageCount.get() > 0;
     }
 }
@@ -2,13 +2,20 @@ package com.appsmith.server.dtos;
 
 import com.appsmith.external.models.ActionDTO;
 import com.appsmith.external.models.Datasource;
+import com.appsmith.external.views.Views;
 import com.appsmith.server.domains.CustomJSLib;
 import com.appsmith.server.domains.Plugin;
 import com.appsmith.server.domains.Tenant;
 import com.appsmith.server.domains.Theme;
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonView;
+import com.fasterxml.jackson.databind.util.RawValue;
 import lombok.Getter;
 import lombok.Setter;
+import lombok.experimental.FieldNameConstants;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -19,6 +26,7 @@ import java.util.Map;
  */
 @Getter
 @Setter
+@FieldNameConstants
 public class ConsolidatedAPIResponseDTO {
     /* v1/users/me */
     ResponseDTO<UserProfileDTO> userProfile;
@@ -73,4 +81,18 @@ public class ConsolidatedAPIResponseDTO {
 
     /* v1/datasources/mock */
     ResponseDTO<List<MockDataSet>> mockDatasources;
+
+    /* Sections served from the cache in view mode, as JSON, keyed by the name of the section they stand in for */
+    @JsonIgnore
+    Map<String, String> cachedSections;
+
+    @JsonAnyGetter
+    @JsonView(Views.Public.class)
+    public Map<String, RawValue> getCachedSectionsAsJson() {
+        final Map<String, RawValue> json = new LinkedHashMap<>();
+        if (cachedSections != null) {
+            cachedSections.forEach((name, value) -> json.put(name, new RawValue(value)));
+        }
+        return json;
+    }
 }
@@ -0,0 +1,24 @@
+package com.appsmith.server.dtos;
+
+import lombok.Data;
+
+/**
+ * How well a query shape that the server sends to the database is served by the indexes of its collection.
+ */
+@Data
+public class QueryShapeIndexAdviceDTO {
+    private String collection;
+
+    // The filter of the query, with all its values replaced by ?
+    private String filterShape;
+
+    private String repositoryMethod;
+
+    private long count;
+
+    // Name of an index that leads with one of the fields of the filter, null if there's none
+    private String index;
+
+    // Whether the query plan of the shape scans the whole collection, null if the shape wasn't explained
+    private Boolean collectionScan;
+}
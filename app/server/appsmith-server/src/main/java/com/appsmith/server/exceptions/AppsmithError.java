@@ -1012,6 +1012,14 @@ public enum AppsmithError {
             "Insufficient password strength",
             ErrorType.ARGUMENT_ERROR,
             null),
+    TOO_MANY_CONCURRENT_DATASOURCE_EXECUTIONS(
+            429,
+            AppsmithErrorCode.TOO_MANY_CONCURRENT_DATASOURCE_EXECUTIONS.getCode(),
+            "Too many queries are already running or waiting on the datasource {0}. Please try again after some time.",
+            AppsmithErrorAction.DEFAULT,
+            "Too many requests",
+            ErrorType.CONNECTIVITY_ERROR,
+            null),
     ;
 
     private final Integer httpErrorCode;
@@ -132,6 +132,7 @@ public enum AppsmithErrorCode {
             "AE-TMR-4031", "Rate limit exhausted, blocking the host name failed"),
     TRIGGER_PARAMETERS_EMPTY("AE-DS-4001", "Trigger parameters empty."),
     INSUFFICIENT_PASSWORD_STRENGTH("AE-PSW-4002", "Insufficient password strength"),
+    TOO_MANY_CONCURRENT_DATASOURCE_EXECUTIONS("AE-TMR-4032", "Too many concurrent executions on datasource"),
     ;
     private final String code;
     private final String description;
@@ -4,41 +4,104 @@ import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.server.domains.Plugin;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.repositories.PluginRepository;
+import lombok.extern.slf4j.Slf4j;
 import org.pf4j.PluginManager;
+import org.pf4j.PluginState;
+import org.pf4j.PluginWrapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Resolves the {@link PluginExecutor} for a plugin.
+ * <p>
+ * Executors are looked up from a registry keyed by package name, which is built once from the plugins that PF4J has
+ * started and rebuilt whenever a plugin is started or stopped, e.g. when a plugin gets installed. This keeps PF4J's
+ * extension scan off the execution path.
+ */
+@Slf4j
 @Component
 public class PluginExecutorHelper {
 
     private final PluginManager pluginManager;
+    private final PluginRepository pluginRepository;
+
+    // Replaced as a whole on every rebuild, so that readers never see a partially built registry
+    private volatile Map<String, PluginExecutor> executorsByPackageName = Map.of();
+
+    // The package name of a plugin never changes, so this does not need to be invalidated
+    private final Map<String, String> packageNamesByPluginId = new ConcurrentHashMap<>();
 
     @Autowired
-    public PluginExecutorHelper(PluginManager pluginManager) {
+    public PluginExecutorHelper(PluginManager pluginManager, PluginRepository pluginRepository) {
         this.pluginManager = pluginManager;
+        this.pluginRepository = pluginRepository;
+
+        // The plugin manager has already loaded and started the plugins it found at startup by now
+        refreshExecutors();
+        pluginManager.addPluginStateListener(event -> {
+            if (event.getPluginState() == PluginState.STARTED || event.getOldState() == PluginState.STARTED) {
+                refreshExecutors();
+            }
+        });
     }
 
     public Mono<PluginExecutor> getPluginExecutor(Mono<Plugin> pluginMono) {
         return pluginMono.flatMap(plugin -> {
-            List<PluginExecutor> executorList =
-                    pluginManager.getExtensions(PluginExecutor.class, plugin.getPackageName());
-            if (executorList.isEmpty()) {
-                return Mono.error(
-                        new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, "plugin", plugin.getPackageName()));
+            if (plugin.getId() != null && plugin.getPackageName() != null) {
+                packageNamesByPluginId.putIfAbsent(plugin.getId(), plugin.getPackageName());
             }
-            return Mono.just(executorList.get(0));
+            return getPluginExecutorFromPackageName(plugin.getPackageName());
         });
     }
 
+    /**
+     * Resolves the executor for the plugin with the given id. The plugin is only read from the database the first
+     * time its id is seen.
+     */
+    public Mono<PluginExecutor> getPluginExecutorFromPluginId(String pluginId) {
+        String packageName = packageNamesByPluginId.get(pluginId);
+        if (packageName != null) {
+            return getPluginExecutorFromPackageName(packageName);
+        }
+
+        return getPluginExecutor(pluginRepository.findById(pluginId));
+    }
+
     public Mono<PluginExecutor> getPluginExecutorFromPackageName(String packageName) {
+        PluginExecutor pluginExecutor = packageName == null ? null : executorsByPackageName.get(packageName);
+        if (pluginExecutor != null) {
+            return Mono.just(pluginExecutor);
+        }
 
+        // Not in the registry, possibly a plugin that was started without any state event. Ask PF4J directly.
         List<PluginExecutor> executorList = pluginManager.getExtensions(PluginExecutor.class, packageName);
-        if (executorList.isEmpty()) {
+        if (executorList == null || executorList.isEmpty()) {
             return Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, "plugin", packageName));
         }
         return Mono.just(executorList.get(0));
     }
+
+    private synchronized void refreshExecutors() {
+        Map<String, PluginExecutor> executors = new HashMap<>();
+        List<PluginWrapper> startedPlugins = pluginManager.getStartedPlugins();
+        if (startedPlugins != null) {
+            for (PluginWrapper pluginWrapper : startedPlugins) {
+                String packageName = pluginWrapper.getPluginId();
+                List<PluginExecutor> executorList = pluginManager.getExtensions(PluginExecutor.class, packageName);
+                if (executorList != null && !executorList.isEmpty()) {
+                    executors.put(packageName, executorList.get(0));
+                }
+            }
+        }
+
+        executorsByPackageName = Map.copyOf(executors);
+        log.debug("Registered plugin executors for {} plugins", executors.size());
+    }
 }
@@ -0,0 +1,56 @@
+package com.appsmith.server.helpers;
+
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Memoizes lookups for the duration of a single request, so that the parallel fetches that make up a request share the
+ * result of a lookup instead of each of them querying for it.
+ * <p>
+ * The memo is carried in the Reactor context and only exists for requests that opt in with
+ * {@code .contextWrite(RequestMemoUtils::withMemo)}. Everywhere else, the lookups run as they always have. Since the
+ * memoized values are shared between the fetches of a request, only lookups whose results aren't modified by their
+ * callers should be memoized.
+ */
+public class RequestMemoUtils {
+
+    private static final String MEMO_CONTEXT_KEY = RequestMemoUtils.class.getName();
+
+    private RequestMemoUtils() {
+        // This is a utility class. Instantiation is not allowed.
+    }
+
+    /**
+     * Adds an empty memo to the given context, unless there already is one from an enclosing request.
+     */
+    public static Context withMemo(Context context) {
+        return context.hasKey(MEMO_CONTEXT_KEY) ? context : context.put(MEMO_CONTEXT_KEY, new ConcurrentHashMap<>());
+    }
+
+    /**
+     * Builds a memo key out of everything that the result of a lookup depends on. The parts may be null.
+     */
+    public static List<Object> key(Object... parts) {
+        return Arrays.asList(parts);
+    }
+
+    /**
+     * Returns the result of the lookup for the given key from the memo of the current request, running the lookup only
+     * if it's the first one for this key. Errors and empty results are memoized as well. Without a memo in the context,
+     * the lookup is run every time.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Mono<T> memoize(Object key, Supplier<Mono<T>> lookup) {
+        return Mono.deferContextual(contextView -> contextView
+                .<Map<Object, Mono<?>>>getOrEmpty(MEMO_CONTEXT_KEY)
+                .map(memo -> (Mono<T>)
+                        memo.computeIfAbsent(key, ignored -> lookup.get().cache()))
+                .orElseGet(lookup));
+    }
+}
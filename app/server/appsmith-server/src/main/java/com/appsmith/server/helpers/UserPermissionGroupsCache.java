@@ -0,0 +1,173 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.server.configurations.PermissionGroupCacheConfig;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per node cache of the permission groups of each user, merged with those of the anonymous user, which is what almost
+ * every permission checked query needs. Hits are served from memory, without a round trip to Redis or copying the set.
+ * <p>
+ * Evicting the permission groups of a user drops the entry on this node, and publishes the eviction on a Redis
+ * channel so that the other nodes drop theirs too. All entries are dropped whenever the subscription to the channel
+ * is (re)established, since evictions published in the meantime would have been missed.
+ */
+@Slf4j
+@Component
+public class UserPermissionGroupsCache implements DisposableBean {
+
+    private static final String EVICTION_CHANNEL = "appsmith:permission-groups:evict";
+    private static final String METRIC_NAME = "appsmith.permission.groups.cache";
+
+    private final PermissionGroupCacheConfig permissionGroupCacheConfig;
+    private final ReactiveRedisTemplate<String, String> reactiveTemplate;
+
+    // Null when the cache is turned off
+    private final Cache<String, Set<String>> localCache;
+
+    private final ReactiveRedisMessageListenerContainer listenerContainer;
+    private final Disposable evictionSubscription;
+
+    // Bumped on every eviction, so that a load that raced with an eviction doesn't put back what was just evicted
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    @Autowired
+    public UserPermissionGroupsCache(
+            PermissionGroupCacheConfig permissionGroupCacheConfig,
+            ReactiveRedisTemplate<String, String> reactiveTemplate,
+            ReactiveRedisConnectionFactory connectionFactory,
+            MeterRegistry meterRegistry) {
+        this(
+                permissionGroupCacheConfig,
+                reactiveTemplate,
+                meterRegistry,
+                permissionGroupCacheConfig.isEnabled()
+                        ? new ReactiveRedisMessageListenerContainer(connectionFactory)
+                        : null);
+    }
+
+    UserPermissionGroupsCache(
+            PermissionGroupCacheConfig permissionGroupCacheConfig,
+            ReactiveRedisTemplate<String, String> reactiveTemplate,
+            MeterRegistry meterRegistry,
+            ReactiveRedisMessageListenerContainer listenerContainer) {
+        this.permissionGroupCacheConfig = permissionGroupCacheConfig;
+        this.reactiveTemplate = reactiveTemplate;
+
+        this.hitCounter = meterRegistry.counter(METRIC_NAME, "result", "hit");
+        this.missCounter = meterRegistry.counter(METRIC_NAME, "result", "miss");
+
+        this.listenerContainer = listenerContainer;
+        if (!permissionGroupCacheConfig.isEnabled()) {
+            this.localCache = null;
+            this.evictionSubscription = null;
+            return;
+        }
+
+        this.localCache = CacheBuilder.newBuilder()
+                .maximumSize(permissionGroupCacheConfig.getMaxSize())
+                .expireAfterWrite(Duration.ofSeconds(permissionGroupCacheConfig.getTtlInSeconds()))
+                .build();
+
+        this.evictionSubscription = listenerContainer
+                .receive(ChannelTopic.of(EVICTION_CHANNEL))
+                .doOnSubscribe(subscription -> evictAllLocally())
+                .map(ReactiveSubscription.Message::getMessage)
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                        .maxBackoff(Duration.ofMinutes(1))
+                        .doBeforeRetry(signal -> log.warn(
+                                "Lost the subscription to permission group evictions, resubscribing",
+                                signal.failure())))
+                .subscribe(this::evictLocally);
+    }
+
+    /**
+     * Returns the cached permission groups of the user, else loads and caches them. Cached sets are immutable.
+     */
+    public Mono<Set<String>> get(String email, String tenantId, Mono<Set<String>> loader) {
+        if (localCache == null) {
+            return loader;
+        }
+
+        final String key = key(email, tenantId);
+        final Set<String> permissionGroups = localCache.getIfPresent(key);
+        if (permissionGroups != null) {
+            hitCounter.increment();
+            return Mono.just(permissionGroups);
+        }
+
+        return Mono.defer(() -> {
+            missCounter.increment();
+            final long evictionCountBeforeLoad = evictionCount.get();
+            return loader.map(Set::copyOf).doOnNext(loaded -> {
+                if (evictionCount.get() == evictionCountBeforeLoad) {
+                    localCache.put(key, loaded);
+                }
+            });
+        });
+    }
+
+    /**
+     * Evicts the permission groups of the user on this node, and on every other node of the instance.
+     */
+    public Mono<Void> evict(String email, String tenantId) {
+        if (localCache == null) {
+            return Mono.empty();
+        }
+
+        // Only evicted on subscription, which is after the permission groups have been evicted from Redis, so that no
+        // load can bring back the old ones from there in the meantime
+        final String key = key(email, tenantId);
+        return Mono.fromRunnable(() -> evictLocally(key))
+                .then(reactiveTemplate.convertAndSend(EVICTION_CHANNEL, key))
+                .onErrorResume(error -> {
+                    log.warn("Unable to publish the eviction of permission groups to other nodes", error);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private void evictLocally(String key) {
+        evictionCount.incrementAndGet();
+        localCache.invalidate(key);
+    }
+
+    private void evictAllLocally() {
+        evictionCount.incrementAndGet();
+        localCache.invalidateAll();
+    }
+
+    // Same as the key of the permission groups of the user in Redis
+    private static String key(String email, String tenantId) {
+        return email + tenantId;
+    }
+
+    @Override
+    public void destroy() {
+        if (evictionSubscription != null) {
+            evictionSubscription.dispose();
+            listenerContainer.destroy();
+        }
+    }
+}
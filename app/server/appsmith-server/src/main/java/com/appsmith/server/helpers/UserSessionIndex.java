@@ -0,0 +1,158 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.server.domains.User;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.springframework.security.web.server.context.WebSessionServerSecurityContextRepository.DEFAULT_SPRING_SECURITY_CONTEXT_ATTR_NAME;
+
+/**
+ * Index of the ids of the sessions of each user, kept in a Redis set per user, so that the sessions of a user can be
+ * found without reading every session there is.
+ * <p>
+ * Sessions are added to the index as they are saved, and removed when they are deleted. Sessions that expire are left
+ * in the index until the sessions of the user are next looked up, and the set itself expires some time after the last
+ * session that was added to it would.
+ */
+@Component
+public class UserSessionIndex {
+
+    // This prefix comes from calling `ReactiveRedisSessionRepository.getSessionKey("")` private method.
+    public static final String SESSION_KEY_PREFIX = "spring:session:sessions:";
+
+    private static final String INDEX_KEY_PREFIX = "appsmith:session-index:";
+    private static final String SESSION_ATTRIBUTE = "sessionAttr:";
+
+    /*
+     * Saving a session only adds it to the index again once this much time has passed, and the index is kept for this
+     * much longer than the sessions in it, so that it doesn't expire before a session that is still in use.
+     */
+    public static final Duration REINDEX_INTERVAL = Duration.ofHours(1);
+
+    private final ReactiveRedisTemplate<String, String> reactiveTemplate;
+    private final ReactiveRedisOperations<String, Object> redisOperations;
+
+    public UserSessionIndex(
+            ReactiveRedisTemplate<String, String> reactiveTemplate,
+            ReactiveRedisOperations<String, Object> redisOperations) {
+        this.reactiveTemplate = reactiveTemplate;
+        this.redisOperations = redisOperations;
+    }
+
+    /**
+     * Returns the email of the user signed in to a session, from its security context attribute, else null.
+     */
+    public static String getEmail(Object securityContext) {
+        if (securityContext instanceof SecurityContext context) {
+            Authentication authentication = context.getAuthentication();
+            if (authentication != null
+                    && authentication.getPrincipal() instanceof User user
+                    && !user.isAnonymous()
+                    && user.getEmail() != null) {
+                return user.getEmail();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Adds the session to the index of the user.
+     *
+     * @param maxInactiveInterval how long the session lives after it was last accessed, negative if it never expires
+     */
+    public Mono<Void> add(String email, String sessionId, Duration maxInactiveInterval) {
+        return addAll(email, List.of(sessionId), maxInactiveInterval);
+    }
+
+    public Mono<Void> remove(String email, String sessionId) {
+        return reactiveTemplate.opsForSet().remove(indexKey(email), sessionId).then();
+    }
+
+    /**
+     * Returns the keys of the sessions of the user, dropping the sessions that have expired from the index.
+     */
+    public Mono<List<String>> getSessionKeys(String email) {
+        final String indexKey = indexKey(email);
+        return reactiveTemplate
+                .opsForSet()
+                .members(indexKey)
+                .flatMap(sessionId -> reactiveTemplate
+                        .hasKey(SESSION_KEY_PREFIX + sessionId)
+                        .flatMap(exists -> exists
+                                ? Mono.just(SESSION_KEY_PREFIX + sessionId)
+                                : reactiveTemplate
+                                        .opsForSet()
+                                        .remove(indexKey, sessionId)
+                                        .then(Mono.empty())))
+                .collectList();
+    }
+
+    /**
+     * Adds every session that is signed in to the index of its user. Used to index the sessions that were created before
+     * the index was.
+     *
+     * @return the number of sessions that were indexed
+     */
+    public Mono<Long> indexExistingSessions() {
+        return redisOperations
+                .keys(SESSION_KEY_PREFIX + "*")
+                .flatMap(key -> redisOperations
+                        .opsForHash()
+                        .get(key, SESSION_ATTRIBUTE + DEFAULT_SPRING_SECURITY_CONTEXT_ATTR_NAME)
+                        .mapNotNull(UserSessionIndex::getEmail)
+                        // Empty if the session has expired since it was listed, in which case it's left out
+                        .zipWith(redisOperations.getExpire(key))
+                        .map(tuple -> new IndexedSession(
+                                tuple.getT1(), key.substring(SESSION_KEY_PREFIX.length()), tuple.getT2())))
+                .collectMultimap(IndexedSession::email)
+                .flatMapMany(sessionsByEmail -> Flux.fromIterable(sessionsByEmail.entrySet()))
+                .flatMap(entry -> addAll(
+                                entry.getKey(),
+                                entry.getValue().stream()
+                                        .map(IndexedSession::sessionId)
+                                        .toList(),
+                                longestTimeToLive(entry.getValue()))
+                        .thenReturn((long) entry.getValue().size()))
+                .reduce(0L, Long::sum);
+    }
+
+    private record IndexedSession(String email, String sessionId, Duration timeToLive) {}
+
+    private static Duration longestTimeToLive(Collection<IndexedSession> sessions) {
+        // The time to live of a session that never expires is read as zero
+        if (sessions.stream().anyMatch(session -> session.timeToLive().isZero())) {
+            return Duration.ofSeconds(-1);
+        }
+        return sessions.stream()
+                .map(IndexedSession::timeToLive)
+                .max(Comparator.naturalOrder())
+                .orElse(Duration.ZERO);
+    }
+
+    private Mono<Void> addAll(String email, List<String> sessionIds, Duration timeToLive) {
+        final String indexKey = indexKey(email);
+        final Mono<Boolean> expireMono = timeToLive.isNegative()
+                ? reactiveTemplate.persist(indexKey)
+                : reactiveTemplate.expire(indexKey, timeToLive.plus(REINDEX_INTERVAL));
+        return reactiveTemplate
+                .opsForSet()
+                .add(indexKey, sessionIds.toArray(String[]::new))
+                .then(expireMono)
+                .then();
+    }
+
+    // Emails are matched without regard to case, same as when all sessions were scanned for the user
+    private static String indexKey(String email) {
+        return INDEX_KEY_PREFIX + email.toLowerCase();
+    }
+}
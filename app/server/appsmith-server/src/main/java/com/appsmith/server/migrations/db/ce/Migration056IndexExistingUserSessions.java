@@ -0,0 +1,34 @@
+package com.appsmith.server.migrations.db.ce;
+
+import com.appsmith.server.helpers.UserSessionIndex;
+import io.changock.migration.api.annotations.NonLockGuarded;
+import io.mongock.api.annotations.ChangeUnit;
+import io.mongock.api.annotations.Execution;
+import io.mongock.api.annotations.RollbackExecution;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sessions are added to the index of the sessions of their user as they are saved. This adds the sessions that were
+ * created before that, so that logging a user out of all their sessions still reaches them.
+ */
+@Slf4j
+@ChangeUnit(order = "056", id = "index-existing-user-sessions")
+public class Migration056IndexExistingUserSessions {
+
+    private final UserSessionIndex userSessionIndex;
+
+    public Migration056IndexExistingUserSessions(@NonLockGuarded UserSessionIndex userSessionIndex) {
+        this.userSessionIndex = userSessionIndex;
+    }
+
+    @RollbackExecution
+    public void rollbackExecution() {
+        // The index is only ever added to, and is ignored by older versions
+    }
+
+    @Execution
+    public void executeMigration() {
+        Long indexedSessions = userSessionIndex.indexExistingSessions().block();
+        log.info("Added {} existing sessions to the indexes of their users", indexedSessions);
+    }
+}
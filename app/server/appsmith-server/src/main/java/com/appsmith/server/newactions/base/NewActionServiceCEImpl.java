@@ -809,8 +809,12 @@ public class NewActionServiceCEImpl extends BaseService<NewActionRepository, New
         }
 
         // fetch the published actions by applicationId
-        // No need to sort the results
-        return findAllByApplicationIdAndViewMode(applicationId, true, actionPermission.getExecutePermission(), null)
+        // No need to sort the results, and the query may be served by a secondary as it's for view mode
+        return repository
+                .findByApplicationIdAndViewMode(applicationId, true, actionPermission.getExecutePermission())
+                // Actions that haven't been published yet aren't part of the view mode
+                .filter(newAction -> newAction.getPublishedAction() != null)
+                .flatMap(this::sanitizeAction)
                 .filter(newAction -> !PluginType.JS.equals(newAction.getPluginType()))
                 .map(action -> generateActionViewDTO(action, action.getPublishedAction(), true));
     }
@@ -0,0 +1,110 @@
+package com.appsmith.server.newactions.execution;
+
+import com.appsmith.external.models.ActionExecutionRequest;
+import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.server.configurations.ActionExecutionConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Merges identical executions that are in flight at the same time, so that they share a single call to the plugin.
+ * <p>
+ * Unlike {@link ActionExecutionResultCache}, nothing is kept once the execution completes. An execution that starts
+ * after the previous identical one has completed runs again. The shared execution is only cancelled once every caller
+ * waiting on it has gone away.
+ */
+@Component
+public class ActionExecutionCoalescer {
+
+    private static final String METRIC_NAME = "appsmith.action.execution.coalescing";
+
+    private final ActionExecutionConfig actionExecutionConfig;
+
+    private final Map<String, Mono<ActionExecutionResult>> inFlightExecutions = new ConcurrentHashMap<>();
+
+    private final Counter executedCounter;
+    private final Counter coalescedCounter;
+
+    public ActionExecutionCoalescer(ActionExecutionConfig actionExecutionConfig, MeterRegistry meterRegistry) {
+        this.actionExecutionConfig = actionExecutionConfig;
+
+        this.executedCounter = meterRegistry.counter(METRIC_NAME, "result", "executed");
+        this.coalescedCounter = meterRegistry.counter(METRIC_NAME, "result", "coalesced");
+        meterRegistry.gaugeMapSize(METRIC_NAME + ".inflight", Tags.empty(), inFlightExecutions);
+    }
+
+    public boolean isEnabled() {
+        return actionExecutionConfig.isCoalescingEnabled();
+    }
+
+    /**
+     * Runs the given execution, unless an execution with the same key is already in flight, in which case its result
+     * is shared instead. Every caller gets its own copy of the result, since callers go on to modify it.
+     *
+     * @param key       identifies executions that are guaranteed to produce the same result
+     * @param execution the execution to run if there is none in flight for the key
+     * @return result of the execution
+     */
+    public Mono<ActionExecutionResult> coalesce(String key, Mono<ActionExecutionResult> execution) {
+        return Mono.defer(() -> {
+            final AtomicBoolean isNewExecution = new AtomicBoolean(false);
+            final Mono<ActionExecutionResult> sharedExecution = inFlightExecutions.computeIfAbsent(key, k -> {
+                isNewExecution.set(true);
+                final AtomicReference<Mono<ActionExecutionResult>> self = new AtomicReference<>();
+                Mono<ActionExecutionResult> shared = execution
+                        .doFinally(signalType -> inFlightExecutions.remove(k, self.get()))
+                        .share();
+                self.set(shared);
+                return shared;
+            });
+
+            if (isNewExecution.get()) {
+                executedCounter.increment();
+            } else {
+                coalescedCounter.increment();
+            }
+
+            return sharedExecution.map(ActionExecutionCoalescer::copyOf);
+        });
+    }
+
+    private static ActionExecutionResult copyOf(ActionExecutionResult result) {
+        ActionExecutionResult copy = new ActionExecutionResult();
+        copy.setStatusCode(result.getStatusCode());
+        copy.setTitle(result.getTitle());
+        copy.setErrorType(result.getErrorType());
+        copy.setHeaders(result.getHeaders());
+        copy.setBody(result.getBody());
+        copy.setReadableError(result.getReadableError());
+        copy.setIsExecutionSuccess(result.getIsExecutionSuccess());
+        copy.setMessages(result.getMessages());
+        copy.setDataTypes(result.getDataTypes());
+        copy.setSuggestedWidgets(result.getSuggestedWidgets());
+        copy.setPluginErrorDetails(result.getPluginErrorDetails());
+
+        ActionExecutionRequest request = result.getRequest();
+        if (request != null) {
+            copy.setRequest(new ActionExecutionRequest(
+                    request.getActionId(),
+                    request.getRequestedAt(),
+                    request.getQuery(),
+                    request.getBody(),
+                    request.getHeaders(),
+                    request.getHttpMethod(),
+                    request.getUrl(),
+                    request.getProperties(),
+                    request.getExecutionParameters(),
+                    request.getRequestParams()));
+        }
+
+        return copy;
+    }
+}
@@ -0,0 +1,215 @@
+package com.appsmith.server.newactions.execution;
+
+import com.appsmith.external.dtos.ExecuteActionDTO;
+import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.Param;
+import com.appsmith.server.configurations.ActionExecutionConfig;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.stereotype.Component;
+import org.springframework.util.CollectionUtils;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Short-lived cache for the results of published action executions. Actions opt in through
+ * {@link com.appsmith.external.models.ActionConfiguration#getCacheDurationInSeconds()}.
+ * <p>
+ * Entries are kept as serialized JSON so that every hit hands out a fresh {@link ActionExecutionResult} that the
+ * caller is free to mutate, and so that the local tier can be bounded by bytes instead of by number of entries.
+ * When enabled, Redis acts as a second tier shared between all the nodes of the instance.
+ */
+@Slf4j
+@Component
+public class ActionExecutionResultCache {
+
+    private static final String REDIS_KEY_PREFIX = "actionExecutionResult:";
+    private static final String METRIC_NAME = "appsmith.action.execution.cache";
+    private static final long MAX_TTL_IN_SECONDS = 3600;
+
+    private final ReactiveRedisOperations<String, String> redisOperations;
+    private final ActionExecutionConfig actionExecutionConfig;
+    private final ObjectMapper objectMapper;
+
+    private final Cache<String, CachedResult> localCache;
+
+    private final Counter localHitCounter;
+    private final Counter redisHitCounter;
+    private final Counter missCounter;
+    private final Counter skippedCounter;
+
+    public ActionExecutionResultCache(
+            ReactiveRedisOperations<String, String> redisOperations,
+            ActionExecutionConfig actionExecutionConfig,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+        this.redisOperations = redisOperations;
+        this.actionExecutionConfig = actionExecutionConfig;
+        // A private copy so that nulls are left out of the stored payload, and so that a payload written by an older
+        // version of the server does not fail deserialization after an upgrade.
+        this.objectMapper = objectMapper
+                .copy()
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+        this.localCache = CacheBuilder.newBuilder()
+                .maximumWeight(actionExecutionConfig.getResultCacheMaxSizeInMb() * 1024 * 1024)
+                .weigher((String key, CachedResult value) -> value.payload().length)
+                // Upper bound for all entries, the per action duration is checked when reading
+                .expireAfterWrite(Duration.ofSeconds(MAX_TTL_IN_SECONDS))
+                .build();
+
+        this.localHitCounter = meterRegistry.counter(METRIC_NAME, "result", "hit", "tier", "local");
+        this.redisHitCounter = meterRegistry.counter(METRIC_NAME, "result", "hit", "tier", "redis");
+        this.missCounter = meterRegistry.counter(METRIC_NAME, "result", "miss", "tier", "none");
+        this.skippedCounter = meterRegistry.counter(METRIC_NAME, "result", "skipped", "tier", "none");
+    }
+
+    /**
+     * Computes the key for an execution. Two executions share a key only if they are for the same action, against the
+     * same environment and with the same rendered parameters.
+     */
+    public String getKey(String actionId, String environmentId, ExecuteActionDTO executeActionDTO) {
+        StringBuilder builder = new StringBuilder()
+                .append(actionId)
+                .append('\u0000')
+                .append(environmentId)
+                .append('\u0000')
+                .append(executeActionDTO.getPaginationField());
+
+        List<Param> params = executeActionDTO.getParams();
+        if (!CollectionUtils.isEmpty(params)) {
+            // The order of parts in the multipart request is not fixed, so sort to get a stable key
+            params.stream()
+                    .sorted(Comparator.comparing(Param::getKey, Comparator.nullsFirst(Comparator.naturalOrder())))
+                    .forEach(param -> builder.append('\u0000')
+                            .append(param.getKey())
+                            .append('=')
+                            .append(param.getValue()));
+        }
+
+        return DigestUtils.sha256Hex(builder.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the cached result for the key if there is one that is younger than the given duration, else empty.
+     */
+    public Mono<ActionExecutionResult> get(String key, int durationInSeconds) {
+        CachedResult cachedResult = localCache.getIfPresent(key);
+        if (cachedResult != null) {
+            if (cachedResult.isYoungerThan(durationInSeconds)) {
+                localHitCounter.increment();
+                return Mono.justOrEmpty(deserialize(cachedResult.payload()));
+            }
+            localCache.invalidate(key);
+        }
+
+        if (!actionExecutionConfig.isResultCacheRedisEnabled()) {
+            missCounter.increment();
+            return Mono.empty();
+        }
+
+        final String redisKey = REDIS_KEY_PREFIX + key;
+        return redisOperations
+                .opsForValue()
+                .get(redisKey)
+                .zipWith(redisOperations.getExpire(redisKey).defaultIfEmpty(Duration.ZERO))
+                .flatMap(tuple -> {
+                    byte[] payload = tuple.getT1().getBytes(StandardCharsets.UTF_8);
+                    // The key was written to expire after the duration of the action, so the entry is as old as the
+                    // part of that duration that has passed. The local tier is filled with that age, so that it
+                    // doesn't keep serving the entry after Redis has expired it.
+                    Duration timeToLive = tuple.getT2();
+                    if (!timeToLive.isNegative() && !timeToLive.isZero()) {
+                        Instant cachedAt =
+                                Instant.now().minusSeconds(durationInSeconds).plus(timeToLive);
+                        localCache.put(key, new CachedResult(payload, cachedAt));
+                    }
+                    redisHitCounter.increment();
+                    return Mono.justOrEmpty(deserialize(payload));
+                })
+                .onErrorResume(error -> {
+                    log.warn("Unable to read action execution result from redis", error);
+                    return Mono.empty();
+                })
+                .switchIfEmpty(Mono.fromRunnable(missCounter::increment));
+    }
+
+    /**
+     * Stores a successful result against the key. Results that are larger than the configured entry size are not
+     * stored. The request details are never stored since they are specific to each execution.
+     */
+    public Mono<Void> put(String key, int durationInSeconds, ActionExecutionResult result) {
+        if (!Boolean.TRUE.equals(result.getIsExecutionSuccess())) {
+            return Mono.empty();
+        }
+
+        final byte[] payload;
+        try {
+            ActionExecutionResult toStore = new ActionExecutionResult();
+            toStore.setStatusCode(result.getStatusCode());
+            toStore.setTitle(result.getTitle());
+            toStore.setHeaders(result.getHeaders());
+            toStore.setBody(result.getBody());
+            toStore.setIsExecutionSuccess(result.getIsExecutionSuccess());
+            toStore.setMessages(result.getMessages());
+            toStore.setDataTypes(result.getDataTypes());
+            payload = objectMapper.writeValueAsBytes(toStore);
+        } catch (IOException e) {
+            log.debug("Unable to serialize action execution result for caching", e);
+            return Mono.empty();
+        }
+
+        if (payload.length > actionExecutionConfig.getResultCacheMaxEntrySizeInKb() * 1024) {
+            skippedCounter.increment();
+            return Mono.empty();
+        }
+
+        localCache.put(key, new CachedResult(payload, Instant.now()));
+
+        if (!actionExecutionConfig.isResultCacheRedisEnabled()) {
+            return Mono.empty();
+        }
+
+        return redisOperations
+                .opsForValue()
+                .set(
+                        REDIS_KEY_PREFIX + key,
+                        new String(payload, StandardCharsets.UTF_8),
+                        Duration.ofSeconds(durationInSeconds))
+                .onErrorResume(error -> {
+                    log.warn("Unable to write action execution result to redis", error);
+                    return Mono.just(false);
+                })
+                .then();
+    }
+
+    private ActionExecutionResult deserialize(byte[] payload) {
+        try {
+            return objectMapper.readValue(payload, ActionExecutionResult.class);
+        } catch (IOException e) {
+            log.debug("Unable to deserialize cached action execution result", e);
+            return null;
+        }
+    }
+
+    private record CachedResult(byte[] payload, Instant cachedAt) {
+        boolean isYoungerThan(int durationInSeconds) {
+            return cachedAt.plusSeconds(durationInSeconds).isAfter(Instant.now());
+        }
+    }
+}
@@ -0,0 +1,309 @@
+package com.appsmith.server.newactions.execution;
+
+import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.server.configurations.ActionExecutionConfig;
+import com.appsmith.server.dtos.ResponseDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.Hints;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.http.ReactiveHttpOutputMessage;
+import org.springframework.http.codec.HttpMessageWriter;
+import org.springframework.http.codec.json.Jackson2CodecSupport;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Writes action execution responses to the client in fixed size chunks while they are being serialized.
+ * <p>
+ * The default JSON writer serializes the complete response into a single buffer before writing it, so a large result
+ * exists once as the plugin's result and once more as serialized bytes. Here everything but the result body is
+ * serialized up front, and the body, when it's an array such as the rows of a query, is serialized one element at a
+ * time, only as the connection asks for the next chunk. So the serialized form held in memory is bounded by the chunk
+ * size and the largest element, and no thread waits on a slow client. A body that isn't an array is still serialized
+ * as a whole.
+ */
+@Component
+public class ChunkedActionExecutionResultWriter implements HttpMessageWriter<Object> {
+
+    private static final ResolvableType CHUNKED_TYPE =
+            ResolvableType.forClassWithGenerics(ResponseDTO.class, ActionExecutionResult.class);
+
+    // Written in place of the result body when the rest of the response is serialized, and never part of the output
+    private static final String BODY_PLACEHOLDER = "__body_" + UUID.randomUUID() + "__";
+
+    private final ObjectMapper objectMapper;
+    // Same as the object mapper, except that it writes the placeholder for the result body
+    private final ObjectMapper envelopeObjectMapper;
+    private final ActionExecutionConfig actionExecutionConfig;
+
+    // Only used to read the JSON view of the controller method, the same way the default JSON writer does
+    private final Jackson2JsonEncoder jsonEncoder;
+
+    public ChunkedActionExecutionResultWriter(ObjectMapper objectMapper, ActionExecutionConfig actionExecutionConfig) {
+        this.objectMapper = objectMapper;
+        this.envelopeObjectMapper =
+                objectMapper.copy().addMixIn(ActionExecutionResult.class, BodyPlaceholderMixIn.class);
+        this.actionExecutionConfig = actionExecutionConfig;
+        this.jsonEncoder = new Jackson2JsonEncoder(objectMapper);
+    }
+
+    @Override
+    public List<MediaType> getWritableMediaTypes() {
+        return List.of(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    public boolean canWrite(ResolvableType elementType, MediaType mediaType) {
+        return actionExecutionConfig.isResponseChunkingEnabled()
+                && CHUNKED_TYPE.isAssignableFrom(elementType)
+                && (mediaType == null || MediaType.APPLICATION_JSON.isCompatibleWith(mediaType));
+    }
+
+    @Override
+    public Mono<Void> write(
+            Publisher<?> inputStream,
+            ResolvableType actualType,
+            ResolvableType elementType,
+            MediaType mediaType,
+            ServerHttpRequest request,
+            ServerHttpResponse response,
+            Map<String, Object> hints) {
+        Map<String, Object> encodeHints =
+                jsonEncoder.getEncodeHints(actualType, elementType, mediaType, request, response);
+        return write(inputStream, elementType, mediaType, response, Hints.merge(hints, encodeHints));
+    }
+
+    @Override
+    public Mono<Void> write(
+            Publisher<?> inputStream,
+            ResolvableType elementType,
+            MediaType mediaType,
+            ReactiveHttpOutputMessage message,
+            Map<String, Object> hints) {
+        message.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+
+        final Class<?> jsonView = (Class<?>) hints.get(Jackson2CodecSupport.JSON_VIEW_HINT);
+        final int chunkSize = actionExecutionConfig.getResponseChunkSizeInKb() * 1024;
+
+        return message.writeWith(Mono.from(inputStream)
+                .flatMapMany(value -> writeInChunks(jsonView, value, message.bufferFactory(), chunkSize)));
+    }
+
+    Flux<DataBuffer> writeInChunks(Class<?> jsonView, Object value, DataBufferFactory bufferFactory, int chunkSize) {
+        final ObjectWriter writer = jsonView == null ? objectMapper.writer() : objectMapper.writerWithView(jsonView);
+        final ObjectWriter envelopeWriter =
+                jsonView == null ? envelopeObjectMapper.writer() : envelopeObjectMapper.writerWithView(jsonView);
+        return Flux.generate(
+                () -> new ChunkedSerializer(envelopeWriter, writer, value, bufferFactory, chunkSize),
+                (serializer, sink) -> {
+                    try {
+                        DataBuffer chunk = serializer.nextChunk();
+                        if (chunk == null) {
+                            sink.complete();
+                        } else {
+                            sink.next(chunk);
+                        }
+                    } catch (IOException e) {
+                        sink.error(e);
+                    }
+                    return serializer;
+                },
+                ChunkedSerializer::close);
+    }
+
+    abstract static class BodyPlaceholderMixIn {
+        @JsonSerialize(using = BodyPlaceholderSerializer.class)
+        abstract Object getBody();
+    }
+
+    static class BodyPlaceholderSerializer extends JsonSerializer<Object> {
+        @Override
+        public void serialize(Object value, JsonGenerator generator, SerializerProvider serializers)
+                throws IOException {
+            generator.writeRawValue(BODY_PLACEHOLDER);
+        }
+    }
+
+    /**
+     * Serializes the value one chunk at a time. The response around the result body is serialized first, and split
+     * where the body goes. The body is then written out as far as it takes to fill the next chunk, one array element at
+     * a time.
+     */
+    private static class ChunkedSerializer {
+        private final ObjectWriter writer;
+        private final ChunkedOutputStream outputStream;
+
+        private byte[] prefix;
+        private Object body;
+        private Iterator<?> elements;
+        private boolean isFirstElement = true;
+        private byte[] suffix;
+
+        ChunkedSerializer(
+                ObjectWriter envelopeWriter,
+                ObjectWriter writer,
+                Object value,
+                DataBufferFactory bufferFactory,
+                int chunkSize)
+                throws IOException {
+            this.writer = writer;
+            this.outputStream = new ChunkedOutputStream(bufferFactory, chunkSize);
+
+            final String envelope = envelopeWriter.writeValueAsString(value);
+            final int placeholderIndex = envelope.indexOf(BODY_PLACEHOLDER);
+            if (placeholderIndex < 0) {
+                // There is no body to write, such as when it's null
+                this.prefix = envelope.getBytes(StandardCharsets.UTF_8);
+                this.suffix = new byte[0];
+                return;
+            }
+
+            this.prefix = envelope.substring(0, placeholderIndex).getBytes(StandardCharsets.UTF_8);
+            this.suffix = envelope.substring(placeholderIndex + BODY_PLACEHOLDER.length())
+                    .getBytes(StandardCharsets.UTF_8);
+            this.body = ((ActionExecutionResult) ((ResponseDTO<?>) value).getData()).getBody();
+            if (body instanceof JsonNode node && node.isArray()) {
+                this.elements = node.elements();
+            } else if (body instanceof Collection<?> collection) {
+                this.elements = collection.iterator();
+            }
+        }
+
+        /**
+         * @return the next chunk, or null once the whole value has been written
+         */
+        DataBuffer nextChunk() throws IOException {
+            while (outputStream.chunks.isEmpty() && suffix != null) {
+                writeNextPart();
+            }
+            return outputStream.chunks.pollFirst();
+        }
+
+        private void writeNextPart() throws IOException {
+            if (prefix != null) {
+                outputStream.write(prefix);
+                prefix = null;
+                if (elements != null) {
+                    outputStream.write('[');
+                } else if (body != null) {
+                    outputStream.write(writer.writeValueAsBytes(body));
+                    body = null;
+                }
+            } else if (elements != null && elements.hasNext()) {
+                if (!isFirstElement) {
+                    outputStream.write(',');
+                }
+                isFirstElement = false;
+                outputStream.write(writer.writeValueAsBytes(elements.next()));
+            } else {
+                if (elements != null) {
+                    outputStream.write(']');
+                    elements = null;
+                }
+                outputStream.write(suffix);
+                suffix = null;
+                // Flushes what's left into the last chunk
+                outputStream.close();
+            }
+        }
+
+        void close() {
+            // Chunks that were not taken because the response was cancelled
+            outputStream.chunks.forEach(DataBufferUtils::release);
+            outputStream.chunks.clear();
+            outputStream.releaseBuffer();
+        }
+    }
+
+    /**
+     * Collects written bytes into buffers of the chunk size, and queues the buffers that are full.
+     */
+    private static class ChunkedOutputStream extends OutputStream {
+        private final DataBufferFactory bufferFactory;
+        private final int chunkSize;
+
+        private final Deque<DataBuffer> chunks = new ArrayDeque<>();
+        private DataBuffer buffer;
+
+        ChunkedOutputStream(DataBufferFactory bufferFactory, int chunkSize) {
+            this.bufferFactory = bufferFactory;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public void write(int b) {
+            ensureBuffer();
+            buffer.write((byte) b);
+            if (buffer.readableByteCount() >= chunkSize) {
+                queueBuffer();
+            }
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            while (length > 0) {
+                ensureBuffer();
+                int count = Math.min(length, chunkSize - buffer.readableByteCount());
+                buffer.write(bytes, offset, count);
+                offset += count;
+                length -= count;
+                if (buffer.readableByteCount() >= chunkSize) {
+                    queueBuffer();
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            if (buffer != null && buffer.readableByteCount() > 0) {
+                queueBuffer();
+            } else {
+                releaseBuffer();
+            }
+        }
+
+        void releaseBuffer() {
+            if (buffer != null) {
+                DataBufferUtils.release(buffer);
+                buffer = null;
+            }
+        }
+
+        private void ensureBuffer() {
+            if (buffer == null) {
+                buffer = bufferFactory.allocateBuffer(chunkSize);
+            }
+        }
+
+        private void queueBuffer() {
+            chunks.addLast(buffer);
+            buffer = null;
+        }
+    }
+}
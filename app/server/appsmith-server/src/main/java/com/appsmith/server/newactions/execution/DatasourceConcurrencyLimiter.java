@@ -0,0 +1,270 @@
+package com.appsmith.server.newactions.execution;
+
+import com.appsmith.server.configurations.ActionExecutionConfig;
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.publisher.SignalType;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Limits the number of concurrent executions against each datasource, so that a single slow datasource can not hold
+ * on to all the threads and connections of this node.
+ * <p>
+ * The limit for every datasource adapts to the latency observed for it, using additive increase and multiplicative
+ * decrease (AIMD). While executions are fast and the datasource is well utilised, the limit grows by one. When an
+ * execution times out, or takes longer than the configured latency threshold, the limit is cut by the backoff ratio.
+ * Executions that are cancelled, like when the client goes away, say nothing about the datasource and leave the limit
+ * as it is. Executions beyond the limit wait in a bounded queue, and are rejected right away once it is full.
+ * <p>
+ * The state and the meters of a datasource are dropped once it has not been executed against for the idle timeout.
+ */
+@Slf4j
+@Component
+public class DatasourceConcurrencyLimiter {
+
+    private static final String METRIC_PREFIX = "appsmith.datasource.execution.";
+    private static final String DATASOURCE_ID_TAG = "datasourceId";
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final ActionExecutionConfig actionExecutionConfig;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+
+    public DatasourceConcurrencyLimiter(ActionExecutionConfig actionExecutionConfig, MeterRegistry meterRegistry) {
+        this.actionExecutionConfig = actionExecutionConfig;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Runs the given execution within the concurrency limit of the datasource. Executions on embedded datasources,
+     * i.e. when there's no datasource id, are not limited.
+     *
+     * @param datasourceId  id of the datasource the execution runs against
+     * @param datasourceName name of the datasource, for the error message on rejection
+     * @param execution     the execution to run
+     * @return the execution, started once there's capacity on the datasource
+     */
+    public <T> Mono<T> limit(String datasourceId, String datasourceName, Mono<T> execution) {
+        if (!actionExecutionConfig.isDatasourceConcurrencyLimitEnabled() || datasourceId == null) {
+            return execution;
+        }
+
+        return Mono.defer(() -> {
+            // Marked as used in the same step that looks it up, so that it can't be evicted before it is acquired
+            final Bulkhead bulkhead = bulkheads.compute(datasourceId, (id, existing) -> {
+                final Bulkhead used = existing != null ? existing : createBulkhead(id);
+                used.markUsed();
+                return used;
+            });
+
+            return bulkhead.acquire(datasourceName).flatMap(permit -> execution
+                    .doOnError(error -> {
+                        if (error instanceof TimeoutException) {
+                            permit.markDropped();
+                        }
+                    })
+                    .doFinally(signalType -> permit.release(signalType == SignalType.CANCEL)));
+        });
+    }
+
+    /**
+     * Drops the state and the meters of the datasources that have had no executions running or waiting for longer
+     * than the idle timeout.
+     */
+    public void evictIdleBulkheads() {
+        final long idleSinceNanos = System.nanoTime()
+                - Duration.ofSeconds(actionExecutionConfig.getDatasourceConcurrencyIdleTimeoutInSeconds())
+                        .toNanos();
+
+        bulkheads
+                .keySet()
+                .forEach(datasourceId -> bulkheads.computeIfPresent(datasourceId, (id, bulkhead) -> {
+                    if (!bulkhead.isIdleSince(idleSinceNanos)) {
+                        return bulkhead;
+                    }
+                    bulkhead.meters.forEach(meterRegistry::remove);
+                    return null;
+                }));
+    }
+
+    int getBulkheadCount() {
+        return bulkheads.size();
+    }
+
+    private Bulkhead createBulkhead(String datasourceId) {
+        Bulkhead bulkhead = new Bulkhead(
+                actionExecutionConfig.getDatasourceConcurrencyInitialLimit(),
+                actionExecutionConfig.getDatasourceConcurrencyMinLimit(),
+                actionExecutionConfig.getDatasourceConcurrencyMaxLimit(),
+                actionExecutionConfig.getDatasourceConcurrencyMaxQueueSize(),
+                Duration.ofMillis(actionExecutionConfig.getDatasourceConcurrencyLatencyThresholdInMillis()));
+
+        bulkhead.meters.add(Gauge.builder(METRIC_PREFIX + "inflight", bulkhead, Bulkhead::getInFlight)
+                .tag(DATASOURCE_ID_TAG, datasourceId)
+                .register(meterRegistry));
+        bulkhead.meters.add(Gauge.builder(METRIC_PREFIX + "queued", bulkhead, Bulkhead::getQueued)
+                .tag(DATASOURCE_ID_TAG, datasourceId)
+                .register(meterRegistry));
+        bulkhead.meters.add(Gauge.builder(METRIC_PREFIX + "limit", bulkhead, Bulkhead::getLimit)
+                .tag(DATASOURCE_ID_TAG, datasourceId)
+                .register(meterRegistry));
+        bulkhead.rejectedCounter = Counter.builder(METRIC_PREFIX + "rejected")
+                .tag(DATASOURCE_ID_TAG, datasourceId)
+                .register(meterRegistry);
+        bulkhead.meters.add(bulkhead.rejectedCounter);
+
+        return bulkhead;
+    }
+
+    static class Bulkhead {
+        private final int minLimit;
+        private final int maxLimit;
+        private final int maxQueueSize;
+        private final long latencyThresholdNanos;
+
+        private final Deque<Waiter> waiters = new ArrayDeque<>();
+        private double limit;
+        private int inFlight = 0;
+        private long lastUsedNanos = System.nanoTime();
+
+        private Counter rejectedCounter;
+        private final List<Meter> meters = new ArrayList<>();
+
+        Bulkhead(int initialLimit, int minLimit, int maxLimit, int maxQueueSize, Duration latencyThreshold) {
+            this.limit = initialLimit;
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+            this.maxQueueSize = maxQueueSize;
+            this.latencyThresholdNanos = latencyThreshold.toNanos();
+        }
+
+        Mono<Permit> acquire(String datasourceName) {
+            return Mono.<Permit>create(sink -> {
+                        synchronized (this) {
+                            if (inFlight < (int) limit) {
+                                inFlight++;
+                                sink.success(new Permit(this));
+                                return;
+                            }
+
+                            if (waiters.size() >= maxQueueSize) {
+                                if (rejectedCounter != null) {
+                                    rejectedCounter.increment();
+                                }
+                                sink.error(new AppsmithException(
+                                        AppsmithError.TOO_MANY_CONCURRENT_DATASOURCE_EXECUTIONS, datasourceName));
+                                return;
+                            }
+
+                            Waiter waiter = new Waiter(sink);
+                            waiters.addLast(waiter);
+                            sink.onCancel(() -> {
+                                if (waiter.done.compareAndSet(false, true)) {
+                                    synchronized (this) {
+                                        waiters.remove(waiter);
+                                    }
+                                }
+                            });
+                        }
+                    })
+                    // A permit that was handed out after the subscriber went away would otherwise never be released
+                    .doOnDiscard(Permit.class, permit -> permit.release(true));
+        }
+
+        synchronized void markUsed() {
+            lastUsedNanos = System.nanoTime();
+        }
+
+        synchronized boolean isIdleSince(long nanos) {
+            return inFlight == 0 && waiters.isEmpty() && lastUsedNanos - nanos < 0;
+        }
+
+        private void onRelease(long latencyNanos, boolean dropped, boolean cancelled) {
+            final List<Waiter> toGrant = new ArrayList<>();
+            synchronized (this) {
+                lastUsedNanos = System.nanoTime();
+                // Cancelled executions leave the limit as it is
+                if (!cancelled) {
+                    if (dropped || latencyNanos > latencyThresholdNanos) {
+                        limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+                    } else if (inFlight * 2 >= limit) {
+                        // Only grow the limit when it is actually being used
+                        limit = Math.min(maxLimit, limit + 1);
+                    }
+                }
+                inFlight--;
+
+                while (inFlight < (int) limit && !waiters.isEmpty()) {
+                    Waiter waiter = waiters.pollFirst();
+                    if (waiter.done.compareAndSet(false, true)) {
+                        inFlight++;
+                        toGrant.add(waiter);
+                    }
+                }
+            }
+
+            // Hand out the permits outside the lock, since the executions continue on this thread
+            toGrant.forEach(waiter -> waiter.sink.success(new Permit(this)));
+        }
+
+        synchronized int getInFlight() {
+            return inFlight;
+        }
+
+        synchronized int getQueued() {
+            return waiters.size();
+        }
+
+        synchronized double getLimit() {
+            return limit;
+        }
+    }
+
+    private static class Waiter {
+        private final MonoSink<Permit> sink;
+        private final AtomicBoolean done = new AtomicBoolean(false);
+
+        Waiter(MonoSink<Permit> sink) {
+            this.sink = sink;
+        }
+    }
+
+    static class Permit {
+        private final Bulkhead bulkhead;
+        private final long startNanos = System.nanoTime();
+        private final AtomicBoolean released = new AtomicBoolean(false);
+        private volatile boolean dropped = false;
+
+        Permit(Bulkhead bulkhead) {
+            this.bulkhead = bulkhead;
+        }
+
+        void markDropped() {
+            dropped = true;
+        }
+
+        void release(boolean cancelled) {
+            if (released.compareAndSet(false, true)) {
+                bulkhead.onRelease(System.nanoTime() - startNanos, dropped, cancelled);
+            }
+        }
+    }
+}
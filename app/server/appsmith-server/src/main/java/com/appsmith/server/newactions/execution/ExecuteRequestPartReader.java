@@ -0,0 +1,253 @@
+package com.appsmith.server.newactions.execution;
+
+import com.appsmith.external.dtos.ExecuteActionDTO;
+import com.appsmith.server.configurations.ActionExecutionConfig;
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.codec.multipart.Part;
+import org.springframework.stereotype.Component;
+import org.springframework.util.CollectionUtils;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Reads the parts of a multipart execute request while keeping the memory held per request bounded.
+ * <p>
+ * Bytes are counted against the request budget as they arrive, so an oversized request is rejected before it has been
+ * read completely. Blobs that grow beyond the spill threshold are streamed to a temporary file instead of being
+ * buffered in memory, and are only read back when they are substituted into the params.
+ * <p>
+ * The bound only holds while the request is being read. Params are handed to the plugins as strings, so a spilled blob
+ * is still held in memory as part of its param once it has been substituted, for as long as the execution runs.
+ */
+@Slf4j
+@Component
+public class ExecuteRequestPartReader {
+
+    private static final String BLOB_FILE_PREFIX = "appsmith-blob-";
+    private static final String BLOB_FILE_SUFFIX = ".tmp";
+    private static final int SPILLED_BLOB_CHUNK_SIZE = 8192;
+
+    private final ActionExecutionConfig actionExecutionConfig;
+
+    // Bytes of request content currently held in memory across all the execute requests being read on this node
+    private final AtomicLong bufferedBytes = new AtomicLong();
+
+    private final DistributionSummary requestSizeSummary;
+    private final Counter spilledBytesCounter;
+
+    public ExecuteRequestPartReader(ActionExecutionConfig actionExecutionConfig, MeterRegistry meterRegistry) {
+        this.actionExecutionConfig = actionExecutionConfig;
+
+        meterRegistry.gauge("appsmith.action.execution.request.buffered.bytes", bufferedBytes);
+        this.requestSizeSummary = DistributionSummary.builder("appsmith.action.execution.request.size")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.spilledBytesCounter = Counter.builder("appsmith.action.execution.request.spilled")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Reads the complete content of a part into memory. Meant for the small parts of the request, like the parameters
+     * and the metadata.
+     *
+     * @param part                   the part to read
+     * @param totalReadableByteCount running count of bytes read for the request this part belongs to
+     * @return content of the part
+     */
+    public Mono<byte[]> readBytes(Part part, AtomicLong totalReadableByteCount) {
+        final AtomicLong heldBytes = new AtomicLong();
+        return DataBufferUtils.join(countedContent(part, totalReadableByteCount, heldBytes))
+                .map(dataBuffer -> {
+                    byte[] bytes = new byte[dataBuffer.readableByteCount()];
+                    dataBuffer.read(bytes);
+                    DataBufferUtils.release(dataBuffer);
+                    return bytes;
+                })
+                .doFinally(signalType -> bufferedBytes.addAndGet(-heldBytes.get()));
+    }
+
+    /**
+     * Reads a blob part into the blob maps of the given DTO. Blobs up to the spill threshold end up in
+     * {@link ExecuteActionDTO#getBlobValuesMap()}, larger ones are written to a temporary file that is recorded in
+     * {@link ExecuteActionDTO#getBlobFilePathsMap()}.
+     *
+     * @param part                   the blob part to read
+     * @param dto                    DTO with initialised blob maps
+     * @param totalReadableByteCount running count of bytes read for the request this part belongs to
+     * @return empty mono that completes when the blob has been read
+     */
+    public Mono<Void> readBlob(Part part, ExecuteActionDTO dto, AtomicLong totalReadableByteCount) {
+        final AtomicLong heldBytes = new AtomicLong();
+        final long spillThreshold = actionExecutionConfig.getBlobSpillThresholdInKb() * 1024;
+
+        return Mono.using(
+                        () -> new SpillingBlobWriter(part.name(), spillThreshold, dto.getBlobFilePathsMap()),
+                        writer -> countedContent(part, totalReadableByteCount, heldBytes)
+                                // Writing to the file is blocking
+                                .publishOn(Schedulers.boundedElastic())
+                                .reduce(writer, (blobWriter, dataBuffer) -> {
+                                    int size = dataBuffer.readableByteCount();
+                                    try {
+                                        blobWriter.write(dataBuffer);
+                                    } finally {
+                                        DataBufferUtils.release(dataBuffer);
+                                        heldBytes.addAndGet(-size);
+                                        bufferedBytes.addAndGet(-size);
+                                    }
+                                    return blobWriter;
+                                })
+                                .defaultIfEmpty(writer)
+                                .doOnNext(blobWriter -> {
+                                    String inMemoryValue = blobWriter.finish();
+                                    if (inMemoryValue != null) {
+                                        dto.getBlobValuesMap().put(part.name(), inMemoryValue);
+                                    } else {
+                                        spilledBytesCounter.increment(blobWriter.size);
+                                    }
+                                }),
+                        SpillingBlobWriter::close)
+                .doFinally(signalType -> bufferedBytes.addAndGet(-heldBytes.get()))
+                .then();
+    }
+
+    /**
+     * Reads back a blob that was spilled to a temporary file, handing it to the consumer one chunk at a time, so that it
+     * can be written straight into its destination without first being read into a string of its own.
+     */
+    public void readSpilledBlob(Path path, Consumer<String> chunkConsumer) {
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.ISO_8859_1)) {
+            char[] buffer = new char[SPILLED_BLOB_CHUNK_SIZE];
+            int count;
+            while ((count = reader.read(buffer)) != -1) {
+                chunkConsumer.accept(new String(buffer, 0, count));
+            }
+        } catch (IOException e) {
+            log.error("Error in reading spilled blob from {}", path, e);
+            throw new AppsmithException(AppsmithError.GENERIC_REQUEST_BODY_PARSE_ERROR);
+        }
+    }
+
+    /**
+     * Deletes all the temporary files created for the blobs of this request, if any.
+     */
+    public void deleteSpilledBlobs(ExecuteActionDTO dto) {
+        if (CollectionUtils.isEmpty(dto.getBlobFilePathsMap())) {
+            return;
+        }
+
+        dto.getBlobFilePathsMap().values().forEach(path -> {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                log.warn("Unable to delete spilled blob file {}", path, e);
+            }
+        });
+    }
+
+    public void recordRequestSize(long totalReadableByteCount) {
+        requestSizeSummary.record(totalReadableByteCount);
+    }
+
+    private Flux<DataBuffer> countedContent(Part part, AtomicLong totalReadableByteCount, AtomicLong heldBytes) {
+        final long maxRequestSize = actionExecutionConfig.getRequestMaxSizeInMb() * 1024 * 1024;
+
+        return part.content().handle((dataBuffer, sink) -> {
+            int size = dataBuffer.readableByteCount();
+            if (totalReadableByteCount.addAndGet(size) > maxRequestSize) {
+                DataBufferUtils.release(dataBuffer);
+                sink.error(new AppsmithException(AppsmithError.PAYLOAD_TOO_LARGE, maxRequestSize / 1024));
+                return;
+            }
+            heldBytes.addAndGet(size);
+            bufferedBytes.addAndGet(size);
+            sink.next(dataBuffer);
+        });
+    }
+
+    /**
+     * Collects a blob in memory until it grows beyond the threshold, and in a temporary file after that.
+     */
+    private static class SpillingBlobWriter implements Closeable {
+        private final String name;
+        private final long threshold;
+        private final Map<String, Path> blobFilePathsMap;
+
+        private ByteArrayOutputStream memory = new ByteArrayOutputStream();
+        private OutputStream fileStream;
+        private long size = 0;
+
+        SpillingBlobWriter(String name, long threshold, Map<String, Path> blobFilePathsMap) {
+            this.name = name;
+            this.threshold = threshold;
+            this.blobFilePathsMap = blobFilePathsMap;
+        }
+
+        void write(DataBuffer dataBuffer) {
+            final int count = dataBuffer.readableByteCount();
+            try {
+                if (fileStream == null && size + count > threshold) {
+                    Path path = Files.createTempFile(BLOB_FILE_PREFIX, BLOB_FILE_SUFFIX);
+                    // Record the file right away so that it gets cleaned up even if reading fails midway
+                    blobFilePathsMap.put(name, path);
+                    fileStream = new BufferedOutputStream(Files.newOutputStream(path));
+                    memory.writeTo(fileStream);
+                    memory = null;
+                }
+
+                try (InputStream inputStream = dataBuffer.asInputStream()) {
+                    inputStream.transferTo(fileStream != null ? fileStream : memory);
+                }
+                size += count;
+            } catch (IOException e) {
+                throw Exceptions.propagate(e);
+            }
+        }
+
+        /**
+         * @return the blob value if it was kept in memory, null if it was spilled to a file
+         */
+        String finish() {
+            if (fileStream == null) {
+                return memory.toString(StandardCharsets.ISO_8859_1);
+            }
+            close();
+            return null;
+        }
+
+        @Override
+        public void close() {
+            if (fileStream == null) {
+                return;
+            }
+            try {
+                fileStream.close();
+            } catch (IOException e) {
+                log.warn("Unable to close spilled blob file for {}", name, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.appsmith.server.newactions.execution;
+
+import com.appsmith.server.configurations.ActionExecutionConfig;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.context.ContextView;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Sends action execution analytics events off the execution path.
+ * <p>
+ * The execution path only hands over what the event is to be built from. Events are sampled, queued in a bounded
+ * buffer, and dropped when the buffer is full, so that analytics can never slow down or back up executions. The
+ * Reactor context of the execution is carried along with each task, so that the event is attributed to the right user.
+ */
+@Slf4j
+@Component
+public class ExecutionAnalyticsPublisher {
+
+    private static final String METRIC_NAME = "appsmith.action.execution.analytics";
+    private static final int CONCURRENCY = 4;
+    private static final String TRUNCATED_SUFFIX = "...(truncated)";
+
+    private final ActionExecutionConfig actionExecutionConfig;
+    private final ObjectMapper objectMapper;
+
+    private final Sinks.Many<Mono<?>> sink;
+    private final Disposable subscription;
+
+    private final Counter queuedCounter;
+    private final Counter droppedCounter;
+    private final Counter sampledOutCounter;
+    private final Counter failedCounter;
+
+    public ExecutionAnalyticsPublisher(
+            ActionExecutionConfig actionExecutionConfig, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.actionExecutionConfig = actionExecutionConfig;
+        this.objectMapper = objectMapper;
+
+        ArrayBlockingQueue<Mono<?>> queue = new ArrayBlockingQueue<>(actionExecutionConfig.getAnalyticsQueueCapacity());
+        this.sink = Sinks.many().unicast().onBackpressureBuffer(queue);
+        meterRegistry.gaugeCollectionSize(METRIC_NAME + ".queue.size", Tags.empty(), queue);
+
+        this.queuedCounter = meterRegistry.counter(METRIC_NAME, "result", "queued");
+        this.droppedCounter = meterRegistry.counter(METRIC_NAME, "result", "dropped");
+        this.sampledOutCounter = meterRegistry.counter(METRIC_NAME, "result", "sampled_out");
+        this.failedCounter = meterRegistry.counter(METRIC_NAME, "result", "failed");
+
+        this.subscription = sink.asFlux()
+                // Tasks are only taken off the queue as the worker gets to them, so that it stays the only buffer
+                .publishOn(Schedulers.boundedElastic(), CONCURRENCY)
+                .flatMap(
+                        task -> task.onErrorResume(error -> {
+                            failedCounter.increment();
+                            log.warn("Error sending action execution data point", error);
+                            return Mono.empty();
+                        }),
+                        CONCURRENCY)
+                .subscribe();
+    }
+
+    /**
+     * @return the configured ratio of executions for which an analytics event is sent
+     */
+    public double getSampleRate() {
+        return actionExecutionConfig.getAnalyticsSampleRate();
+    }
+
+    /**
+     * Queues the event to be built and sent, unless this execution is sampled out or the queue is full. Both the
+     * builder and the sender are only invoked on the analytics worker, so the calling thread does no more than queue
+     * the task. The builder should therefore only capture references to what the event is built from, and nothing
+     * that the execution goes on to change.
+     *
+     * @param eventBuilder builds the event on the analytics worker
+     * @param eventSender  returns the mono that sends the event
+     * @param contextView  Reactor context of the execution
+     * @return true if the event was queued
+     */
+    public <T> boolean publish(Supplier<T> eventBuilder, Function<T, Mono<?>> eventSender, ContextView contextView) {
+        if (ThreadLocalRandom.current().nextDouble() >= getSampleRate()) {
+            sampledOutCounter.increment();
+            return false;
+        }
+
+        Mono<?> task = Mono.fromSupplier(eventBuilder)
+                .flatMap(eventSender)
+                .contextWrite(context -> context.putAll(contextView));
+
+        Sinks.EmitResult emitResult;
+        // A unicast sink only accepts one emitter at a time
+        synchronized (sink) {
+            emitResult = sink.tryEmitNext(task);
+        }
+
+        if (emitResult.isFailure()) {
+            droppedCounter.increment();
+            return false;
+        }
+
+        queuedCounter.increment();
+        return true;
+    }
+
+    /**
+     * Serializes the value to JSON, stopping once the configured maximum field size is reached. Serialization of a
+     * very large value is abandoned early instead of producing the whole string only to cut it down afterwards.
+     */
+    public String toTruncatedJson(Object value) throws JsonProcessingException {
+        final int maxLength = actionExecutionConfig.getAnalyticsMaxFieldSizeInKb() * 1024;
+        final LimitedStringWriter writer = new LimitedStringWriter(maxLength);
+        try {
+            objectMapper.writeValue(writer, value);
+        } catch (LimitReachedException e) {
+            return writer.toString() + TRUNCATED_SUFFIX;
+        } catch (JsonProcessingException e) {
+            throw e;
+        } catch (IOException e) {
+            // Writing to a string does not do any I/O. Only the limit can interrupt it, which is handled above.
+            throw new IllegalStateException(e);
+        }
+        return writer.toString();
+    }
+
+    @PreDestroy
+    public void destroy() {
+        subscription.dispose();
+    }
+
+    private static class LimitReachedException extends IOException {
+        LimitReachedException() {
+            super(null, null);
+        }
+    }
+
+    private static class LimitedStringWriter extends Writer {
+        private final StringBuilder builder = new StringBuilder();
+        private final int maxLength;
+
+        LimitedStringWriter(int maxLength) {
+            this.maxLength = maxLength;
+        }
+
+        @Override
+        public void write(char[] chars, int offset, int length) throws IOException {
+            int remaining = maxLength - builder.length();
+            if (length > remaining) {
+                builder.append(chars, offset, remaining);
+                throw new LimitReachedException();
+            }
+            builder.append(chars, offset, length);
+        }
+
+        @Override
+        public void flush() {}
+
+        @Override
+        public void close() {}
+
+        @Override
+        public String toString() {
+            return builder.toString();
+        }
+    }
+}
@@ -52,6 +52,8 @@ public interface NewPageServiceCE extends CrudService<NewPage, String> {
     Mono<ApplicationPagesDTO> findApplicationPagesByApplicationIdViewMode(
             String applicationId, Boolean view, boolean markApplicationAsRecentlyAccessed);
 
+    Mono<List<NewPage>> findPageListForApplication(Application branchedApplication, boolean viewMode);
+
     Layout createDefaultLayout();
 
     Mono<PageDTO> findByNameAndApplicationIdAndViewMode(
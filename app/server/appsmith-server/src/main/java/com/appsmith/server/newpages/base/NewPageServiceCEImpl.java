@@ -266,12 +266,7 @@ public class NewPageServiceCEImpl extends BaseService<NewPageRepository, NewPage
                 .cache();
 
         return applicationMono
-                .map(application -> {
-                    List<ApplicationPage> pages = getApplicationPages(application, view);
-                    return pages.stream().map(page -> page.getId()).collect(Collectors.toList());
-                })
-                .flatMapMany(pageIds -> repository.findAllPageDTOsByIds(pageIds, pagePermission.getReadPermission()))
-                .collectList()
+                .flatMap(application -> findPageListForApplication(application, Boolean.TRUE.equals(view)))
                 .zipWith(applicationMono)
                 .map(tuple -> {
                     log.debug("Retrieved Page DTOs from DB ...");
@@ -281,6 +276,28 @@ public class NewPageServiceCEImpl extends BaseService<NewPageRepository, NewPage
                 });
     }
 
+    /**
+     * Fetches the pages of the application for the given mode with only the fields needed to list them, i.e. without
+     * any layouts. Use this instead of fetching whole pages whenever the result is only used to build an
+     * {@link ApplicationPagesDTO}.
+     * @param branchedApplication : branched application
+     * @param viewMode            : is application in viewMode
+     * @return : the pages of the application that the user can read, in no particular order
+     */
+    @Override
+    public Mono<List<NewPage>> findPageListForApplication(Application branchedApplication, boolean viewMode) {
+        List<ApplicationPage> applicationPages = getApplicationPages(branchedApplication, viewMode);
+        if (CollectionUtils.isEmpty(applicationPages)) {
+            return Mono.just(List.of());
+        }
+
+        List<String> pageIds =
+                applicationPages.stream().map(ApplicationPage::getId).collect(Collectors.toList());
+        return repository
+                .findPageListByIdsAndViewMode(pageIds, pagePermission.getReadPermission(), viewMode)
+                .collectList();
+    }
+
     /**
      * Creates applicationPagesDTO and then updates the resources with default resources
      *
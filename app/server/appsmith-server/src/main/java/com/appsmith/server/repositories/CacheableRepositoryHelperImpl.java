@@ -1,6 +1,7 @@
 package com.appsmith.server.repositories;
 
 import com.appsmith.server.helpers.InMemoryCacheableRepositoryHelper;
+import com.appsmith.server.helpers.UserPermissionGroupsCache;
 import com.appsmith.server.repositories.ce_compatible.CacheableRepositoryHelperCECompatibleImpl;
 import org.springframework.data.mongodb.core.ReactiveMongoOperations;
 import org.springframework.stereotype.Component;
@@ -11,7 +12,8 @@ public class CacheableRepositoryHelperImpl extends CacheableRepositoryHelperCECo
 
     public CacheableRepositoryHelperImpl(
             ReactiveMongoOperations mongoOperations,
-            InMemoryCacheableRepositoryHelper inMemoryCacheableRepositoryHelper) {
-        super(mongoOperations, inMemoryCacheableRepositoryHelper);
+            InMemoryCacheableRepositoryHelper inMemoryCacheableRepositoryHelper,
+            UserPermissionGroupsCache userPermissionGroupsCache) {
+        super(mongoOperations, inMemoryCacheableRepositoryHelper, userPermissionGroupsCache);
     }
 }
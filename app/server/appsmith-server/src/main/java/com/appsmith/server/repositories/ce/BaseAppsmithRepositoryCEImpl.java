@@ -3,19 +3,30 @@ package com.appsmith.server.repositories.ce;
 import com.appsmith.external.models.BaseDomain;
 import com.appsmith.external.models.Policy;
 import com.appsmith.server.acl.AclPermission;
+import com.appsmith.server.configurations.BulkWriteConfig;
+import com.appsmith.server.configurations.mongo.StaleReadMongoOperations;
 import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.domains.User;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.RequestMemoUtils;
+import com.appsmith.server.helpers.UserPermissionGroupsCache;
 import com.appsmith.server.helpers.ce.bridge.Bridge;
 import com.appsmith.server.helpers.ce.bridge.BridgeQuery;
 import com.appsmith.server.helpers.ce.bridge.BridgeUpdate;
 import com.appsmith.server.repositories.CacheableRepositoryHelper;
 import com.appsmith.server.repositories.ce.params.QueryAllParams;
+import com.google.common.collect.Lists;
 import com.mongodb.BasicDBObject;
 import com.mongodb.DBObject;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.InsertOneModel;
 import com.mongodb.client.model.UpdateOneModel;
 import com.mongodb.client.model.WriteModel;
+import com.mongodb.client.result.UpdateResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.NonNull;
 import org.bson.Document;
 import org.bson.types.ObjectId;
@@ -42,7 +53,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 import static org.apache.commons.collections.CollectionUtils.isEmpty;
 import static org.apache.commons.lang3.StringUtils.isBlank;
@@ -86,10 +97,34 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
     @Autowired
     private CacheableRepositoryHelper cacheableRepositoryHelper;
 
+    @Autowired
+    private BulkWriteConfig bulkWriteConfig;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private StaleReadMongoOperations staleReadMongoOperations;
+
+    @Autowired
+    private UserPermissionGroupsCache userPermissionGroupsCache;
+
     public static final int NO_RECORD_LIMIT = -1;
 
     public static final int NO_SKIP = 0;
 
+    private static final int POLICY_UPDATE_BATCH_SIZE = 1_000;
+
+    private static final String BULK_WRITE_METRIC_NAME = "appsmith.repository.bulk.write";
+
+    private static final String BULK_WRITE_DOCUMENTS_METRIC_NAME = "appsmith.repository.bulk.write.documents";
+
+    private static final String BULK_INSERT = "insert";
+
+    private static final String BULK_UPDATE = "update";
+
+    private static final String CURRENT_USER_PERMISSION_GROUPS_MEMO_KEY = "currentUserPermissionGroups";
+
     @SuppressWarnings("unchecked")
     public BaseAppsmithRepositoryCEImpl() {
         this.genericDomain =
@@ -188,11 +223,14 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
     }
 
     protected Mono<Set<String>> getCurrentUserPermissionGroups(boolean includeAnonymousUserPermissions) {
-        return ReactiveSecurityContextHolder.getContext()
-                .map(ctx -> (User) ctx.getAuthentication().getPrincipal())
-                .flatMap(user -> includeAnonymousUserPermissions
-                        ? getAllPermissionGroupsForUser(user)
-                        : getStrictPermissionGroupsForUser(user));
+        // Every query with a permission needs these, so they are looked up only once per request that has a memo
+        return RequestMemoUtils.memoize(
+                RequestMemoUtils.key(CURRENT_USER_PERMISSION_GROUPS_MEMO_KEY, includeAnonymousUserPermissions),
+                () -> ReactiveSecurityContextHolder.getContext()
+                        .map(ctx -> (User) ctx.getAuthentication().getPrincipal())
+                        .flatMap(user -> includeAnonymousUserPermissions
+                                ? getAllPermissionGroupsForUser(user)
+                                : getStrictPermissionGroupsForUser(user)));
     }
 
     protected Query createQueryWithPermission(
@@ -222,6 +260,14 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
         return query;
     }
 
+    /**
+     * Returns the operations that the reads of the given query go through, which are the primary ones unless the query
+     * allows stale reads.
+     */
+    private ReactiveMongoOperations readOperations(QueryAllParams<T> params) {
+        return params.isStaleReadsAllowed() ? staleReadMongoOperations.getOperations() : mongoOperations;
+    }
+
     public QueryAllParams<T> queryBuilder() {
         return new QueryAllParams<>(this);
     }
@@ -248,7 +294,7 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
                 query.with(params.getSort());
             }
 
-            return mongoOperations
+            return readOperations(params)
                     .query(this.genericDomain)
                     .as(projectionClass)
                     .matching(query.cursorBatchSize(10_000))
@@ -262,7 +308,7 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
     }
 
     public <P> Mono<P> queryOneExecute(QueryAllParams<T> params, Class<P> projectionClass) {
-        return ensurePermissionGroupsInParams(params).then(Mono.defer(() -> mongoOperations
+        return ensurePermissionGroupsInParams(params).then(Mono.defer(() -> readOperations(params)
                 .query(genericDomain)
                 .as(projectionClass)
                 .matching(createQueryWithPermission(
@@ -275,7 +321,7 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
     }
 
     public Mono<T> queryFirstExecute(QueryAllParams<T> params) {
-        return ensurePermissionGroupsInParams(params).then(Mono.defer(() -> mongoOperations
+        return ensurePermissionGroupsInParams(params).then(Mono.defer(() -> readOperations(params)
                 .query(this.genericDomain)
                 .matching(createQueryWithPermission(
                         params.getCriteria(), params.getFields(), params.getPermissionGroups(), params.getPermission()))
@@ -284,8 +330,8 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
     }
 
     public Mono<Long> countExecute(QueryAllParams<T> params) {
-        return ensurePermissionGroupsInParams(params)
-                .then(Mono.defer(() -> mongoOperations.count(
+        return ensurePermissionGroupsInParams(params).then(Mono.defer(() -> readOperations(params)
+                .count(
                         createQueryWithPermission(
                                 params.getCriteria(), params.getPermissionGroups(), params.getPermission()),
                         this.genericDomain)));
@@ -331,6 +377,84 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
                 .map(updateResult -> Math.toIntExact(updateResult.getMatchedCount()));
     }
 
+    /**
+     * Adds the permission groups of the given policies to the policies of every document matching the params, or
+     * removes them, with updates that run on the database. Only the ids of the matching documents are read, and the
+     * documents are updated a batch at a time, so that large documents aren't loaded and written back whole.
+     * <p>
+     * A policy for a permission that a document doesn't have yet is added to it as is. When removing, policies that end
+     * up without any permission groups are left in place.
+     *
+     * @return the number of documents updated by each batch, as the batches complete
+     */
+    public Flux<Long> updatePoliciesExecute(
+            @NonNull QueryAllParams<T> params, @NonNull Map<String, Policy> policyMap, boolean addPolicies) {
+        Objects.requireNonNull(params.getCriteria());
+
+        final List<Policy> policies = policyMap.values().stream()
+                .filter(policy -> !CollectionUtils.isEmpty(policy.getPermissionGroups()))
+                .toList();
+        if (policies.isEmpty()) {
+            return Flux.empty();
+        }
+
+        return ensurePermissionGroupsInParams(params)
+                .thenMany(Flux.defer(() -> mongoOperations.find(
+                        createQueryWithPermission(
+                                params.getCriteria(),
+                                List.of(FieldName.ID),
+                                params.getPermissionGroups(),
+                                params.getPermission()),
+                        genericDomain)))
+                .map(BaseDomain::getId)
+                // The ids are collected before updating, so that the updates don't affect which documents are read
+                .collectList()
+                .flatMapIterable(ids -> Lists.partition(ids, POLICY_UPDATE_BATCH_SIZE))
+                .concatMap(ids -> updatePoliciesOfBatch(ids, policies, addPolicies));
+    }
+
+    private Mono<Long> updatePoliciesOfBatch(List<String> ids, List<Policy> policies, boolean addPolicies) {
+        final Update update = new Update().set(BaseDomain.Fields.updatedAt, Instant.now());
+        final List<Mono<UpdateResult>> missingPolicyUpdates = new ArrayList<>();
+
+        for (int i = 0; i < policies.size(); i++) {
+            final Policy policy = policies.get(i);
+            final String identifier = "policy" + i;
+            final String permissionGroupsPath =
+                    BaseDomain.Fields.policies + ".$[" + identifier + "]." + Policy.Fields.permissionGroups;
+            final Object[] permissionGroups = policy.getPermissionGroups().toArray();
+
+            if (addPolicies) {
+                update.addToSet(permissionGroupsPath).each(permissionGroups);
+                // The policy is added as a whole to the documents that don't have one for this permission yet
+                missingPolicyUpdates.add(mongoOperations.updateMulti(
+                        new Query(Criteria.where(FieldName.ID)
+                                .in(ids)
+                                .and(BaseDomain.Fields.policies + "." + Policy.Fields.permission)
+                                .ne(policy.getPermission())),
+                        new Update().push(BaseDomain.Fields.policies, policy),
+                        genericDomain));
+            } else {
+                update.pullAll(permissionGroupsPath, permissionGroups);
+            }
+            update.filterArray(
+                    Criteria.where(identifier + "." + Policy.Fields.permission).is(policy.getPermission()));
+        }
+
+        // Array filters fail on documents without policies, which have nothing to add to or remove from anyway
+        final List<String> permissions =
+                policies.stream().map(Policy::getPermission).toList();
+        return Flux.concat(missingPolicyUpdates)
+                .then(mongoOperations.updateMulti(
+                        new Query(Criteria.where(FieldName.ID)
+                                .in(ids)
+                                .and(BaseDomain.Fields.policies + "." + Policy.Fields.permission)
+                                .in(permissions)),
+                        update,
+                        genericDomain))
+                .map(UpdateResult::getMatchedCount);
+    }
+
     public Mono<T> updateExecuteAndFind(@NonNull QueryAllParams<T> params, @NonNull UpdateDefinition update) {
         if (QueryAllParams.Scope.ALL.equals(params.getScope())) {
             // Not implemented yet, since not needed yet.
@@ -381,17 +505,30 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
             if (CollectionUtils.isEmpty(policyPermissionGroups)) {
                 continue;
             }
-            for (String permissionGroup : permissionGroups) {
-                if (policyPermissionGroups.contains(permissionGroup)) {
-                    permissions.add(policy.getPermission());
-                    break;
-                }
+            if (containsAny(policyPermissionGroups, permissionGroups)) {
+                permissions.add(policy.getPermission());
             }
         }
 
         return Mono.just(obj);
     }
 
+    /**
+     * Checks whether the two sets have an element in common by looking up the elements of the smaller set in the
+     * larger one. Users in many groups see documents whose policies have only a few groups each, and the other way
+     * around, so iterating over a fixed one of the two is often the expensive choice.
+     */
+    private static boolean containsAny(Set<String> set, Set<String> otherSet) {
+        final Set<String> smaller = set.size() <= otherSet.size() ? set : otherSet;
+        final Set<String> larger = smaller == set ? otherSet : set;
+        for (String element : smaller) {
+            if (larger.contains(element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * 1. Get all the user groups associated with the user
      * 2. Get all the permission groups associated with anonymous user
@@ -407,20 +544,23 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
             });
         }
 
-        return userMono.flatMap(userWithTenant -> Mono.zip(
-                        cacheableRepositoryHelper.getPermissionGroupsOfUser(userWithTenant),
-                        getAnonymousUserPermissionGroups()))
-                .map(tuple -> {
-                    Set<String> permissionGroups = new HashSet<>(tuple.getT1());
+        return userMono.flatMap(userWithTenant -> userPermissionGroupsCache.get(
+                userWithTenant.getEmail(),
+                userWithTenant.getTenantId(),
+                Mono.zip(
+                                cacheableRepositoryHelper.getPermissionGroupsOfUser(userWithTenant),
+                                getAnonymousUserPermissionGroups())
+                        .map(tuple -> {
+                            Set<String> permissionGroups = new HashSet<>(tuple.getT1());
 
-                    Set<String> currentUserPermissionGroups = tuple.getT1();
-                    Set<String> anonymousUserPermissionGroups = tuple.getT2();
+                            Set<String> currentUserPermissionGroups = tuple.getT1();
+                            Set<String> anonymousUserPermissionGroups = tuple.getT2();
 
-                    permissionGroups.addAll(currentUserPermissionGroups);
-                    permissionGroups.addAll(anonymousUserPermissionGroups);
+                            permissionGroups.addAll(currentUserPermissionGroups);
+                            permissionGroups.addAll(anonymousUserPermissionGroups);
 
-                    return permissionGroups;
-                });
+                            return permissionGroups;
+                        })));
     }
 
     /**
@@ -481,20 +621,12 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
             return Mono.empty();
         }
 
-        // convert the list of domains to a list of DBObjects
-        List<Document> dbObjects = domainList.stream()
-                .map(domain -> {
-                    Document document = new Document();
-                    mongoOperations.getConverter().write(domain, document);
-                    return document;
-                })
-                .collect(Collectors.toList());
-
-        return mongoOperations
-                .getCollection(mongoOperations.getCollectionName(genericDomain))
-                .flatMapMany(documentMongoCollection -> documentMongoCollection.insertMany(dbObjects))
-                .collectList()
-                .then();
+        // The documents don't depend on each other, so the database may insert them in any order
+        return bulkWrite(BULK_INSERT, domainList, false, domain -> {
+            Document document = new Document();
+            mongoOperations.getConverter().write(domain, document);
+            return new InsertOneModel<>(document);
+        });
     }
 
     public Mono<Void> bulkUpdate(List<T> domainObjects) {
@@ -502,23 +634,55 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
             return Mono.empty();
         }
 
-        // convert the list of new actions to a list of DBObjects
-        List<WriteModel<Document>> dbObjects = domainObjects.stream()
-                .map(actionCollection -> {
-                    assert actionCollection.getId() != null;
-                    Document document = new Document();
-                    mongoOperations.getConverter().write(actionCollection, document);
-                    document.remove("_id");
-                    return (WriteModel<Document>) new UpdateOneModel<Document>(
-                            new Document("_id", new ObjectId(actionCollection.getId())),
-                            new Document("$set", document));
-                })
-                .collect(Collectors.toList());
+        // Only when a domain is updated more than once does the order of the updates matter
+        final boolean ordered =
+                domainObjects.stream().map(BaseDomain::getId).distinct().count() < domainObjects.size();
+
+        return bulkWrite(BULK_UPDATE, domainObjects, ordered, domain -> {
+            assert domain.getId() != null;
+            Document document = new Document();
+            mongoOperations.getConverter().write(domain, document);
+            document.remove("_id");
+            return new UpdateOneModel<>(
+                    new Document("_id", new ObjectId(domain.getId())), new Document("$set", document));
+        });
+    }
+
+    /**
+     * Writes the domains in chunks of the configured size, converting each chunk to documents only when it's about to
+     * be written, and with a bounded number of chunks being written at the same time. Writes that must be applied in
+     * order are written one chunk after the other instead.
+     */
+    private Mono<Void> bulkWrite(
+            String operation, List<T> domains, boolean ordered, Function<T, WriteModel<Document>> toWriteModel) {
+        final String collectionName = mongoOperations.getCollectionName(genericDomain);
+        final Timer timer = Timer.builder(BULK_WRITE_METRIC_NAME)
+                .tag("collection", collectionName)
+                .tag("operation", operation)
+                .register(meterRegistry);
+        final Counter documentCounter = Counter.builder(BULK_WRITE_DOCUMENTS_METRIC_NAME)
+                .tag("collection", collectionName)
+                .tag("operation", operation)
+                .register(meterRegistry);
+        final BulkWriteOptions options = new BulkWriteOptions().ordered(ordered);
+        final int concurrency = ordered ? 1 : Math.max(1, bulkWriteConfig.getConcurrency());
 
         return mongoOperations
-                .getCollection(mongoOperations.getCollectionName(genericDomain))
-                .flatMapMany(documentMongoCollection -> documentMongoCollection.bulkWrite(dbObjects))
-                .collectList()
+                .getCollection(collectionName)
+                .flatMapMany(collection -> Flux.fromIterable(
+                                Lists.partition(domains, Math.max(1, bulkWriteConfig.getChunkSize())))
+                        .flatMapSequential(
+                                chunk -> {
+                                    final List<WriteModel<Document>> writeModels =
+                                            chunk.stream().map(toWriteModel).toList();
+                                    final Timer.Sample sample = Timer.start(meterRegistry);
+                                    return Mono.from(collection.bulkWrite(writeModels, options))
+                                            .doOnSuccess(result -> {
+                                                sample.stop(timer);
+                                                documentCounter.increment(writeModels.size());
+                                            });
+                                },
+                                concurrency))
                 .then();
     }
 }
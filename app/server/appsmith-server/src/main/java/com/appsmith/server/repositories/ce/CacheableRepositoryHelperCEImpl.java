@@ -12,6 +12,7 @@ import com.appsmith.server.domains.Workspace;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.helpers.InMemoryCacheableRepositoryHelper;
+import com.appsmith.server.helpers.UserPermissionGroupsCache;
 import com.appsmith.server.helpers.ce.bridge.Bridge;
 import com.appsmith.server.helpers.ce.bridge.BridgeQuery;
 import lombok.extern.slf4j.Slf4j;
@@ -35,12 +36,15 @@ import static com.appsmith.server.repositories.ce.BaseAppsmithRepositoryCEImpl.n
 public class CacheableRepositoryHelperCEImpl implements CacheableRepositoryHelperCE {
     private final ReactiveMongoOperations mongoOperations;
     private final InMemoryCacheableRepositoryHelper inMemoryCacheableRepositoryHelper;
+    private final UserPermissionGroupsCache userPermissionGroupsCache;
 
     public CacheableRepositoryHelperCEImpl(
             ReactiveMongoOperations mongoOperations,
-            InMemoryCacheableRepositoryHelper inMemoryCacheableRepositoryHelper) {
+            InMemoryCacheableRepositoryHelper inMemoryCacheableRepositoryHelper,
+            UserPermissionGroupsCache userPermissionGroupsCache) {
         this.mongoOperations = mongoOperations;
         this.inMemoryCacheableRepositoryHelper = inMemoryCacheableRepositoryHelper;
+        this.userPermissionGroupsCache = userPermissionGroupsCache;
     }
 
     @Cache(cacheName = "permissionGroupsForUser", key = "{#user.email + #user.tenantId}")
@@ -128,7 +132,8 @@ public class CacheableRepositoryHelperCEImpl implements CacheableRepositoryHelpe
     @CacheEvict(cacheName = "permissionGroupsForUser", key = "{#email + #tenantId}")
     @Override
     public Mono<Void> evictPermissionGroupsUser(String email, String tenantId) {
-        return Mono.empty();
+        // The merged permission groups that each node keeps in memory are evicted along with the ones in Redis
+        return userPermissionGroupsCache.evict(email, tenantId);
     }
 
     @Override
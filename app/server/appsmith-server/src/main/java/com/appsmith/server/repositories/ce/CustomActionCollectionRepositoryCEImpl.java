@@ -71,7 +71,11 @@ public class CustomActionCollectionRepositoryCEImpl extends BaseAppsmithReposito
         BridgeQuery<ActionCollection> bridgeQuery =
                 getBridgeQueryForFindByApplicationIdAndViewMode(applicationId, viewMode);
 
-        return queryBuilder().criteria(bridgeQuery).permission(aclPermission).all();
+        return queryBuilder()
+                .criteria(bridgeQuery)
+                .permission(aclPermission)
+                .allowStaleReads(viewMode)
+                .all();
     }
 
     protected BridgeQuery<ActionCollection>
@@ -81,4 +81,12 @@ public interface CustomApplicationRepositoryCE extends AppsmithRepository<Applic
     Mono<Integer> unprotectAllBranches(String applicationId, AclPermission permission);
 
     Mono<Integer> protectBranchedApplications(String applicationId, List<String> branchNames, AclPermission permission);
+
+    /**
+     * Returns the ids of the applications that have been deployed most recently, latest first.
+     *
+     * @param limit maximum number of ids to return
+     * @return ids of the most recently deployed applications
+     */
+    Flux<String> findIdsOfRecentlyDeployedApplications(int limit);
 }
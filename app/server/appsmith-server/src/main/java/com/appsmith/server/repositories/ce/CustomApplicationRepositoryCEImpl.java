@@ -14,6 +14,7 @@ import com.appsmith.server.solutions.ApplicationPermission;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.core.context.ReactiveSecurityContextHolder;
 import org.springframework.util.StringUtils;
 import reactor.core.publisher.Flux;
@@ -270,4 +271,14 @@ public class CustomApplicationRepositoryCEImpl extends BaseAppsmithRepositoryImp
 
         return queryBuilder().criteria(q).permission(permission).updateAll(setProtected);
     }
+
+    @Override
+    public Flux<String> findIdsOfRecentlyDeployedApplications(int limit) {
+        return queryBuilder()
+                .criteria(Bridge.exists(Application.Fields.lastDeployedAt))
+                .sort(Sort.by(Sort.Direction.DESC, Application.Fields.lastDeployedAt))
+                .limit(limit)
+                .all(IdOnly.class)
+                .map(IdOnly::id);
+    }
 }
@@ -206,6 +206,7 @@ public class CustomNewActionRepositoryCEImpl extends BaseAppsmithRepositoryImpl<
         return queryBuilder()
                 .criteria(getCriteriaForFindByApplicationIdAndViewMode(applicationId, viewMode))
                 .permission(aclPermission)
+                .allowStaleReads(Boolean.TRUE.equals(viewMode))
                 .all();
     }
 
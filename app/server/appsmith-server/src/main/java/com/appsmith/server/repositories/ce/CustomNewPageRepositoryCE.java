@@ -25,7 +25,7 @@ public interface CustomNewPageRepositoryCE extends AppsmithRepository<NewPage> {
     Mono<NewPage> findByNameAndApplicationIdAndViewMode(
             String name, String applicationId, AclPermission aclPermission, Boolean viewMode);
 
-    Flux<NewPage> findAllPageDTOsByIds(List<String> ids, AclPermission aclPermission);
+    Flux<NewPage> findPageListByIdsAndViewMode(List<String> ids, AclPermission aclPermission, boolean viewMode);
 
     Mono<String> getNameByPageId(String pageId, boolean isPublishedName);
 
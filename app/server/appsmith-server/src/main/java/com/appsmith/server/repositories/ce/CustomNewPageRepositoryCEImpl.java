@@ -72,7 +72,11 @@ public class CustomNewPageRepositoryCEImpl extends BaseAppsmithRepositoryImpl<Ne
 
         q.equal(dotted(layoutsKey, Layout.Fields.id), layoutId);
 
-        return queryBuilder().criteria(q).permission(aclPermission).one();
+        return queryBuilder()
+                .criteria(q)
+                .permission(aclPermission)
+                .allowStaleReads(Boolean.TRUE.equals(viewMode))
+                .one();
     }
 
     @Override
@@ -85,7 +89,11 @@ public class CustomNewPageRepositoryCEImpl extends BaseAppsmithRepositoryImpl<Ne
             q.isNull(NewPage.Fields.unpublishedPage_deletedAt);
         }
 
-        return queryBuilder().criteria(q).permission(aclPermission).one();
+        return queryBuilder()
+                .criteria(q)
+                .permission(aclPermission)
+                .allowStaleReads(Boolean.TRUE.equals(viewMode))
+                .one();
     }
 
     @Override
@@ -99,30 +107,45 @@ public class CustomNewPageRepositoryCEImpl extends BaseAppsmithRepositoryImpl<Ne
             q.isNull(NewPage.Fields.unpublishedPage_deletedAt);
         }
 
-        return queryBuilder().criteria(q).permission(aclPermission).one();
+        return queryBuilder()
+                .criteria(q)
+                .permission(aclPermission)
+                .allowStaleReads(Boolean.TRUE.equals(viewMode))
+                .one();
     }
 
+    /**
+     * Fetches only the fields needed to list the pages of an application in the given mode. The other mode's page isn't
+     * read at all, and neither mode's layouts are, so that listing the pages of a large application doesn't transfer
+     * and deserialize every DSL.
+     */
     @Override
-    public Flux<NewPage> findAllPageDTOsByIds(List<String> ids, AclPermission aclPermission) {
-        List<String> includedFields = List.of(
-                FieldName.APPLICATION_ID,
-                FieldName.DEFAULT_RESOURCES,
-                NewPage.Fields.policies,
-                NewPage.Fields.unpublishedPage_name,
-                NewPage.Fields.unpublishedPage_icon,
-                NewPage.Fields.unpublishedPage_isHidden,
-                NewPage.Fields.unpublishedPage_slug,
-                NewPage.Fields.unpublishedPage_customSlug,
-                NewPage.Fields.publishedPage_name,
-                NewPage.Fields.publishedPage_icon,
-                NewPage.Fields.publishedPage_isHidden,
-                NewPage.Fields.publishedPage_slug,
-                NewPage.Fields.publishedPage_customSlug);
+    public Flux<NewPage> findPageListByIdsAndViewMode(List<String> ids, AclPermission aclPermission, boolean viewMode) {
+        List<String> includedFields = viewMode
+                ? List.of(
+                        FieldName.APPLICATION_ID,
+                        FieldName.DEFAULT_RESOURCES,
+                        NewPage.Fields.policies,
+                        NewPage.Fields.publishedPage_name,
+                        NewPage.Fields.publishedPage_icon,
+                        NewPage.Fields.publishedPage_isHidden,
+                        NewPage.Fields.publishedPage_slug,
+                        NewPage.Fields.publishedPage_customSlug)
+                : List.of(
+                        FieldName.APPLICATION_ID,
+                        FieldName.DEFAULT_RESOURCES,
+                        NewPage.Fields.policies,
+                        NewPage.Fields.unpublishedPage_name,
+                        NewPage.Fields.unpublishedPage_icon,
+                        NewPage.Fields.unpublishedPage_isHidden,
+                        NewPage.Fields.unpublishedPage_slug,
+                        NewPage.Fields.unpublishedPage_customSlug);
 
         return this.queryBuilder()
                 .criteria(Bridge.in(NewPage.Fields.id, ids))
                 .fields(includedFields)
                 .permission(aclPermission)
+                .allowStaleReads(viewMode)
                 .all();
     }
 
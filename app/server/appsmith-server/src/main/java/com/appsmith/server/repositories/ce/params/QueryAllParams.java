@@ -1,6 +1,7 @@
 package com.appsmith.server.repositories.ce.params;
 
 import com.appsmith.external.models.BaseDomain;
+import com.appsmith.external.models.Policy;
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.helpers.ce.bridge.BridgeQuery;
@@ -16,6 +17,7 @@ import reactor.core.publisher.Mono;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static com.appsmith.server.repositories.ce.BaseAppsmithRepositoryCEImpl.NO_RECORD_LIMIT;
@@ -42,6 +44,12 @@ public class QueryAllParams<T extends BaseDomain> {
      */
     private boolean includeAnonymousUserPermissions = true;
 
+    /**
+     * When this flag is true, the query may be served by a secondary that lags slightly behind the primary. This is
+     * meant for reads like those of applications in view mode, and never for reads whose results are written back.
+     */
+    private boolean staleReadsAllowed = false;
+
     private Scope scope;
 
     public QueryAllParams(BaseAppsmithRepositoryCEImpl<T> repo) {
@@ -92,6 +100,11 @@ public class QueryAllParams<T extends BaseDomain> {
         return repo.updateExecuteAndFind(this, update);
     }
 
+    public Flux<Long> updatePolicies(@NonNull Map<String, Policy> policyMap, boolean addPolicies) {
+        scope = Scope.ALL;
+        return repo.updatePoliciesExecute(this, policyMap, addPolicies);
+    }
+
     @Deprecated(forRemoval = true)
     public QueryAllParams<T> criteria(Criteria... criteria) {
         if (criteria == null) {
@@ -188,6 +201,11 @@ public class QueryAllParams<T extends BaseDomain> {
         return this;
     }
 
+    public QueryAllParams<T> allowStaleReads(boolean value) {
+        staleReadsAllowed = value;
+        return this;
+    }
+
     public enum Scope {
         ALL,
         FIRST,
@@ -1,6 +1,7 @@
 package com.appsmith.server.repositories.ce_compatible;
 
 import com.appsmith.server.helpers.InMemoryCacheableRepositoryHelper;
+import com.appsmith.server.helpers.UserPermissionGroupsCache;
 import com.appsmith.server.repositories.ce.CacheableRepositoryHelperCEImpl;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.mongodb.core.ReactiveMongoOperations;
@@ -12,7 +13,8 @@ public class CacheableRepositoryHelperCECompatibleImpl extends CacheableReposito
         implements CacheableRepositoryHelperCECompatible {
     public CacheableRepositoryHelperCECompatibleImpl(
             ReactiveMongoOperations mongoOperations,
-            InMemoryCacheableRepositoryHelper inMemoryCacheableRepositoryHelper) {
-        super(mongoOperations, inMemoryCacheableRepositoryHelper);
+            InMemoryCacheableRepositoryHelper inMemoryCacheableRepositoryHelper,
+            UserPermissionGroupsCache userPermissionGroupsCache) {
+        super(mongoOperations, inMemoryCacheableRepositoryHelper, userPermissionGroupsCache);
     }
 }
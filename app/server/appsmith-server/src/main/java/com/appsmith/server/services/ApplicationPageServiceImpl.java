@@ -66,7 +66,8 @@ public class ApplicationPageServiceImpl extends ApplicationPageServiceCEImpl imp
             GitAutoCommitHelper gitAutoCommitHelper,
             AutoCommitEligibilityHelper autoCommitEligibilityHelper,
             ClonePageService<NewAction> actionClonePageService,
-            ClonePageService<ActionCollection> actionCollectionClonePageService) {
+            ClonePageService<ActionCollection> actionCollectionClonePageService,
+            DatasourceContextWarmer datasourceContextWarmer) {
         super(
                 workspaceService,
                 applicationService,
@@ -98,6 +99,7 @@ public class ApplicationPageServiceImpl extends ApplicationPageServiceCEImpl imp
                 gitAutoCommitHelper,
                 autoCommitEligibilityHelper,
                 actionClonePageService,
-                actionCollectionClonePageService);
+                actionCollectionClonePageService,
+                datasourceContextWarmer);
     }
 }
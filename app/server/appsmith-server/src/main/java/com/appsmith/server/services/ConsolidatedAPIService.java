@@ -7,4 +7,16 @@ import reactor.core.publisher.Mono;
 public interface ConsolidatedAPIService {
     Mono<ConsolidatedAPIResponseDTO> getConsolidatedInfoForPageLoad(
             String defaultPageId, String applicationId, String branchName, ApplicationMode mode);
+
+    /**
+     * Computes a fingerprint of everything the view mode page load response depends on, so that a client that already
+     * has the response for the same fingerprint doesn't need to be sent it again.
+     */
+    Mono<String> getConsolidatedInfoForPageLoadETag(String defaultPageId, String applicationId, String branchName);
+
+    /**
+     * Records the published application as recently used by the current user, as the view mode page load does. For
+     * page loads that are answered without the response, since the client already has it.
+     */
+    Mono<Void> markApplicationRecentlyAccessed(String defaultPageId, String applicationId, String branchName);
 }
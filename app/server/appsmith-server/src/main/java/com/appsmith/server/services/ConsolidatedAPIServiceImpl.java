@@ -1,15 +1,20 @@
 package com.appsmith.server.services;
 
+import com.appsmith.external.enums.WorkspaceResourceContext;
 import com.appsmith.external.exceptions.ErrorDTO;
 import com.appsmith.external.models.CreatorContextType;
 import com.appsmith.external.models.Datasource;
 import com.appsmith.server.actioncollections.base.ActionCollectionService;
 import com.appsmith.server.applications.base.ApplicationService;
+import com.appsmith.server.configurations.ProjectProperties;
+import com.appsmith.server.configurations.mongo.StaleReadMongoOperations;
 import com.appsmith.server.datasources.base.DatasourceService;
 import com.appsmith.server.domains.Application;
 import com.appsmith.server.domains.ApplicationMode;
 import com.appsmith.server.domains.NewPage;
 import com.appsmith.server.domains.Plugin;
+import com.appsmith.server.domains.Tenant;
+import com.appsmith.server.domains.User;
 import com.appsmith.server.dtos.ApplicationPagesDTO;
 import com.appsmith.server.dtos.ConsolidatedAPIResponseDTO;
 import com.appsmith.server.dtos.MockDataDTO;
@@ -17,6 +22,7 @@ import com.appsmith.server.dtos.ProductAlertResponseDTO;
 import com.appsmith.server.dtos.ResponseDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.RequestMemoUtils;
 import com.appsmith.server.jslibs.base.CustomJSLibService;
 import com.appsmith.server.newactions.base.NewActionService;
 import com.appsmith.server.newpages.base.NewPageService;
@@ -25,6 +31,7 @@ import com.appsmith.server.themes.base.ThemeService;
 import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.springframework.data.util.Pair;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -34,12 +41,16 @@ import reactor.core.observability.micrometer.Micrometer;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 import static com.appsmith.external.constants.PluginConstants.PLUGINS_THAT_ALLOW_QUERY_CREATION_WITHOUT_DATASOURCE;
@@ -92,6 +103,10 @@ public class ConsolidatedAPIServiceImpl implements ConsolidatedAPIService {
     private final PluginService pluginService;
     private final DatasourceService datasourceService;
     private final MockDataService mockDataService;
+    private final PermissionGroupService permissionGroupService;
+    private final ProjectProperties projectProperties;
+    private final ConsolidatedAPIViewCache consolidatedAPIViewCache;
+    private final StaleReadMongoOperations staleReadMongoOperations;
     private final ObservationRegistry observationRegistry;
 
     <T> ResponseDTO<T> getSuccessResponse(T data) {
@@ -127,6 +142,9 @@ public class ConsolidatedAPIServiceImpl implements ConsolidatedAPIService {
      * response hence enabling the client to fetch the required data via a single API call only.
      * <p>
      * PLEASE TAKE CARE TO USE .cache() FOR Mono THAT GETS REUSED SO THAT FIRST PAGE LOAD PERFORMANCE DOES NOT DEGRADE.
+     * <p>
+     * The fetches run with a request memo in their context, so lookups that are memoized with {@link RequestMemoUtils},
+     * like those of the user's permission groups, are shared between them instead of being repeated by each fetch.
      */
     @Override
     public Mono<ConsolidatedAPIResponseDTO> getConsolidatedInfoForPageLoad(
@@ -185,12 +203,15 @@ public class ConsolidatedAPIServiceImpl implements ConsolidatedAPIService {
                 .tap(Micrometer.observation(observationRegistry)));
 
         if (isBlank(defaultPageId) && isBlank(applicationId)) {
-            return Mono.when(fetches).thenReturn(consolidatedAPIResponseDTO);
+            return Mono.when(fetches).thenReturn(consolidatedAPIResponseDTO).contextWrite(RequestMemoUtils::withMemo);
         }
 
         /* Get view mode - EDIT or PUBLISHED */
         boolean isViewMode = ApplicationMode.PUBLISHED.equals(mode);
 
+        /* Fetches of the sections that are the same for every viewer of a deployed application in view mode */
+        final List<Mono<?>> applicationFetches = new ArrayList<>();
+
         /* Fetch application id if not provided */
         Mono<String> applicationIdMonoCache;
         if (isBlank(applicationId)) {
@@ -209,9 +230,12 @@ public class ConsolidatedAPIServiceImpl implements ConsolidatedAPIService {
                         defaultApplicationId, branchName, mode))
                 .cache();
 
+        /* The view mode only lists the pages, so their layouts are left out. The edit mode migrates every page's DSL
+         * further down, so whole pages are fetched. */
         Mono<List<NewPage>> pagesFromCurrentApplicationMonoCached = branchedApplicationMonoCached
-                .flatMap(branchedApplication ->
-                        applicationPageService.getPagesBasedOnApplicationMode(branchedApplication, mode))
+                .flatMap(branchedApplication -> isViewMode
+                        ? newPageService.findPageListForApplication(branchedApplication, true)
+                        : applicationPageService.getPagesBasedOnApplicationMode(branchedApplication, mode))
                 .cache();
 
         /* Get all applicationPages in application */
@@ -228,10 +252,10 @@ public class ConsolidatedAPIServiceImpl implements ConsolidatedAPIService {
                 .tap(Micrometer.observation(observationRegistry))
                 .cache();
 
-        fetches.add(applicationPagesDTOResponseDTOMonoCache);
+        applicationFetches.add(applicationPagesDTOResponseDTOMonoCache);
 
         /* Get current theme */
-        fetches.add(applicationIdMonoCache
+        applicationFetches.add(applicationIdMonoCache
                 .flatMap(appId -> themeService.getApplicationTheme(appId, mode, branchName))
                 .as(this::toResponseDTO)
                 .doOnSuccess(consolidatedAPIResponseDTO::setCurrentTheme)
@@ -239,7 +263,7 @@ public class ConsolidatedAPIServiceImpl implements ConsolidatedAPIService {
                 .tap(Micrometer.observation(observationRegistry)));
 
         /* Get all themes */
-        fetches.add(applicationIdMonoCache
+        applicationFetches.add(applicationIdMonoCache
                 .flatMap(appId ->
                         themeService.getApplicationThemes(appId, branchName).collectList())
                 .as(this::toResponseDTO)
@@ -248,7 +272,7 @@ public class ConsolidatedAPIServiceImpl implements ConsolidatedAPIService {
                 .tap(Micrometer.observation(observationRegistry)));
 
         /* Get all custom JS libraries installed in the application */
-        fetches.add(applicationIdMonoCache
+        applicationFetches.add(applicationIdMonoCache
                 .flatMap(appId -> customJSLibService.getAllJSLibsInContext(
                         appId, CreatorContextType.APPLICATION, branchName, isViewMode))
                 .as(this::toResponseDTO)
@@ -258,7 +282,7 @@ public class ConsolidatedAPIServiceImpl implements ConsolidatedAPIService {
 
         if (!isBlank(defaultPageId)) {
             /* Get current page */
-            fetches.add(pagesFromCurrentApplicationMonoCached
+            applicationFetches.add(pagesFromCurrentApplicationMonoCached
                     .then(applicationPageService.getPageAndMigrateDslByBranchAndDefaultPageId(
                             defaultPageId, branchName, isViewMode, true))
                     .as(this::toResponseDTO)
@@ -270,7 +294,7 @@ public class ConsolidatedAPIServiceImpl implements ConsolidatedAPIService {
         /* Fetch view specific data */
         if (isViewMode) {
             /* Get list of all actions in view mode */
-            fetches.add(applicationIdMonoCache
+            applicationFetches.add(applicationIdMonoCache
                     .flatMap(appId -> newActionService
                             .getActionsForViewMode(appId, branchName)
                             .collectList())
@@ -280,7 +304,7 @@ public class ConsolidatedAPIServiceImpl implements ConsolidatedAPIService {
                     .tap(Micrometer.observation(observationRegistry)));
 
             /* Get list of all action collections in view mode */
-            fetches.add(applicationIdMonoCache
+            applicationFetches.add(applicationIdMonoCache
                     .flatMap(appId -> actionCollectionService
                             .getActionCollectionsForViewMode(appId, branchName)
                             .collectList())
@@ -422,7 +446,218 @@ public class ConsolidatedAPIServiceImpl implements ConsolidatedAPIService {
                     .tap(Micrometer.observation(observationRegistry)));
         }
 
-        return Mono.when(fetches).thenReturn(consolidatedAPIResponseDTO);
+        if (!isViewMode || !consolidatedAPIViewCache.isEnabled()) {
+            fetches.addAll(applicationFetches);
+            return Mono.when(fetches).thenReturn(consolidatedAPIResponseDTO).contextWrite(RequestMemoUtils::withMemo);
+        }
+
+        // The published pages, actions and collections may be read from a secondary, so the deployment is only cached
+        // once those reads are certain to see it, else the previous deployment would be cached under its key
+        final Mono<String> viewCacheKeyMono = Mono.zip(
+                        branchedApplicationMonoCached.filter(this::isDeploymentVisibleToStaleReads),
+                        permissionGroupService
+                                .getSessionUserPermissionGroupIds()
+                                .defaultIfEmpty(Set.of()))
+                .mapNotNull(tuple -> consolidatedAPIViewCache.getKey(tuple.getT1(), defaultPageId, tuple.getT2()))
+                // The fetches report the error in the response, if it's a lasting one
+                .onErrorResume(error -> Mono.empty());
+
+        /* Use the cached sections if there are any for this deployment, else fetch and cache them */
+        fetches.add(viewCacheKeyMono
+                .flatMap(key -> consolidatedAPIViewCache
+                        .get(key)
+                        .flatMap(cachedSections -> markApplicationRecentlyAccessed(branchedApplicationMonoCached)
+                                .thenReturn(cachedSections))
+                        .doOnNext(consolidatedAPIResponseDTO::setCachedSections)
+                        .thenReturn(true)
+                        .switchIfEmpty(Mono.when(applicationFetches)
+                                .then(Mono.defer(() -> {
+                                    final Map<String, ResponseDTO<?>> sections =
+                                            getApplicationSections(consolidatedAPIResponseDTO, defaultPageId);
+                                    return sections == null
+                                            ? Mono.<Void>empty()
+                                            : consolidatedAPIViewCache.put(key, sections);
+                                }))
+                                .thenReturn(true)))
+                .switchIfEmpty(Mono.when(applicationFetches).thenReturn(true)));
+
+        return Mono.when(fetches).thenReturn(consolidatedAPIResponseDTO).contextWrite(RequestMemoUtils::withMemo);
+    }
+
+    private boolean isDeploymentVisibleToStaleReads(Application application) {
+        final String lastDeployedAt = application.getLastDeployedAt();
+        return staleReadMongoOperations.hasCaughtUpWith(lastDeployedAt == null ? null : Instant.parse(lastDeployedAt));
+    }
+
+    /**
+     * Records the application as recently used by the viewer, like the pages fetch does. Needed when the pages section
+     * comes from the view cache, in which case the pages are not fetched.
+     */
+    private Mono<Void> markApplicationRecentlyAccessed(Mono<Application> branchedApplicationMono) {
+        return branchedApplicationMono
+                .flatMap(branchedApplication -> userDataService.updateLastUsedResourceAndWorkspaceList(
+                        branchedApplication.getId(),
+                        branchedApplication.getWorkspaceId(),
+                        WorkspaceResourceContext.APPLICATIONS))
+                .onErrorResume(error -> {
+                    log.debug("Unable to mark application as recently accessed", error);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    /**
+     * Collects the view mode sections that are the same for every viewer of the deployment.
+     *
+     * @return the sections by name, or null if any of them has failed, since a failure must not be cached
+     */
+    private static Map<String, ResponseDTO<?>> getApplicationSections(
+            ConsolidatedAPIResponseDTO consolidatedAPIResponseDTO, String defaultPageId) {
+        final Map<String, ResponseDTO<?>> sections = new HashMap<>();
+        sections.put(ConsolidatedAPIResponseDTO.Fields.pages, consolidatedAPIResponseDTO.getPages());
+        sections.put(ConsolidatedAPIResponseDTO.Fields.currentTheme, consolidatedAPIResponseDTO.getCurrentTheme());
+        sections.put(ConsolidatedAPIResponseDTO.Fields.themes, consolidatedAPIResponseDTO.getThemes());
+        sections.put(
+                ConsolidatedAPIResponseDTO.Fields.customJSLibraries, consolidatedAPIResponseDTO.getCustomJSLibraries());
+        sections.put(
+                ConsolidatedAPIResponseDTO.Fields.publishedActions, consolidatedAPIResponseDTO.getPublishedActions());
+        sections.put(
+                ConsolidatedAPIResponseDTO.Fields.publishedActionCollections,
+                consolidatedAPIResponseDTO.getPublishedActionCollections());
+        if (!isBlank(defaultPageId)) {
+            sections.put(
+                    ConsolidatedAPIResponseDTO.Fields.pageWithMigratedDsl,
+                    consolidatedAPIResponseDTO.getPageWithMigratedDsl());
+        }
+
+        final boolean hasFailedSection = sections.values().stream()
+                .anyMatch(section -> section == null
+                        || section.getResponseMeta() == null
+                        || !section.getResponseMeta().isSuccess());
+        return hasFailedSection ? null : sections;
+    }
+
+    /**
+     * The published parts of the view mode response only change when the application is deployed again. The rest of
+     * it depends on the user's profile, their permission groups, the feature flags and the tenant, all of which are
+     * cheaper to fetch than the response itself. The server version is included since the DSL is migrated on the way
+     * out.
+     * <p>
+     * Only the fields that end up in the response are part of the fingerprint. In particular, the update times of the
+     * user and their user data are not, since every page load updates the user data with the recently used resources.
+     * The product alert is, since a new alert must reach the viewers.
+     * <p>
+     * There is no ETag for a deployment that the stale reads of the published parts may not see yet, since the
+     * response could still be of the previous deployment.
+     */
+    @Override
+    public Mono<String> getConsolidatedInfoForPageLoadETag(
+            String defaultPageId, String applicationId, String branchName) {
+        if (isBlank(defaultPageId) && isBlank(applicationId)) {
+            return Mono.empty();
+        }
+
+        final Mono<Application> applicationMono = getPublishedApplication(defaultPageId, applicationId, branchName)
+                .filter(this::isDeploymentVisibleToStaleReads);
+
+        final Mono<User> userMono = sessionUserService
+                .getCurrentUser()
+                .flatMap(user -> userService.findByEmail(user.getEmail()).defaultIfEmpty(user));
+
+        final Mono<String> userDataFingerprintMono = userDataService
+                .getForCurrentUser()
+                .map(userData -> new StringBuilder()
+                        .append(userData.getUseCase())
+                        .append('|')
+                        .append(userData.getProfilePhotoAssetId())
+                        .append('|')
+                        .append(userData.isIntercomConsentGiven())
+                        .toString())
+                .defaultIfEmpty("");
+
+        final Mono<Set<String>> permissionGroupIdsMono =
+                permissionGroupService.getSessionUserPermissionGroupIds().defaultIfEmpty(Set.of());
+
+        final Mono<String> productAlertFingerprintMono = productAlertService
+                .getSingleApplicableMessage()
+                .map(messages -> messages.isEmpty() ? "" : messages.get(0).toString())
+                .defaultIfEmpty("");
+
+        return Mono.zip(
+                        applicationMono,
+                        userMono,
+                        userDataFingerprintMono,
+                        permissionGroupIdsMono,
+                        userDataService.getFeatureFlagsForCurrentUser().defaultIfEmpty(Map.of()),
+                        tenantService.getDefaultTenant(),
+                        userService.isUsersEmpty(),
+                        productAlertFingerprintMono)
+                .map(tuple -> {
+                    final Application application = tuple.getT1();
+                    final User user = tuple.getT2();
+                    final Tenant tenant = tuple.getT6();
+                    final Set<String> workspaceIds = user.getWorkspaceIds() == null ? Set.of() : user.getWorkspaceIds();
+
+                    final StringBuilder fingerprint = new StringBuilder()
+                            .append(projectProperties.getVersion())
+                            .append('|')
+                            .append(projectProperties.getCommitSha())
+                            .append('|')
+                            .append(defaultPageId)
+                            .append('|')
+                            .append(branchName)
+                            .append('|')
+                            .append(application.getId())
+                            .append('|')
+                            .append(application.getLastDeployedAt())
+                            .append('|')
+                            .append(user.getId())
+                            .append('|')
+                            .append(user.getEmail())
+                            .append('|')
+                            .append(user.getUsername())
+                            .append('|')
+                            .append(user.getName())
+                            .append('|')
+                            .append(user.getGender())
+                            .append('|')
+                            .append(user.isAnonymous())
+                            .append('|')
+                            .append(user.isEnabled())
+                            .append('|')
+                            .append(new TreeSet<>(workspaceIds))
+                            .append('|')
+                            .append(tuple.getT3())
+                            .append('|')
+                            .append(new TreeSet<>(tuple.getT4()))
+                            .append('|')
+                            .append(new TreeMap<>(tuple.getT5()))
+                            .append('|')
+                            .append(tenant.getUpdatedAt())
+                            .append('|')
+                            .append(tuple.getT7())
+                            .append('|')
+                            .append(tuple.getT8());
+
+                    return DigestUtils.sha256Hex(fingerprint.toString().getBytes(StandardCharsets.UTF_8));
+                });
+    }
+
+    @Override
+    public Mono<Void> markApplicationRecentlyAccessed(String defaultPageId, String applicationId, String branchName) {
+        if (isBlank(defaultPageId) && isBlank(applicationId)) {
+            return Mono.empty();
+        }
+        return markApplicationRecentlyAccessed(getPublishedApplication(defaultPageId, applicationId, branchName));
+    }
+
+    private Mono<Application> getPublishedApplication(String defaultPageId, String applicationId, String branchName) {
+        final Mono<String> applicationIdMono = isBlank(applicationId)
+                ? newPageService.findRootApplicationIdFromNewPage(branchName, defaultPageId)
+                : Mono.just(applicationId);
+        return applicationIdMono.flatMap(
+                defaultApplicationId -> applicationService.findByDefaultIdBranchNameAndApplicationMode(
+                        defaultApplicationId, branchName, ApplicationMode.PUBLISHED));
     }
 
     private boolean isPossibleToCreateQueryWithoutDatasource(Plugin plugin) {
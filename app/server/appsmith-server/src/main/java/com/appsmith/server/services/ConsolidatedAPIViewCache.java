@@ -0,0 +1,178 @@
+package com.appsmith.server.services;
+
+import com.appsmith.external.views.Views;
+import com.appsmith.server.configurations.ConsolidatedAPIConfig;
+import com.appsmith.server.configurations.ProjectProperties;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.dtos.ResponseDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Cache for the sections of the view mode consolidated API response that only depend on the deployed application,
+ * like its pages, published actions and themes. These sections are only computed once per deployment, and are then
+ * spliced into the response of every later page load as already serialized JSON.
+ * <p>
+ * The published resources are filtered by what the viewer has access to, so entries are keyed by the viewer's
+ * permission groups along with the deployment. All anonymous viewers, and all viewers with the same roles, share an
+ * entry. When enabled, Redis acts as a second tier shared between all the nodes of the instance.
+ * <p>
+ * Changes to the policies of the pages and actions that don't move the viewer to other permission groups, like
+ * editing a role, don't change the key either. Such changes are only seen once the entry expires, which is why entries
+ * are short-lived.
+ */
+@Slf4j
+@Component
+public class ConsolidatedAPIViewCache {
+
+    private static final String REDIS_KEY_PREFIX = "consolidatedApiView:";
+    private static final String METRIC_NAME = "appsmith.consolidated.api.view.cache";
+
+    private final ReactiveRedisOperations<String, String> redisOperations;
+    private final ConsolidatedAPIConfig consolidatedAPIConfig;
+    private final ProjectProperties projectProperties;
+    private final ObjectWriter objectWriter;
+
+    private final Cache<String, Map<String, String>> localCache;
+
+    private final Counter localHitCounter;
+    private final Counter redisHitCounter;
+    private final Counter missCounter;
+
+    public ConsolidatedAPIViewCache(
+            ReactiveRedisOperations<String, String> redisOperations,
+            ConsolidatedAPIConfig consolidatedAPIConfig,
+            ProjectProperties projectProperties,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+        this.redisOperations = redisOperations;
+        this.consolidatedAPIConfig = consolidatedAPIConfig;
+        this.projectProperties = projectProperties;
+        // Sections are stored exactly as they are sent to the client
+        this.objectWriter = objectMapper.writerWithView(Views.Public.class);
+
+        this.localCache = CacheBuilder.newBuilder()
+                .maximumWeight(consolidatedAPIConfig.getViewCacheMaxSizeInMb() * 1024 * 1024)
+                .weigher((String key, Map<String, String> sections) ->
+                        sections.values().stream().mapToInt(String::length).sum())
+                .expireAfterWrite(Duration.ofMinutes(consolidatedAPIConfig.getViewCacheTtlInMinutes()))
+                .build();
+
+        this.localHitCounter = meterRegistry.counter(METRIC_NAME, "result", "hit", "tier", "local");
+        this.redisHitCounter = meterRegistry.counter(METRIC_NAME, "result", "hit", "tier", "redis");
+        this.missCounter = meterRegistry.counter(METRIC_NAME, "result", "miss", "tier", "none");
+    }
+
+    public boolean isEnabled() {
+        return consolidatedAPIConfig.isViewCacheEnabled();
+    }
+
+    /**
+     * Computes the key for a page load. Deploying the application again, or upgrading the server, which may change how
+     * the DSL is migrated, leads to a new key.
+     *
+     * @return the key, or null if the application hasn't been deployed
+     */
+    public String getKey(Application application, String defaultPageId, Set<String> permissionGroupIds) {
+        if (application.getId() == null || application.getLastDeployedAt() == null) {
+            return null;
+        }
+
+        final String key = new StringBuilder()
+                .append(projectProperties.getVersion())
+                .append('\u0000')
+                .append(projectProperties.getCommitSha())
+                .append('\u0000')
+                .append(application.getId())
+                .append('\u0000')
+                .append(application.getLastDeployedAt())
+                .append('\u0000')
+                .append(defaultPageId)
+                .append('\u0000')
+                .append(new TreeSet<>(permissionGroupIds))
+                .toString();
+
+        return DigestUtils.sha256Hex(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the cached sections for the key, as a map of section name to its JSON, else empty.
+     */
+    public Mono<Map<String, String>> get(String key) {
+        final Map<String, String> sections = localCache.getIfPresent(key);
+        if (sections != null) {
+            localHitCounter.increment();
+            return Mono.just(sections);
+        }
+
+        if (!consolidatedAPIConfig.isViewCacheRedisEnabled()) {
+            missCounter.increment();
+            return Mono.empty();
+        }
+
+        return redisOperations
+                .<String, String>opsForHash()
+                .entries(REDIS_KEY_PREFIX + key)
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .filter(redisSections -> !redisSections.isEmpty())
+                .doOnNext(redisSections -> {
+                    localCache.put(key, redisSections);
+                    redisHitCounter.increment();
+                })
+                .onErrorResume(error -> {
+                    log.warn("Unable to read consolidated API view sections from redis", error);
+                    return Mono.empty();
+                })
+                .switchIfEmpty(Mono.fromRunnable(missCounter::increment));
+    }
+
+    /**
+     * Serializes and stores the sections against the key.
+     */
+    public Mono<Void> put(String key, Map<String, ResponseDTO<?>> sections) {
+        final Map<String, String> serializedSections = new HashMap<>();
+        try {
+            for (Map.Entry<String, ResponseDTO<?>> section : sections.entrySet()) {
+                serializedSections.put(section.getKey(), objectWriter.writeValueAsString(section.getValue()));
+            }
+        } catch (JsonProcessingException e) {
+            log.debug("Unable to serialize consolidated API view sections for caching", e);
+            return Mono.empty();
+        }
+
+        localCache.put(key, serializedSections);
+
+        if (!consolidatedAPIConfig.isViewCacheRedisEnabled()) {
+            return Mono.empty();
+        }
+
+        final String redisKey = REDIS_KEY_PREFIX + key;
+        return redisOperations
+                .<String, String>opsForHash()
+                .putAll(redisKey, serializedSections)
+                .then(redisOperations.expire(
+                        redisKey, Duration.ofMinutes(consolidatedAPIConfig.getViewCacheTtlInMinutes())))
+                .onErrorResume(error -> {
+                    log.warn("Unable to write consolidated API view sections to redis", error);
+                    return Mono.just(false);
+                })
+                .then();
+    }
+}
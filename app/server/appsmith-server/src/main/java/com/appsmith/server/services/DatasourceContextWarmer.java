@@ -0,0 +1,152 @@
+package com.appsmith.server.services;
+
+import com.appsmith.external.dtos.DslExecutableDTO;
+import com.appsmith.external.models.DatasourceStorage;
+import com.appsmith.external.models.PluginType;
+import com.appsmith.server.configurations.DatasourceContextConfig;
+import com.appsmith.server.datasources.base.DatasourceService;
+import com.appsmith.server.datasourcestorages.base.DatasourceStorageService;
+import com.appsmith.server.domains.Layout;
+import com.appsmith.server.domains.NewAction;
+import com.appsmith.server.domains.NewPage;
+import com.appsmith.server.domains.Plugin;
+import com.appsmith.server.plugins.base.PluginService;
+import com.appsmith.server.repositories.ApplicationRepository;
+import com.appsmith.server.repositories.NewActionRepository;
+import com.appsmith.server.repositories.NewPageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.CollectionUtils;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Creates the datasource contexts needed by the on page load actions of published applications ahead of time, so that
+ * the first viewer of a page doesn't wait for connections and connection pools to be set up.
+ * <p>
+ * Contexts are created for an application when it's published, and for the most recently deployed applications when
+ * the server starts. Warming up never fails the caller, a datasource that can't be connected to is skipped.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DatasourceContextWarmer implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final String ON_LOAD_ACTIONS_FIELD =
+            NewPage.Fields.publishedPage_layouts + "." + Layout.Fields.layoutOnLoadActions;
+
+    private final DatasourceContextConfig datasourceContextConfig;
+    private final ApplicationRepository applicationRepository;
+    private final NewPageRepository newPageRepository;
+    private final NewActionRepository newActionRepository;
+    private final DatasourceService datasourceService;
+    private final DatasourceStorageService datasourceStorageService;
+    private final PluginService pluginService;
+    private final AuthenticationValidator authenticationValidator;
+    private final DatasourceContextService datasourceContextService;
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent applicationReadyEvent) {
+        if (!datasourceContextConfig.isWarmUpEnabled() || datasourceContextConfig.getWarmUpApplicationCount() <= 0) {
+            return;
+        }
+
+        applicationRepository
+                .findIdsOfRecentlyDeployedApplications(datasourceContextConfig.getWarmUpApplicationCount())
+                .collectList()
+                .flatMap(this::warmUp)
+                .subscribe(
+                        count -> log.info("Created {} datasource contexts for recently deployed applications", count),
+                        error -> log.error("Error while warming up datasource contexts on startup", error));
+    }
+
+    /**
+     * Creates the datasource contexts for the on page load actions of the given application in the background.
+     */
+    public void warmUpInBackground(String applicationId) {
+        if (!datasourceContextConfig.isWarmUpEnabled()) {
+            return;
+        }
+
+        warmUp(List.of(applicationId))
+                .subscribe(
+                        count -> log.debug("Created {} datasource contexts for application {}", count, applicationId),
+                        error -> log.error(
+                                "Error while warming up datasource contexts for application {}", applicationId, error));
+    }
+
+    /**
+     * Creates the datasource contexts for the published on page load actions of the given applications.
+     *
+     * @return the number of datasources for which a context is available
+     */
+    Mono<Long> warmUp(List<String> applicationIds) {
+        if (applicationIds.isEmpty()) {
+            return Mono.just(0L);
+        }
+
+        return newPageRepository
+                .findAllByApplicationIdsWithoutPermission(applicationIds, List.of(ON_LOAD_ACTIONS_FIELD))
+                .flatMapIterable(DatasourceContextWarmer::getOnLoadActionIds)
+                .collect(Collectors.toSet())
+                .filter(actionIds -> !actionIds.isEmpty())
+                .flatMapMany(newActionRepository::findAllByIdIn)
+                .mapNotNull(NewAction::getPublishedAction)
+                .filter(action -> action.getDatasource() != null)
+                // Embedded datasources don't have a context that outlives the execution
+                .mapNotNull(action -> action.getDatasource().getId())
+                .distinct()
+                .flatMap(this::warmUpDatasource, Math.max(1, datasourceContextConfig.getWarmUpConcurrency()))
+                .count();
+    }
+
+    private static Set<String> getOnLoadActionIds(NewPage page) {
+        if (page.getPublishedPage() == null
+                || CollectionUtils.isEmpty(page.getPublishedPage().getLayouts())) {
+            return Set.of();
+        }
+
+        return page.getPublishedPage().getLayouts().stream()
+                .map(Layout::getLayoutOnLoadActions)
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .flatMap(Set::stream)
+                .filter(executable -> executable.getPluginType() != PluginType.JS)
+                .map(DslExecutableDTO::getId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+
+    private Mono<Boolean> warmUpDatasource(String datasourceId) {
+        return datasourceService
+                .findById(datasourceId)
+                .flatMap(datasource -> datasourceService
+                        .getTrueEnvironmentId(datasource.getWorkspaceId(), null, datasource.getPluginId(), null)
+                        .flatMap(environmentId -> datasourceStorageService.findByDatasourceAndEnvironmentIdForExecution(
+                                datasource, environmentId)))
+                .filter(datasourceStorage -> CollectionUtils.isEmpty(datasourceStorage.getInvalids()))
+                .zipWhen(datasourceStorage -> pluginService.findById(datasourceStorage.getPluginId()))
+                // Remote plugins don't hold any connections on this server
+                .filter(tuple -> !tuple.getT2().isRemotePlugin())
+                .flatMap(tuple -> {
+                    final DatasourceStorage datasourceStorage = tuple.getT1();
+                    final Plugin plugin = tuple.getT2();
+                    return authenticationValidator
+                            .validateAuthentication(datasourceStorage)
+                            .flatMap(validatedStorage ->
+                                    datasourceContextService.getDatasourceContext(validatedStorage, plugin));
+                })
+                .map(datasourceContext -> true)
+                .onErrorResume(error -> {
+                    log.debug("Unable to warm up datasource context for datasource {}", datasourceId, error);
+                    return Mono.empty();
+                });
+    }
+}
@@ -0,0 +1,5 @@
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.IndexAdvisorServiceCE;
+
+public interface IndexAdvisorService extends IndexAdvisorServiceCE {}
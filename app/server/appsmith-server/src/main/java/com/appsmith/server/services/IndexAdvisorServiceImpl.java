@@ -0,0 +1,20 @@
+package com.appsmith.server.services;
+
+import com.appsmith.server.configurations.MongoCommandMetricsConfig;
+import com.appsmith.server.configurations.mongo.QueryShapeRegistry;
+import com.appsmith.server.helpers.UserUtils;
+import com.appsmith.server.services.ce.IndexAdvisorServiceCEImpl;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.stereotype.Service;
+
+@Service
+public class IndexAdvisorServiceImpl extends IndexAdvisorServiceCEImpl implements IndexAdvisorService {
+
+    public IndexAdvisorServiceImpl(
+            ReactiveMongoOperations mongoOperations,
+            QueryShapeRegistry queryShapeRegistry,
+            MongoCommandMetricsConfig mongoCommandMetricsConfig,
+            UserUtils userUtils) {
+        super(mongoOperations, queryShapeRegistry, mongoCommandMetricsConfig, userUtils);
+    }
+}
@@ -1,5 +1,6 @@
 package com.appsmith.server.services;
 
+import com.appsmith.server.helpers.UserSessionIndex;
 import com.appsmith.server.repositories.UserRepository;
 import com.appsmith.server.services.ce.SessionUserServiceCEImpl;
 import lombok.extern.slf4j.Slf4j;
@@ -11,8 +12,10 @@ import org.springframework.stereotype.Service;
 public class SessionUserServiceImpl extends SessionUserServiceCEImpl implements SessionUserService {
 
     public SessionUserServiceImpl(
-            UserRepository userRepository, ReactiveRedisOperations<String, Object> redisOperations) {
+            UserRepository userRepository,
+            ReactiveRedisOperations<String, Object> redisOperations,
+            UserSessionIndex userSessionIndex) {
 
-        super(userRepository, redisOperations);
+        super(userRepository, redisOperations, userSessionIndex);
     }
 }
@@ -53,6 +53,7 @@ import com.appsmith.server.repositories.NewActionRepository;
 import com.appsmith.server.repositories.NewPageRepository;
 import com.appsmith.server.repositories.WorkspaceRepository;
 import com.appsmith.server.services.AnalyticsService;
+import com.appsmith.server.services.DatasourceContextWarmer;
 import com.appsmith.server.services.LayoutActionService;
 import com.appsmith.server.services.PermissionGroupService;
 import com.appsmith.server.services.SessionUserService;
@@ -131,6 +132,7 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
     private final AutoCommitEligibilityHelper autoCommitEligibilityHelper;
     private final ClonePageService<NewAction> actionClonePageService;
     private final ClonePageService<ActionCollection> actionCollectionClonePageService;
+    private final DatasourceContextWarmer datasourceContextWarmer;
 
     public static final Integer EVALUATION_VERSION = 2;
 
@@ -1160,7 +1162,9 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
                     log.debug(
                             "Published application {} in {} ms", objects.getT2().getId(), objects.getT1());
                     return objects.getT2();
-                });
+                })
+                // Connect to the datasources of the on page load actions before the first viewer opens the app
+                .doOnNext(application -> datasourceContextWarmer.warmUpInBackground(application.getId()));
     }
 
     protected Mono<Tuple2<Mono<Application>, ApplicationPublishingMetaDTO>> publishAndGetMetadata(
@@ -31,4 +31,21 @@ public interface DatasourceContextServiceCE {
     Mono<DatasourceContext<?>> deleteDatasourceContext(DatasourceStorage datasourceStorage);
 
     DatasourceContextIdentifier initializeDatasourceContextIdentifier(DatasourceStorage datasourceStorage);
+
+    /**
+     * Tears down the datasource contexts that have been idle for longer than the configured idle timeout, and the
+     * least recently used ones beyond the configured maximum count.
+     *
+     * @return the number of contexts that were evicted
+     */
+    Mono<Long> evictDatasourceContexts();
+
+    /**
+     * Tests the connection of each cached datasource context that is not busy, tears down the ones that are broken and
+     * creates them again, so that requests don't have to find out about a stale connection and retry with a fresh one.
+     * Does nothing while a previous run is still going.
+     *
+     * @return the number of contexts that were found broken
+     */
+    Mono<Long> validateDatasourceContexts();
 }
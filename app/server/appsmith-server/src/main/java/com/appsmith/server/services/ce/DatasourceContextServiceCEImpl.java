@@ -5,9 +5,11 @@ import com.appsmith.external.dtos.ExecutePluginDTO;
 import com.appsmith.external.dtos.RemoteDatasourceDTO;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.models.ConnectionPoolMetrics;
 import com.appsmith.external.models.DatasourceStorage;
 import com.appsmith.external.models.UpdatableConnection;
 import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.server.configurations.DatasourceContextConfig;
 import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.datasources.base.DatasourceService;
 import com.appsmith.server.datasourcestorages.base.DatasourceStorageService;
@@ -20,16 +22,32 @@ import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.plugins.base.PluginService;
 import com.appsmith.server.services.ConfigService;
 import com.appsmith.server.solutions.DatasourcePermission;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.util.CollectionUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
+import java.sql.SQLTransientException;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
+import java.util.function.IntSupplier;
 
 @Slf4j
 public class DatasourceContextServiceCEImpl implements DatasourceContextServiceCE {
@@ -38,12 +56,28 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
     protected final Map<DatasourceContextIdentifier, Mono<DatasourceContext<Object>>> datasourceContextMonoMap;
     protected final Map<DatasourceContextIdentifier, Object> datasourceContextSynchronizationMonitorMap;
     protected final Map<DatasourceContextIdentifier, DatasourceContext<?>> datasourceContextMap;
+    // Gauges that report on the connection pool of each cached context, removed along with the context
+    protected final Map<DatasourceContextIdentifier, List<Meter>> connectionPoolMetersMap;
+    // The connection pool of each cached context, read to skip the validation of busy pools
+    protected final Map<DatasourceContextIdentifier, ConnectionPoolMetrics> connectionPoolMetricsMap;
     private final DatasourceService datasourceService;
     private final DatasourceStorageService datasourceStorageService;
     private final PluginService pluginService;
     private final PluginExecutorHelper pluginExecutorHelper;
     private final ConfigService configService;
     private final DatasourcePermission datasourcePermission;
+    private final DatasourceContextConfig datasourceContextConfig;
+    private final MeterRegistry meterRegistry;
+
+    private final Counter idleEvictionCounter;
+    private final Counter sizeEvictionCounter;
+    private final Counter validContextCounter;
+    private final Counter brokenContextCounter;
+    private final Counter inconclusiveContextCounter;
+    private final Counter skippedContextCounter;
+
+    // Set while the cached contexts are being validated, so that a run doesn't start before the previous one is done
+    private final AtomicBoolean validationInProgress = new AtomicBoolean(false);
 
     private final AppsmithException TOO_MANY_REQUESTS_EXCEPTION =
             new AppsmithException(AppsmithError.TOO_MANY_FAILED_DATASOURCE_CONNECTION_REQUESTS);
@@ -55,7 +89,9 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
             PluginService pluginService,
             PluginExecutorHelper pluginExecutorHelper,
             ConfigService configService,
-            DatasourcePermission datasourcePermission) {
+            DatasourcePermission datasourcePermission,
+            DatasourceContextConfig datasourceContextConfig,
+            MeterRegistry meterRegistry) {
         this.datasourceService = datasourceService;
         this.datasourceStorageService = datasourceStorageService;
         this.pluginService = pluginService;
@@ -65,6 +101,21 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
         this.datasourceContextSynchronizationMonitorMap = new ConcurrentHashMap<>();
         this.configService = configService;
         this.datasourcePermission = datasourcePermission;
+        this.datasourceContextConfig = datasourceContextConfig;
+        this.meterRegistry = meterRegistry;
+        this.connectionPoolMetersMap = new ConcurrentHashMap<>();
+        this.connectionPoolMetricsMap = new ConcurrentHashMap<>();
+
+        meterRegistry.gaugeMapSize("appsmith.datasource.context.count", Tags.empty(), datasourceContextMap);
+        this.idleEvictionCounter = meterRegistry.counter("appsmith.datasource.context.evictions", "cause", "idle");
+        this.sizeEvictionCounter = meterRegistry.counter("appsmith.datasource.context.evictions", "cause", "size");
+        this.validContextCounter = meterRegistry.counter("appsmith.datasource.context.validations", "result", "valid");
+        this.brokenContextCounter =
+                meterRegistry.counter("appsmith.datasource.context.validations", "result", "broken");
+        this.inconclusiveContextCounter =
+                meterRegistry.counter("appsmith.datasource.context.validations", "result", "inconclusive");
+        this.skippedContextCounter =
+                meterRegistry.counter("appsmith.datasource.context.validations", "result", "skipped");
     }
 
     /**
@@ -115,6 +166,7 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
                             }
                             datasourceContextMonoMap.remove(datasourceContextIdentifier);
                             datasourceContextMap.remove(datasourceContextIdentifier);
+                            removeConnectionPoolMetrics(datasourceContextIdentifier);
                         }
 
                         /*
@@ -134,10 +186,19 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
 
                         /* Create a fresh datasource context */
                         DatasourceContext<Object> datasourceContext = new DatasourceContext<>();
-                        if (datasourceContextIdentifier.isKeyValid() && shouldCacheContextForThisPlugin(plugin)) {
+                        datasourceContext.setPluginId(plugin.getId());
+                        datasourceContext.setCreating(true);
+                        final boolean isContextCached =
+                                datasourceContextIdentifier.isKeyValid() && shouldCacheContextForThisPlugin(plugin);
+                        if (isContextCached) {
                             /* For this datasource, either the context doesn't exist, or the context is stale. Replace (or add) with
                             the new connection in the context map. */
                             datasourceContextMap.put(datasourceContextIdentifier, datasourceContext);
+
+                            if (datasourceContextMap.size() > datasourceContextConfig.getMaxSize()) {
+                                // Don't wait for the next scheduled run to bring the count back within the limit
+                                evictDatasourceContexts().subscribe();
+                            }
                         }
 
                         Mono<Object> connectionMonoCache = pluginExecutor
@@ -151,15 +212,20 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
                                     /* When a connection object exists and makes sense for the plugin, we put it in the
                                     context. Example, DB plugins. */
                                     datasourceContext.setConnection(connection);
+                                    if (isContextCached) {
+                                        registerConnectionPoolMetrics(
+                                                datasourceContextIdentifier, plugin, pluginExecutor, connection);
+                                    }
                                     return datasourceContext;
                                 })
                                 .defaultIfEmpty(
                                         /* When a connection object doesn't make sense for the plugin, we get an empty mono
                                         and we just return the context object as is. */
                                         datasourceContext)
+                                .doFinally(signalType -> datasourceContext.setCreating(false))
                                 .cache(); /* Cache the value so that further evaluations don't result in new connections */
 
-                        if (datasourceContextIdentifier.isKeyValid() && shouldCacheContextForThisPlugin(plugin)) {
+                        if (isContextCached) {
                             datasourceContextMonoMap.put(datasourceContextIdentifier, datasourceContextMonoCache);
                         }
                         log.debug(
@@ -308,7 +374,9 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
         } else {
             if (isValidDatasourceContextAvailable(datasourceStorage, datasourceContextIdentifier)) {
                 log.debug("Resource context exists. Returning the same.");
-                return Mono.just(datasourceContextMap.get(datasourceContextIdentifier));
+                DatasourceContext<?> datasourceContext = datasourceContextMap.get(datasourceContextIdentifier);
+                datasourceContext.markAccessed();
+                return Mono.just(datasourceContext);
             }
         }
 
@@ -366,7 +434,11 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
         final Mono<T> taskRunnerMono = Mono.justOrEmpty(datasourceStorage)
                 .flatMap(this::getDatasourceContext)
                 // Now that we have the context (connection details), call the task.
-                .flatMap(task);
+                .flatMap(datasourceContext -> Mono.defer(() -> {
+                            datasourceContext.markInUse();
+                            return task.apply(datasourceContext);
+                        })
+                        .doFinally(signalType -> datasourceContext.markNotInUse()));
 
         return taskRunnerMono.onErrorResume(StaleConnectionException.class, error -> {
             log.info("Looks like the connection is stale. Retrying with a fresh context.");
@@ -399,6 +471,7 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
                     log.info("Clearing datasource context for datasource storage ID {}.", datasourceStorage.getId());
                     pluginExecutor.datasourceDestroy(datasourceContext.getConnection());
                     datasourceContextMonoMap.remove(datasourceContextIdentifier);
+                    removeConnectionPoolMetrics(datasourceContextIdentifier);
 
                     if (!datasourceContextMap.containsKey(datasourceContextIdentifier)) {
                         log.info(
@@ -411,6 +484,324 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
                 });
     }
 
+    @Override
+    public Mono<Long> evictDatasourceContexts() {
+        return Mono.fromCallable(this::removeEvictableDatasourceContexts)
+                .flatMapMany(Flux::fromIterable)
+                .flatMap(this::destroyEvictedDatasourceContext)
+                .count()
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Removes the contexts that have been idle for longer than the idle timeout from the context maps, and after that
+     * the least recently used ones that are beyond the maximum count.
+     *
+     * @return the removed contexts, whose connections are yet to be destroyed
+     */
+    private List<DatasourceContext<?>> removeEvictableDatasourceContexts() {
+        final Instant idleCutoff =
+                Instant.now().minus(Duration.ofMinutes(datasourceContextConfig.getIdleTimeoutInMinutes()));
+        final List<DatasourceContext<?>> evictedContexts = new ArrayList<>();
+        final List<Map.Entry<DatasourceContextIdentifier, DatasourceContext<?>>> remainingEntries = new ArrayList<>();
+        int inUseCount = 0;
+
+        for (Map.Entry<DatasourceContextIdentifier, DatasourceContext<?>> entry : datasourceContextMap.entrySet()) {
+            if (isInUse(entry.getValue())) {
+                // Counts towards the maximum, but is left for a later run to evict
+                inUseCount++;
+                continue;
+            }
+            if (entry.getValue().getLastAccessedTime().isBefore(idleCutoff)) {
+                if (removeDatasourceContext(entry.getKey(), entry.getValue())) {
+                    evictedContexts.add(entry.getValue());
+                    idleEvictionCounter.increment();
+                }
+            } else {
+                remainingEntries.add(entry);
+            }
+        }
+
+        final int excess = remainingEntries.size() + inUseCount - datasourceContextConfig.getMaxSize();
+        if (excess > 0) {
+            remainingEntries.stream()
+                    .sorted(Comparator.comparing(entry -> entry.getValue().getLastAccessedTime()))
+                    .limit(excess)
+                    .forEach(entry -> {
+                        if (removeDatasourceContext(entry.getKey(), entry.getValue())) {
+                            evictedContexts.add(entry.getValue());
+                            sizeEvictionCounter.increment();
+                        }
+                    });
+        }
+
+        if (!evictedContexts.isEmpty()) {
+            log.info("Evicting {} datasource contexts", evictedContexts.size());
+        }
+        return evictedContexts;
+    }
+
+    /**
+     * Removes the context from both the context maps, unless it has been replaced in the meantime or is in use. The
+     * monitor of the identifier is held so that this does not interleave with the creation of a context for the same
+     * identifier. The monitor itself is kept, since a thread may already be waiting on it.
+     */
+    private boolean removeDatasourceContext(
+            DatasourceContextIdentifier datasourceContextIdentifier, DatasourceContext<?> datasourceContext) {
+        final Object monitor = datasourceContextSynchronizationMonitorMap.computeIfAbsent(
+                datasourceContextIdentifier, k -> new Object());
+        synchronized (monitor) {
+            if (isInUse(datasourceContext)
+                    || !datasourceContextMap.remove(datasourceContextIdentifier, datasourceContext)) {
+                return false;
+            }
+            datasourceContextMonoMap.remove(datasourceContextIdentifier);
+            removeConnectionPoolMetrics(datasourceContextIdentifier);
+            return true;
+        }
+    }
+
+    /**
+     * A context is in use while executions are running on its connection, and while its connection is still being
+     * created. The connection that's being created is about to be used by whoever asked for it, and it would be left
+     * without anyone to destroy it if the context was removed before it is set.
+     */
+    private boolean isInUse(DatasourceContext<?> datasourceContext) {
+        return datasourceContext.isInUse() || datasourceContext.isCreating();
+    }
+
+    private Mono<Boolean> destroyEvictedDatasourceContext(DatasourceContext<?> datasourceContext) {
+        if (datasourceContext.getConnection() == null || datasourceContext.getPluginId() == null) {
+            return Mono.just(false);
+        }
+
+        return pluginExecutorHelper
+                .getPluginExecutorFromPluginId(datasourceContext.getPluginId())
+                .map(pluginExecutor -> {
+                    ((PluginExecutor<Object>) pluginExecutor).datasourceDestroy(datasourceContext.getConnection());
+                    return true;
+                })
+                .onErrorResume(error -> {
+                    log.warn("Error destroying evicted datasource context", error);
+                    return Mono.just(false);
+                });
+    }
+
+    @Override
+    public Mono<Long> validateDatasourceContexts() {
+        if (!datasourceContextConfig.isValidationEnabled()) {
+            return Mono.just(0L);
+        }
+
+        return Mono.defer(() -> {
+            if (!validationInProgress.compareAndSet(false, true)) {
+                log.debug("Skipping the validation of datasource contexts, as the previous one is still running");
+                return Mono.just(0L);
+            }
+            return validateAllDatasourceContexts().doFinally(signalType -> validationInProgress.set(false));
+        });
+    }
+
+    private Mono<Long> validateAllDatasourceContexts() {
+        final long jitterInMillis = Duration.ofSeconds(datasourceContextConfig.getValidationJitterInSeconds())
+                .toMillis();
+        final List<Map.Entry<DatasourceContextIdentifier, DatasourceContext<?>>> entries =
+                new ArrayList<>(datasourceContextMap.entrySet());
+        return Flux.fromIterable(entries)
+                // Each context waits for its own offset before it takes one of the limited slots, so that the waits
+                // all run side by side instead of holding up the tests
+                .flatMap(
+                        entry -> Mono.delay(Duration.ofMillis(
+                                        ThreadLocalRandom.current().nextLong(jitterInMillis + 1)))
+                                .thenReturn(entry),
+                        Math.max(1, entries.size()))
+                .filter(entry -> entry.getValue().getConnection() != null
+                        && entry.getValue().getPluginId() != null)
+                .filter(entry -> {
+                    if (isBusy(entry.getKey(), entry.getValue())) {
+                        skippedContextCounter.increment();
+                        return false;
+                    }
+                    return true;
+                })
+                .flatMap(
+                        entry -> validateDatasourceContext(entry.getKey(), entry.getValue()),
+                        Math.max(1, datasourceContextConfig.getValidationConcurrency()))
+                .filter(isValid -> !isValid)
+                .count()
+                .doOnNext(count -> {
+                    if (count > 0) {
+                        log.info("Found {} broken datasource contexts", count);
+                    }
+                });
+    }
+
+    /**
+     * A context is busy while executions are running on it, or while its connection pool has no idle connection to
+     * spare. Testing a busy context would compete with the executions for a connection, and is likely to time out.
+     */
+    private boolean isBusy(
+            DatasourceContextIdentifier datasourceContextIdentifier, DatasourceContext<?> datasourceContext) {
+        if (isInUse(datasourceContext)) {
+            return true;
+        }
+
+        final ConnectionPoolMetrics connectionPoolMetrics = connectionPoolMetricsMap.get(datasourceContextIdentifier);
+        if (connectionPoolMetrics == null) {
+            return false;
+        }
+        try {
+            return (connectionPoolMetrics.getIdleConnections() != null
+                            && connectionPoolMetrics.getIdleConnections().getAsInt() == 0)
+                    || (connectionPoolMetrics.getPendingConnections() != null
+                            && connectionPoolMetrics.getPendingConnections().getAsInt() > 0);
+        } catch (Exception e) {
+            // The pool may not be started yet, in which case the test starts it
+            return false;
+        }
+    }
+
+    /**
+     * Tells whether a test that errored out says nothing about the connection itself. A test that timed out or could
+     * not get a connection from an exhausted pool is inconclusive, the connection may well be serving slow queries.
+     */
+    private static boolean isInconclusive(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TimeoutException || cause instanceof SQLTransientException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Tests the connection of the context with the plugin. A context whose test fails or errors out is removed, its
+     * connection destroyed, and a new context is created for the same datasource and environment. A context whose
+     * test is inconclusive is left as it is, to be tested again on the next run.
+     *
+     * @return whether the context was found to be valid, or could not be found to be broken
+     */
+    private Mono<Boolean> validateDatasourceContext(
+            DatasourceContextIdentifier datasourceContextIdentifier, DatasourceContext<?> datasourceContext) {
+        return pluginExecutorHelper
+                .getPluginExecutorFromPluginId(datasourceContext.getPluginId())
+                .flatMap(pluginExecutor ->
+                        ((PluginExecutor<Object>) pluginExecutor).testDatasource(datasourceContext.getConnection()))
+                .timeout(Duration.ofSeconds(datasourceContextConfig.getValidationTimeoutInSeconds()))
+                .map(datasourceTestResult -> CollectionUtils.isEmpty(datasourceTestResult.getInvalids()))
+                .onErrorResume(error -> {
+                    if (isInconclusive(error)) {
+                        log.debug(
+                                "Inconclusive test of the datasource context for datasource {}",
+                                datasourceContextIdentifier.getDatasourceId(),
+                                error);
+                        inconclusiveContextCounter.increment();
+                        return Mono.empty();
+                    }
+                    log.debug(
+                            "Error while testing the datasource context for datasource {}",
+                            datasourceContextIdentifier.getDatasourceId(),
+                            error);
+                    return Mono.just(false);
+                })
+                .flatMap(isValid -> {
+                    if (isValid) {
+                        validContextCounter.increment();
+                        return Mono.just(true);
+                    }
+                    // The context may have been replaced or evicted while it was being tested
+                    if (!removeDatasourceContext(datasourceContextIdentifier, datasourceContext)) {
+                        return Mono.just(true);
+                    }
+                    brokenContextCounter.increment();
+                    log.info(
+                            "Datasource context for datasource {} is broken, re-creating it",
+                            datasourceContextIdentifier.getDatasourceId());
+                    return destroyEvictedDatasourceContext(datasourceContext)
+                            .then(recreateDatasourceContext(datasourceContextIdentifier))
+                            .thenReturn(false);
+                })
+                .defaultIfEmpty(true);
+    }
+
+    private Mono<Boolean> recreateDatasourceContext(DatasourceContextIdentifier datasourceContextIdentifier) {
+        return datasourceService
+                .findById(datasourceContextIdentifier.getDatasourceId())
+                .flatMap(datasource -> datasourceStorageService.findByDatasourceAndEnvironmentIdForExecution(
+                        datasource, datasourceContextIdentifier.getEnvironmentId()))
+                .filter(datasourceStorage -> CollectionUtils.isEmpty(datasourceStorage.getInvalids()))
+                .flatMap(this::getDatasourceContext)
+                .map(newDatasourceContext -> true)
+                .onErrorResume(error -> {
+                    log.debug(
+                            "Unable to re-create the datasource context for datasource {}",
+                            datasourceContextIdentifier.getDatasourceId(),
+                            error);
+                    return Mono.just(false);
+                });
+    }
+
+    /**
+     * Registers gauges for the connection pool behind the connection, if the plugin exposes one. The gauges are tagged
+     * with the plugin and the datasource, and replace the ones of a previous context for the same datasource.
+     */
+    private void registerConnectionPoolMetrics(
+            DatasourceContextIdentifier datasourceContextIdentifier,
+            Plugin plugin,
+            PluginExecutor<Object> pluginExecutor,
+            Object connection) {
+        final ConnectionPoolMetrics connectionPoolMetrics;
+        try {
+            connectionPoolMetrics = pluginExecutor.getConnectionPoolMetrics(connection);
+        } catch (Exception e) {
+            log.warn("Unable to read connection pool of plugin {}", plugin.getPackageName(), e);
+            return;
+        }
+
+        removeConnectionPoolMetrics(datasourceContextIdentifier);
+        if (connectionPoolMetrics == null) {
+            return;
+        }
+
+        final Tags tags = Tags.of(
+                "plugin", String.valueOf(plugin.getPackageName()),
+                "datasourceId", datasourceContextIdentifier.getDatasourceId(),
+                "environmentId", String.valueOf(datasourceContextIdentifier.getEnvironmentId()));
+        final List<Meter> meters = new ArrayList<>();
+        addConnectionPoolGauge(meters, "active", connectionPoolMetrics.getActiveConnections(), tags);
+        addConnectionPoolGauge(meters, "idle", connectionPoolMetrics.getIdleConnections(), tags);
+        addConnectionPoolGauge(meters, "pending", connectionPoolMetrics.getPendingConnections(), tags);
+        addConnectionPoolGauge(meters, "total", connectionPoolMetrics.getTotalConnections(), tags);
+        connectionPoolMetersMap.put(datasourceContextIdentifier, meters);
+        connectionPoolMetricsMap.put(datasourceContextIdentifier, connectionPoolMetrics);
+    }
+
+    private void addConnectionPoolGauge(List<Meter> meters, String name, IntSupplier count, Tags tags) {
+        if (count == null) {
+            return;
+        }
+
+        meters.add(Gauge.builder("appsmith.datasource.connection.pool." + name, count, supplier -> {
+                    try {
+                        return supplier.getAsInt();
+                    } catch (Exception e) {
+                        // The pool may not be started yet, or may have been closed already
+                        return Double.NaN;
+                    }
+                })
+                .tags(tags)
+                .strongReference(true)
+                .register(meterRegistry));
+    }
+
+    private void removeConnectionPoolMetrics(DatasourceContextIdentifier datasourceContextIdentifier) {
+        connectionPoolMetricsMap.remove(datasourceContextIdentifier);
+        final List<Meter> meters = connectionPoolMetersMap.remove(datasourceContextIdentifier);
+        if (meters != null) {
+            meters.forEach(meterRegistry::remove);
+        }
+    }
+
     /**
      * Provides datasource context for execution
      *
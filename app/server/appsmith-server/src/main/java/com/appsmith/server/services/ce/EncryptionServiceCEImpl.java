@@ -2,22 +2,46 @@ package com.appsmith.server.services.ce;
 
 import com.appsmith.external.services.ce.EncryptionServiceCE;
 import com.appsmith.server.configurations.EncryptionConfig;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.apache.commons.codec.binary.Hex;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.encrypt.Encryptors;
 import org.springframework.security.crypto.encrypt.TextEncryptor;
 
+import java.time.Duration;
+
 public class EncryptionServiceCEImpl implements EncryptionServiceCE {
 
     private final EncryptionConfig encryptionConfig;
 
     private TextEncryptor textEncryptor;
 
+    /*
+     * Every document with encrypted fields is decrypted each time it's read, even when the caller never looks at its
+     * secrets. A ciphertext always decrypts to the same plaintext, so the plaintexts of recently read ciphertexts are
+     * kept around for a short while. Null when the cache is turned off.
+     */
+    private final Cache<String, String> decryptedValues;
+
     @Autowired
     public EncryptionServiceCEImpl(EncryptionConfig encryptionConfig) {
+        this(
+                encryptionConfig,
+                Encryptors.delux(
+                        encryptionConfig.getPassword(),
+                        Hex.encodeHexString(encryptionConfig.getSalt().getBytes())));
+    }
+
+    EncryptionServiceCEImpl(EncryptionConfig encryptionConfig, TextEncryptor textEncryptor) {
         this.encryptionConfig = encryptionConfig;
-        String saltInHex = Hex.encodeHexString(encryptionConfig.getSalt().getBytes());
-        this.textEncryptor = Encryptors.delux(encryptionConfig.getPassword(), saltInHex);
+        this.textEncryptor = textEncryptor;
+        this.decryptedValues = encryptionConfig.getDecryptionCacheMaxSize() > 0
+                ? CacheBuilder.newBuilder()
+                        .maximumSize(encryptionConfig.getDecryptionCacheMaxSize())
+                        .expireAfterWrite(Duration.ofSeconds(encryptionConfig.getDecryptionCacheTtlInSeconds()))
+                        .build()
+                : null;
     }
 
     @Override
@@ -27,6 +51,16 @@ public class EncryptionServiceCEImpl implements EncryptionServiceCE {
 
     @Override
     public String decryptString(String encryptedText) {
-        return textEncryptor.decrypt(encryptedText);
+        if (decryptedValues == null || encryptedText == null) {
+            return textEncryptor.decrypt(encryptedText);
+        }
+
+        String decryptedText = decryptedValues.getIfPresent(encryptedText);
+        if (decryptedText == null) {
+            // Values that fail to decrypt aren't cached, so that the error is raised again on the next read
+            decryptedText = textEncryptor.decrypt(encryptedText);
+            decryptedValues.put(encryptedText, decryptedText);
+        }
+        return decryptedText;
     }
 }
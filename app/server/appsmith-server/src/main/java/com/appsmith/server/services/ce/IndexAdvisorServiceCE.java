@@ -0,0 +1,11 @@
+package com.appsmith.server.services.ce;
+
+import com.appsmith.server.dtos.QueryShapeIndexAdviceDTO;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public interface IndexAdvisorServiceCE {
+
+    Mono<List<QueryShapeIndexAdviceDTO>> getIndexAdvice();
+}
@@ -0,0 +1,136 @@
+package com.appsmith.server.services.ce;
+
+import com.appsmith.server.configurations.MongoCommandMetricsConfig;
+import com.appsmith.server.configurations.mongo.QueryShapeRegistry;
+import com.appsmith.server.configurations.mongo.QueryShapeRegistry.QueryShape;
+import com.appsmith.server.dtos.QueryShapeIndexAdviceDTO;
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.UserUtils;
+import com.mongodb.ExplainVerbosity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Checks the query shapes that the server has sent to the database so far against the indexes of their collections.
+ * A shape is considered indexed when one of the indexes of its collection leads with a field that the shape filters
+ * on. The most frequent shapes are also explained with a sample filter, to find the ones that scan whole collections.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class IndexAdvisorServiceCEImpl implements IndexAdvisorServiceCE {
+
+    private static final String COLLECTION_SCAN_STAGE = "COLLSCAN";
+
+    private final ReactiveMongoOperations mongoOperations;
+
+    private final QueryShapeRegistry queryShapeRegistry;
+
+    private final MongoCommandMetricsConfig mongoCommandMetricsConfig;
+
+    private final UserUtils userUtils;
+
+    @Override
+    public Mono<List<QueryShapeIndexAdviceDTO>> getIndexAdvice() {
+        return userUtils.isCurrentUserSuperUser().flatMap(isSuperUser -> {
+            if (!isSuperUser) {
+                return Mono.error(new AppsmithException(AppsmithError.UNAUTHORIZED_ACCESS));
+            }
+            return getIndexAdviceWithoutAclCheck();
+        });
+    }
+
+    protected Mono<List<QueryShapeIndexAdviceDTO>> getIndexAdviceWithoutAclCheck() {
+        final List<QueryShape> queryShapes = queryShapeRegistry.getQueryShapes();
+        final Set<String> collections =
+                queryShapes.stream().map(QueryShape::getCollection).collect(Collectors.toSet());
+
+        return Flux.fromIterable(collections)
+                .flatMap(collection -> getIndexKeys(collection).map(indexKeys -> Map.entry(collection, indexKeys)))
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .flatMapMany(indexKeysByCollection -> Flux.range(0, queryShapes.size())
+                        .concatMap(i -> {
+                            QueryShape queryShape = queryShapes.get(i);
+                            QueryShapeIndexAdviceDTO advice = new QueryShapeIndexAdviceDTO();
+                            advice.setCollection(queryShape.getCollection());
+                            advice.setFilterShape(queryShape.getFilterShape());
+                            advice.setRepositoryMethod(queryShape.getRepositoryMethod());
+                            advice.setCount(queryShape.getCount());
+                            advice.setIndex(findLeadingIndex(
+                                    indexKeysByCollection.getOrDefault(queryShape.getCollection(), Map.of()),
+                                    queryShape.getFields()));
+
+                            if (i >= mongoCommandMetricsConfig.getExplainSampleSize()
+                                    || queryShape.getSampleFilter() == null) {
+                                return Mono.just(advice);
+                            }
+                            return isCollectionScan(queryShape)
+                                    .doOnNext(advice::setCollectionScan)
+                                    .thenReturn(advice);
+                        }))
+                .collectList();
+    }
+
+    /**
+     * Returns the keys of each index of the collection, by the name of the index.
+     */
+    private Mono<Map<String, Document>> getIndexKeys(String collection) {
+        return mongoOperations
+                .getCollection(collection)
+                .flatMapMany(mongoCollection -> Flux.from(mongoCollection.listIndexes()))
+                .collectMap(index -> index.getString("name"), index -> index.get("key", Document.class))
+                .onErrorResume(error -> {
+                    log.warn("Unable to list the indexes of collection {}", collection, error);
+                    return Mono.just(Map.of());
+                });
+    }
+
+    private static String findLeadingIndex(Map<String, Document> indexKeys, Set<String> fields) {
+        return indexKeys.entrySet().stream()
+                .filter(index -> !index.getValue().isEmpty()
+                        && fields.contains(index.getValue().keySet().iterator().next()))
+                .map(Map.Entry::getKey)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private Mono<Boolean> isCollectionScan(QueryShape queryShape) {
+        return mongoOperations
+                .getCollection(queryShape.getCollection())
+                .flatMap(mongoCollection -> Mono.from(
+                        mongoCollection.find(queryShape.getSampleFilter()).explain(ExplainVerbosity.QUERY_PLANNER)))
+                .map(explanation -> {
+                    Object queryPlanner = explanation.get("queryPlanner");
+                    return queryPlanner instanceof Document document
+                            && containsStage(document.get("winningPlan"), COLLECTION_SCAN_STAGE);
+                })
+                .onErrorResume(error -> {
+                    log.warn(
+                            "Unable to explain query shape {} on collection {}",
+                            queryShape.getFilterShape(),
+                            queryShape.getCollection(),
+                            error);
+                    return Mono.empty();
+                });
+    }
+
+    private static boolean containsStage(Object plan, String stage) {
+        if (plan instanceof Document document) {
+            return stage.equals(document.get("stage"))
+                    || document.values().stream().anyMatch(value -> containsStage(value, stage));
+        }
+        if (plan instanceof List<?> list) {
+            return list.stream().anyMatch(value -> containsStage(value, stage));
+        }
+        return false;
+    }
+}
@@ -4,10 +4,10 @@ import com.appsmith.server.domains.User;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.helpers.CollectionUtils;
+import com.appsmith.server.helpers.UserSessionIndex;
 import com.appsmith.server.repositories.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.StringUtils;
 import org.springframework.data.redis.core.ReactiveRedisOperations;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -30,6 +30,7 @@ public class SessionUserServiceCEImpl implements SessionUserServiceCE {
 
     private final UserRepository userRepository;
     private final ReactiveRedisOperations<String, Object> redisOperations;
+    private final UserSessionIndex userSessionIndex;
 
     public static final String SPRING_SESSION_PATTERN = "spring:session:sessions:*";
     private static final String SESSION_ATTRIBUTE = "sessionAttr:";
@@ -80,20 +81,14 @@ public class SessionUserServiceCEImpl implements SessionUserServiceCE {
     }
 
     /**
-     * This method returns a list of session keys, for the given user email.
+     * This method returns a list of session keys, for the given user email. The keys are read from the index of the
+     * sessions of the user, instead of reading every session to find the ones the user is signed in to.
      * @param email The email of the user whose sessions keys should be fetched.
      * @return      A Mono of list of session keys.
      */
     @Override
     public Mono<List<String>> getSessionKeysByUserEmail(String email) {
-        // This pattern string comes from calling `ReactiveRedisSessionRepository.getSessionKey("*")` private method.
-        return getSessionKeysWithUserSessions()
-                // Now we have tuples of session keys, and the corresponding user objects.
-                // Filter the ones we need to clear out.
-                .filter(tuple ->
-                        StringUtils.equalsIgnoreCase(email, tuple.getT2().getEmail()))
-                .map(Tuple2::getT1)
-                .collectList();
+        return userSessionIndex.getSessionKeys(email);
     }
 
     /**
@@ -5,6 +5,11 @@ import com.appsmith.server.datasources.base.DatasourceService;
 import com.appsmith.server.datasourcestorages.base.DatasourceStorageService;
 import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.newactions.base.NewActionService;
+import com.appsmith.server.newactions.execution.ActionExecutionCoalescer;
+import com.appsmith.server.newactions.execution.ActionExecutionResultCache;
+import com.appsmith.server.newactions.execution.DatasourceConcurrencyLimiter;
+import com.appsmith.server.newactions.execution.ExecuteRequestPartReader;
+import com.appsmith.server.newactions.execution.ExecutionAnalyticsPublisher;
 import com.appsmith.server.newpages.base.NewPageService;
 import com.appsmith.server.plugins.base.PluginService;
 import com.appsmith.server.services.AnalyticsService;
@@ -38,7 +43,12 @@ public class ActionExecutionSolutionImpl extends ActionExecutionSolutionCEImpl i
             DatasourceStorageService datasourceStorageService,
             EnvironmentPermission environmentPermission,
             ConfigService configService,
-            TenantService tenantService) {
+            TenantService tenantService,
+            ActionExecutionResultCache actionExecutionResultCache,
+            ExecuteRequestPartReader executeRequestPartReader,
+            ExecutionAnalyticsPublisher executionAnalyticsPublisher,
+            DatasourceConcurrencyLimiter datasourceConcurrencyLimiter,
+            ActionExecutionCoalescer actionExecutionCoalescer) {
         super(
                 newActionService,
                 actionPermission,
@@ -57,6 +67,11 @@ public class ActionExecutionSolutionImpl extends ActionExecutionSolutionCEImpl i
                 datasourceStorageService,
                 environmentPermission,
                 configService,
-                tenantService);
+                tenantService,
+                actionExecutionResultCache,
+                executeRequestPartReader,
+                executionAnalyticsPublisher,
+                datasourceConcurrencyLimiter,
+                actionExecutionCoalescer);
     }
 }
@@ -1,12 +1,19 @@
 package com.appsmith.server.solutions;
 
+import com.appsmith.server.newactions.execution.DatasourceConcurrencyLimiter;
+import com.appsmith.server.services.DatasourceContextService;
 import com.appsmith.server.services.FeatureFlagService;
 import com.appsmith.server.services.TenantService;
 import com.appsmith.server.solutions.ce.ScheduledTaskCEImpl;
 import reactor.core.scheduler.Scheduler;
 
 public class ScheduledTaskImpl extends ScheduledTaskCEImpl implements ScheduledTask {
-    public ScheduledTaskImpl(FeatureFlagService featureFlagService, TenantService tenantService, Scheduler scheduler) {
-        super(featureFlagService, tenantService, scheduler);
+    public ScheduledTaskImpl(
+            FeatureFlagService featureFlagService,
+            TenantService tenantService,
+            Scheduler scheduler,
+            DatasourceContextService datasourceContextService,
+            DatasourceConcurrencyLimiter datasourceConcurrencyLimiter) {
+        super(featureFlagService, tenantService, scheduler, datasourceContextService, datasourceConcurrencyLimiter);
     }
 }
@@ -36,6 +36,11 @@ import com.appsmith.server.helpers.DatasourceAnalyticsUtils;
 import com.appsmith.server.helpers.DateUtils;
 import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.newactions.base.NewActionService;
+import com.appsmith.server.newactions.execution.ActionExecutionCoalescer;
+import com.appsmith.server.newactions.execution.ActionExecutionResultCache;
+import com.appsmith.server.newactions.execution.DatasourceConcurrencyLimiter;
+import com.appsmith.server.newactions.execution.ExecuteRequestPartReader;
+import com.appsmith.server.newactions.execution.ExecutionAnalyticsPublisher;
 import com.appsmith.server.newpages.base.NewPageService;
 import com.appsmith.server.plugins.base.PluginService;
 import com.appsmith.server.services.AnalyticsService;
@@ -56,7 +61,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang.ArrayUtils;
 import org.apache.commons.lang.StringEscapeUtils;
 import org.apache.commons.lang3.ObjectUtils;
-import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.codec.multipart.Part;
 import org.springframework.util.CollectionUtils;
@@ -64,9 +68,11 @@ import org.springframework.util.StringUtils;
 import reactor.core.observability.micrometer.Micrometer;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -77,6 +83,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
@@ -117,6 +124,11 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
     private final EnvironmentPermission environmentPermission;
     private final ConfigService configService;
     private final TenantService tenantService;
+    private final ActionExecutionResultCache actionExecutionResultCache;
+    private final ExecuteRequestPartReader executeRequestPartReader;
+    private final ExecutionAnalyticsPublisher executionAnalyticsPublisher;
+    private final DatasourceConcurrencyLimiter datasourceConcurrencyLimiter;
+    private final ActionExecutionCoalescer actionExecutionCoalescer;
 
     static final String PARAM_KEY_REGEX = "^k\\d+$";
     static final String BLOB_KEY_REGEX =
@@ -143,7 +155,12 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
             DatasourceStorageService datasourceStorageService,
             EnvironmentPermission environmentPermission,
             ConfigService configService,
-            TenantService tenantService) {
+            TenantService tenantService,
+            ActionExecutionResultCache actionExecutionResultCache,
+            ExecuteRequestPartReader executeRequestPartReader,
+            ExecutionAnalyticsPublisher executionAnalyticsPublisher,
+            DatasourceConcurrencyLimiter datasourceConcurrencyLimiter,
+            ActionExecutionCoalescer actionExecutionCoalescer) {
         this.newActionService = newActionService;
         this.actionPermission = actionPermission;
         this.observationRegistry = observationRegistry;
@@ -162,6 +179,11 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
         this.environmentPermission = environmentPermission;
         this.configService = configService;
         this.tenantService = tenantService;
+        this.actionExecutionResultCache = actionExecutionResultCache;
+        this.executeRequestPartReader = executeRequestPartReader;
+        this.executionAnalyticsPublisher = executionAnalyticsPublisher;
+        this.datasourceConcurrencyLimiter = datasourceConcurrencyLimiter;
+        this.actionExecutionCoalescer = actionExecutionCoalescer;
 
         this.patternList.add(Pattern.compile(PARAM_KEY_REGEX));
         this.patternList.add(Pattern.compile(BLOB_KEY_REGEX));
@@ -350,7 +372,18 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
         final ExecuteActionDTO dto = new ExecuteActionDTO();
         return this.parsePartsAndGetParamsFlux(partFlux, totalReadableByteCount, dto)
                 .collectList()
-                .flatMap(params -> this.enrichExecutionParam(totalReadableByteCount, dto, params))
+                .flatMap(params -> {
+                    if (CollectionUtils.isEmpty(dto.getBlobFilePathsMap())) {
+                        return this.enrichExecutionParam(totalReadableByteCount, dto, params);
+                    }
+                    // Spilled blobs are read back from disk during enrichment, so move off the event loop
+                    return Mono.defer(() -> this.enrichExecutionParam(totalReadableByteCount, dto, params))
+                            .subscribeOn(Schedulers.boundedElastic());
+                })
+                .doOnNext(executeActionDTO ->
+                        executeRequestPartReader.recordRequestSize(executeActionDTO.getTotalReadableByteCount()))
+                // The spilled blobs are not needed once they have been substituted into the params
+                .doFinally(signalType -> executeRequestPartReader.deleteSpilledBlobs(dto))
                 .name(ACTION_EXECUTION_REQUEST_PARSING)
                 .tap(Micrometer.observation(observationRegistry));
     }
@@ -388,11 +421,11 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
                                 .then(Mono.empty());
                         case EXECUTE_ACTION_DTO -> groupedPartsFlux
                                 .next()
-                                .flatMap(part -> this.parseExecuteActionPart(part, dto))
+                                .flatMap(part -> this.parseExecuteActionPart(part, dto, totalReadableByteCount))
                                 .then(Mono.empty());
                         case PARAMETER_MAP -> groupedPartsFlux
                                 .next()
-                                .flatMap(part -> this.parseExecuteParameterMapPart(part, dto))
+                                .flatMap(part -> this.parseExecuteParameterMapPart(part, dto, totalReadableByteCount))
                                 .then(Mono.empty());
                         default -> Mono.error(new AppsmithException(
                                 AppsmithError.GENERIC_BAD_REQUEST, "Unexpected part found: " + key));
@@ -400,12 +433,10 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
                 });
     }
 
-    protected Mono<Void> parseExecuteActionPart(Part part, ExecuteActionDTO dto) {
-        return DataBufferUtils.join(part.content())
-                .flatMap(executeActionDTOBuffer -> {
-                    byte[] byteData = new byte[executeActionDTOBuffer.readableByteCount()];
-                    executeActionDTOBuffer.read(byteData);
-                    DataBufferUtils.release(executeActionDTOBuffer);
+    protected Mono<Void> parseExecuteActionPart(Part part, ExecuteActionDTO dto, AtomicLong totalReadableByteCount) {
+        return executeRequestPartReader
+                .readBytes(part, totalReadableByteCount)
+                .flatMap(byteData -> {
                     try {
                         return Mono.just(objectMapper.readValue(byteData, ExecuteActionDTO.class));
                     } catch (IOException e) {
@@ -423,12 +454,11 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
                 });
     }
 
-    protected Mono<Void> parseExecuteParameterMapPart(Part part, ExecuteActionDTO dto) {
-        return DataBufferUtils.join(part.content())
-                .flatMap(parameterMapBuffer -> {
-                    byte[] byteData = new byte[parameterMapBuffer.readableByteCount()];
-                    parameterMapBuffer.read(byteData);
-                    DataBufferUtils.release(parameterMapBuffer);
+    protected Mono<Void> parseExecuteParameterMapPart(
+            Part part, ExecuteActionDTO dto, AtomicLong totalReadableByteCount) {
+        return executeRequestPartReader
+                .readBytes(part, totalReadableByteCount)
+                .flatMap(byteData -> {
                     try {
                         return Mono.just(objectMapper.readValue(byteData, new TypeReference<Map<String, String>>() {}));
                     } catch (IOException e) {
@@ -444,11 +474,7 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
     protected Mono<Param> parseExecuteParameter(Part part, AtomicLong totalReadableByteCount) {
         final Param param = new Param();
         param.setPseudoBindingName(part.name());
-        return DataBufferUtils.join(part.content()).map(dataBuffer -> {
-            byte[] bytes = new byte[dataBuffer.readableByteCount()];
-            totalReadableByteCount.addAndGet(dataBuffer.readableByteCount());
-            dataBuffer.read(bytes);
-            DataBufferUtils.release(dataBuffer);
+        return executeRequestPartReader.readBytes(part, totalReadableByteCount).map(bytes -> {
             param.setValue(new String(bytes, StandardCharsets.UTF_8));
             return param;
         });
@@ -456,20 +482,11 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
 
     protected Mono<Void> parseExecuteBlobs(
             Flux<Part> partsFlux, ExecuteActionDTO dto, AtomicLong totalReadableByteCount) {
-        Map<String, String> blobMap = new HashMap<>();
-        dto.setBlobValuesMap(blobMap);
+        dto.setBlobValuesMap(new ConcurrentHashMap<>());
+        dto.setBlobFilePathsMap(new ConcurrentHashMap<>());
 
         return partsFlux
-                .flatMap(part -> {
-                    return DataBufferUtils.join(part.content()).map(dataBuffer -> {
-                        byte[] bytes = new byte[dataBuffer.readableByteCount()];
-                        totalReadableByteCount.addAndGet(dataBuffer.readableByteCount());
-                        dataBuffer.read(bytes);
-                        DataBufferUtils.release(dataBuffer);
-                        blobMap.put(part.name(), new String(bytes, StandardCharsets.ISO_8859_1));
-                        return Mono.empty();
-                    });
-                })
+                .flatMap(part -> executeRequestPartReader.readBlob(part, dto, totalReadableByteCount))
                 .then();
     }
 
@@ -519,14 +536,52 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
         // Check if this param has blobUrlPaths
         if (paramProperty.getBlobIdentifiers() != null
                 && !paramProperty.getBlobIdentifiers().isEmpty()) {
+            String value = param.getValue();
+            List<String> inMemoryBlobIdentifiers = paramProperty.getBlobIdentifiers();
+            if (!CollectionUtils.isEmpty(dto.getBlobFilePathsMap())) {
+                // Spilled blobs are streamed from their files, escaped, straight into the value of the param
+                inMemoryBlobIdentifiers = new ArrayList<>();
+                for (String blobId : paramProperty.getBlobIdentifiers()) {
+                    Path blobFilePath = dto.getBlobFilePathsMap().get(blobId);
+                    if (blobFilePath == null) {
+                        inMemoryBlobIdentifiers.add(blobId);
+                    } else {
+                        value = substituteSpilledBlob(value, blobId, blobFilePath);
+                    }
+                }
+            }
             // If it does, trigger the replacement logic for each of these urlPaths
-            String replacedValue = this.replaceBlobValuesInParam(
-                    param.getValue(), paramProperty.getBlobIdentifiers(), dto.getBlobValuesMap());
+            String replacedValue =
+                    this.replaceBlobValuesInParam(value, inMemoryBlobIdentifiers, dto.getBlobValuesMap());
             // And then update the value for this param
             param.setValue(replacedValue);
         }
     }
 
+    /**
+     * Replaces every reference to the blob in the value with its escaped content, read from the file it was spilled to.
+     * The blob ends up in memory as part of the returned value, since params are passed on to the plugins as strings,
+     * but it is written there directly instead of being read into a string of its own and then substituted.
+     */
+    private String substituteSpilledBlob(String value, String blobId, Path blobFilePath) {
+        int index = value.indexOf(blobId);
+        if (index < 0) {
+            return value;
+        }
+
+        final StringBuilder substitutedValue = new StringBuilder(value.length());
+        int copiedUpTo = 0;
+        while (index >= 0) {
+            substitutedValue.append(value, copiedUpTo, index);
+            executeRequestPartReader.readSpilledBlob(
+                    blobFilePath, chunk -> substitutedValue.append(StringEscapeUtils.escapeJava(chunk)));
+            copiedUpTo = index + blobId.length();
+            index = value.indexOf(blobId, copiedUpTo);
+        }
+        substitutedValue.append(value, copiedUpTo, value.length());
+        return substitutedValue.toString();
+    }
+
     private void identifyExecutionParamDatatype(Param param, ParamProperty paramProperty) {
         Object datatype = paramProperty.getDatatype();
         if (datatype instanceof String) {
@@ -715,13 +770,18 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
                     // Now that we have the context (connection details), execute the action.
 
                     Instant requestedAt = Instant.now();
-                    return ((PluginExecutor<Object>) pluginExecutor)
-                            .executeParameterizedWithMetrics(
-                                    resourceContext.getConnection(),
-                                    executeActionDTO,
-                                    datasourceStorage1.getDatasourceConfiguration(),
-                                    actionDTO.getActionConfiguration(),
-                                    observationRegistry)
+                    // The context is marked in use so that its connection is not destroyed under the execution
+                    return Mono.defer(() -> {
+                                resourceContext.markInUse();
+                                return ((PluginExecutor<Object>) pluginExecutor)
+                                        .executeParameterizedWithMetrics(
+                                                resourceContext.getConnection(),
+                                                executeActionDTO,
+                                                datasourceStorage1.getDatasourceConfiguration(),
+                                                actionDTO.getActionConfiguration(),
+                                                observationRegistry);
+                            })
+                            .doFinally(signalType -> resourceContext.markNotInUse())
                             .map(actionExecutionResult -> {
                                 ActionExecutionRequest actionExecutionRequest = actionExecutionResult.getRequest();
                                 if (actionExecutionRequest == null) {
@@ -812,10 +872,22 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
                     Mono<ActionDTO> actionDTOWithAutoGeneratedHeadersMono =
                             setAutoGeneratedHeaders(plugin, actionDTO, httpHeaders);
 
-                    Mono<ActionExecutionResult> actionExecutionResultMono =
-                            actionDTOWithAutoGeneratedHeadersMono.flatMap(actionDTO1 -> verifyDatasourceAndMakeRequest(
-                                            executeActionDTO, actionDTO, datasourceStorage, plugin, pluginExecutor)
-                                    .timeout(Duration.ofMillis(timeoutDuration)));
+                    Mono<ActionExecutionResult> actionExecutionResultMono = getResultFromCacheOrExecute(
+                            executeActionDTO,
+                            actionDTO,
+                            datasourceStorage,
+                            actionDTOWithAutoGeneratedHeadersMono.flatMap(actionDTO1 -> datasourceConcurrencyLimiter
+                                    .limit(
+                                            datasourceStorage.getDatasourceId(),
+                                            datasourceStorage.getName(),
+                                            verifyDatasourceAndMakeRequest(
+                                                    executeActionDTO,
+                                                    actionDTO,
+                                                    datasourceStorage,
+                                                    plugin,
+                                                    pluginExecutor))
+                                    // The timeout includes the time spent waiting for a slot on the datasource
+                                    .timeout(Duration.ofMillis(timeoutDuration))));
 
                     return actionExecutionResultMono
                             .onErrorMap(executionExceptionMapper(actionDTO, timeoutDuration))
@@ -833,13 +905,66 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
                                         actionDTO.getId(),
                                         timeElapsed);
 
-                                return sendExecuteAnalyticsEvent(
+                                return publishExecuteAnalyticsEvent(
                                                 actionDTO, datasourceStorage, executeActionDTO, result, timeElapsed)
                                         .thenReturn(result);
                             });
                 });
     }
 
+    /**
+     * Serves published executions of actions that have opted in to result caching from the result cache, and fills
+     * the cache on a miss. When coalescing is enabled, identical published executions that are in flight at the same
+     * time share a single execution. All other executions go straight to the given execution mono.
+     *
+     * @param executeActionDTO
+     * @param actionDTO
+     * @param datasourceStorage
+     * @param actionExecutionResultMono the mono that actually executes the action against the datasource
+     * @return actionExecutionResultMono
+     */
+    protected Mono<ActionExecutionResult> getResultFromCacheOrExecute(
+            ExecuteActionDTO executeActionDTO,
+            ActionDTO actionDTO,
+            DatasourceStorage datasourceStorage,
+            Mono<ActionExecutionResult> actionExecutionResultMono) {
+        if (!TRUE.equals(executeActionDTO.getViewMode())) {
+            return actionExecutionResultMono;
+        }
+
+        Integer cacheDurationInSeconds = actionDTO.getActionConfiguration().getCacheDurationInSeconds();
+        final boolean isCacheEnabled = cacheDurationInSeconds != null && cacheDurationInSeconds > 0;
+        if (!isCacheEnabled && !actionExecutionCoalescer.isEnabled()) {
+            return actionExecutionResultMono;
+        }
+
+        final String executionKey = actionExecutionResultCache.getKey(
+                actionDTO.getId(), datasourceStorage.getEnvironmentId(), executeActionDTO);
+
+        if (!isCacheEnabled) {
+            return actionExecutionCoalescer.coalesce(executionKey, actionExecutionResultMono);
+        }
+
+        Mono<ActionExecutionResult> executeAndCacheMono =
+                actionExecutionResultMono.flatMap(result -> actionExecutionResultCache
+                        .put(executionKey, cacheDurationInSeconds, result)
+                        .thenReturn(result));
+        if (actionExecutionCoalescer.isEnabled()) {
+            executeAndCacheMono = actionExecutionCoalescer.coalesce(executionKey, executeAndCacheMono);
+        }
+
+        return actionExecutionResultCache
+                .get(executionKey, cacheDurationInSeconds)
+                .map(cachedResult -> {
+                    final ActionExecutionRequest actionExecutionRequest = new ActionExecutionRequest();
+                    actionExecutionRequest.setActionId(executeActionDTO.getActionId());
+                    actionExecutionRequest.setRequestedAt(Instant.now());
+                    cachedResult.setRequest(actionExecutionRequest);
+                    return cachedResult;
+                })
+                .switchIfEmpty(executeAndCacheMono);
+    }
+
     @Override
     public Mono<ActionDTO> getValidActionForExecution(
             ExecuteActionDTO executeActionDTO, ExecuteActionMetaDTO executeActionMetaDTO) {
@@ -930,7 +1055,12 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
         return analyticsService.isActive();
     }
 
-    private Mono<ActionExecutionRequest> sendExecuteAnalyticsEvent(
+    /**
+     * Hands the analytics event for this execution over to the {@link ExecutionAnalyticsPublisher}. Only references to
+     * what the event is built from are queued. Copying and serialising the request and error, as well as the DB
+     * lookups, happen later on the publisher's worker, so the execution does not wait for them.
+     */
+    private Mono<Void> publishExecuteAnalyticsEvent(
             ActionDTO actionDTO,
             DatasourceStorage datasourceStorage,
             ExecuteActionDTO executeActionDto,
@@ -940,7 +1070,48 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
         if (!isSendExecuteAnalyticsEvent()) {
             return Mono.empty();
         }
-        ActionExecutionRequest actionExecutionRequest = actionExecutionResult.getRequest();
+
+        return Mono.deferContextual(contextView -> {
+            // The request is taken now, since it is removed from the result before it is returned in view mode
+            final ActionExecutionRequest actionExecutionRequest = actionExecutionResult.getRequest();
+            executionAnalyticsPublisher.publish(
+                    () -> buildExecuteAnalyticsEvent(
+                            actionDTO,
+                            datasourceStorage,
+                            executeActionDto,
+                            actionExecutionResult,
+                            actionExecutionRequest,
+                            timeElapsed),
+                    this::sendExecuteAnalyticsEvent,
+                    contextView);
+            return Mono.empty();
+        });
+    }
+
+    /**
+     * What the analytics event of an execution is built from, once the execution has completed.
+     */
+    private record ExecuteAnalyticsEvent(
+            ActionDTO actionDTO,
+            DatasourceStorage datasourceStorage,
+            Boolean viewMode,
+            long totalReadableByteCount,
+            int executionParamsCount,
+            List<String> executionParams,
+            ActionExecutionRequest request,
+            String executionRequestQuery,
+            ActionExecutionResult resultSummary,
+            String error,
+            Long timeElapsed) {}
+
+    private ExecuteAnalyticsEvent buildExecuteAnalyticsEvent(
+            ActionDTO actionDTO,
+            DatasourceStorage datasourceStorage,
+            ExecuteActionDTO executeActionDto,
+            ActionExecutionResult actionExecutionResult,
+            ActionExecutionRequest actionExecutionRequest,
+            Long timeElapsed) {
+
         ActionExecutionRequest request;
         if (actionExecutionRequest != null) {
             // Do a deep copy of request to not edit
@@ -962,7 +1133,7 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
         if (request.getHeaders() != null) {
             JsonNode headers = objectMapper.convertValue(request.getHeaders(), JsonNode.class);
             try {
-                final String headersAsString = objectMapper.writeValueAsString(headers);
+                final String headersAsString = executionAnalyticsPublisher.toTruncatedJson(headers);
                 request.setHeaders(headersAsString);
             } catch (JsonProcessingException e) {
                 log.error(e.getMessage());
@@ -971,7 +1142,7 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
 
         if (request.getBody() != null) {
             try {
-                final String bodyAsString = objectMapper.writeValueAsString(request.getBody());
+                final String bodyAsString = executionAnalyticsPublisher.toTruncatedJson(request.getBody());
                 request.setBody(bodyAsString);
             } catch (JsonProcessingException e) {
                 log.error(e.getMessage());
@@ -984,7 +1155,7 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
             for (final Map.Entry<String, ?> entry : request.getProperties().entrySet()) {
                 String jsonValue;
                 try {
-                    jsonValue = objectMapper.writeValueAsString(entry.getValue());
+                    jsonValue = executionAnalyticsPublisher.toTruncatedJson(entry.getValue());
                 } catch (JsonProcessingException e) {
                     jsonValue = "\"Error serializing value to JSON.\"";
                 }
@@ -993,13 +1164,67 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
             request.setProperties(stringProperties);
         }
 
+        String executionRequestQuery = "";
+        if (actionExecutionRequest != null && actionExecutionRequest.getQuery() != null) {
+            executionRequestQuery = actionExecutionRequest.getQuery();
+        }
+
+        List<Param> paramsList = executeActionDto.getParams();
+        if (paramsList == null) {
+            paramsList = new ArrayList<>();
+        }
+        List<String> executionParams = null;
+        if (executeActionDto.getTotalReadableByteCount() <= Constraint.MAX_ANALYTICS_SIZE_BYTES) {
+            // Only send params info if total size is less than 5 MB
+            executionParams = paramsList.stream().map(param -> param.getValue()).collect(Collectors.toList());
+        }
+
+        // Everything but the body and the request of the result
+        final ActionExecutionResult resultSummary = new ActionExecutionResult();
+        resultSummary.setIsExecutionSuccess(actionExecutionResult.getIsExecutionSuccess());
+        resultSummary.setStatusCode(actionExecutionResult.getStatusCode());
+        resultSummary.setTitle(actionExecutionResult.getTitle());
+        resultSummary.setPluginErrorDetails(actionExecutionResult.getPluginErrorDetails());
+
+        // Add the error message in case of erroneous execution
+        String error = null;
+        if (FALSE.equals(actionExecutionResult.getIsExecutionSuccess())) {
+            try {
+                error = executionAnalyticsPublisher.toTruncatedJson(actionExecutionResult.getBody());
+            } catch (JsonProcessingException e) {
+                log.warn("Unable to serialize action execution error result to JSON.", e);
+                error = "\"Failed to serialize error data to JSON.\"";
+            }
+        }
+
+        return new ExecuteAnalyticsEvent(
+                actionDTO,
+                datasourceStorage,
+                executeActionDto.getViewMode(),
+                executeActionDto.getTotalReadableByteCount(),
+                paramsList.size(),
+                executionParams,
+                request,
+                executionRequestQuery,
+                resultSummary,
+                error,
+                timeElapsed);
+    }
+
+    private Mono<ActionExecutionRequest> sendExecuteAnalyticsEvent(ExecuteAnalyticsEvent event) {
+        final ActionDTO actionDTO = event.actionDTO();
+        final DatasourceStorage datasourceStorage = event.datasourceStorage();
+        final ActionExecutionResult actionExecutionResult = event.resultSummary();
+        final ActionExecutionRequest request = event.request();
+        final Long timeElapsed = event.timeElapsed();
+
         return Mono.justOrEmpty(actionDTO.getApplicationId())
                 .flatMap(applicationService::findById)
                 .defaultIfEmpty(new Application())
                 .flatMap(application -> Mono.zip(
                         Mono.just(application),
                         sessionUserService.getCurrentUser(),
-                        newPageService.getNameByPageId(actionDTO.getPageId(), executeActionDto.getViewMode()),
+                        newPageService.getNameByPageId(actionDTO.getPageId(), event.viewMode()),
                         pluginService.getByIdWithoutPermissionCheck(actionDTO.getPluginId()),
                         datasourceStorageService.getEnvironmentNameFromEnvironmentIdForAnalytics(
                                 datasourceStorage.getEnvironmentId())))
@@ -1011,7 +1236,7 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
                     final String environmentName = tuple.getT5();
 
                     final PluginType pluginType = actionDTO.getPluginType();
-                    final String appMode = TRUE.equals(executeActionDto.getViewMode())
+                    final String appMode = TRUE.equals(event.viewMode())
                             ? ApplicationMode.PUBLISHED.toString()
                             : ApplicationMode.EDIT.toString();
 
@@ -1041,12 +1266,6 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
                     if (datasourceStorage.getCreatedAt() != null) {
                         dsCreatedAt = DateUtils.ISO_FORMATTER.format(datasourceStorage.getCreatedAt());
                     }
-                    List<Param> paramsList = executeActionDto.getParams();
-                    if (paramsList == null) {
-                        paramsList = new ArrayList<>();
-                    }
-                    List<String> executionParams =
-                            paramsList.stream().map(param -> param.getValue()).collect(Collectors.toList());
 
                     data.putAll(Map.of(
                             "request",
@@ -1063,9 +1282,9 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
                             ObjectUtils.defaultIfNull(actionDTO.getId(), "")));
                     data.putAll(Map.of(
                             FieldName.ACTION_EXECUTION_REQUEST_PARAMS_SIZE,
-                            executeActionDto.getTotalReadableByteCount(),
+                            event.totalReadableByteCount(),
                             FieldName.ACTION_EXECUTION_REQUEST_PARAMS_COUNT,
-                            executionParams.size()));
+                            event.executionParamsCount()));
 
                     setContextSpecificProperties(data, actionDTO, pageName);
 
@@ -1084,46 +1303,32 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
                     data.putAll(DatasourceAnalyticsUtils.getAnalyticsPropertiesWithStorageOnActionExecution(
                             datasourceStorage, dsCreatedAt, environmentName));
 
-                    // Add the error message in case of erroneous execution
-                    if (FALSE.equals(actionExecutionResult.getIsExecutionSuccess())) {
-                        String errorJson;
-                        try {
-                            errorJson = objectMapper.writeValueAsString(actionExecutionResult.getBody());
-                        } catch (JsonProcessingException e) {
-                            log.warn("Unable to serialize action execution error result to JSON.", e);
-                            errorJson = "\"Failed to serialize error data to JSON.\"";
-                        }
-                        data.put("error", errorJson);
+                    if (event.error() != null) {
+                        data.put("error", event.error());
                     }
 
                     if (actionExecutionResult.getStatusCode() != null) {
                         data.put("statusCode", actionExecutionResult.getStatusCode());
                     }
 
-                    String executionRequestQuery = "";
-                    if (actionExecutionResult.getRequest() != null
-                            && actionExecutionResult.getRequest().getQuery() != null) {
-                        executionRequestQuery =
-                                actionExecutionResult.getRequest().getQuery();
-                    }
-
                     final Map<String, Object> eventData = new HashMap<>(Map.of(
                             FieldName.ACTION, actionDTO,
                             FieldName.DATASOURCE, datasourceStorage,
                             FieldName.APP_MODE, appMode,
                             FieldName.ACTION_EXECUTION_RESULT, actionExecutionResult,
                             FieldName.ACTION_EXECUTION_TIME, timeElapsed,
-                            FieldName.ACTION_EXECUTION_QUERY, executionRequestQuery,
+                            FieldName.ACTION_EXECUTION_QUERY, event.executionRequestQuery(),
                             FieldName.APPLICATION, application,
                             FieldName.PLUGIN, plugin));
 
-                    if (executeActionDto.getTotalReadableByteCount() <= Constraint.MAX_ANALYTICS_SIZE_BYTES) {
-                        // Only send params info if total size is less than 5 MB
-                        eventData.put(FieldName.ACTION_EXECUTION_REQUEST_PARAMS, executionParams);
+                    if (event.executionParams() != null) {
+                        eventData.put(FieldName.ACTION_EXECUTION_REQUEST_PARAMS, event.executionParams());
                     } else {
                         eventData.put(FieldName.ACTION_EXECUTION_REQUEST_PARAMS, REDACTED_DATA);
                     }
                     data.put(FieldName.EVENT_DATA, eventData);
+                    // Lets consumers of the event scale counts back up when only a sample of executions is sent
+                    data.put("sampleRate", executionAnalyticsPublisher.getSampleRate());
 
                     return analyticsService
                             .sendObjectEvent(AnalyticsEvents.EXECUTE_ACTION, actionDTO, data)
@@ -104,7 +104,7 @@ public class DatasourceStructureSolutionCEImpl implements DatasourceStructureSol
                         datasourceStorage.getDatasourceId(), datasourceStorage.getEnvironmentId());
 
         Mono<DatasourceStructure> fetchAndStoreNewStructureMono = pluginExecutorHelper
-                .getPluginExecutor(pluginService.findById(datasourceStorage.getPluginId()))
+                .getPluginExecutorFromPluginId(datasourceStorage.getPluginId())
                 .switchIfEmpty(Mono.error(new AppsmithException(
                         AppsmithError.NO_RESOURCE_FOUND, FieldName.PLUGIN, datasourceStorage.getPluginId())))
                 .flatMap(pluginExecutor -> {
@@ -218,7 +218,7 @@ public class DatasourceStructureSolutionCEImpl implements DatasourceStructureSol
         }
 
         return pluginExecutorHelper
-                .getPluginExecutor(pluginService.findById(datasourceStorage.getPluginId()))
+                .getPluginExecutorFromPluginId(datasourceStorage.getPluginId())
                 .switchIfEmpty(Mono.error(new AppsmithException(
                         AppsmithError.NO_RESOURCE_FOUND, FieldName.PLUGIN, datasourceStorage.getPluginId())))
                 .flatMap(pluginExecutor -> {
@@ -109,11 +109,15 @@ public class DatasourceTriggerSolutionCEImpl implements DatasourceTriggerSolutio
                             // datasource remains unevaluated for datasource of DBAuth Type Authentication,
                             // However the context comes from evaluated datasource.
                             .flatMap(resourceContext -> setTenantAndInstanceId(triggerRequestDTO)
-                                    .flatMap(updatedTriggerRequestDTO -> ((PluginExecutor<Object>) pluginExecutor)
-                                            .trigger(
-                                                    resourceContext.getConnection(),
-                                                    datasourceStorage.getDatasourceConfiguration(),
-                                                    updatedTriggerRequestDTO)));
+                                    .flatMap(updatedTriggerRequestDTO -> Mono.defer(() -> {
+                                                resourceContext.markInUse();
+                                                return ((PluginExecutor<Object>) pluginExecutor)
+                                                        .trigger(
+                                                                resourceContext.getConnection(),
+                                                                datasourceStorage.getDatasourceConfiguration(),
+                                                                updatedTriggerRequestDTO);
+                                            })
+                                            .doFinally(signalType -> resourceContext.markNotInUse())));
                 });
 
         // If the plugin hasn't implemented the trigger function, go for the default implementation
@@ -11,6 +11,7 @@ import com.appsmith.server.domains.NewPage;
 import com.appsmith.server.domains.PermissionGroup;
 import com.appsmith.server.domains.Theme;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.Map;
 import java.util.Set;
@@ -40,6 +41,15 @@ public interface PolicySolutionCE {
     Flux<ActionCollection> updateWithPagePermissionsToAllItsActionCollections(
             String applicationId, Map<String, Policy> newActionPoliciesMap, boolean addPolicyToObject);
 
+    Mono<Long> updateWithApplicationPermissionsToAllItsPagesInBulk(
+            String applicationId, Map<String, Policy> newPagePoliciesMap, boolean addPolicyToObject);
+
+    Mono<Long> updateWithPagePermissionsToAllItsActionsInBulk(
+            String applicationId, Map<String, Policy> newActionPoliciesMap, boolean addPolicyToObject);
+
+    Mono<Long> updateWithPagePermissionsToAllItsActionCollectionsInBulk(
+            String applicationId, Map<String, Policy> newActionPoliciesMap, boolean addPolicyToObject);
+
     Map<String, Policy> generateInheritedPoliciesFromSourcePolicies(
             Map<String, Policy> sourcePolicyMap,
             Class<? extends BaseDomain> sourceEntity,
@@ -12,6 +12,7 @@ import com.appsmith.server.domains.NewPage;
 import com.appsmith.server.domains.PermissionGroup;
 import com.appsmith.server.domains.Theme;
 import com.appsmith.server.dtos.Permission;
+import com.appsmith.server.helpers.ce.bridge.Bridge;
 import com.appsmith.server.repositories.ActionCollectionRepository;
 import com.appsmith.server.repositories.ApplicationRepository;
 import com.appsmith.server.repositories.DatasourceRepository;
@@ -294,6 +295,71 @@ public class PolicySolutionCEImpl implements PolicySolutionCE {
                 .flatMapMany(actionCollectionRepository::saveAll);
     }
 
+    /**
+     * Same as {@link #updateWithApplicationPermissionsToAllItsPages(String, Map, boolean)}, but the policies are
+     * updated on the database in batches instead of loading and saving every page along with its DSLs.
+     *
+     * @return the number of pages updated
+     */
+    @Override
+    public Mono<Long> updateWithApplicationPermissionsToAllItsPagesInBulk(
+            String applicationId, Map<String, Policy> newPagePoliciesMap, boolean addPolicyToObject) {
+        return reportProgress(
+                newPageRepository
+                        .queryBuilder()
+                        .criteria(Bridge.equal(NewPage.Fields.applicationId, applicationId))
+                        // update pages with read permissions so that app viewers can invite other app viewers
+                        .permission(pagePermission.getReadPermission())
+                        .updatePolicies(newPagePoliciesMap, addPolicyToObject),
+                "pages of application",
+                applicationId);
+    }
+
+    /**
+     * Same as {@link #updateWithPagePermissionsToAllItsActions(String, Map, boolean)}, but the policies are updated on
+     * the database in batches instead of loading and saving every action.
+     *
+     * @return the number of actions updated
+     */
+    @Override
+    public Mono<Long> updateWithPagePermissionsToAllItsActionsInBulk(
+            String applicationId, Map<String, Policy> newActionPoliciesMap, boolean addPolicyToObject) {
+        return reportProgress(
+                newActionRepository
+                        .queryBuilder()
+                        .criteria(Bridge.equal(NewAction.Fields.applicationId, applicationId))
+                        .updatePolicies(newActionPoliciesMap, addPolicyToObject),
+                "actions of application",
+                applicationId);
+    }
+
+    /**
+     * Same as {@link #updateWithPagePermissionsToAllItsActionCollections(String, Map, boolean)}, but the policies are
+     * updated on the database in batches instead of loading and saving every action collection.
+     *
+     * @return the number of action collections updated
+     */
+    @Override
+    public Mono<Long> updateWithPagePermissionsToAllItsActionCollectionsInBulk(
+            String applicationId, Map<String, Policy> newActionPoliciesMap, boolean addPolicyToObject) {
+        return reportProgress(
+                actionCollectionRepository
+                        .queryBuilder()
+                        .criteria(Bridge.equal(ActionCollection.Fields.applicationId, applicationId))
+                        .updatePolicies(newActionPoliciesMap, addPolicyToObject),
+                "action collections of application",
+                applicationId);
+    }
+
+    private Mono<Long> reportProgress(Flux<Long> updatedCountPerBatch, String documents, String parentId) {
+        return updatedCountPerBatch
+                .scan(0L, Long::sum)
+                .skip(1)
+                .doOnNext(updatedCount ->
+                        log.debug("Updated policies of {} {} {} so far", updatedCount, documents, parentId))
+                .last(0L);
+    }
+
     @Override
     public Map<String, Policy> generateInheritedPoliciesFromSourcePolicies(
             Map<String, Policy> sourcePolicyMap,
@@ -1,5 +1,7 @@
 package com.appsmith.server.solutions.ce;
 
+import com.appsmith.server.newactions.execution.DatasourceConcurrencyLimiter;
+import com.appsmith.server.services.DatasourceContextService;
 import com.appsmith.server.services.FeatureFlagService;
 import com.appsmith.server.services.TenantService;
 import io.micrometer.observation.annotation.Observed;
@@ -9,6 +11,8 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import reactor.core.scheduler.Scheduler;
 
+import java.util.concurrent.TimeUnit;
+
 @RequiredArgsConstructor
 @Slf4j
 @Component
@@ -20,6 +24,10 @@ public class ScheduledTaskCEImpl implements ScheduledTaskCE {
 
     private final Scheduler scheduler;
 
+    private final DatasourceContextService datasourceContextService;
+
+    private final DatasourceConcurrencyLimiter datasourceConcurrencyLimiter;
+
     @Scheduled(initialDelay = 10 * 1000 /* ten seconds */, fixedRate = 30 * 60 * 1000 /* thirty minutes */)
     @Observed(name = "fetchFeatures")
     public void fetchFeatures() {
@@ -34,4 +42,28 @@ public class ScheduledTaskCEImpl implements ScheduledTaskCE {
                 .subscribeOn(scheduler)
                 .subscribe();
     }
+
+    @Scheduled(initialDelay = 60 * 1000 /* one minute */, fixedRate = 60 * 1000 /* one minute */)
+    public void evictDatasourceContexts() {
+        datasourceContextService
+                .evictDatasourceContexts()
+                .doOnError(error -> log.error("Error while evicting datasource contexts", error))
+                .subscribe();
+    }
+
+    @Scheduled(
+            initialDelayString = "${appsmith.datasource.context.validation.interval-seconds:300}",
+            fixedDelayString = "${appsmith.datasource.context.validation.interval-seconds:300}",
+            timeUnit = TimeUnit.SECONDS)
+    public void validateDatasourceContexts() {
+        datasourceContextService
+                .validateDatasourceContexts()
+                .doOnError(error -> log.error("Error while validating datasource contexts", error))
+                .subscribe();
+    }
+
+    @Scheduled(initialDelay = 60 * 1000 /* one minute */, fixedRate = 60 * 1000 /* one minute */)
+    public void evictIdleDatasourceConcurrencyLimits() {
+        datasourceConcurrencyLimiter.evictIdleBulkheads();
+    }
 }
@@ -10,6 +10,7 @@ import com.appsmith.server.domains.ApplicationMode;
 import com.appsmith.server.domains.Theme;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.RequestMemoUtils;
 import com.appsmith.server.repositories.ApplicationRepository;
 import com.appsmith.server.repositories.ThemeRepository;
 import com.appsmith.server.services.AnalyticsService;
@@ -22,12 +23,16 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.function.Tuples;
 
+import java.util.List;
+
 import static com.appsmith.server.acl.AclPermission.MANAGE_THEMES;
 import static com.appsmith.server.acl.AclPermission.READ_THEMES;
 
 @Slf4j
 public class ThemeServiceCEImpl extends BaseService<ThemeRepository, Theme, String> implements ThemeServiceCE {
 
+    private static final String APPLICATION_THEME_IDS_MEMO_KEY = "applicationThemeIds";
+
     private final ApplicationRepository applicationRepository;
     private final ApplicationService applicationService;
     private final PolicyGenerator policyGenerator;
@@ -66,11 +71,23 @@ public class ThemeServiceCEImpl extends BaseService<ThemeRepository, Theme, Stri
         throw new AppsmithException(AppsmithError.UNSUPPORTED_OPERATION);
     }
 
+    /**
+     * Finds the branched application with only its theme ids. The current theme and the themes of an application are
+     * usually fetched together, so the lookup is shared between them within a request.
+     */
+    private Mono<Application> findApplicationWithThemeIds(String applicationId, String branchName) {
+        return RequestMemoUtils.memoize(
+                RequestMemoUtils.key(APPLICATION_THEME_IDS_MEMO_KEY, applicationId, branchName),
+                () -> applicationService.findByBranchNameAndDefaultApplicationId(
+                        branchName,
+                        applicationId,
+                        List.of(Application.Fields.editModeThemeId, Application.Fields.publishedModeThemeId),
+                        applicationPermission.getReadPermission()));
+    }
+
     @Override
     public Mono<Theme> getApplicationTheme(String applicationId, ApplicationMode applicationMode, String branchName) {
-        return applicationService
-                .findByBranchNameAndDefaultApplicationId(
-                        branchName, applicationId, applicationPermission.getReadPermission())
+        return findApplicationWithThemeIds(applicationId, branchName)
                 .switchIfEmpty(Mono.error(
                         new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.APPLICATION, applicationId)))
                 .flatMap(application -> {
@@ -90,9 +107,7 @@ public class ThemeServiceCEImpl extends BaseService<ThemeRepository, Theme, Stri
 
     @Override
     public Flux<Theme> getApplicationThemes(String applicationId, String branchName) {
-        return applicationService
-                .findByBranchNameAndDefaultApplicationId(
-                        branchName, applicationId, applicationPermission.getReadPermission())
+        return findApplicationWithThemeIds(applicationId, branchName)
                 .flatMapMany(application -> repository.getApplicationThemes(application.getId(), READ_THEMES));
     }
 
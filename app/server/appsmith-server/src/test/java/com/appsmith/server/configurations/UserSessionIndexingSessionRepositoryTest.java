@@ -0,0 +1,88 @@
+package com.appsmith.server.configurations;
+
+import com.appsmith.server.domains.User;
+import com.appsmith.server.helpers.UserSessionIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.session.MapSession;
+import org.springframework.session.ReactiveSessionRepository;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.springframework.security.web.server.context.WebSessionServerSecurityContextRepository.DEFAULT_SPRING_SECURITY_CONTEXT_ATTR_NAME;
+
+public class UserSessionIndexingSessionRepositoryTest {
+
+    private ReactiveSessionRepository<MapSession> delegate;
+    private UserSessionIndex userSessionIndex;
+    private UserSessionIndexingSessionRepository<MapSession> sessionRepository;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        delegate = Mockito.mock(ReactiveSessionRepository.class);
+        Mockito.when(delegate.save(any())).thenReturn(Mono.empty());
+        Mockito.when(delegate.deleteById(anyString())).thenReturn(Mono.empty());
+
+        userSessionIndex = Mockito.mock(UserSessionIndex.class);
+        Mockito.when(userSessionIndex.add(anyString(), anyString(), any())).thenReturn(Mono.empty());
+        Mockito.when(userSessionIndex.remove(anyString(), anyString())).thenReturn(Mono.empty());
+
+        ObjectProvider<UserSessionIndex> userSessionIndexProvider = Mockito.mock(ObjectProvider.class);
+        Mockito.when(userSessionIndexProvider.getObject()).thenReturn(userSessionIndex);
+
+        sessionRepository = new UserSessionIndexingSessionRepository<>(delegate, userSessionIndexProvider);
+    }
+
+    private static MapSession signedInSession(String email) {
+        User user = new User();
+        user.setEmail(email);
+        MapSession session = new MapSession();
+        session.setMaxInactiveInterval(Duration.ofDays(30));
+        session.setAttribute(
+                DEFAULT_SPRING_SECURITY_CONTEXT_ATTR_NAME,
+                new SecurityContextImpl(new UsernamePasswordAuthenticationToken(user, null, List.of())));
+        return session;
+    }
+
+    @Test
+    public void save_indexesSignedInSessionOnce() {
+        MapSession session = signedInSession("user@test.com");
+
+        StepVerifier.create(sessionRepository.save(session)).verifyComplete();
+        StepVerifier.create(sessionRepository.save(session)).verifyComplete();
+
+        Mockito.verify(delegate, Mockito.times(2)).save(session);
+        Mockito.verify(userSessionIndex, Mockito.times(1)).add("user@test.com", session.getId(), Duration.ofDays(30));
+    }
+
+    @Test
+    public void save_doesNotIndexSessionWithoutUser() {
+        MapSession session = new MapSession();
+
+        StepVerifier.create(sessionRepository.save(session)).verifyComplete();
+
+        Mockito.verify(delegate).save(session);
+        Mockito.verifyNoInteractions(userSessionIndex);
+    }
+
+    @Test
+    public void deleteById_removesSessionFromIndex() {
+        MapSession session = signedInSession("user@test.com");
+        Mockito.when(delegate.findById(session.getId())).thenReturn(Mono.just(session));
+
+        StepVerifier.create(sessionRepository.deleteById(session.getId())).verifyComplete();
+
+        Mockito.verify(userSessionIndex).remove("user@test.com", session.getId());
+        Mockito.verify(delegate).deleteById(session.getId());
+    }
+}
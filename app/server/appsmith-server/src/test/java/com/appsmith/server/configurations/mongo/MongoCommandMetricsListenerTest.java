@@ -0,0 +1,120 @@
+package com.appsmith.server.configurations.mongo;
+
+import com.mongodb.RequestContext;
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ConnectionDescription;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MongoCommandMetricsListenerTest {
+
+    private static final ConnectionDescription CONNECTION_DESCRIPTION =
+            new ConnectionDescription(new ServerId(new ClusterId(), new ServerAddress()));
+
+    @Test
+    public void filterShape_find_replacesValues() {
+        BsonDocument command = BsonDocument.parse("{find: 'newPage', filter: {applicationId: 'app', deleted: false,"
+                + " 'policies.permissionGroups': {$in: ['a', 'b']}, $or: [{slug: 's'}, {name: {$exists: true}}]}}");
+
+        assertThat(MongoCommandMetricsListener.filterShape(command))
+                .isEqualTo("{applicationId: ?, deleted: ?, policies.permissionGroups: {$in: ?},"
+                        + " $or: [{slug: ?}, {name: {$exists: ?}}]}");
+        assertThat(MongoCommandMetricsListener.collectionName("find", command)).isEqualTo("newPage");
+    }
+
+    @Test
+    public void filterShape_update_usesFirstStatement() {
+        BsonDocument command =
+                BsonDocument.parse("{update: 'application', updates: [{q: {_id: 'id'}, u: {$set: {name: 'secret'}}}]}");
+
+        assertThat(MongoCommandMetricsListener.filterShape(command)).isEqualTo("{_id: ?}");
+    }
+
+    @Test
+    public void filterShape_insert_hasNoFilter() {
+        BsonDocument command = BsonDocument.parse("{insert: 'newAction', documents: [{name: 'secret'}]}");
+
+        assertThat(MongoCommandMetricsListener.filterShape(command)).isEqualTo("none");
+    }
+
+    @Test
+    public void commandSucceeded_recordsLatencyPerCollectionAndRepositoryMethod() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        MongoCommandMetricsListener listener =
+                new MongoCommandMetricsListener(meterRegistry, 500, false, new QueryShapeRegistry(10));
+
+        // The driver derives the request context from the subscriber to its publisher
+        AtomicReference<RequestContext> requestContext = new AtomicReference<>();
+        Publisher<Object> driverPublisher = subscriber ->
+                requestContext.set(MongoCommandMetricsListener.contextProvider().getContext(subscriber));
+        Mono.from(driverPublisher)
+                .contextWrite(Context.of(
+                        MongoCommandMetricsListener.REPOSITORY_METHOD_CONTEXT_KEY, "NewPageRepository.findById"))
+                .subscribe();
+        assertThat(requestContext.get()).isNotNull();
+
+        BsonDocument command = BsonDocument.parse("{find: 'newPage', filter: {_id: 'id'}}");
+        listener.commandStarted(
+                new CommandStartedEvent(requestContext.get(), 1, CONNECTION_DESCRIPTION, "appsmith", "find", command));
+        listener.commandSucceeded(new CommandSucceededEvent(
+                requestContext.get(),
+                1,
+                CONNECTION_DESCRIPTION,
+                "find",
+                new BsonDocument(),
+                TimeUnit.MILLISECONDS.toNanos(20)));
+
+        assertThat(meterRegistry
+                        .get("appsmith.mongo.commands")
+                        .tag("collection", "newPage")
+                        .tag("command", "find")
+                        .tag("method", "NewPageRepository.findById")
+                        .tag("status", "success")
+                        .timer()
+                        .totalTime(TimeUnit.MILLISECONDS))
+                .isEqualTo(20);
+        assertThat(meterRegistry.find("appsmith.mongo.commands.latency").timer())
+                .isNull();
+    }
+
+    @Test
+    public void commandSucceeded_histogramEnabled_recordsLatencyPerCollectionAndCommandOnly() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        MongoCommandMetricsListener listener = new MongoCommandMetricsListener(meterRegistry, 0, true, null);
+
+        for (int requestId = 1; requestId <= 2; requestId++) {
+            BsonDocument command = BsonDocument.parse("{find: 'newPage', filter: {_id: 'id'}}");
+            listener.commandStarted(
+                    new CommandStartedEvent(null, requestId, CONNECTION_DESCRIPTION, "appsmith", "find", command));
+            listener.commandSucceeded(new CommandSucceededEvent(
+                    null,
+                    requestId,
+                    CONNECTION_DESCRIPTION,
+                    "find",
+                    new BsonDocument(),
+                    TimeUnit.MILLISECONDS.toNanos(20)));
+        }
+
+        Timer latencyTimer = meterRegistry
+                .get("appsmith.mongo.commands.latency")
+                .tag("collection", "newPage")
+                .tag("command", "find")
+                .timer();
+        assertThat(latencyTimer.count()).isEqualTo(2);
+        assertThat(latencyTimer.getId().getTag("method")).isNull();
+    }
+}
@@ -0,0 +1,74 @@
+package com.appsmith.server.configurations.mongo;
+
+import com.appsmith.server.configurations.mongo.QueryShapeRegistry.QueryShape;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class QueryShapeRegistryTest {
+
+    @Test
+    public void record_sameShape_isCountedOnceWithFirstSample() {
+        QueryShapeRegistry registry = new QueryShapeRegistry(10);
+        BsonDocument first = BsonDocument.parse("{applicationId: 'app1', $and: [{deleted: false}], $or: [{a: 1}]}");
+        BsonDocument second = BsonDocument.parse("{applicationId: 'app2', $and: [{deleted: false}], $or: [{a: 1}]}");
+
+        registry.record("newPage", "NewPageRepository.findByApplicationId", first, "shape");
+        registry.record("newPage", "NewPageRepository.findByApplicationId", second, "shape");
+        registry.record("newAction", "unknown", BsonDocument.parse("{_id: 'id'}"), "otherShape");
+
+        List<QueryShape> queryShapes = registry.getQueryShapes();
+        assertThat(queryShapes).hasSize(2);
+        QueryShape queryShape = queryShapes.get(0);
+        assertThat(queryShape.getCollection()).isEqualTo("newPage");
+        assertThat(queryShape.getCount()).isEqualTo(2);
+        assertThat(queryShape.getFields()).containsExactlyInAnyOrder("applicationId", "deleted");
+        assertThat(queryShape.getSampleFilter())
+                .isEqualTo(BsonDocument.parse("{applicationId: '?', $and: [{deleted: false}], $or: [{a: 0}]}"));
+    }
+
+    @Test
+    public void record_pipeline_usesLeadingMatch() {
+        QueryShapeRegistry registry = new QueryShapeRegistry(10);
+        BsonArray pipeline = BsonArray.parse("[{$match: {workspaceId: 'w'}}, {$group: {_id: '$type'}}]");
+
+        registry.record("datasource", "unknown", pipeline, "shape");
+
+        QueryShape queryShape = registry.getQueryShapes().get(0);
+        assertThat(queryShape.getFields()).containsExactly("workspaceId");
+        assertThat(queryShape.getSampleFilter()).isEqualTo(BsonDocument.parse("{workspaceId: '?'}"));
+    }
+
+    @Test
+    public void record_sampleFilter_valuesAreRedactedKeepingTheirTypes() {
+        QueryShapeRegistry registry = new QueryShapeRegistry(10);
+        BsonDocument filter = BsonDocument.parse("{_id: {$in: [{$oid: '65a1b2c3d4e5f6a7b8c9d0e1'}]}, "
+                + "email: {$regex: '^secret'}, createdAt: {$gt: {$date: '2024-01-01T00:00:00Z'}}, "
+                + "count: {$gte: {$numberLong: '42'}}, deletedAt: null}");
+
+        registry.record("user", "unknown", filter, "shape");
+
+        assertThat(registry.getQueryShapes().get(0).getSampleFilter())
+                .isEqualTo(BsonDocument.parse("{_id: {$in: [{$oid: '000000000000000000000000'}]}, "
+                        + "email: {$regex: '?'}, createdAt: {$gt: {$date: 0}}, "
+                        + "count: {$gte: {$numberLong: '0'}}, deletedAt: null}"));
+        // The filter of the command itself is left as it is
+        assertThat(filter.getDocument("email").getString("$regex").getValue()).isEqualTo("^secret");
+    }
+
+    @Test
+    public void record_beyondMaxSize_isNotTracked() {
+        QueryShapeRegistry registry = new QueryShapeRegistry(1);
+
+        registry.record("newPage", "unknown", BsonDocument.parse("{a: 1}"), "shape1");
+        registry.record("newPage", "unknown", BsonDocument.parse("{b: 1}"), "shape2");
+        registry.record("newPage", "unknown", BsonDocument.parse("{a: 2}"), "shape1");
+
+        assertThat(registry.getQueryShapes()).singleElement().satisfies(queryShape -> assertThat(queryShape.getCount())
+                .isEqualTo(2));
+    }
+}
@@ -0,0 +1,36 @@
+package com.appsmith.server.configurations.mongo;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class StaleReadMongoOperationsTest {
+
+    private final ReactiveMongoOperations operations = mock(ReactiveMongoOperations.class);
+
+    @Test
+    public void hasCaughtUpWith_primaryOperations_alwaysCaughtUp() {
+        StaleReadMongoOperations staleReadMongoOperations = new StaleReadMongoOperations(operations, Duration.ZERO);
+
+        assertThat(staleReadMongoOperations.hasCaughtUpWith(Instant.now())).isTrue();
+        assertThat(staleReadMongoOperations.hasCaughtUpWith(null)).isTrue();
+    }
+
+    @Test
+    public void hasCaughtUpWith_secondaryOperations_onlyAfterMaxStaleness() {
+        StaleReadMongoOperations staleReadMongoOperations =
+                new StaleReadMongoOperations(operations, Duration.ofSeconds(90));
+
+        assertThat(staleReadMongoOperations.hasCaughtUpWith(Instant.now())).isFalse();
+        assertThat(staleReadMongoOperations.hasCaughtUpWith(Instant.now().minusSeconds(60)))
+                .isFalse();
+        assertThat(staleReadMongoOperations.hasCaughtUpWith(Instant.now().minusSeconds(91)))
+                .isTrue();
+        assertThat(staleReadMongoOperations.hasCaughtUpWith(null)).isTrue();
+    }
+}
@@ -0,0 +1,68 @@
+package com.appsmith.server.controllers;
+
+import com.appsmith.server.configurations.SecurityTestConfig;
+import com.appsmith.server.domains.ApplicationMode;
+import com.appsmith.server.dtos.ConsolidatedAPIResponseDTO;
+import com.appsmith.server.services.ConsolidatedAPIService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+@AutoConfigureWebTestClient
+@Import({SecurityTestConfig.class})
+public class ConsolidatedAPIControllerTest {
+
+    @Autowired
+    private WebTestClient client;
+
+    @MockBean
+    private ConsolidatedAPIService consolidatedAPIService;
+
+    @Test
+    @WithMockUser
+    void viewMode_consecutiveLoads_secondIsNotModified() {
+        doReturn(Mono.just("eTag"))
+                .when(consolidatedAPIService)
+                .getConsolidatedInfoForPageLoadETag(eq("pageId"), any(), any());
+        doReturn(Mono.empty()).when(consolidatedAPIService).markApplicationRecentlyAccessed(eq("pageId"), any(), any());
+        doReturn(Mono.just(new ConsolidatedAPIResponseDTO()))
+                .when(consolidatedAPIService)
+                .getConsolidatedInfoForPageLoad(eq("pageId"), any(), any(), eq(ApplicationMode.PUBLISHED));
+
+        String eTag = client.get()
+                .uri("/api/v1/consolidated-api/view?defaultPageId=pageId")
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectHeader()
+                .exists("ETag")
+                .returnResult(String.class)
+                .getResponseHeaders()
+                .getETag();
+
+        client.get()
+                .uri("/api/v1/consolidated-api/view?defaultPageId=pageId")
+                .ifNoneMatch(eTag)
+                .exchange()
+                .expectStatus()
+                .isNotModified();
+
+        verify(consolidatedAPIService, times(1))
+                .getConsolidatedInfoForPageLoad(eq("pageId"), any(), any(), eq(ApplicationMode.PUBLISHED));
+        // The load that is answered with a 304 still records the application as recently used
+        verify(consolidatedAPIService, times(1)).markApplicationRecentlyAccessed(eq("pageId"), any(), any());
+    }
+}
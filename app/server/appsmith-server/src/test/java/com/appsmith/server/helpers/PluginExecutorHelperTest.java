@@ -0,0 +1,109 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.server.domains.Plugin;
+import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.repositories.PluginRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.pf4j.PluginManager;
+import org.pf4j.PluginState;
+import org.pf4j.PluginStateEvent;
+import org.pf4j.PluginStateListener;
+import org.pf4j.PluginWrapper;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class PluginExecutorHelperTest {
+
+    private PluginManager pluginManager;
+    private PluginRepository pluginRepository;
+    private final List<PluginWrapper> startedPlugins = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        pluginManager = Mockito.mock(PluginManager.class);
+        pluginRepository = Mockito.mock(PluginRepository.class);
+        Mockito.when(pluginManager.getStartedPlugins()).thenReturn(startedPlugins);
+    }
+
+    private PluginExecutor startPlugin(String packageName) {
+        PluginWrapper pluginWrapper = Mockito.mock(PluginWrapper.class);
+        Mockito.when(pluginWrapper.getPluginId()).thenReturn(packageName);
+        startedPlugins.add(pluginWrapper);
+
+        PluginExecutor pluginExecutor = new MockPluginExecutor();
+        Mockito.when(pluginManager.getExtensions(PluginExecutor.class, packageName))
+                .thenReturn(List.of(pluginExecutor));
+        return pluginExecutor;
+    }
+
+    @Test
+    public void getPluginExecutorFromPackageName_startedPlugin_doesNotScanExtensionsAgain() {
+        PluginExecutor pluginExecutor = startPlugin("postgres-plugin");
+        PluginExecutorHelper pluginExecutorHelper = new PluginExecutorHelper(pluginManager, pluginRepository);
+
+        StepVerifier.create(pluginExecutorHelper.getPluginExecutorFromPackageName("postgres-plugin"))
+                .expectNext(pluginExecutor)
+                .verifyComplete();
+        StepVerifier.create(pluginExecutorHelper.getPluginExecutorFromPackageName("postgres-plugin"))
+                .expectNext(pluginExecutor)
+                .verifyComplete();
+
+        // Only the scan while building the registry
+        Mockito.verify(pluginManager, Mockito.times(1)).getExtensions(PluginExecutor.class, "postgres-plugin");
+    }
+
+    @Test
+    public void getPluginExecutorFromPackageName_pluginStartedLater_isRegisteredOnStateEvent() {
+        PluginExecutorHelper pluginExecutorHelper = new PluginExecutorHelper(pluginManager, pluginRepository);
+        ArgumentCaptor<PluginStateListener> listenerCaptor = ArgumentCaptor.forClass(PluginStateListener.class);
+        Mockito.verify(pluginManager).addPluginStateListener(listenerCaptor.capture());
+
+        PluginExecutor pluginExecutor = startPlugin("saas-plugin");
+        Mockito.when(startedPlugins.get(0).getPluginState()).thenReturn(PluginState.STARTED);
+        listenerCaptor
+                .getValue()
+                .pluginStateChanged(new PluginStateEvent(pluginManager, startedPlugins.get(0), PluginState.RESOLVED));
+
+        StepVerifier.create(pluginExecutorHelper.getPluginExecutorFromPackageName("saas-plugin"))
+                .expectNext(pluginExecutor)
+                .verifyComplete();
+        Mockito.verify(pluginManager, Mockito.times(1)).getExtensions(PluginExecutor.class, "saas-plugin");
+    }
+
+    @Test
+    public void getPluginExecutorFromPluginId_readsPluginOnlyOnce() {
+        PluginExecutor pluginExecutor = startPlugin("postgres-plugin");
+        Plugin plugin = new Plugin();
+        plugin.setId("pluginId");
+        plugin.setPackageName("postgres-plugin");
+        Mockito.when(pluginRepository.findById("pluginId")).thenReturn(Mono.just(plugin));
+        PluginExecutorHelper pluginExecutorHelper = new PluginExecutorHelper(pluginManager, pluginRepository);
+
+        StepVerifier.create(pluginExecutorHelper.getPluginExecutorFromPluginId("pluginId"))
+                .expectNext(pluginExecutor)
+                .verifyComplete();
+        StepVerifier.create(pluginExecutorHelper.getPluginExecutorFromPluginId("pluginId"))
+                .expectNext(pluginExecutor)
+                .verifyComplete();
+
+        Mockito.verify(pluginRepository, Mockito.times(1)).findById("pluginId");
+    }
+
+    @Test
+    public void getPluginExecutorFromPackageName_unknownPlugin_returnsError() {
+        Mockito.when(pluginManager.getExtensions(PluginExecutor.class, "unknown-plugin"))
+                .thenReturn(List.of());
+        PluginExecutorHelper pluginExecutorHelper = new PluginExecutorHelper(pluginManager, pluginRepository);
+
+        StepVerifier.create(pluginExecutorHelper.getPluginExecutorFromPackageName("unknown-plugin"))
+                .expectError(AppsmithException.class)
+                .verify();
+    }
+}
@@ -0,0 +1,70 @@
+package com.appsmith.server.helpers;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RequestMemoUtilsTest {
+
+    private static Mono<Integer> lookup(AtomicInteger lookups) {
+        return RequestMemoUtils.memoize(
+                RequestMemoUtils.key("lookup", "id", null), () -> Mono.fromCallable(lookups::incrementAndGet));
+    }
+
+    @Test
+    public void memoize_withMemo_looksUpOncePerKey() {
+        AtomicInteger lookups = new AtomicInteger();
+        AtomicInteger otherLookups = new AtomicInteger();
+
+        Mono<Integer> other = RequestMemoUtils.memoize(
+                RequestMemoUtils.key("lookup", "otherId", null),
+                () -> Mono.fromCallable(otherLookups::incrementAndGet));
+
+        StepVerifier.create(Mono.zip(lookup(lookups), lookup(lookups), other).contextWrite(RequestMemoUtils::withMemo))
+                .assertNext(tuple -> {
+                    assertThat(tuple.getT1()).isEqualTo(1);
+                    assertThat(tuple.getT2()).isEqualTo(1);
+                    assertThat(tuple.getT3()).isEqualTo(1);
+                })
+                .verifyComplete();
+        assertThat(lookups.get()).isEqualTo(1);
+        assertThat(otherLookups.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void memoize_withoutMemo_looksUpEveryTime() {
+        AtomicInteger lookups = new AtomicInteger();
+
+        StepVerifier.create(Mono.zip(lookup(lookups), lookup(lookups)))
+                .assertNext(tuple -> assertThat(tuple.getT2()).isNotEqualTo(tuple.getT1()))
+                .verifyComplete();
+        assertThat(lookups.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void memoize_separateRequests_doNotShareResults() {
+        AtomicInteger lookups = new AtomicInteger();
+
+        StepVerifier.create(lookup(lookups).contextWrite(RequestMemoUtils::withMemo))
+                .expectNext(1)
+                .verifyComplete();
+        StepVerifier.create(lookup(lookups).contextWrite(RequestMemoUtils::withMemo))
+                .expectNext(2)
+                .verifyComplete();
+    }
+
+    @Test
+    public void withMemo_enclosingMemo_isKept() {
+        AtomicInteger lookups = new AtomicInteger();
+
+        StepVerifier.create(Mono.zip(lookup(lookups).contextWrite(RequestMemoUtils::withMemo), lookup(lookups))
+                        .contextWrite(RequestMemoUtils::withMemo))
+                .assertNext(tuple -> assertThat(tuple.getT2()).isEqualTo(tuple.getT1()))
+                .verifyComplete();
+        assertThat(lookups.get()).isEqualTo(1);
+    }
+}
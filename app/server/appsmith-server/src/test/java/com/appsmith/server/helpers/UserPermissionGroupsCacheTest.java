@@ -0,0 +1,119 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.server.configurations.PermissionGroupCacheConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+
+public class UserPermissionGroupsCacheTest {
+
+    private static final String CHANNEL = "appsmith:permission-groups:evict";
+
+    private final Sinks.Many<ReactiveSubscription.Message<String, String>> evictions =
+            Sinks.many().multicast().directBestEffort();
+
+    private ReactiveRedisTemplate<String, String> reactiveTemplate;
+    private UserPermissionGroupsCache userPermissionGroupsCache;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        PermissionGroupCacheConfig permissionGroupCacheConfig = Mockito.mock(PermissionGroupCacheConfig.class);
+        Mockito.when(permissionGroupCacheConfig.isEnabled()).thenReturn(true);
+        Mockito.when(permissionGroupCacheConfig.getMaxSize()).thenReturn(100L);
+        Mockito.when(permissionGroupCacheConfig.getTtlInSeconds()).thenReturn(60L);
+
+        ReactiveRedisMessageListenerContainer listenerContainer =
+                Mockito.mock(ReactiveRedisMessageListenerContainer.class);
+        Mockito.when(listenerContainer.receive(any(ChannelTopic.class))).thenReturn(evictions.asFlux());
+
+        reactiveTemplate = Mockito.mock(ReactiveRedisTemplate.class);
+        Mockito.when(reactiveTemplate.convertAndSend(anyString(), anyString())).thenReturn(Mono.just(1L));
+
+        userPermissionGroupsCache = new UserPermissionGroupsCache(
+                permissionGroupCacheConfig, reactiveTemplate, new SimpleMeterRegistry(), listenerContainer);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        userPermissionGroupsCache.destroy();
+    }
+
+    private Mono<Set<String>> loader() {
+        return Mono.fromSupplier(() -> {
+            loads.incrementAndGet();
+            return new HashSet<>(Set.of("pg1", "anonymousPg"));
+        });
+    }
+
+    @Test
+    public void get_loadsOnceAndServesImmutableSet() {
+        StepVerifier.create(userPermissionGroupsCache.get("user@test.com", "tenantId", loader()))
+                .assertNext(permissionGroups ->
+                        assertThat(permissionGroups).containsExactlyInAnyOrder("pg1", "anonymousPg"))
+                .verifyComplete();
+
+        Set<String> cached = userPermissionGroupsCache
+                .get("user@test.com", "tenantId", loader())
+                .block();
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cached).isUnmodifiable();
+    }
+
+    @Test
+    public void evict_dropsLocalEntryAndPublishesToOtherNodes() {
+        userPermissionGroupsCache.get("user@test.com", "tenantId", loader()).block();
+
+        StepVerifier.create(userPermissionGroupsCache.evict("user@test.com", "tenantId"))
+                .verifyComplete();
+        userPermissionGroupsCache.get("user@test.com", "tenantId", loader()).block();
+
+        assertThat(loads.get()).isEqualTo(2);
+        Mockito.verify(reactiveTemplate).convertAndSend(CHANNEL, "user@test.comtenantId");
+    }
+
+    @Test
+    public void evictionFromAnotherNode_dropsLocalEntry() {
+        userPermissionGroupsCache.get("user@test.com", "tenantId", loader()).block();
+        userPermissionGroupsCache.get("other@test.com", "tenantId", loader()).block();
+
+        evictions.tryEmitNext(new ReactiveSubscription.ChannelMessage<>(CHANNEL, "user@test.comtenantId"));
+
+        userPermissionGroupsCache.get("user@test.com", "tenantId", loader()).block();
+        userPermissionGroupsCache.get("other@test.com", "tenantId", loader()).block();
+
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void get_doesNotCacheLoadThatRacedWithEviction() {
+        Mono<Set<String>> loaderRacingEviction = loader().flatMap(permissionGroups ->
+                userPermissionGroupsCache.evict("user@test.com", "tenantId").thenReturn(permissionGroups));
+
+        userPermissionGroupsCache
+                .get("user@test.com", "tenantId", loaderRacingEviction)
+                .block();
+        userPermissionGroupsCache.get("user@test.com", "tenantId", loader()).block();
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+}
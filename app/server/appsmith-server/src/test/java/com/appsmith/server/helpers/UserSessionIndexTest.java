@@ -0,0 +1,176 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.server.configurations.RedisConfig;
+import com.appsmith.server.configurations.RedisTestContainerConfig;
+import com.appsmith.server.domains.User;
+import com.appsmith.server.migrations.db.ce.Migration056IndexExistingUserSessions;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextImpl;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+
+import static com.appsmith.server.helpers.UserSessionIndex.REINDEX_INTERVAL;
+import static com.appsmith.server.helpers.UserSessionIndex.SESSION_KEY_PREFIX;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.web.server.context.WebSessionServerSecurityContextRepository.DEFAULT_SPRING_SECURITY_CONTEXT_ATTR_NAME;
+
+/**
+ * Runs the index against the Redis container of {@link RedisTestContainerConfig}, with the sessions stored the way the
+ * session repository stores them.
+ */
+public class UserSessionIndexTest {
+
+    private static final String INDEX_KEY_PREFIX = "appsmith:session-index:";
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static ReactiveRedisTemplate<String, String> reactiveTemplate;
+    private static ReactiveRedisTemplate<String, Object> sessionTemplate;
+
+    private UserSessionIndex userSessionIndex;
+
+    @BeforeAll
+    public static void setUpRedis() {
+        ReactiveRedisConnectionFactory factory = new RedisTestContainerConfig().reactiveRedisConnectionFactory();
+        connectionFactory = (LettuceConnectionFactory) factory;
+        connectionFactory.afterPropertiesSet();
+        reactiveTemplate = new ReactiveStringRedisTemplate(connectionFactory);
+        sessionTemplate = new ReactiveRedisTemplate<>(
+                connectionFactory,
+                RedisSerializationContext.<String, Object>newSerializationContext(
+                                new RedisConfig().springSessionDefaultRedisSerializer())
+                        .key(new StringRedisSerializer())
+                        .hashKey(new StringRedisSerializer())
+                        .build());
+    }
+
+    @AfterAll
+    public static void tearDownRedis() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    public void setUp() {
+        reactiveTemplate
+                .execute(connection -> connection.serverCommands().flushAll())
+                .blockLast();
+        userSessionIndex = new UserSessionIndex(reactiveTemplate, sessionTemplate);
+    }
+
+    private static void saveSession(String sessionId, String email, Duration timeToLive) {
+        final String key = SESSION_KEY_PREFIX + sessionId;
+        sessionTemplate.opsForHash().put(key, "creationTime", 0L).block();
+        if (email != null) {
+            User user = new User();
+            user.setEmail(email);
+            sessionTemplate
+                    .opsForHash()
+                    .put(
+                            key,
+                            "sessionAttr:" + DEFAULT_SPRING_SECURITY_CONTEXT_ATTR_NAME,
+                            new SecurityContextImpl(new UsernamePasswordAuthenticationToken(user, null, List.of())))
+                    .block();
+        }
+        if (timeToLive != null) {
+            sessionTemplate.expire(key, timeToLive).block();
+        }
+    }
+
+    private static Duration indexTimeToLive(String email) {
+        return reactiveTemplate.getExpire(INDEX_KEY_PREFIX + email).block();
+    }
+
+    @Test
+    public void getSessionKeys_expiredSessions_areDroppedFromIndex() {
+        saveSession("live", "user@test.com", Duration.ofHours(1));
+        StepVerifier.create(userSessionIndex
+                        .add("user@test.com", "live", Duration.ofHours(1))
+                        .then(userSessionIndex.add("user@test.com", "expired", Duration.ofHours(1))))
+                .verifyComplete();
+
+        StepVerifier.create(userSessionIndex.getSessionKeys("user@test.com"))
+                .assertNext(keys -> assertThat(keys).containsExactly(SESSION_KEY_PREFIX + "live"))
+                .verifyComplete();
+        StepVerifier.create(reactiveTemplate
+                        .opsForSet()
+                        .members(INDEX_KEY_PREFIX + "user@test.com")
+                        .collectList())
+                .assertNext(sessionIds -> assertThat(sessionIds).containsExactly("live"))
+                .verifyComplete();
+    }
+
+    @Test
+    public void addAndRemove_emailsInDifferentCase_useSameIndex() {
+        saveSession("session", "User@Test.com", Duration.ofHours(1));
+        StepVerifier.create(userSessionIndex.add("User@Test.com", "session", Duration.ofHours(1)))
+                .verifyComplete();
+
+        StepVerifier.create(userSessionIndex.getSessionKeys("user@test.com"))
+                .assertNext(keys -> assertThat(keys).containsExactly(SESSION_KEY_PREFIX + "session"))
+                .verifyComplete();
+
+        StepVerifier.create(userSessionIndex.remove("USER@TEST.COM", "session")).verifyComplete();
+        StepVerifier.create(userSessionIndex.getSessionKeys("user@test.com"))
+                .assertNext(keys -> assertThat(keys).isEmpty())
+                .verifyComplete();
+    }
+
+    @Test
+    public void add_eachSession_refreshesIndexTimeToLive() {
+        StepVerifier.create(userSessionIndex.add("user@test.com", "first", Duration.ofMinutes(10)))
+                .verifyComplete();
+        assertThat(indexTimeToLive("user@test.com"))
+                .isGreaterThan(REINDEX_INTERVAL)
+                .isLessThanOrEqualTo(Duration.ofMinutes(10).plus(REINDEX_INTERVAL));
+
+        StepVerifier.create(userSessionIndex.add("user@test.com", "second", Duration.ofHours(2)))
+                .verifyComplete();
+        assertThat(indexTimeToLive("user@test.com"))
+                .isGreaterThan(Duration.ofHours(2))
+                .isLessThanOrEqualTo(Duration.ofHours(2).plus(REINDEX_INTERVAL));
+
+        // A session that never expires keeps the index around for as long
+        StepVerifier.create(userSessionIndex.add("user@test.com", "third", Duration.ofSeconds(-1)))
+                .verifyComplete();
+        assertThat(indexTimeToLive("user@test.com")).isZero();
+    }
+
+    @Test
+    public void migration056_existingSessions_areIndexedByUser() {
+        saveSession("first", "user@test.com", Duration.ofHours(1));
+        saveSession("second", "User@Test.com", Duration.ofHours(2));
+        saveSession("persistent", "other@test.com", null);
+        saveSession("anonymous", null, Duration.ofHours(1));
+
+        new Migration056IndexExistingUserSessions(userSessionIndex).executeMigration();
+
+        StepVerifier.create(userSessionIndex.getSessionKeys("user@test.com"))
+                .assertNext(keys -> assertThat(keys)
+                        .containsExactlyInAnyOrder(SESSION_KEY_PREFIX + "first", SESSION_KEY_PREFIX + "second"))
+                .verifyComplete();
+        // The index outlives the longest lived of the sessions in it
+        assertThat(indexTimeToLive("user@test.com"))
+                .isGreaterThan(Duration.ofHours(2))
+                .isLessThanOrEqualTo(Duration.ofHours(2).plus(REINDEX_INTERVAL));
+
+        StepVerifier.create(userSessionIndex.getSessionKeys("other@test.com"))
+                .assertNext(keys -> assertThat(keys).containsExactly(SESSION_KEY_PREFIX + "persistent"))
+                .verifyComplete();
+        assertThat(indexTimeToLive("other@test.com")).isZero();
+
+        StepVerifier.create(reactiveTemplate.keys(INDEX_KEY_PREFIX + "*").collectList())
+                .assertNext(indexKeys -> assertThat(indexKeys).hasSize(2))
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,118 @@
+package com.appsmith.server.newactions.execution;
+
+import com.appsmith.external.models.ActionExecutionRequest;
+import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.server.configurations.ActionExecutionConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ActionExecutionCoalescerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ActionExecutionCoalescer coalescer;
+
+    @BeforeEach
+    public void setUp() {
+        ActionExecutionConfig actionExecutionConfig = Mockito.mock(ActionExecutionConfig.class);
+        Mockito.when(actionExecutionConfig.isCoalescingEnabled()).thenReturn(true);
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = new ActionExecutionCoalescer(actionExecutionConfig, meterRegistry);
+    }
+
+    private static ActionExecutionResult result(String body) {
+        ActionExecutionResult result = new ActionExecutionResult();
+        result.setIsExecutionSuccess(true);
+        result.setBody(body);
+        result.setRequest(new ActionExecutionRequest());
+        return result;
+    }
+
+    private double count(String result) {
+        return meterRegistry
+                .get("appsmith.action.execution.coalescing")
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+
+    @Test
+    public void coalesce_overlappingExecutions_shareOneExecution() {
+        Sinks.One<ActionExecutionResult> pluginResult = Sinks.one();
+        AtomicInteger subscriptions = new AtomicInteger();
+        Mono<ActionExecutionResult> execution =
+                pluginResult.asMono().doOnSubscribe(subscription -> subscriptions.incrementAndGet());
+
+        AtomicReference<ActionExecutionResult> first = new AtomicReference<>();
+        AtomicReference<ActionExecutionResult> second = new AtomicReference<>();
+        coalescer.coalesce("key", execution).subscribe(first::set);
+        coalescer.coalesce("key", execution).subscribe(second::set);
+
+        pluginResult.tryEmitValue(result("rows"));
+
+        assertThat(subscriptions.get()).isEqualTo(1);
+        assertThat(first.get().getBody()).isEqualTo("rows");
+        assertThat(second.get().getBody()).isEqualTo("rows");
+        // Each caller gets its own copy to modify
+        assertThat(first.get()).isNotSameAs(second.get());
+        assertThat(first.get().getRequest()).isNotSameAs(second.get().getRequest());
+
+        assertThat(count("executed")).isEqualTo(1);
+        assertThat(count("coalesced")).isEqualTo(1);
+    }
+
+    @Test
+    public void coalesce_executionAfterCompletion_runsAgain() {
+        AtomicInteger executions = new AtomicInteger();
+        Mono<ActionExecutionResult> execution = Mono.fromCallable(() -> result("run " + executions.incrementAndGet()));
+
+        StepVerifier.create(coalescer.coalesce("key", execution))
+                .assertNext(result -> assertThat(result.getBody()).isEqualTo("run 1"))
+                .verifyComplete();
+        StepVerifier.create(coalescer.coalesce("key", execution))
+                .assertNext(result -> assertThat(result.getBody()).isEqualTo("run 2"))
+                .verifyComplete();
+
+        assertThat(count("coalesced")).isZero();
+    }
+
+    @Test
+    public void coalesce_differentKeys_areNotMerged() {
+        Sinks.One<ActionExecutionResult> pluginResult = Sinks.one();
+        AtomicInteger subscriptions = new AtomicInteger();
+        Mono<ActionExecutionResult> execution =
+                pluginResult.asMono().doOnSubscribe(subscription -> subscriptions.incrementAndGet());
+
+        Disposable first = coalescer.coalesce("key1", execution).subscribe();
+        Disposable second = coalescer.coalesce("key2", execution).subscribe();
+
+        assertThat(subscriptions.get()).isEqualTo(2);
+
+        first.dispose();
+        second.dispose();
+    }
+
+    @Test
+    public void coalesce_oneCallerCancels_othersStillGetResult() {
+        Sinks.One<ActionExecutionResult> pluginResult = Sinks.one();
+
+        Disposable first = coalescer.coalesce("key", pluginResult.asMono()).subscribe();
+        AtomicReference<ActionExecutionResult> second = new AtomicReference<>();
+        coalescer.coalesce("key", pluginResult.asMono()).subscribe(second::set);
+
+        first.dispose();
+        pluginResult.tryEmitValue(result("rows"));
+
+        assertThat(second.get().getBody()).isEqualTo("rows");
+    }
+}
@@ -0,0 +1,136 @@
+package com.appsmith.server.newactions.execution;
+
+import com.appsmith.external.dtos.ExecuteActionDTO;
+import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.Param;
+import com.appsmith.server.configurations.ActionExecutionConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ActionExecutionResultCacheTest {
+
+    private ActionExecutionResultCache actionExecutionResultCache;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    public void setUp() {
+        ActionExecutionConfig actionExecutionConfig = Mockito.mock(ActionExecutionConfig.class);
+        Mockito.when(actionExecutionConfig.getResultCacheMaxSizeInMb()).thenReturn(1L);
+        Mockito.when(actionExecutionConfig.getResultCacheMaxEntrySizeInKb()).thenReturn(1L);
+        Mockito.when(actionExecutionConfig.isResultCacheRedisEnabled()).thenReturn(false);
+
+        meterRegistry = new SimpleMeterRegistry();
+        actionExecutionResultCache = new ActionExecutionResultCache(
+                Mockito.mock(ReactiveRedisOperations.class), actionExecutionConfig, new ObjectMapper(), meterRegistry);
+    }
+
+    private ExecuteActionDTO executeActionDTO(Param... params) {
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        executeActionDTO.setParams(new ArrayList<>(List.of(params)));
+        return executeActionDTO;
+    }
+
+    private ActionExecutionResult successfulResult(Object body) {
+        ActionExecutionResult result = new ActionExecutionResult();
+        result.setIsExecutionSuccess(true);
+        result.setBody(body);
+        return result;
+    }
+
+    @Test
+    public void getKey_sameParamsInDifferentOrder_sameKey() {
+        String key1 = actionExecutionResultCache.getKey(
+                "actionId", "envId", executeActionDTO(new Param("a", "1"), new Param("b", "2")));
+        String key2 = actionExecutionResultCache.getKey(
+                "actionId", "envId", executeActionDTO(new Param("b", "2"), new Param("a", "1")));
+
+        assertThat(key1).isEqualTo(key2);
+    }
+
+    @Test
+    public void getKey_differentEnvironmentOrParams_differentKey() {
+        String key = actionExecutionResultCache.getKey("actionId", "envId", executeActionDTO(new Param("a", "1")));
+
+        assertThat(actionExecutionResultCache.getKey("actionId", "otherEnvId", executeActionDTO(new Param("a", "1"))))
+                .isNotEqualTo(key);
+        assertThat(actionExecutionResultCache.getKey("actionId", "envId", executeActionDTO(new Param("a", "2"))))
+                .isNotEqualTo(key);
+    }
+
+    @Test
+    public void put_successfulResult_servedFromLocalCache() {
+        StepVerifier.create(actionExecutionResultCache
+                        .put("key", 60, successfulResult(List.of("row1", "row2")))
+                        .then(actionExecutionResultCache.get("key", 60)))
+                .assertNext(result -> {
+                    assertThat(result.getIsExecutionSuccess()).isTrue();
+                    assertThat(result.getBody()).isEqualTo(List.of("row1", "row2"));
+                })
+                .verifyComplete();
+
+        assertThat(meterRegistry
+                        .get("appsmith.action.execution.cache")
+                        .tag("result", "hit")
+                        .counter()
+                        .count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void put_failedOrOversizedResult_notCached() {
+        ActionExecutionResult failedResult = successfulResult("error");
+        failedResult.setIsExecutionSuccess(false);
+
+        StepVerifier.create(actionExecutionResultCache
+                        .put("failed", 60, failedResult)
+                        .then(actionExecutionResultCache.put("large", 60, successfulResult("x".repeat(2048))))
+                        .then(actionExecutionResultCache.get("failed", 60))
+                        .switchIfEmpty(actionExecutionResultCache.get("large", 60)))
+                .verifyComplete();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void get_redisHit_keepsAgeOfRedisEntryInLocalCache() {
+        ActionExecutionConfig actionExecutionConfig = Mockito.mock(ActionExecutionConfig.class);
+        Mockito.when(actionExecutionConfig.getResultCacheMaxSizeInMb()).thenReturn(1L);
+        Mockito.when(actionExecutionConfig.isResultCacheRedisEnabled()).thenReturn(true);
+
+        ReactiveRedisOperations<String, String> redisOperations = Mockito.mock(ReactiveRedisOperations.class);
+        ReactiveValueOperations<String, String> valueOperations = Mockito.mock(ReactiveValueOperations.class);
+        Mockito.when(redisOperations.opsForValue()).thenReturn(valueOperations);
+        Mockito.when(valueOperations.get("actionExecutionResult:key"))
+                .thenReturn(Mono.just("{\"isExecutionSuccess\":true,\"body\":\"cached\"}"));
+        // Written with a duration of 60 seconds, of which 55 have passed
+        Mockito.when(redisOperations.getExpire("actionExecutionResult:key"))
+                .thenReturn(Mono.just(Duration.ofSeconds(5)));
+
+        ActionExecutionResultCache cache = new ActionExecutionResultCache(
+                redisOperations, actionExecutionConfig, new ObjectMapper(), new SimpleMeterRegistry());
+
+        StepVerifier.create(cache.get("key", 60))
+                .assertNext(result -> assertThat(result.getBody()).isEqualTo("cached"))
+                .verifyComplete();
+
+        // The local entry is as old as the Redis one, so it's too old for a 30 second duration
+        StepVerifier.create(cache.get("key", 30))
+                .assertNext(result -> assertThat(result.getBody()).isEqualTo("cached"))
+                .verifyComplete();
+
+        Mockito.verify(valueOperations, Mockito.times(2)).get("actionExecutionResult:key");
+    }
+}
@@ -0,0 +1,205 @@
+package com.appsmith.server.newactions.execution;
+
+import com.appsmith.external.models.ActionExecutionRequest;
+import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.views.Views;
+import com.appsmith.server.configurations.ActionExecutionConfig;
+import com.appsmith.server.dtos.ResponseDTO;
+import com.appsmith.util.SerializationUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2CodecSupport;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ChunkedActionExecutionResultWriterTest {
+
+    private final ObjectMapper objectMapper = SerializationUtils.getDefaultObjectMapper(null);
+    private ChunkedActionExecutionResultWriter writer;
+
+    @BeforeEach
+    public void setUp() {
+        ActionExecutionConfig actionExecutionConfig = Mockito.mock(ActionExecutionConfig.class);
+        Mockito.when(actionExecutionConfig.isResponseChunkingEnabled()).thenReturn(true);
+        Mockito.when(actionExecutionConfig.getResponseChunkSizeInKb()).thenReturn(1);
+        writer = new ChunkedActionExecutionResultWriter(objectMapper, actionExecutionConfig);
+    }
+
+    private static ResponseDTO<ActionExecutionResult> largeResponse() {
+        List<Map<String, String>> rows = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            rows.add(Map.of("id", String.valueOf(i), "name", "row number " + i));
+        }
+
+        ActionExecutionRequest request = new ActionExecutionRequest();
+        request.setActionId("actionId");
+        request.setRequestedAt(Instant.now());
+        request.setQuery("SELECT * FROM users");
+
+        ActionExecutionResult result = new ActionExecutionResult();
+        result.setIsExecutionSuccess(true);
+        result.setBody(rows);
+        result.setRequest(request);
+        return new ResponseDTO<>(HttpStatus.OK.value(), result, null);
+    }
+
+    @Test
+    public void canWrite_onlyForExecutionResponses() {
+        assertThat(writer.canWrite(
+                        ResolvableType.forClassWithGenerics(ResponseDTO.class, ActionExecutionResult.class),
+                        MediaType.APPLICATION_JSON))
+                .isTrue();
+        assertThat(writer.canWrite(
+                        ResolvableType.forClassWithGenerics(ResponseDTO.class, String.class),
+                        MediaType.APPLICATION_JSON))
+                .isFalse();
+        assertThat(writer.canWrite(ResolvableType.forClass(Object.class), null)).isFalse();
+    }
+
+    @Test
+    public void write_largeResponse_isWrittenInChunksWithSameContent() throws Exception {
+        ResponseDTO<ActionExecutionResult> response = largeResponse();
+        String expected = objectMapper.writerWithView(Views.Public.class).writeValueAsString(response);
+
+        MockServerHttpResponse httpResponse = new MockServerHttpResponse();
+        StepVerifier.create(writer.write(
+                        Mono.just(response),
+                        ResolvableType.forClassWithGenerics(ResponseDTO.class, ActionExecutionResult.class),
+                        MediaType.APPLICATION_JSON,
+                        httpResponse,
+                        Map.of(Jackson2CodecSupport.JSON_VIEW_HINT, Views.Public.class)))
+                .verifyComplete();
+
+        List<DataBuffer> chunks = httpResponse.getBody().collectList().block();
+        assertThat(chunks).hasSizeGreaterThan(1);
+        assertThat(chunks).allMatch(chunk -> chunk.readableByteCount() <= 1024);
+
+        StringBuilder written = new StringBuilder();
+        chunks.forEach(chunk -> {
+            written.append(chunk.toString(StandardCharsets.UTF_8));
+            DataBufferUtils.release(chunk);
+        });
+        assertThat(written.toString()).isEqualTo(expected);
+        // Internal fields are left out as per the JSON view
+        assertThat(written.toString()).doesNotContain("SELECT * FROM users");
+        assertThat(httpResponse.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+    }
+
+    @Test
+    public void writeInChunks_producesOnlyWhatIsRequested() {
+        ResponseDTO<ActionExecutionResult> response = largeResponse();
+
+        StepVerifier.create(writer.writeInChunks(null, response, DefaultDataBufferFactory.sharedInstance, 1024), 2)
+                .expectNextCount(2)
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    public void writeInChunks_chunksAreWrittenOnRequestingThread() {
+        ResponseDTO<ActionExecutionResult> response = largeResponse();
+        Thread testThread = Thread.currentThread();
+        List<Thread> writingThreads = new ArrayList<>();
+
+        StepVerifier.create(writer.writeInChunks(null, response, DefaultDataBufferFactory.sharedInstance, 1024)
+                        .doOnNext(chunk -> {
+                            writingThreads.add(Thread.currentThread());
+                            DataBufferUtils.release(chunk);
+                        }))
+                .thenConsumeWhile(chunk -> true)
+                .verifyComplete();
+
+        // No worker thread is held waiting for the client to read
+        assertThat(writingThreads).hasSizeGreaterThan(1).containsOnly(testThread);
+    }
+
+    private String writeAll(ResponseDTO<ActionExecutionResult> response) {
+        StringBuilder written = new StringBuilder();
+        writer.writeInChunks(Views.Public.class, response, DefaultDataBufferFactory.sharedInstance, 1024)
+                .doOnNext(chunk -> {
+                    written.append(chunk.toString(StandardCharsets.UTF_8));
+                    DataBufferUtils.release(chunk);
+                })
+                .blockLast();
+        return written.toString();
+    }
+
+    @Test
+    public void writeInChunks_bodiesOfEveryShape_haveSameContentAsDefaultWriter() throws Exception {
+        ObjectNode row = objectMapper.createObjectNode().put("id", 1).put("name", "row");
+        List<Object> bodies = new ArrayList<>();
+        bodies.add(objectMapper.createArrayNode().add(row).add(row.deepCopy().put("id", 2)));
+        bodies.add(List.of());
+        bodies.add(row);
+        bodies.add("plain text body");
+        bodies.add(null);
+
+        for (Object body : bodies) {
+            ResponseDTO<ActionExecutionResult> response = largeResponse();
+            response.getData().setBody(body);
+            String expected = objectMapper.writerWithView(Views.Public.class).writeValueAsString(response);
+
+            assertThat(writeAll(response)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void writeInChunks_rowsAreSerializedOnlyAsChunksAreRequested() {
+        ResponseDTO<ActionExecutionResult> response = largeResponse();
+        List<?> rows = (List<?>) response.getData().getBody();
+        AtomicInteger serializedRows = new AtomicInteger();
+        // Counts the rows as they are taken to be serialized
+        response.getData().setBody(new AbstractCollection<Object>() {
+            @Override
+            public Iterator<Object> iterator() {
+                Iterator<?> iterator = rows.iterator();
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public Object next() {
+                        serializedRows.incrementAndGet();
+                        return iterator.next();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return rows.size();
+            }
+        });
+
+        StepVerifier.create(writer.writeInChunks(null, response, DefaultDataBufferFactory.sharedInstance, 1024), 1)
+                .assertNext(DataBufferUtils::release)
+                .thenCancel()
+                .verify();
+
+        // A 1 KB chunk holds a few dozen of the rows, out of the 500
+        assertThat(serializedRows.get()).isPositive().isLessThan(50);
+    }
+}
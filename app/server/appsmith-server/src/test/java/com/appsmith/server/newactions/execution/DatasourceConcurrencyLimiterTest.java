@@ -0,0 +1,211 @@
+package com.appsmith.server.newactions.execution;
+
+import com.appsmith.server.configurations.ActionExecutionConfig;
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DatasourceConcurrencyLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private DatasourceConcurrencyLimiter createLimiter(int limit, int maxQueueSize) {
+        return createLimiter(limit, maxQueueSize, 600);
+    }
+
+    private DatasourceConcurrencyLimiter createLimiter(int limit, int maxQueueSize, long idleTimeoutInSeconds) {
+        ActionExecutionConfig actionExecutionConfig = Mockito.mock(ActionExecutionConfig.class);
+        Mockito.when(actionExecutionConfig.isDatasourceConcurrencyLimitEnabled())
+                .thenReturn(true);
+        Mockito.when(actionExecutionConfig.getDatasourceConcurrencyInitialLimit())
+                .thenReturn(limit);
+        Mockito.when(actionExecutionConfig.getDatasourceConcurrencyMinLimit()).thenReturn(1);
+        Mockito.when(actionExecutionConfig.getDatasourceConcurrencyMaxLimit()).thenReturn(limit);
+        Mockito.when(actionExecutionConfig.getDatasourceConcurrencyMaxQueueSize())
+                .thenReturn(maxQueueSize);
+        Mockito.when(actionExecutionConfig.getDatasourceConcurrencyLatencyThresholdInMillis())
+                .thenReturn(60_000L);
+        Mockito.when(actionExecutionConfig.getDatasourceConcurrencyIdleTimeoutInSeconds())
+                .thenReturn(idleTimeoutInSeconds);
+
+        return new DatasourceConcurrencyLimiter(actionExecutionConfig, meterRegistry);
+    }
+
+    private double gauge(String name, String datasourceId) {
+        return meterRegistry
+                .get("appsmith.datasource.execution." + name)
+                .tag("datasourceId", datasourceId)
+                .gauge()
+                .value();
+    }
+
+    @Test
+    public void limit_beyondLimit_waitsForRunningExecution() {
+        DatasourceConcurrencyLimiter limiter = createLimiter(1, 10);
+        Sinks.One<String> first = Sinks.one();
+        AtomicInteger secondStarted = new AtomicInteger();
+
+        Disposable firstSubscription =
+                limiter.limit("ds1", "DS", first.asMono()).subscribe();
+        Disposable secondSubscription = limiter.limit("ds1", "DS", Mono.fromCallable(secondStarted::incrementAndGet))
+                .subscribe();
+
+        assertThat(secondStarted.get()).isZero();
+        assertThat(gauge("inflight", "ds1")).isEqualTo(1);
+        assertThat(gauge("queued", "ds1")).isEqualTo(1);
+
+        first.tryEmitValue("done");
+
+        assertThat(secondStarted.get()).isEqualTo(1);
+        assertThat(gauge("inflight", "ds1")).isZero();
+        assertThat(gauge("queued", "ds1")).isZero();
+
+        firstSubscription.dispose();
+        secondSubscription.dispose();
+    }
+
+    @Test
+    public void limit_queueFull_rejectsRightAway() {
+        DatasourceConcurrencyLimiter limiter = createLimiter(1, 0);
+        Sinks.One<String> first = Sinks.one();
+
+        Disposable firstSubscription =
+                limiter.limit("ds1", "DS", first.asMono()).subscribe();
+
+        StepVerifier.create(limiter.limit("ds1", "DS", Mono.just("second")))
+                .expectErrorMatches(error -> error instanceof AppsmithException
+                        && ((AppsmithException) error).getError()
+                                == AppsmithError.TOO_MANY_CONCURRENT_DATASOURCE_EXECUTIONS)
+                .verify();
+
+        // Other datasources are not affected
+        StepVerifier.create(limiter.limit("ds2", "Other DS", Mono.just("other")))
+                .expectNext("other")
+                .verifyComplete();
+
+        assertThat(meterRegistry
+                        .get("appsmith.datasource.execution.rejected")
+                        .tag("datasourceId", "ds1")
+                        .counter()
+                        .count())
+                .isEqualTo(1);
+
+        firstSubscription.dispose();
+    }
+
+    @Test
+    public void limit_cancelledWhileWaiting_doesNotHoldSlot() {
+        DatasourceConcurrencyLimiter limiter = createLimiter(1, 10);
+        Sinks.One<String> first = Sinks.one();
+
+        Disposable firstSubscription =
+                limiter.limit("ds1", "DS", first.asMono()).subscribe();
+
+        // Times out while waiting in the queue
+        StepVerifier.create(limiter.limit("ds1", "DS", Mono.just("second")).timeout(Duration.ofMillis(50)))
+                .expectError(TimeoutException.class)
+                .verify();
+
+        assertThat(gauge("queued", "ds1")).isZero();
+
+        first.tryEmitValue("done");
+
+        StepVerifier.create(limiter.limit("ds1", "DS", Mono.just("third")))
+                .expectNext("third")
+                .verifyComplete();
+        assertThat(gauge("inflight", "ds1")).isZero();
+
+        firstSubscription.dispose();
+    }
+
+    @Test
+    public void limit_timedOutExecution_reducesLimit() {
+        DatasourceConcurrencyLimiter limiter = createLimiter(10, 10);
+
+        StepVerifier.create(limiter.limit("ds1", "DS", Mono.never().timeout(Duration.ofMillis(50))))
+                .expectError(TimeoutException.class)
+                .verify();
+
+        assertThat(gauge("limit", "ds1")).isEqualTo(9);
+        assertThat(gauge("inflight", "ds1")).isZero();
+    }
+
+    @Test
+    public void limit_cancelledExecution_keepsLimit() {
+        DatasourceConcurrencyLimiter limiter = createLimiter(10, 10);
+
+        // Like a client that goes away while the execution is running
+        Disposable subscription = limiter.limit("ds1", "DS", Mono.never()).subscribe();
+        assertThat(gauge("inflight", "ds1")).isEqualTo(1);
+        subscription.dispose();
+
+        assertThat(gauge("limit", "ds1")).isEqualTo(10);
+        assertThat(gauge("inflight", "ds1")).isZero();
+    }
+
+    @Test
+    public void evictIdleBulkheads_removesIdleDatasourcesAndTheirMeters() {
+        DatasourceConcurrencyLimiter limiter = createLimiter(1, 10, 0);
+        Sinks.One<String> running = Sinks.one();
+
+        StepVerifier.create(limiter.limit("idle", "Idle DS", Mono.just("done")))
+                .expectNext("done")
+                .verifyComplete();
+        Disposable subscription =
+                limiter.limit("busy", "Busy DS", running.asMono()).subscribe();
+
+        limiter.evictIdleBulkheads();
+
+        assertThat(limiter.getBulkheadCount()).isEqualTo(1);
+        assertThat(meterRegistry
+                        .find("appsmith.datasource.execution.inflight")
+                        .tag("datasourceId", "idle")
+                        .gauge())
+                .isNull();
+        assertThat(meterRegistry
+                        .find("appsmith.datasource.execution.rejected")
+                        .tag("datasourceId", "idle")
+                        .counter())
+                .isNull();
+        assertThat(gauge("inflight", "busy")).isEqualTo(1);
+
+        running.tryEmitValue("done");
+        limiter.evictIdleBulkheads();
+
+        assertThat(limiter.getBulkheadCount()).isZero();
+        assertThat(meterRegistry.find("appsmith.datasource.execution.inflight").gauge())
+                .isNull();
+
+        // A datasource that is executed against again starts over
+        StepVerifier.create(limiter.limit("idle", "Idle DS", Mono.just("again")))
+                .expectNext("again")
+                .verifyComplete();
+        assertThat(gauge("limit", "idle")).isEqualTo(1);
+
+        subscription.dispose();
+    }
+
+    @Test
+    public void limit_withoutDatasourceId_isNotLimited() {
+        DatasourceConcurrencyLimiter limiter = createLimiter(1, 0);
+
+        StepVerifier.create(limiter.limit(null, "Embedded", Mono.just("embedded")))
+                .expectNext("embedded")
+                .verifyComplete();
+
+        assertThat(meterRegistry.find("appsmith.datasource.execution.inflight").gauge())
+                .isNull();
+    }
+}
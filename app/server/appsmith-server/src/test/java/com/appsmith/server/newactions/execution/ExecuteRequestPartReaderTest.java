@@ -0,0 +1,113 @@
+package com.appsmith.server.newactions.execution;
+
+import com.appsmith.external.dtos.ExecuteActionDTO;
+import com.appsmith.server.configurations.ActionExecutionConfig;
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.codec.multipart.Part;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ExecuteRequestPartReaderTest {
+
+    private ExecuteRequestPartReader executeRequestPartReader;
+
+    @BeforeEach
+    public void setUp() {
+        ActionExecutionConfig actionExecutionConfig = Mockito.mock(ActionExecutionConfig.class);
+        Mockito.when(actionExecutionConfig.getRequestMaxSizeInMb()).thenReturn(1L);
+        Mockito.when(actionExecutionConfig.getBlobSpillThresholdInKb()).thenReturn(1L);
+
+        executeRequestPartReader = new ExecuteRequestPartReader(actionExecutionConfig, new SimpleMeterRegistry());
+    }
+
+    private Part part(String name, String content, int chunkSize) {
+        Flux<DataBuffer> dataBufferFlux = Flux.range(0, (content.length() + chunkSize - 1) / chunkSize)
+                .map(i -> content.substring(i * chunkSize, Math.min(content.length(), (i + 1) * chunkSize)))
+                .map(chunk ->
+                        DefaultDataBufferFactory.sharedInstance.wrap(chunk.getBytes(StandardCharsets.ISO_8859_1)));
+
+        return new Part() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public HttpHeaders headers() {
+                return HttpHeaders.EMPTY;
+            }
+
+            @Override
+            public Flux<DataBuffer> content() {
+                return dataBufferFlux;
+            }
+        };
+    }
+
+    private ExecuteActionDTO dtoWithBlobMaps() {
+        ExecuteActionDTO dto = new ExecuteActionDTO();
+        dto.setBlobValuesMap(new ConcurrentHashMap<>());
+        dto.setBlobFilePathsMap(new ConcurrentHashMap<>());
+        return dto;
+    }
+
+    @Test
+    public void readBlob_smallBlob_keptInMemory() {
+        ExecuteActionDTO dto = dtoWithBlobMaps();
+        AtomicLong totalReadableByteCount = new AtomicLong();
+
+        StepVerifier.create(executeRequestPartReader.readBlob(part("blob:1", "small", 2), dto, totalReadableByteCount))
+                .verifyComplete();
+
+        assertThat(dto.getBlobValuesMap()).containsEntry("blob:1", "small");
+        assertThat(dto.getBlobFilePathsMap()).isEmpty();
+        assertThat(totalReadableByteCount.get()).isEqualTo(5);
+    }
+
+    @Test
+    public void readBlob_largeBlob_spilledToFile() throws Exception {
+        ExecuteActionDTO dto = dtoWithBlobMaps();
+        String content = "x".repeat(3000);
+
+        StepVerifier.create(executeRequestPartReader.readBlob(part("blob:1", content, 512), dto, new AtomicLong()))
+                .verifyComplete();
+
+        assertThat(dto.getBlobValuesMap()).isEmpty();
+        Path path = dto.getBlobFilePathsMap().get("blob:1");
+        List<String> chunks = new ArrayList<>();
+        executeRequestPartReader.readSpilledBlob(path, chunks::add);
+        assertThat(chunks).hasSizeGreaterThan(0).allMatch(chunk -> chunk.length() <= 8192);
+        assertThat(String.join("", chunks)).isEqualTo(content);
+
+        executeRequestPartReader.deleteSpilledBlobs(dto);
+        assertThat(Files.exists(path)).isFalse();
+    }
+
+    @Test
+    public void readBytes_requestLargerThanLimit_failsWhileReading() {
+        AtomicLong totalReadableByteCount = new AtomicLong(1024 * 1024 - 10);
+
+        StepVerifier.create(executeRequestPartReader.readBytes(part("k0", "x".repeat(100), 20), totalReadableByteCount))
+                .expectErrorMatches(error -> error instanceof AppsmithException
+                        && ((AppsmithException) error).getError() == AppsmithError.PAYLOAD_TOO_LARGE)
+                .verify();
+    }
+}
@@ -0,0 +1,108 @@
+package com.appsmith.server.newactions.execution;
+
+import com.appsmith.server.configurations.ActionExecutionConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+public class ExecutionAnalyticsPublisherTest {
+
+    private ExecutionAnalyticsPublisher createPublisher(double sampleRate) {
+        ActionExecutionConfig actionExecutionConfig = Mockito.mock(ActionExecutionConfig.class);
+        Mockito.when(actionExecutionConfig.getAnalyticsQueueCapacity()).thenReturn(16);
+        Mockito.when(actionExecutionConfig.getAnalyticsSampleRate()).thenReturn(sampleRate);
+        Mockito.when(actionExecutionConfig.getAnalyticsMaxFieldSizeInKb()).thenReturn(1);
+
+        return new ExecutionAnalyticsPublisher(actionExecutionConfig, new ObjectMapper(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    public void publish_sendsEventWithContextOfExecution() {
+        ExecutionAnalyticsPublisher publisher = createPublisher(1.0);
+        AtomicReference<String> sentEvent = new AtomicReference<>();
+        AtomicReference<String> userInContext = new AtomicReference<>();
+
+        boolean queued = publisher.publish(
+                () -> "event",
+                event -> Mono.deferContextual(contextView -> {
+                    userInContext.set(contextView.get("user"));
+                    sentEvent.set(event);
+                    return Mono.empty();
+                }),
+                Context.of("user", "test@example.com"));
+
+        assertThat(queued).isTrue();
+        await().atMost(Duration.ofSeconds(5)).until(() -> sentEvent.get() != null);
+        assertThat(sentEvent.get()).isEqualTo("event");
+        assertThat(userInContext.get()).isEqualTo("test@example.com");
+    }
+
+    @Test
+    public void publish_eventIsBuiltOffCallingThread() {
+        ExecutionAnalyticsPublisher publisher = createPublisher(1.0);
+        AtomicReference<Thread> builderThread = new AtomicReference<>();
+
+        boolean queued = publisher.publish(
+                () -> {
+                    builderThread.set(Thread.currentThread());
+                    return "event";
+                },
+                event -> Mono.empty(),
+                Context.empty());
+
+        assertThat(queued).isTrue();
+        await().atMost(Duration.ofSeconds(5)).until(() -> builderThread.get() != null);
+        assertThat(builderThread.get()).isNotEqualTo(Thread.currentThread());
+    }
+
+    @Test
+    public void publish_sampledOut_eventIsNeverBuilt() {
+        ExecutionAnalyticsPublisher publisher = createPublisher(0.0);
+        AtomicInteger builtEvents = new AtomicInteger();
+
+        boolean queued = publisher.publish(builtEvents::incrementAndGet, event -> Mono.empty(), Context.empty());
+
+        assertThat(queued).isFalse();
+        assertThat(builtEvents.get()).isZero();
+    }
+
+    @Test
+    public void publish_slowSender_queuesNoMoreThanCapacity() {
+        ExecutionAnalyticsPublisher publisher = createPublisher(1.0);
+        AtomicInteger builtEvents = new AtomicInteger();
+
+        int queued = 0;
+        for (int i = 0; i < 100; i++) {
+            if (publisher.publish(builtEvents::incrementAndGet, event -> Mono.never(), Context.empty())) {
+                queued++;
+            }
+        }
+
+        // Events are only built when the worker gets to them, not when they are published
+        assertThat(builtEvents.get()).isLessThanOrEqualTo(4);
+        // The queue, plus the events the worker has taken off it for the four that are being sent
+        assertThat(queued).isBetween(16, 16 + 4 + 4);
+    }
+
+    @Test
+    public void toTruncatedJson_largeValue_isTruncated() throws Exception {
+        ExecutionAnalyticsPublisher publisher = createPublisher(1.0);
+
+        assertThat(publisher.toTruncatedJson(List.of("a", "b"))).isEqualTo("[\"a\",\"b\"]");
+
+        String truncated = publisher.toTruncatedJson(List.of("x".repeat(5000)));
+        assertThat(truncated).hasSize(1024 + "...(truncated)".length());
+        assertThat(truncated).endsWith("...(truncated)");
+    }
+}
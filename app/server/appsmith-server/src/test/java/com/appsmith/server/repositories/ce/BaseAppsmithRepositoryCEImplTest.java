@@ -0,0 +1,264 @@
+package com.appsmith.server.repositories.ce;
+
+import com.appsmith.server.configurations.mongo.StaleReadMongoOperations;
+import com.appsmith.server.domains.ActionCollection;
+import com.appsmith.server.domains.NewAction;
+import com.appsmith.server.domains.NewPage;
+import com.appsmith.server.repositories.ActionCollectionRepository;
+import com.appsmith.server.repositories.NewActionRepository;
+import com.appsmith.server.repositories.NewPageRepository;
+import com.mongodb.MongoBulkWriteException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Covers the chunking and the metrics of the bulk writes, with chunks of two documents, and which operations the reads
+ * are routed to.
+ */
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(properties = "appsmith.repository.bulk-write.chunk-size=2")
+public class BaseAppsmithRepositoryCEImplTest {
+
+    @Autowired
+    NewActionRepository newActionRepository;
+
+    @Autowired
+    ReactiveMongoOperations mongoOperations;
+
+    @Autowired
+    NewPageRepository newPageRepository;
+
+    @Autowired
+    ActionCollectionRepository actionCollectionRepository;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @MockBean
+    StaleReadMongoOperations staleReadMongoOperations;
+
+    ReactiveMongoOperations staleOperations;
+
+    @BeforeEach
+    public void setUp() {
+        // Reads from the same database as the primary operations, so that only the routing differs
+        staleOperations = spy(mongoOperations);
+        doReturn(staleOperations).when(staleReadMongoOperations).getOperations();
+    }
+
+    private List<NewAction> newActions(String applicationId, int count) {
+        List<NewAction> actions = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            NewAction action = new NewAction();
+            action.setId(new ObjectId().toString());
+            action.setApplicationId(applicationId);
+            action.setWorkspaceId("workspace" + i);
+            actions.add(action);
+        }
+        return actions;
+    }
+
+    private long bulkWriteCount(String operation) {
+        Timer timer = meterRegistry
+                .find("appsmith.repository.bulk.write")
+                .tag("collection", mongoOperations.getCollectionName(NewAction.class))
+                .tag("operation", operation)
+                .timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    private double bulkWriteDocumentCount(String operation) {
+        Counter counter = meterRegistry
+                .find("appsmith.repository.bulk.write.documents")
+                .tag("collection", mongoOperations.getCollectionName(NewAction.class))
+                .tag("operation", operation)
+                .counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    @Test
+    public void bulkInsert_WhenDocumentsFillChunksExactly_AllInsertedAndEachChunkTimed() {
+        String applicationId = UUID.randomUUID().toString();
+
+        StepVerifier.create(newActionRepository.bulkInsert(newActions(applicationId, 2)))
+                .verifyComplete();
+        long writeCount = bulkWriteCount("insert");
+        double documentCount = bulkWriteDocumentCount("insert");
+
+        StepVerifier.create(newActionRepository.bulkInsert(newActions(applicationId, 4)))
+                .verifyComplete();
+
+        assertThat(bulkWriteCount("insert")).isEqualTo(writeCount + 2);
+        assertThat(bulkWriteDocumentCount("insert")).isEqualTo(documentCount + 4);
+        StepVerifier.create(
+                        newActionRepository.findByApplicationId(applicationId).count())
+                .expectNext(6L)
+                .verifyComplete();
+    }
+
+    @Test
+    public void bulkInsert_WhenLastChunkIsPartial_AllInsertedAndEachChunkTimed() {
+        String applicationId = UUID.randomUUID().toString();
+
+        StepVerifier.create(newActionRepository.bulkInsert(newActions(applicationId, 1)))
+                .verifyComplete();
+        long writeCount = bulkWriteCount("insert");
+        double documentCount = bulkWriteDocumentCount("insert");
+
+        StepVerifier.create(newActionRepository.bulkInsert(newActions(applicationId, 5)))
+                .verifyComplete();
+
+        assertThat(bulkWriteCount("insert")).isEqualTo(writeCount + 3);
+        assertThat(bulkWriteDocumentCount("insert")).isEqualTo(documentCount + 5);
+        StepVerifier.create(
+                        newActionRepository.findByApplicationId(applicationId).count())
+                .expectNext(6L)
+                .verifyComplete();
+    }
+
+    @Test
+    public void bulkInsert_WhenEmpty_NothingWritten() {
+        StepVerifier.create(newActionRepository.bulkInsert(
+                        newActions(UUID.randomUUID().toString(), 1)))
+                .verifyComplete();
+        long writeCount = bulkWriteCount("insert");
+
+        StepVerifier.create(newActionRepository.bulkInsert(List.of())).verifyComplete();
+
+        assertThat(bulkWriteCount("insert")).isEqualTo(writeCount);
+    }
+
+    @Test
+    public void bulkInsert_WhenOneDocumentOfChunkFails_OthersOfChunkInsertedAndChunkNotCounted() {
+        String applicationId = UUID.randomUUID().toString();
+        List<NewAction> existingActions = newActions(applicationId, 1);
+        StepVerifier.create(newActionRepository.bulkInsert(existingActions)).verifyComplete();
+        long writeCount = bulkWriteCount("insert");
+        double documentCount = bulkWriteDocumentCount("insert");
+
+        // The duplicate comes first, so an ordered write would not get to the second document
+        List<NewAction> actions = new ArrayList<>(existingActions);
+        actions.addAll(newActions(applicationId, 1));
+
+        StepVerifier.create(newActionRepository.bulkInsert(actions))
+                .expectError(MongoBulkWriteException.class)
+                .verify();
+
+        StepVerifier.create(
+                        newActionRepository.findByApplicationId(applicationId).count())
+                .expectNext(2L)
+                .verifyComplete();
+        assertThat(bulkWriteCount("insert")).isEqualTo(writeCount);
+        assertThat(bulkWriteDocumentCount("insert")).isEqualTo(documentCount);
+    }
+
+    @Test
+    public void bulkUpdate_WhenSameDocumentUpdatedInDifferentChunks_LastUpdateWins() {
+        String applicationId = UUID.randomUUID().toString();
+        List<NewAction> actions = newActions(applicationId, 3);
+        StepVerifier.create(newActionRepository.bulkInsert(actions)).verifyComplete();
+
+        // The first and the last update of the first action end up in different chunks
+        List<NewAction> updates = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            NewAction update = new NewAction();
+            update.setId(actions.get(i).getId());
+            update.setApplicationId(applicationId);
+            update.setWorkspaceId("updated" + i);
+            updates.add(update);
+        }
+        NewAction lastUpdate = new NewAction();
+        lastUpdate.setId(actions.get(0).getId());
+        lastUpdate.setApplicationId(applicationId);
+        lastUpdate.setWorkspaceId("updatedLast");
+        updates.add(lastUpdate);
+        double documentCount = bulkWriteDocumentCount("update");
+
+        StepVerifier.create(newActionRepository.bulkUpdate(updates)).verifyComplete();
+
+        assertThat(bulkWriteDocumentCount("update")).isEqualTo(documentCount + 4);
+        StepVerifier.create(newActionRepository
+                        .findByApplicationId(applicationId)
+                        .collectMap(NewAction::getId, NewAction::getWorkspaceId))
+                .assertNext(workspaceIds -> {
+                    assertThat(workspaceIds.get(actions.get(0).getId())).isEqualTo("updatedLast");
+                    assertThat(workspaceIds.get(actions.get(1).getId())).isEqualTo("updated1");
+                    assertThat(workspaceIds.get(actions.get(2).getId())).isEqualTo("updated2");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void findByApplicationIdAndViewMode_InViewMode_ReadsActionsAndCollectionsThroughStaleOperations() {
+        String applicationId = UUID.randomUUID().toString();
+
+        StepVerifier.create(newActionRepository.findByApplicationIdAndViewMode(applicationId, true, null))
+                .verifyComplete();
+        StepVerifier.create(actionCollectionRepository.findByApplicationIdAndViewMode(applicationId, true, null))
+                .verifyComplete();
+
+        verify(staleOperations).query(NewAction.class);
+        verify(staleOperations).query(ActionCollection.class);
+    }
+
+    @Test
+    public void findByApplicationIdAndViewMode_InEditMode_ReadsActionsAndCollectionsThroughPrimaryOperations() {
+        String applicationId = UUID.randomUUID().toString();
+        clearInvocations(staleReadMongoOperations);
+
+        StepVerifier.create(newActionRepository.findByApplicationIdAndViewMode(applicationId, false, null))
+                .verifyComplete();
+        StepVerifier.create(actionCollectionRepository.findByApplicationIdAndViewMode(applicationId, false, null))
+                .verifyComplete();
+
+        verify(staleReadMongoOperations, never()).getOperations();
+    }
+
+    @Test
+    public void findByNameAndViewMode_RoutedByViewMode() {
+        String name = UUID.randomUUID().toString();
+
+        StepVerifier.create(newPageRepository.findByNameAndViewMode(name, null, false))
+                .verifyComplete();
+        verify(staleOperations, never()).query(NewPage.class);
+
+        StepVerifier.create(newPageRepository.findByNameAndViewMode(name, null, true))
+                .verifyComplete();
+        verify(staleOperations).query(NewPage.class);
+    }
+
+    @Test
+    public void findByApplicationId_WithoutViewMode_ReadsThroughPrimaryOperations() {
+        clearInvocations(staleReadMongoOperations);
+
+        StepVerifier.create(newActionRepository
+                        .findByApplicationId(UUID.randomUUID().toString())
+                        .count())
+                .expectNext(0L)
+                .verifyComplete();
+
+        verify(staleReadMongoOperations, never()).getOperations();
+    }
+}
@@ -1,10 +1,15 @@
 package com.appsmith.server.repositories.ce;
 
 import com.appsmith.external.models.ActionDTO;
+import com.appsmith.external.models.BaseDomain;
 import com.appsmith.external.models.Datasource;
 import com.appsmith.external.models.PluginType;
+import com.appsmith.external.models.Policy;
+import com.appsmith.server.acl.AclPermission;
+import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.domains.NewAction;
 import com.appsmith.server.dtos.PluginTypeAndCountDTO;
+import com.appsmith.server.helpers.ce.bridge.Bridge;
 import com.appsmith.server.repositories.NewActionRepository;
 import com.appsmith.server.solutions.ActionPermission;
 import org.bson.types.ObjectId;
@@ -12,6 +17,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -20,9 +29,14 @@ import reactor.util.function.Tuple2;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
+import static com.appsmith.server.acl.AclPermission.EXECUTE_ACTIONS;
+import static com.appsmith.server.acl.AclPermission.READ_ACTIONS;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @ExtendWith(SpringExtension.class)
@@ -35,6 +49,9 @@ public class CustomNewActionRepositoryCEImplTest {
     @Autowired
     ActionPermission actionPermission;
 
+    @Autowired
+    ReactiveMongoOperations mongoOperations;
+
     @Test
     public void bulkUpdate_WhenIdMatches_NewActionsUpdated() {
         String applicationId = UUID.randomUUID().toString();
@@ -289,4 +306,142 @@ public class CustomNewActionRepositoryCEImplTest {
                 })
                 .verifyComplete();
     }
+
+    private Mono<List<NewAction>> saveActionsForPolicyUpdate(String applicationId) {
+        NewAction actionWithPolicy = new NewAction();
+        actionWithPolicy.setApplicationId(applicationId);
+        actionWithPolicy.setWorkspaceId("withPolicy");
+        actionWithPolicy.setPolicies(new HashSet<>(Set.of(Policy.builder()
+                .permission(READ_ACTIONS.getValue())
+                .permissionGroups(new HashSet<>(Set.of("permissionGroup1", "permissionGroup2")))
+                .build())));
+
+        NewAction actionWithOtherPolicy = new NewAction();
+        actionWithOtherPolicy.setApplicationId(applicationId);
+        actionWithOtherPolicy.setWorkspaceId("withOtherPolicy");
+        actionWithOtherPolicy.setPolicies(new HashSet<>(Set.of(Policy.builder()
+                .permission(EXECUTE_ACTIONS.getValue())
+                .permissionGroups(new HashSet<>(Set.of("permissionGroup1")))
+                .build())));
+
+        NewAction actionWithoutPolicies = new NewAction();
+        actionWithoutPolicies.setApplicationId(applicationId);
+        actionWithoutPolicies.setWorkspaceId("withoutPolicies");
+
+        return newActionRepository
+                .saveAll(List.of(actionWithPolicy, actionWithOtherPolicy, actionWithoutPolicies))
+                .collectList()
+                // Documents that predate policies don't have the field at all
+                .flatMap(savedActions -> mongoOperations
+                        .updateFirst(
+                                new Query(Criteria.where(FieldName.ID)
+                                        .is(savedActions.get(2).getId())),
+                                new Update().unset(BaseDomain.Fields.policies),
+                                NewAction.class)
+                        .then(mongoOperations.exists(
+                                new Query(Criteria.where(FieldName.ID)
+                                        .is(savedActions.get(2).getId())
+                                        .and(BaseDomain.Fields.policies)
+                                        .exists(false)),
+                                NewAction.class))
+                        // Otherwise the tests would not cover documents without policies, and pass regardless
+                        .doOnNext(isWithoutPolicies -> assertThat(isWithoutPolicies)
+                                .as("action saved without the policies field")
+                                .isTrue())
+                        .thenReturn(savedActions));
+    }
+
+    private Mono<Map<String, Set<Policy>>> findPoliciesByWorkspaceId(String applicationId) {
+        return newActionRepository
+                .findByApplicationId(applicationId)
+                .collectMap(
+                        NewAction::getWorkspaceId,
+                        action -> action.getPolicies() == null ? Set.<Policy>of() : action.getPolicies());
+    }
+
+    private static Set<String> permissionGroupsOf(Set<Policy> policies, AclPermission permission) {
+        return policies.stream()
+                .filter(policy -> permission.getValue().equals(policy.getPermission()))
+                .findFirst()
+                .map(Policy::getPermissionGroups)
+                .orElse(null);
+    }
+
+    @Test
+    public void updatePolicies_WhenAdding_PermissionGroupsAddedToExistingPoliciesAndMissingPoliciesPushed() {
+        String applicationId = UUID.randomUUID().toString();
+        Map<String, Policy> policyMap = Map.of(
+                READ_ACTIONS.getValue(),
+                Policy.builder()
+                        .permission(READ_ACTIONS.getValue())
+                        .permissionGroups(Set.of("permissionGroup2", "permissionGroup3"))
+                        .build());
+
+        Mono<Map<String, Set<Policy>>> policiesMono = saveActionsForPolicyUpdate(applicationId)
+                .thenMany(newActionRepository
+                        .queryBuilder()
+                        .criteria(Bridge.equal(NewAction.Fields.applicationId, applicationId))
+                        .updatePolicies(policyMap, true))
+                // Adding the same policies again changes nothing
+                .thenMany(newActionRepository
+                        .queryBuilder()
+                        .criteria(Bridge.equal(NewAction.Fields.applicationId, applicationId))
+                        .updatePolicies(policyMap, true))
+                .then(findPoliciesByWorkspaceId(applicationId));
+
+        StepVerifier.create(policiesMono)
+                .assertNext(policies -> {
+                    assertThat(permissionGroupsOf(policies.get("withPolicy"), READ_ACTIONS))
+                            .containsExactlyInAnyOrder("permissionGroup1", "permissionGroup2", "permissionGroup3");
+                    assertThat(policies.get("withPolicy")).hasSize(1);
+
+                    assertThat(permissionGroupsOf(policies.get("withOtherPolicy"), READ_ACTIONS))
+                            .containsExactlyInAnyOrder("permissionGroup2", "permissionGroup3");
+                    assertThat(permissionGroupsOf(policies.get("withOtherPolicy"), EXECUTE_ACTIONS))
+                            .containsExactly("permissionGroup1");
+
+                    assertThat(permissionGroupsOf(policies.get("withoutPolicies"), READ_ACTIONS))
+                            .containsExactlyInAnyOrder("permissionGroup2", "permissionGroup3");
+                    assertThat(policies.get("withoutPolicies")).hasSize(1);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void updatePolicies_WhenRemoving_PermissionGroupsPulledAndDocumentsWithoutPoliciesSkipped() {
+        String applicationId = UUID.randomUUID().toString();
+        Map<String, Policy> policyMap = Map.of(
+                READ_ACTIONS.getValue(),
+                Policy.builder()
+                        .permission(READ_ACTIONS.getValue())
+                        .permissionGroups(Set.of("permissionGroup2"))
+                        .build(),
+                EXECUTE_ACTIONS.getValue(),
+                Policy.builder()
+                        .permission(EXECUTE_ACTIONS.getValue())
+                        .permissionGroups(Set.of("permissionGroup1"))
+                        .build());
+
+        Mono<Tuple2<Long, Map<String, Set<Policy>>>> resultMono = saveActionsForPolicyUpdate(applicationId)
+                .thenMany(newActionRepository
+                        .queryBuilder()
+                        .criteria(Bridge.equal(NewAction.Fields.applicationId, applicationId))
+                        .updatePolicies(policyMap, false))
+                .reduce(0L, Long::sum)
+                .zipWhen(updatedCount -> findPoliciesByWorkspaceId(applicationId));
+
+        StepVerifier.create(resultMono)
+                .assertNext(tuple -> {
+                    // The document without policies is left alone instead of failing the batch
+                    assertThat(tuple.getT1()).isEqualTo(2);
+
+                    Map<String, Set<Policy>> policies = tuple.getT2();
+                    assertThat(permissionGroupsOf(policies.get("withPolicy"), READ_ACTIONS))
+                            .containsExactly("permissionGroup1");
+                    assertThat(permissionGroupsOf(policies.get("withOtherPolicy"), EXECUTE_ACTIONS))
+                            .isEmpty();
+                    assertThat(policies.get("withoutPolicies")).isEmpty();
+                })
+                .verifyComplete();
+    }
 }
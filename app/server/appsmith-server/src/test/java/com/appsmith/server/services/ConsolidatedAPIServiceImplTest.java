@@ -1,10 +1,12 @@
 package com.appsmith.server.services;
 
+import com.appsmith.external.enums.WorkspaceResourceContext;
 import com.appsmith.external.models.ActionDTO;
 import com.appsmith.external.models.Datasource;
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.actioncollections.base.ActionCollectionService;
 import com.appsmith.server.applications.base.ApplicationService;
+import com.appsmith.server.configurations.mongo.StaleReadMongoOperations;
 import com.appsmith.server.datasources.base.DatasourceService;
 import com.appsmith.server.domains.Application;
 import com.appsmith.server.domains.ApplicationMode;
@@ -14,6 +16,7 @@ import com.appsmith.server.domains.Plugin;
 import com.appsmith.server.domains.Tenant;
 import com.appsmith.server.domains.Theme;
 import com.appsmith.server.domains.User;
+import com.appsmith.server.domains.UserData;
 import com.appsmith.server.dtos.ActionCollectionDTO;
 import com.appsmith.server.dtos.ActionCollectionViewDTO;
 import com.appsmith.server.dtos.ActionViewDTO;
@@ -49,6 +52,7 @@ import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static com.appsmith.external.constants.PluginConstants.PackageName.APPSMITH_AI_PLUGIN;
 import static com.appsmith.external.constants.PluginConstants.PackageName.GRAPHQL_PLUGIN;
@@ -61,6 +65,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @SpringBootTest
@@ -122,6 +128,15 @@ public class ConsolidatedAPIServiceImplTest {
     @SpyBean
     NewPageRepository mockNewPageRepository;
 
+    @SpyBean
+    PermissionGroupService spyPermissionGroupService;
+
+    @SpyBean
+    ConsolidatedAPIViewCache spyConsolidatedAPIViewCache;
+
+    @SpyBean
+    StaleReadMongoOperations spyStaleReadMongoOperations;
+
     @Test
     public void testErrorWhenModeIsNullAndPageIdAvailable() {
         Mono<ConsolidatedAPIResponseDTO> consolidatedInfoForPageLoad =
@@ -222,8 +237,8 @@ public class ConsolidatedAPIServiceImplTest {
                 .findByDefaultIdBranchNameAndApplicationMode(anyString(), anyString(), any());
 
         doReturn(Mono.just(List.of(new NewPage())))
-                .when(spyApplicationPageService)
-                .getPagesBasedOnApplicationMode(any(), any());
+                .when(spyNewPageService)
+                .findPageListForApplication(any(), anyBoolean());
 
         doReturn(Mono.just(sampleApplicationPagesDTO))
                 .when(spyNewPageService)
@@ -848,4 +863,254 @@ public class ConsolidatedAPIServiceImplTest {
                 })
                 .verifyComplete();
     }
+
+    @Test
+    public void testPageLoadETagChangesOnlyWhenApplicationIsDeployedAgain() {
+        User sampleUser = new User();
+        sampleUser.setEmail("viewer@example.com");
+        when(mockSessionUserService.getCurrentUser()).thenReturn(Mono.just(sampleUser));
+        when(mockUserService.findByEmail("viewer@example.com")).thenReturn(Mono.just(sampleUser));
+        when(mockUserDataService.getForCurrentUser()).thenReturn(Mono.just(new UserData()));
+        when(mockUserDataService.getFeatureFlagsForCurrentUser())
+                .thenReturn(Mono.just(Map.of("sampleFeatureFlag", true)));
+        when(mockUserService.isUsersEmpty()).thenReturn(Mono.just(false));
+        when(mockProductAlertService.getSingleApplicableMessage()).thenReturn(Mono.just(List.of()));
+        when(mockTenantService.getDefaultTenant()).thenReturn(Mono.just(new Tenant()));
+        doReturn(Mono.just(Set.of("permissionGroupId")))
+                .when(spyPermissionGroupService)
+                .getSessionUserPermissionGroupIds();
+
+        Application application = new Application();
+        application.setId("appId");
+        application.setLastDeployedAt(Instant.parse("2024-01-01T00:00:00Z"));
+        doReturn(Mono.just(application))
+                .when(spyApplicationService)
+                .findByDefaultIdBranchNameAndApplicationMode(anyString(), anyString(), any());
+
+        String eTag = consolidatedAPIService
+                .getConsolidatedInfoForPageLoadETag("pageId", "appId", "branch")
+                .block();
+        assertNotNull(eTag);
+        assertEquals(
+                eTag,
+                consolidatedAPIService
+                        .getConsolidatedInfoForPageLoadETag("pageId", "appId", "branch")
+                        .block());
+
+        application.setLastDeployedAt(Instant.parse("2024-01-02T00:00:00Z"));
+        StepVerifier.create(consolidatedAPIService.getConsolidatedInfoForPageLoadETag("pageId", "appId", "branch"))
+                .assertNext(newETag -> assertThat(newETag).isNotEqualTo(eTag))
+                .verifyComplete();
+    }
+
+    @Test
+    public void testPageLoadETagChangesWhenProductAlertChanges() {
+        User sampleUser = new User();
+        sampleUser.setEmail("viewer@example.com");
+        when(mockSessionUserService.getCurrentUser()).thenReturn(Mono.just(sampleUser));
+        when(mockUserService.findByEmail("viewer@example.com")).thenReturn(Mono.just(sampleUser));
+        when(mockUserDataService.getForCurrentUser()).thenReturn(Mono.just(new UserData()));
+        when(mockUserDataService.getFeatureFlagsForCurrentUser()).thenReturn(Mono.just(Map.of()));
+        when(mockUserService.isUsersEmpty()).thenReturn(Mono.just(false));
+        when(mockTenantService.getDefaultTenant()).thenReturn(Mono.just(new Tenant()));
+        when(mockProductAlertService.getSingleApplicableMessage()).thenReturn(Mono.just(List.of()));
+        doReturn(Mono.just(Set.of("permissionGroupId")))
+                .when(spyPermissionGroupService)
+                .getSessionUserPermissionGroupIds();
+
+        Application application = new Application();
+        application.setId("appId");
+        application.setLastDeployedAt(Instant.parse("2024-01-01T00:00:00Z"));
+        doReturn(Mono.just(application))
+                .when(spyApplicationService)
+                .findByDefaultIdBranchNameAndApplicationMode(anyString(), anyString(), any());
+
+        String eTag = consolidatedAPIService
+                .getConsolidatedInfoForPageLoadETag("pageId", "appId", "branch")
+                .block();
+        assertNotNull(eTag);
+
+        ProductAlertResponseDTO productAlert = new ProductAlertResponseDTO();
+        productAlert.setMessageId("messageId");
+        productAlert.setTitle("New alert");
+        when(mockProductAlertService.getSingleApplicableMessage()).thenReturn(Mono.just(List.of(productAlert)));
+
+        StepVerifier.create(consolidatedAPIService.getConsolidatedInfoForPageLoadETag("pageId", "appId", "branch"))
+                .assertNext(newETag -> assertThat(newETag).isNotEqualTo(eTag))
+                .verifyComplete();
+    }
+
+    @Test
+    public void testMarkApplicationRecentlyAccessed_updatesRecentlyUsedResources() {
+        Application application = new Application();
+        application.setId("branchedAppId");
+        application.setWorkspaceId("workspaceId");
+        doReturn(Mono.just(application))
+                .when(spyApplicationService)
+                .findByDefaultIdBranchNameAndApplicationMode("appId", "branch", ApplicationMode.PUBLISHED);
+        when(mockUserDataService.updateLastUsedResourceAndWorkspaceList(
+                        "branchedAppId", "workspaceId", WorkspaceResourceContext.APPLICATIONS))
+                .thenReturn(Mono.just(new UserData()));
+
+        StepVerifier.create(consolidatedAPIService.markApplicationRecentlyAccessed("pageId", "appId", "branch"))
+                .verifyComplete();
+
+        verify(mockUserDataService)
+                .updateLastUsedResourceAndWorkspaceList(
+                        "branchedAppId", "workspaceId", WorkspaceResourceContext.APPLICATIONS);
+    }
+
+    @Test
+    public void testPageLoadETagIsNotChangedByThePageLoadItself() {
+        User sampleUser = new User();
+        sampleUser.setId("userId");
+        sampleUser.setEmail("viewer@example.com");
+        when(mockSessionUserService.getCurrentUser()).thenReturn(Mono.just(sampleUser));
+        when(mockUserService.findByEmail("viewer@example.com")).thenReturn(Mono.just(sampleUser));
+        when(mockUserService.isUsersEmpty()).thenReturn(Mono.just(false));
+        when(mockProductAlertService.getSingleApplicableMessage()).thenReturn(Mono.just(List.of()));
+        when(mockUserDataService.getFeatureFlagsForCurrentUser())
+                .thenReturn(Mono.just(Map.of("sampleFeatureFlag", true)));
+        when(mockTenantService.getDefaultTenant()).thenReturn(Mono.just(new Tenant()));
+        doReturn(Mono.just(Set.of("permissionGroupId")))
+                .when(spyPermissionGroupService)
+                .getSessionUserPermissionGroupIds();
+
+        Application application = new Application();
+        application.setId("appId");
+        application.setLastDeployedAt(Instant.parse("2024-01-01T00:00:00Z"));
+        doReturn(Mono.just(application))
+                .when(spyApplicationService)
+                .findByDefaultIdBranchNameAndApplicationMode(anyString(), anyString(), any());
+
+        UserData userData = new UserData();
+        userData.setProfilePhotoAssetId("photoId");
+        userData.setUpdatedAt(Instant.parse("2024-01-01T00:00:00Z"));
+        when(mockUserDataService.getForCurrentUser()).thenReturn(Mono.just(userData));
+
+        String eTag = consolidatedAPIService
+                .getConsolidatedInfoForPageLoadETag("pageId", "appId", "branch")
+                .block();
+        assertNotNull(eTag);
+
+        // The first page load is answered with a 200, which records the application as recently used
+        UserData userDataAfterPageLoad = new UserData();
+        userDataAfterPageLoad.setProfilePhotoAssetId("photoId");
+        userDataAfterPageLoad.setRecentlyUsedAppIds(List.of("appId"));
+        userDataAfterPageLoad.setUpdatedAt(Instant.parse("2024-01-01T00:05:00Z"));
+        when(mockUserDataService.getForCurrentUser()).thenReturn(Mono.just(userDataAfterPageLoad));
+
+        // So the next page load has the same ETag, and is answered with a 304
+        StepVerifier.create(consolidatedAPIService.getConsolidatedInfoForPageLoadETag("pageId", "appId", "branch"))
+                .assertNext(newETag -> assertThat(newETag).isEqualTo(eTag))
+                .verifyComplete();
+
+        // A change to the user's profile does change it
+        userDataAfterPageLoad.setProfilePhotoAssetId("newPhotoId");
+        StepVerifier.create(consolidatedAPIService.getConsolidatedInfoForPageLoadETag("pageId", "appId", "branch"))
+                .assertNext(newETag -> assertThat(newETag).isNotEqualTo(eTag))
+                .verifyComplete();
+    }
+
+    @Test
+    public void testPageLoadResponseForViewModeFromViewCache_applicationIsMarkedRecentlyAccessed() {
+        when(mockSessionUserService.getCurrentUser()).thenReturn(Mono.just(new User()));
+        when(mockUserService.buildUserProfileDTO(any())).thenReturn(Mono.just(new UserProfileDTO()));
+        when(mockUserDataService.getFeatureFlagsForCurrentUser()).thenReturn(Mono.just(Map.of()));
+        when(mockTenantService.getTenantConfiguration()).thenReturn(Mono.just(new Tenant()));
+        when(mockProductAlertService.getSingleApplicableMessage()).thenReturn(Mono.just(List.of()));
+        when(mockUserDataService.updateLastUsedResourceAndWorkspaceList(
+                        "appId", "workspaceId", WorkspaceResourceContext.APPLICATIONS))
+                .thenReturn(Mono.just(new UserData()));
+        doReturn(Mono.just(Set.of("permissionGroupId")))
+                .when(spyPermissionGroupService)
+                .getSessionUserPermissionGroupIds();
+
+        Application application = new Application();
+        application.setId("appId");
+        application.setWorkspaceId("workspaceId");
+        application.setLastDeployedAt(Instant.parse("2024-01-01T00:00:00Z"));
+        doReturn(Mono.just(application))
+                .when(spyApplicationService)
+                .findByDefaultIdBranchNameAndApplicationMode(anyString(), anyString(), any());
+
+        doReturn(true).when(spyConsolidatedAPIViewCache).isEnabled();
+        doReturn(Mono.just(Map.of(ConsolidatedAPIResponseDTO.Fields.pages, "{}")))
+                .when(spyConsolidatedAPIViewCache)
+                .get(anyString());
+
+        StepVerifier.create(consolidatedAPIService.getConsolidatedInfoForPageLoad(
+                        "pageId", "appId", "branch", ApplicationMode.PUBLISHED))
+                .assertNext(consolidatedAPIResponseDTO -> assertThat(consolidatedAPIResponseDTO.getCachedSections())
+                        .containsKey(ConsolidatedAPIResponseDTO.Fields.pages))
+                .verifyComplete();
+
+        verify(spyNewPageService, never()).createApplicationPagesDTO(any(), any(), anyBoolean(), anyBoolean());
+        verify(mockUserDataService)
+                .updateLastUsedResourceAndWorkspaceList("appId", "workspaceId", WorkspaceResourceContext.APPLICATIONS);
+    }
+
+    @Test
+    public void testPageLoadETagIsEmptyUntilStaleReadsHaveCaughtUpWithTheDeployment() {
+        User sampleUser = new User();
+        sampleUser.setEmail("viewer@example.com");
+        when(mockSessionUserService.getCurrentUser()).thenReturn(Mono.just(sampleUser));
+        when(mockUserService.findByEmail("viewer@example.com")).thenReturn(Mono.just(sampleUser));
+        when(mockUserDataService.getForCurrentUser()).thenReturn(Mono.just(new UserData()));
+        when(mockUserDataService.getFeatureFlagsForCurrentUser()).thenReturn(Mono.just(Map.of()));
+        when(mockUserService.isUsersEmpty()).thenReturn(Mono.just(false));
+        when(mockProductAlertService.getSingleApplicableMessage()).thenReturn(Mono.just(List.of()));
+        when(mockTenantService.getDefaultTenant()).thenReturn(Mono.just(new Tenant()));
+        doReturn(Mono.just(Set.of("permissionGroupId")))
+                .when(spyPermissionGroupService)
+                .getSessionUserPermissionGroupIds();
+
+        Application application = new Application();
+        application.setId("appId");
+        application.setLastDeployedAt(Instant.parse("2024-01-01T00:00:00Z"));
+        doReturn(Mono.just(application))
+                .when(spyApplicationService)
+                .findByDefaultIdBranchNameAndApplicationMode(anyString(), anyString(), any());
+        doReturn(false).when(spyStaleReadMongoOperations).hasCaughtUpWith(Instant.parse("2024-01-01T00:00:00Z"));
+
+        // The response may still be built from a secondary that hasn't seen the deployment, so it mustn't get a 304
+        StepVerifier.create(consolidatedAPIService.getConsolidatedInfoForPageLoadETag("pageId", "appId", "branch"))
+                .verifyComplete();
+
+        doReturn(true).when(spyStaleReadMongoOperations).hasCaughtUpWith(Instant.parse("2024-01-01T00:00:00Z"));
+        StepVerifier.create(consolidatedAPIService.getConsolidatedInfoForPageLoadETag("pageId", "appId", "branch"))
+                .assertNext(eTag -> assertThat(eTag).isNotBlank())
+                .verifyComplete();
+    }
+
+    @Test
+    public void testPageLoadResponseForViewMode_staleReadsBehindTheDeployment_viewCacheIsNotUsed() {
+        when(mockSessionUserService.getCurrentUser()).thenReturn(Mono.just(new User()));
+        when(mockUserService.buildUserProfileDTO(any())).thenReturn(Mono.just(new UserProfileDTO()));
+        when(mockUserDataService.getFeatureFlagsForCurrentUser()).thenReturn(Mono.just(Map.of()));
+        when(mockTenantService.getTenantConfiguration()).thenReturn(Mono.just(new Tenant()));
+        when(mockProductAlertService.getSingleApplicableMessage()).thenReturn(Mono.just(List.of()));
+        doReturn(Mono.just(Set.of("permissionGroupId")))
+                .when(spyPermissionGroupService)
+                .getSessionUserPermissionGroupIds();
+
+        Application application = new Application();
+        application.setId("appId");
+        application.setWorkspaceId("workspaceId");
+        application.setLastDeployedAt(Instant.parse("2024-01-01T00:00:00Z"));
+        doReturn(Mono.just(application))
+                .when(spyApplicationService)
+                .findByDefaultIdBranchNameAndApplicationMode(anyString(), anyString(), any());
+        doReturn(false).when(spyStaleReadMongoOperations).hasCaughtUpWith(Instant.parse("2024-01-01T00:00:00Z"));
+        doReturn(true).when(spyConsolidatedAPIViewCache).isEnabled();
+
+        StepVerifier.create(consolidatedAPIService.getConsolidatedInfoForPageLoad(
+                        "pageId", "appId", "branch", ApplicationMode.PUBLISHED))
+                .assertNext(consolidatedAPIResponseDTO -> assertThat(consolidatedAPIResponseDTO.getCachedSections())
+                        .isNullOrEmpty())
+                .verifyComplete();
+
+        verify(spyConsolidatedAPIViewCache, never()).get(anyString());
+        verify(spyConsolidatedAPIViewCache, never()).put(anyString(), any());
+    }
 }
@@ -0,0 +1,144 @@
+package com.appsmith.server.services;
+
+import com.appsmith.external.views.Views;
+import com.appsmith.server.configurations.ConsolidatedAPIConfig;
+import com.appsmith.server.configurations.ProjectProperties;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.Theme;
+import com.appsmith.server.dtos.ApplicationPagesDTO;
+import com.appsmith.server.dtos.ConsolidatedAPIResponseDTO;
+import com.appsmith.server.dtos.PageNameIdDTO;
+import com.appsmith.server.dtos.ResponseDTO;
+import com.appsmith.server.dtos.UserProfileDTO;
+import com.appsmith.util.SerializationUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.redis.core.ReactiveHashOperations;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.http.HttpStatus;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConsolidatedAPIViewCacheTest {
+
+    private final ObjectMapper objectMapper = SerializationUtils.getDefaultObjectMapper(null);
+    private ConsolidatedAPIConfig consolidatedAPIConfig;
+    private ReactiveRedisOperations<String, String> redisOperations;
+    private ConsolidatedAPIViewCache consolidatedAPIViewCache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        consolidatedAPIConfig = Mockito.mock(ConsolidatedAPIConfig.class);
+        Mockito.when(consolidatedAPIConfig.isViewCacheEnabled()).thenReturn(true);
+        Mockito.when(consolidatedAPIConfig.getViewCacheMaxSizeInMb()).thenReturn(1L);
+        Mockito.when(consolidatedAPIConfig.getViewCacheTtlInMinutes()).thenReturn(5L);
+
+        redisOperations = Mockito.mock(ReactiveRedisOperations.class);
+        consolidatedAPIViewCache = new ConsolidatedAPIViewCache(
+                redisOperations,
+                consolidatedAPIConfig,
+                Mockito.mock(ProjectProperties.class),
+                objectMapper,
+                new SimpleMeterRegistry());
+    }
+
+    private static Application deployedApplication(Instant lastDeployedAt) {
+        Application application = new Application();
+        application.setId("appId");
+        application.setLastDeployedAt(lastDeployedAt);
+        return application;
+    }
+
+    @Test
+    public void getKey_changesWithDeploymentAndPermissionGroups() {
+        Instant deployedAt = Instant.parse("2024-01-01T00:00:00Z");
+        String key = consolidatedAPIViewCache.getKey(deployedApplication(deployedAt), "pageId", Set.of("a", "b"));
+
+        assertThat(consolidatedAPIViewCache.getKey(deployedApplication(deployedAt), "pageId", Set.of("b", "a")))
+                .isEqualTo(key);
+        assertThat(consolidatedAPIViewCache.getKey(
+                        deployedApplication(deployedAt.plusSeconds(1)), "pageId", Set.of("a", "b")))
+                .isNotEqualTo(key);
+        assertThat(consolidatedAPIViewCache.getKey(deployedApplication(deployedAt), "pageId", Set.of("a")))
+                .isNotEqualTo(key);
+        assertThat(consolidatedAPIViewCache.getKey(deployedApplication(deployedAt), "otherPageId", Set.of("a", "b")))
+                .isNotEqualTo(key);
+        // Nothing to cache before the application is deployed
+        assertThat(consolidatedAPIViewCache.getKey(deployedApplication(null), "pageId", Set.of("a", "b")))
+                .isNull();
+    }
+
+    @Test
+    public void cachedSections_serializeSameAsComputedSections() throws Exception {
+        PageNameIdDTO page = new PageNameIdDTO();
+        page.setId("pageId");
+        page.setName("Page1");
+        ApplicationPagesDTO applicationPagesDTO = new ApplicationPagesDTO();
+        applicationPagesDTO.setWorkspaceId("workspaceId");
+        applicationPagesDTO.setApplication(deployedApplication(Instant.now()));
+        applicationPagesDTO.setPages(List.of(page));
+        Theme theme = new Theme();
+        theme.setName("Classic");
+        UserProfileDTO userProfileDTO = new UserProfileDTO();
+        userProfileDTO.setName("viewer");
+
+        ConsolidatedAPIResponseDTO computed = new ConsolidatedAPIResponseDTO();
+        computed.setUserProfile(new ResponseDTO<>(HttpStatus.OK.value(), userProfileDTO, null));
+        computed.setPages(new ResponseDTO<>(HttpStatus.OK.value(), applicationPagesDTO, null));
+        computed.setCurrentTheme(new ResponseDTO<>(HttpStatus.OK.value(), theme, null));
+
+        StepVerifier.create(consolidatedAPIViewCache.put(
+                        "key",
+                        Map.of(
+                                ConsolidatedAPIResponseDTO.Fields.pages, computed.getPages(),
+                                ConsolidatedAPIResponseDTO.Fields.currentTheme, computed.getCurrentTheme())))
+                .verifyComplete();
+
+        ConsolidatedAPIResponseDTO spliced = new ConsolidatedAPIResponseDTO();
+        spliced.setUserProfile(computed.getUserProfile());
+        StepVerifier.create(consolidatedAPIViewCache.get("key"))
+                .assertNext(spliced::setCachedSections)
+                .verifyComplete();
+
+        assertThat(objectMapper.readTree(
+                        objectMapper.writerWithView(Views.Public.class).writeValueAsString(spliced)))
+                .isEqualTo(objectMapper.readTree(
+                        objectMapper.writerWithView(Views.Public.class).writeValueAsString(computed)));
+    }
+
+    @Test
+    public void get_unknownKey_isEmpty() {
+        StepVerifier.create(consolidatedAPIViewCache.get("unknown")).verifyComplete();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void put_withRedis_entryExpiresAfterTtl() {
+        Mockito.when(consolidatedAPIConfig.isViewCacheRedisEnabled()).thenReturn(true);
+        ReactiveHashOperations<String, Object, Object> hashOperations = Mockito.mock(ReactiveHashOperations.class);
+        Mockito.when(redisOperations.opsForHash()).thenReturn(hashOperations);
+        Mockito.when(hashOperations.putAll(Mockito.anyString(), Mockito.anyMap()))
+                .thenReturn(Mono.just(true));
+        Mockito.when(redisOperations.expire(Mockito.anyString(), Mockito.any(Duration.class)))
+                .thenReturn(Mono.just(true));
+
+        StepVerifier.create(consolidatedAPIViewCache.put(
+                        "key", Map.of("pages", new ResponseDTO<>(HttpStatus.OK.value(), "pages", null))))
+                .verifyComplete();
+
+        // Permission changes that don't change the key are only picked up once the entry expires
+        Mockito.verify(redisOperations).expire("consolidatedApiView:key", Duration.ofMinutes(5));
+    }
+}
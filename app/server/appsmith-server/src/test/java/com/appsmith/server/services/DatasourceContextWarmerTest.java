@@ -0,0 +1,181 @@
+package com.appsmith.server.services;
+
+import com.appsmith.external.dtos.DslExecutableDTO;
+import com.appsmith.external.models.ActionDTO;
+import com.appsmith.external.models.Datasource;
+import com.appsmith.external.models.DatasourceStorage;
+import com.appsmith.external.models.PluginType;
+import com.appsmith.server.configurations.DatasourceContextConfig;
+import com.appsmith.server.datasources.base.DatasourceService;
+import com.appsmith.server.datasourcestorages.base.DatasourceStorageService;
+import com.appsmith.server.domains.DatasourceContext;
+import com.appsmith.server.domains.Layout;
+import com.appsmith.server.domains.NewAction;
+import com.appsmith.server.domains.NewPage;
+import com.appsmith.server.domains.Plugin;
+import com.appsmith.server.dtos.PageDTO;
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.plugins.base.PluginService;
+import com.appsmith.server.repositories.ApplicationRepository;
+import com.appsmith.server.repositories.NewActionRepository;
+import com.appsmith.server.repositories.NewPageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DatasourceContextWarmerTest {
+
+    private NewPageRepository newPageRepository;
+    private NewActionRepository newActionRepository;
+    private DatasourceService datasourceService;
+    private DatasourceStorageService datasourceStorageService;
+    private DatasourceContextService datasourceContextService;
+    private DatasourceContextWarmer datasourceContextWarmer;
+
+    @BeforeEach
+    public void setUp() {
+        DatasourceContextConfig datasourceContextConfig = Mockito.mock(DatasourceContextConfig.class);
+        Mockito.when(datasourceContextConfig.isWarmUpEnabled()).thenReturn(true);
+        Mockito.when(datasourceContextConfig.getWarmUpConcurrency()).thenReturn(2);
+
+        newPageRepository = Mockito.mock(NewPageRepository.class);
+        newActionRepository = Mockito.mock(NewActionRepository.class);
+        datasourceService = Mockito.mock(DatasourceService.class);
+        datasourceStorageService = Mockito.mock(DatasourceStorageService.class);
+        datasourceContextService = Mockito.mock(DatasourceContextService.class);
+
+        PluginService pluginService = Mockito.mock(PluginService.class);
+        Mockito.when(pluginService.findById("pluginId")).thenReturn(Mono.just(new Plugin()));
+
+        AuthenticationValidator authenticationValidator = Mockito.mock(AuthenticationValidator.class);
+        Mockito.when(authenticationValidator.validateAuthentication(ArgumentMatchers.any()))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        Mockito.when(datasourceService.getTrueEnvironmentId(
+                        ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .thenReturn(Mono.just("environmentId"));
+        Mockito.when(datasourceStorageService.findByDatasourceAndEnvironmentIdForExecution(
+                        ArgumentMatchers.any(), ArgumentMatchers.eq("environmentId")))
+                .thenAnswer(invocation -> {
+                    Datasource datasource = invocation.getArgument(0);
+                    DatasourceStorage datasourceStorage = new DatasourceStorage();
+                    datasourceStorage.setDatasourceId(datasource.getId());
+                    datasourceStorage.setPluginId(datasource.getPluginId());
+                    return Mono.just(datasourceStorage);
+                });
+        Mockito.doReturn(Mono.just(new DatasourceContext<>()))
+                .when(datasourceContextService)
+                .getDatasourceContext(ArgumentMatchers.any(DatasourceStorage.class), ArgumentMatchers.any());
+
+        datasourceContextWarmer = new DatasourceContextWarmer(
+                datasourceContextConfig,
+                Mockito.mock(ApplicationRepository.class),
+                newPageRepository,
+                newActionRepository,
+                datasourceService,
+                datasourceStorageService,
+                pluginService,
+                authenticationValidator,
+                datasourceContextService);
+    }
+
+    private static DslExecutableDTO onLoadAction(String id, PluginType pluginType) {
+        DslExecutableDTO executable = new DslExecutableDTO();
+        executable.setId(id);
+        executable.setPluginType(pluginType);
+        return executable;
+    }
+
+    private static NewPage publishedPage(Set<DslExecutableDTO> onLoadActions) {
+        Layout layout = new Layout();
+        layout.setLayoutOnLoadActions(List.of(onLoadActions));
+        PageDTO pageDTO = new PageDTO();
+        pageDTO.setLayouts(List.of(layout));
+        NewPage page = new NewPage();
+        page.setPublishedPage(pageDTO);
+        return page;
+    }
+
+    private static NewAction publishedAction(String id, String datasourceId) {
+        Datasource datasource = new Datasource();
+        datasource.setId(datasourceId);
+        ActionDTO actionDTO = new ActionDTO();
+        actionDTO.setDatasource(datasource);
+        NewAction action = new NewAction();
+        action.setId(id);
+        action.setPublishedAction(actionDTO);
+        return action;
+    }
+
+    private void mockDatasource(String datasourceId) {
+        Datasource datasource = new Datasource();
+        datasource.setId(datasourceId);
+        datasource.setPluginId("pluginId");
+        datasource.setWorkspaceId("workspaceId");
+        Mockito.when(datasourceService.findById(datasourceId)).thenReturn(Mono.just(datasource));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void warmUp_onLoadActions_createsContextOncePerDatasource() {
+        Mockito.when(newPageRepository.findAllByApplicationIdsWithoutPermission(
+                        ArgumentMatchers.eq(List.of("appId")), ArgumentMatchers.any()))
+                .thenReturn(Flux.just(
+                        publishedPage(
+                                Set.of(onLoadAction("query1", PluginType.DB), onLoadAction("js1", PluginType.JS))),
+                        publishedPage(
+                                Set.of(onLoadAction("query2", PluginType.DB), onLoadAction("api", PluginType.API))),
+                        new NewPage()));
+        Mockito.when(newActionRepository.findAllByIdIn(ArgumentMatchers.any()))
+                .thenReturn(Flux.just(
+                        publishedAction("query1", "datasource1"),
+                        publishedAction("query2", "datasource1"),
+                        // Embedded datasources have no id
+                        publishedAction("api", null)));
+        mockDatasource("datasource1");
+
+        StepVerifier.create(datasourceContextWarmer.warmUp(List.of("appId")))
+                .expectNext(1L)
+                .verifyComplete();
+
+        ArgumentCaptor<Iterable<String>> actionIds = ArgumentCaptor.forClass(Iterable.class);
+        Mockito.verify(newActionRepository).findAllByIdIn(actionIds.capture());
+        assertThat(actionIds.getValue()).containsExactlyInAnyOrder("query1", "query2", "api");
+        Mockito.verify(datasourceContextService, Mockito.times(1))
+                .getDatasourceContext(ArgumentMatchers.any(DatasourceStorage.class), ArgumentMatchers.any());
+    }
+
+    @Test
+    public void warmUp_unreachableDatasource_isSkipped() {
+        Mockito.when(newPageRepository.findAllByApplicationIdsWithoutPermission(
+                        ArgumentMatchers.eq(List.of("appId")), ArgumentMatchers.any()))
+                .thenReturn(Flux.just(publishedPage(
+                        Set.of(onLoadAction("query1", PluginType.DB), onLoadAction("query2", PluginType.DB)))));
+        Mockito.when(newActionRepository.findAllByIdIn(ArgumentMatchers.any()))
+                .thenReturn(
+                        Flux.just(publishedAction("query1", "datasource1"), publishedAction("query2", "datasource2")));
+        mockDatasource("datasource1");
+        mockDatasource("datasource2");
+        Mockito.doReturn(Mono.error(new AppsmithException(AppsmithError.INTERNAL_SERVER_ERROR)))
+                .when(datasourceContextService)
+                .getDatasourceContext(
+                        ArgumentMatchers.argThat(
+                                (DatasourceStorage storage) -> "datasource2".equals(storage.getDatasourceId())),
+                        ArgumentMatchers.any());
+
+        StepVerifier.create(datasourceContextWarmer.warmUp(List.of("appId")))
+                .expectNext(1L)
+                .verifyComplete();
+    }
+}
@@ -409,6 +409,48 @@ public class NewPageServiceTest {
         });
     }
 
+    @Test
+    @WithUserDetails("api_user")
+    public void findPageListForApplication_InViewMode_ReturnsPublishedPagesWithoutLayouts() {
+        Application application = new Application();
+        application.setName("app" + UUID.randomUUID());
+        String applicationId = applicationPageService
+                .createApplication(application, workspaceId)
+                .block()
+                .getId();
+        applicationPageService.publish(applicationId, true).block();
+
+        PageDTO pageDTO = new PageDTO();
+        pageDTO.setApplicationId(applicationId);
+        pageDTO.setName("unpublishedPage");
+        applicationPageService.createPage(pageDTO).block();
+
+        Application updatedApplication =
+                applicationService.findById(applicationId).block();
+
+        StepVerifier.create(newPageService.findPageListForApplication(updatedApplication, true))
+                .assertNext(pages -> {
+                    assertThat(pages).hasSize(1);
+                    NewPage page = pages.get(0);
+                    assertThat(page.getPublishedPage().getName()).isEqualTo("Page1");
+                    assertThat(page.getPublishedPage().getLayouts()).isNull();
+                    assertThat(page.getUnpublishedPage()).isNull();
+                    assertThat(page.getDefaultResources().getPageId()).isEqualTo(page.getId());
+                    assertThat(page.getUserPermissions()).isNotEmpty();
+                })
+                .verifyComplete();
+
+        StepVerifier.create(newPageService.findPageListForApplication(updatedApplication, false))
+                .assertNext(pages -> {
+                    assertThat(pages).hasSize(2);
+                    assertThat(pages).allSatisfy(page -> {
+                        assertThat(page.getUnpublishedPage().getLayouts()).isNull();
+                        assertThat(page.getPublishedPage()).isNull();
+                    });
+                })
+                .verifyComplete();
+    }
+
     @Test
     @WithUserDetails("api_user")
     public void updateDependencyMap_NotNullValue_shouldUpdateDependencyMap() {
@@ -0,0 +1,427 @@
+package com.appsmith.server.services.ce;
+
+import com.appsmith.external.models.ConnectionPoolMetrics;
+import com.appsmith.external.models.Datasource;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.DatasourceStorage;
+import com.appsmith.external.models.DatasourceTestResult;
+import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.server.configurations.DatasourceContextConfig;
+import com.appsmith.server.datasources.base.DatasourceService;
+import com.appsmith.server.datasourcestorages.base.DatasourceStorageService;
+import com.appsmith.server.domains.DatasourceContext;
+import com.appsmith.server.domains.DatasourceContextIdentifier;
+import com.appsmith.server.domains.Plugin;
+import com.appsmith.server.helpers.PluginExecutorHelper;
+import com.appsmith.server.plugins.base.PluginService;
+import com.appsmith.server.services.ConfigService;
+import com.appsmith.server.solutions.DatasourcePermission;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DatasourceContextServiceCEImplTest {
+
+    private PluginExecutor<Object> pluginExecutor;
+    private DatasourceContextConfig datasourceContextConfig;
+    private DatasourceService datasourceService;
+    private DatasourceStorageService datasourceStorageService;
+    private SimpleMeterRegistry meterRegistry;
+    private DatasourceContextServiceCEImpl datasourceContextService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        pluginExecutor = Mockito.mock(PluginExecutor.class);
+        PluginExecutorHelper pluginExecutorHelper = Mockito.mock(PluginExecutorHelper.class);
+        Mockito.when(pluginExecutorHelper.getPluginExecutorFromPluginId("pluginId"))
+                .thenReturn(Mono.just(pluginExecutor));
+
+        datasourceContextConfig = Mockito.mock(DatasourceContextConfig.class);
+        Mockito.when(datasourceContextConfig.getMaxSize()).thenReturn(10);
+        Mockito.when(datasourceContextConfig.getIdleTimeoutInMinutes()).thenReturn(30L);
+        Mockito.when(datasourceContextConfig.isValidationEnabled()).thenReturn(true);
+        Mockito.when(datasourceContextConfig.getValidationTimeoutInSeconds()).thenReturn(10L);
+        Mockito.when(datasourceContextConfig.getValidationConcurrency()).thenReturn(2);
+
+        datasourceService = Mockito.mock(DatasourceService.class);
+        datasourceStorageService = Mockito.mock(DatasourceStorageService.class);
+
+        meterRegistry = new SimpleMeterRegistry();
+        datasourceContextService = Mockito.spy(new DatasourceContextServiceCEImpl(
+                datasourceService,
+                datasourceStorageService,
+                Mockito.mock(PluginService.class),
+                pluginExecutorHelper,
+                Mockito.mock(ConfigService.class),
+                Mockito.mock(DatasourcePermission.class),
+                datasourceContextConfig,
+                meterRegistry));
+    }
+
+    private DatasourceContextIdentifier addContext(String datasourceId, Instant lastAccessedTime) {
+        DatasourceContext<Object> datasourceContext = new DatasourceContext<>();
+        datasourceContext.setPluginId("pluginId");
+        datasourceContext.setConnection("connection-" + datasourceId);
+        datasourceContext.setLastAccessedTime(lastAccessedTime);
+
+        DatasourceContextIdentifier identifier = new DatasourceContextIdentifier(datasourceId, "envId");
+        datasourceContextService.datasourceContextMap.put(identifier, datasourceContext);
+        datasourceContextService.datasourceContextMonoMap.put(identifier, Mono.just(datasourceContext));
+        return identifier;
+    }
+
+    private double evictions(String cause) {
+        return meterRegistry
+                .get("appsmith.datasource.context.evictions")
+                .tag("cause", cause)
+                .counter()
+                .count();
+    }
+
+    @Test
+    public void evictDatasourceContexts_idleContext_isDestroyed() {
+        DatasourceContextIdentifier idle = addContext("idle", Instant.now().minus(Duration.ofHours(1)));
+        DatasourceContextIdentifier active = addContext("active", Instant.now());
+
+        StepVerifier.create(datasourceContextService.evictDatasourceContexts())
+                .expectNext(1L)
+                .verifyComplete();
+
+        assertThat(datasourceContextService.datasourceContextMap).doesNotContainKey(idle);
+        assertThat(datasourceContextService.datasourceContextMonoMap).doesNotContainKey(idle);
+        assertThat(datasourceContextService.datasourceContextMap).containsKey(active);
+        Mockito.verify(pluginExecutor).datasourceDestroy("connection-idle");
+        Mockito.verify(pluginExecutor, Mockito.never()).datasourceDestroy("connection-active");
+        assertThat(evictions("idle")).isEqualTo(1);
+    }
+
+    @Test
+    public void evictDatasourceContexts_beyondMaxSize_leastRecentlyUsedIsDestroyed() {
+        Mockito.when(datasourceContextConfig.getMaxSize()).thenReturn(2);
+        Instant now = Instant.now();
+        DatasourceContextIdentifier oldest = addContext("oldest", now.minusSeconds(30));
+        addContext("middle", now.minusSeconds(20));
+        addContext("newest", now.minusSeconds(10));
+
+        StepVerifier.create(datasourceContextService.evictDatasourceContexts())
+                .expectNext(1L)
+                .verifyComplete();
+
+        assertThat(datasourceContextService.datasourceContextMap).hasSize(2).doesNotContainKey(oldest);
+        Mockito.verify(pluginExecutor).datasourceDestroy("connection-oldest");
+        assertThat(evictions("size")).isEqualTo(1);
+        assertThat(meterRegistry
+                        .get("appsmith.datasource.context.count")
+                        .gauge()
+                        .value())
+                .isEqualTo(2);
+    }
+
+    @Test
+    public void evictDatasourceContexts_contextInUse_isNotDestroyed() {
+        Mockito.when(datasourceContextConfig.getMaxSize()).thenReturn(1);
+        Instant now = Instant.now();
+        DatasourceContextIdentifier inUse = addContext("inUse", now.minus(Duration.ofHours(1)));
+        DatasourceContextIdentifier idle = addContext("idle", now.minusSeconds(20));
+        DatasourceContextIdentifier newest = addContext("newest", now.minusSeconds(10));
+        datasourceContextService.datasourceContextMap.get(inUse).markInUse();
+
+        // The context in use still counts towards the maximum, so both of the others are evicted
+        StepVerifier.create(datasourceContextService.evictDatasourceContexts())
+                .expectNext(2L)
+                .verifyComplete();
+
+        assertThat(datasourceContextService.datasourceContextMap)
+                .containsKey(inUse)
+                .doesNotContainKeys(idle, newest);
+        Mockito.verify(pluginExecutor, Mockito.never()).datasourceDestroy("connection-inUse");
+
+        // Once the execution is done, it is evicted like any other idle context
+        datasourceContextService.datasourceContextMap.get(inUse).markNotInUse();
+
+        StepVerifier.create(datasourceContextService.evictDatasourceContexts())
+                .expectNext(1L)
+                .verifyComplete();
+
+        Mockito.verify(pluginExecutor).datasourceDestroy("connection-inUse");
+    }
+
+    @Test
+    public void evictDatasourceContexts_contextBeingCreated_isDestroyedAfterCreation() {
+        Sinks.One<Object> connectionCreation = Sinks.one();
+        Mockito.when(pluginExecutor.datasourceCreate(ArgumentMatchers.any())).thenReturn(connectionCreation.asMono());
+
+        Plugin plugin = new Plugin();
+        plugin.setId("pluginId");
+        plugin.setPackageName("postgres-plugin");
+        DatasourceStorage datasourceStorage = new DatasourceStorage();
+        datasourceStorage.setDatasourceId("creating");
+        datasourceStorage.setDatasourceConfiguration(new DatasourceConfiguration());
+        DatasourceContextIdentifier identifier = new DatasourceContextIdentifier("creating", "envId");
+
+        datasourceContextService
+                .getCachedDatasourceContextMono(datasourceStorage, plugin, pluginExecutor, new Object(), identifier)
+                .subscribe();
+        Awaitility.await()
+                .atMost(Duration.ofSeconds(5))
+                .until(() -> datasourceContextService.datasourceContextMonoMap.containsKey(identifier));
+        DatasourceContext<?> datasourceContext = datasourceContextService.datasourceContextMap.get(identifier);
+        datasourceContext.setLastAccessedTime(Instant.now().minus(Duration.ofHours(1)));
+
+        StepVerifier.create(datasourceContextService.evictDatasourceContexts())
+                .expectNext(0L)
+                .verifyComplete();
+
+        assertThat(datasourceContextService.datasourceContextMap).containsKey(identifier);
+
+        connectionCreation.tryEmitValue("connection-creating");
+        Awaitility.await().atMost(Duration.ofSeconds(5)).until(() -> !datasourceContext.isCreating());
+
+        StepVerifier.create(datasourceContextService.evictDatasourceContexts())
+                .expectNext(1L)
+                .verifyComplete();
+
+        assertThat(datasourceContextService.datasourceContextMap).doesNotContainKey(identifier);
+        Mockito.verify(pluginExecutor).datasourceDestroy("connection-creating");
+    }
+
+    @Test
+    public void evictDatasourceContexts_contextWithoutConnection_doesNotSubscribeToContextMono() {
+        DatasourceContext<Object> datasourceContext = new DatasourceContext<>();
+        datasourceContext.setPluginId("pluginId");
+        datasourceContext.setLastAccessedTime(Instant.now().minus(Duration.ofHours(1)));
+        AtomicInteger subscriptions = new AtomicInteger();
+
+        DatasourceContextIdentifier identifier = new DatasourceContextIdentifier("unsubscribed", "envId");
+        datasourceContextService.datasourceContextMap.put(identifier, datasourceContext);
+        datasourceContextService.datasourceContextMonoMap.put(
+                identifier,
+                Mono.fromSupplier(() -> datasourceContext)
+                        .doOnSubscribe(subscription -> subscriptions.incrementAndGet()));
+
+        StepVerifier.create(datasourceContextService.evictDatasourceContexts())
+                .expectNext(1L)
+                .verifyComplete();
+
+        assertThat(datasourceContextService.datasourceContextMap).doesNotContainKey(identifier);
+        assertThat(subscriptions.get()).isZero();
+    }
+
+    @Test
+    public void getCachedDatasourceContextMono_pooledConnection_exportsPoolMetricsUntilEvicted() {
+        Mockito.when(pluginExecutor.datasourceCreate(ArgumentMatchers.any())).thenReturn(Mono.just("connection"));
+        Mockito.when(pluginExecutor.getConnectionPoolMetrics("connection"))
+                .thenReturn(ConnectionPoolMetrics.builder()
+                        .activeConnections(() -> 3)
+                        .idleConnections(() -> 2)
+                        .build());
+
+        Plugin plugin = new Plugin();
+        plugin.setId("pluginId");
+        plugin.setPackageName("postgres-plugin");
+        DatasourceStorage datasourceStorage = new DatasourceStorage();
+        datasourceStorage.setDatasourceId("datasourceId");
+        datasourceStorage.setDatasourceConfiguration(new DatasourceConfiguration());
+        DatasourceContextIdentifier identifier = new DatasourceContextIdentifier("datasourceId", "envId");
+
+        StepVerifier.create(datasourceContextService.getCachedDatasourceContextMono(
+                        datasourceStorage, plugin, pluginExecutor, new Object(), identifier))
+                .assertNext(datasourceContext ->
+                        assertThat(datasourceContext.getConnection()).isEqualTo("connection"))
+                .verifyComplete();
+
+        assertThat(meterRegistry
+                        .get("appsmith.datasource.connection.pool.active")
+                        .tag("plugin", "postgres-plugin")
+                        .tag("datasourceId", "datasourceId")
+                        .gauge()
+                        .value())
+                .isEqualTo(3);
+        assertThat(meterRegistry
+                        .get("appsmith.datasource.connection.pool.idle")
+                        .gauge()
+                        .value())
+                .isEqualTo(2);
+        // Counts the pool doesn't expose are not reported
+        assertThat(meterRegistry
+                        .find("appsmith.datasource.connection.pool.pending")
+                        .gauge())
+                .isNull();
+
+        datasourceContextService.datasourceContextMap.get(identifier).setLastAccessedTime(Instant.EPOCH);
+        StepVerifier.create(datasourceContextService.evictDatasourceContexts())
+                .expectNext(1L)
+                .verifyComplete();
+
+        assertThat(meterRegistry
+                        .find("appsmith.datasource.connection.pool.active")
+                        .gauge())
+                .isNull();
+    }
+
+    @Test
+    public void validateDatasourceContexts_brokenContext_isReplacedWithNewOne() {
+        DatasourceContextIdentifier healthy = addContext("healthy", Instant.now());
+        DatasourceContextIdentifier broken = addContext("broken", Instant.now());
+        Mockito.when(pluginExecutor.testDatasource("connection-healthy"))
+                .thenReturn(Mono.just(new DatasourceTestResult()));
+        Mockito.when(pluginExecutor.testDatasource("connection-broken"))
+                .thenReturn(Mono.just(new DatasourceTestResult("Connection refused")));
+
+        Datasource datasource = new Datasource();
+        datasource.setId("broken");
+        Mockito.when(datasourceService.findById("broken")).thenReturn(Mono.just(datasource));
+        DatasourceStorage datasourceStorage = new DatasourceStorage();
+        datasourceStorage.setDatasourceId("broken");
+        datasourceStorage.setEnvironmentId("envId");
+        datasourceStorage.setPluginId("pluginId");
+        datasourceStorage.setDatasourceConfiguration(new DatasourceConfiguration());
+        Mockito.when(datasourceStorageService.findByDatasourceAndEnvironmentIdForExecution(datasource, "envId"))
+                .thenReturn(Mono.just(datasourceStorage));
+        Mockito.when(datasourceService.isEndpointBlockedForConnectionRequest(datasourceStorage))
+                .thenReturn(Mono.just(false));
+        Mockito.doReturn(Mono.just(new DatasourceContext<>()))
+                .when(datasourceContextService)
+                .createNewDatasourceContext(ArgumentMatchers.eq(datasourceStorage), ArgumentMatchers.any());
+
+        StepVerifier.create(datasourceContextService.validateDatasourceContexts())
+                .expectNext(1L)
+                .verifyComplete();
+
+        Mockito.verify(pluginExecutor).datasourceDestroy("connection-broken");
+        Mockito.verify(pluginExecutor, Mockito.never()).datasourceDestroy("connection-healthy");
+        Mockito.verify(datasourceContextService)
+                .createNewDatasourceContext(ArgumentMatchers.eq(datasourceStorage), ArgumentMatchers.any());
+        assertThat(datasourceContextService.datasourceContextMap).containsKey(healthy);
+        assertThat(meterRegistry
+                        .get("appsmith.datasource.context.validations")
+                        .tag("result", "broken")
+                        .counter()
+                        .count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void validateDatasourceContexts_testErrorsOut_contextIsRemoved() {
+        DatasourceContextIdentifier identifier = addContext("datasourceId", Instant.now());
+        Mockito.when(pluginExecutor.testDatasource("connection-datasourceId"))
+                .thenReturn(Mono.error(new RuntimeException("Connection reset")));
+        Mockito.when(datasourceService.findById("datasourceId")).thenReturn(Mono.empty());
+
+        StepVerifier.create(datasourceContextService.validateDatasourceContexts())
+                .expectNext(1L)
+                .verifyComplete();
+
+        assertThat(datasourceContextService.datasourceContextMap).doesNotContainKey(identifier);
+        assertThat(datasourceContextService.datasourceContextMonoMap).doesNotContainKey(identifier);
+        Mockito.verify(pluginExecutor).datasourceDestroy("connection-datasourceId");
+    }
+
+    @Test
+    public void validateDatasourceContexts_testTimesOutOrPoolIsExhausted_contextIsKept() {
+        Mockito.when(datasourceContextConfig.getValidationTimeoutInSeconds()).thenReturn(1L);
+        DatasourceContextIdentifier slow = addContext("slow", Instant.now());
+        DatasourceContextIdentifier exhausted = addContext("exhausted", Instant.now());
+        Mockito.when(pluginExecutor.testDatasource("connection-slow")).thenReturn(Mono.never());
+        Mockito.when(pluginExecutor.testDatasource("connection-exhausted"))
+                .thenReturn(Mono.error(new SQLTransientConnectionException("Connection is not available")));
+
+        StepVerifier.create(datasourceContextService.validateDatasourceContexts())
+                .expectNext(0L)
+                .verifyComplete();
+
+        assertThat(datasourceContextService.datasourceContextMap).containsKeys(slow, exhausted);
+        Mockito.verify(pluginExecutor, Mockito.never()).datasourceDestroy(ArgumentMatchers.any());
+        assertThat(meterRegistry
+                        .get("appsmith.datasource.context.validations")
+                        .tag("result", "inconclusive")
+                        .counter()
+                        .count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    public void validateDatasourceContexts_busyContext_isNotTested() {
+        DatasourceContextIdentifier inUse = addContext("inUse", Instant.now());
+        DatasourceContextIdentifier exhausted = addContext("exhausted", Instant.now());
+        datasourceContextService.datasourceContextMap.get(inUse).markInUse();
+        datasourceContextService.connectionPoolMetricsMap.put(
+                exhausted,
+                ConnectionPoolMetrics.builder()
+                        .activeConnections(() -> 5)
+                        .idleConnections(() -> 0)
+                        .build());
+
+        StepVerifier.create(datasourceContextService.validateDatasourceContexts())
+                .expectNext(0L)
+                .verifyComplete();
+
+        Mockito.verify(pluginExecutor, Mockito.never()).testDatasource(ArgumentMatchers.any());
+        assertThat(meterRegistry
+                        .get("appsmith.datasource.context.validations")
+                        .tag("result", "skipped")
+                        .counter()
+                        .count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    public void validateDatasourceContexts_previousRunStillGoing_isSkipped() {
+        addContext("datasourceId", Instant.now());
+        Sinks.One<DatasourceTestResult> testResult = Sinks.one();
+        Mockito.when(pluginExecutor.testDatasource("connection-datasourceId")).thenReturn(testResult.asMono());
+
+        StepVerifier.FirstStep<Long> firstRun =
+                StepVerifier.create(datasourceContextService.validateDatasourceContexts());
+        Mono<Long> secondRun = datasourceContextService.validateDatasourceContexts();
+
+        firstRun.then(() -> {
+                    // The second run starts while the first one waits for the test, and does nothing
+                    StepVerifier.create(secondRun).expectNext(0L).verifyComplete();
+                    testResult.tryEmitValue(new DatasourceTestResult());
+                })
+                .expectNext(0L)
+                .verifyComplete();
+        Mockito.verify(pluginExecutor, Mockito.times(1)).testDatasource("connection-datasourceId");
+
+        // Runs that start after the previous one is done test the contexts again
+        Mockito.when(pluginExecutor.testDatasource("connection-datasourceId"))
+                .thenReturn(Mono.just(new DatasourceTestResult()));
+        StepVerifier.create(datasourceContextService.validateDatasourceContexts())
+                .expectNext(0L)
+                .verifyComplete();
+        Mockito.verify(pluginExecutor, Mockito.times(2)).testDatasource("connection-datasourceId");
+    }
+
+    @Test
+    public void validateDatasourceContexts_withJitter_waitsDoNotHoldConcurrencySlots() {
+        Mockito.when(datasourceContextConfig.getValidationJitterInSeconds()).thenReturn(60L);
+        Mockito.when(datasourceContextConfig.getValidationConcurrency()).thenReturn(1);
+        for (int i = 0; i < 5; i++) {
+            addContext("datasource" + i, Instant.now());
+            Mockito.when(pluginExecutor.testDatasource("connection-datasource" + i))
+                    .thenReturn(Mono.just(new DatasourceTestResult()));
+        }
+
+        // With one slot, waiting for the offset inside it would take up to five times the jitter
+        StepVerifier.withVirtualTime(() -> datasourceContextService.validateDatasourceContexts())
+                .thenAwait(Duration.ofSeconds(61))
+                .expectNext(0L)
+                .verifyComplete();
+        Mockito.verify(pluginExecutor, Mockito.times(5)).testDatasource(ArgumentMatchers.anyString());
+    }
+}
@@ -0,0 +1,63 @@
+package com.appsmith.server.services.ce;
+
+import com.appsmith.server.configurations.EncryptionConfig;
+import org.apache.commons.codec.binary.Hex;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.security.crypto.encrypt.Encryptors;
+import org.springframework.security.crypto.encrypt.TextEncryptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class EncryptionServiceCEImplTest {
+
+    private TextEncryptor textEncryptor;
+
+    private EncryptionServiceCEImpl encryptionService(long decryptionCacheMaxSize) {
+        EncryptionConfig encryptionConfig = Mockito.mock(EncryptionConfig.class);
+        Mockito.when(encryptionConfig.getDecryptionCacheMaxSize()).thenReturn(decryptionCacheMaxSize);
+        Mockito.when(encryptionConfig.getDecryptionCacheTtlInSeconds()).thenReturn(60L);
+        // A spy on the real encryptor, so that the decryptions that actually happen can be counted
+        textEncryptor = Mockito.spy(Encryptors.delux("password", Hex.encodeHexString("salt".getBytes())));
+        return new EncryptionServiceCEImpl(encryptionConfig, textEncryptor);
+    }
+
+    @Test
+    public void decryptString_withCache_decryptsOnlyOnFirstRead() {
+        EncryptionServiceCEImpl encryptionService = encryptionService(10);
+        String encrypted = encryptionService.encryptString("secret");
+
+        assertThat(encryptionService.decryptString(encrypted)).isEqualTo("secret");
+        assertThat(encryptionService.decryptString(encrypted)).isEqualTo("secret");
+
+        // The second read comes from the cache
+        Mockito.verify(textEncryptor, Mockito.times(1)).decrypt(encrypted);
+        // Encryption uses a random IV, so the same plaintext never maps to the same cached ciphertext
+        assertThat(encryptionService.encryptString("secret")).isNotEqualTo(encrypted);
+    }
+
+    @Test
+    public void decryptString_withoutCache_returnsPlaintext() {
+        EncryptionServiceCEImpl encryptionService = encryptionService(0);
+        String encrypted = encryptionService.encryptString("secret");
+
+        assertThat(encryptionService.decryptString(encrypted)).isEqualTo("secret");
+        assertThat(encryptionService.decryptString(encrypted)).isEqualTo("secret");
+
+        Mockito.verify(textEncryptor, Mockito.times(2)).decrypt(encrypted);
+    }
+
+    @Test
+    public void decryptString_invalidCiphertext_failsOnEveryRead() {
+        EncryptionServiceCEImpl encryptionService = encryptionService(10);
+        String encrypted = encryptionService.encryptString("secret");
+        // Flipping the last byte breaks the authentication tag
+        String lastByte = encrypted.substring(encrypted.length() - 2);
+        String tampered = encrypted.substring(0, encrypted.length() - 2) + ("00".equals(lastByte) ? "ff" : "00");
+
+        assertThatThrownBy(() -> encryptionService.decryptString(tampered)).isInstanceOf(RuntimeException.class);
+        assertThatThrownBy(() -> encryptionService.decryptString(tampered)).isInstanceOf(RuntimeException.class);
+        Mockito.verify(textEncryptor, Mockito.times(2)).decrypt(tampered);
+    }
+}
@@ -182,6 +182,8 @@ public class CreateDBTablePageSolutionTests {
     public void setup() {
 
         Mockito.when(pluginExecutorHelper.getPluginExecutor(any())).thenReturn(Mono.just(spyMockPluginExecutor));
+        Mockito.when(pluginExecutorHelper.getPluginExecutorFromPluginId(any()))
+                .thenReturn(Mono.just(spyMockPluginExecutor));
         Mockito.when(pluginExecutorHelper.getPluginExecutorFromPackageName(Mockito.anyString()))
                 .thenReturn(Mono.just(spyMockPluginExecutor))
                 .thenReturn(Mono.just(spyMockPluginExecutor));
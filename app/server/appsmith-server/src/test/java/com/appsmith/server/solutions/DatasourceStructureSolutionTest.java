@@ -120,6 +120,8 @@ public class DatasourceStructureSolutionTest {
 
         Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any()))
                 .thenReturn(Mono.just(new MockPluginExecutor()));
+        Mockito.when(pluginExecutorHelper.getPluginExecutorFromPluginId(Mockito.any()))
+                .thenReturn(Mono.just(new MockPluginExecutor()));
 
         Datasource datasource = createDatasourceObject("sampleDS", workspaceId, "postgres-plugin");
         datasource.getDatasourceStorages().put(defaultEnvironmentId, generateSampleDatasourceStorageDTO());
@@ -367,6 +369,8 @@ public class DatasourceStructureSolutionTest {
 
         Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any()))
                 .thenReturn(Mono.just(new MockPluginExecutor()));
+        Mockito.when(pluginExecutorHelper.getPluginExecutorFromPluginId(Mockito.any()))
+                .thenReturn(Mono.just(new MockPluginExecutor()));
 
         Datasource savedDatasource = datasourceService.create(datasource).block();
         Mono<DatasourceStructure> datasourceStructureMono =
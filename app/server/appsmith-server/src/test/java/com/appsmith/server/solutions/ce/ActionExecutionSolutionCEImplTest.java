@@ -8,6 +8,7 @@ import com.appsmith.external.models.ActionExecutionResult;
 import com.appsmith.external.models.Datasource;
 import com.appsmith.external.models.Param;
 import com.appsmith.server.applications.base.ApplicationService;
+import com.appsmith.server.configurations.ActionExecutionConfig;
 import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.datasources.base.DatasourceService;
 import com.appsmith.server.datasourcestorages.base.DatasourceStorageService;
@@ -16,6 +17,11 @@ import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.newactions.base.NewActionService;
+import com.appsmith.server.newactions.execution.ActionExecutionCoalescer;
+import com.appsmith.server.newactions.execution.ActionExecutionResultCache;
+import com.appsmith.server.newactions.execution.DatasourceConcurrencyLimiter;
+import com.appsmith.server.newactions.execution.ExecuteRequestPartReader;
+import com.appsmith.server.newactions.execution.ExecutionAnalyticsPublisher;
 import com.appsmith.server.newpages.base.NewPageService;
 import com.appsmith.server.plugins.base.PluginService;
 import com.appsmith.server.services.AnalyticsService;
@@ -28,6 +34,7 @@ import com.appsmith.server.solutions.ActionPermission;
 import com.appsmith.server.solutions.DatasourcePermission;
 import com.appsmith.server.solutions.EnvironmentPermission;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -58,7 +65,11 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.io.IOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -67,6 +78,7 @@ import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -133,6 +145,14 @@ class ActionExecutionSolutionCEImplTest {
     @Autowired
     EnvironmentPermission environmentPermission;
 
+    @MockBean
+    ActionExecutionResultCache actionExecutionResultCache;
+
+    ExecuteRequestPartReader executeRequestPartReader;
+
+    @MockBean
+    ExecutionAnalyticsPublisher executionAnalyticsPublisher;
+
     private BodyExtractor.Context context;
 
     private Map<String, Object> hints;
@@ -141,6 +161,11 @@ class ActionExecutionSolutionCEImplTest {
     public void beforeEach() {
         observationRegistry = Mockito.mock(ObservationRegistry.class);
 
+        ActionExecutionConfig actionExecutionConfig = Mockito.mock(ActionExecutionConfig.class);
+        Mockito.when(actionExecutionConfig.getRequestMaxSizeInMb()).thenReturn(150L);
+        Mockito.when(actionExecutionConfig.getBlobSpillThresholdInKb()).thenReturn(1024L);
+        executeRequestPartReader = new ExecuteRequestPartReader(actionExecutionConfig, new SimpleMeterRegistry());
+
         actionExecutionSolution = new ActionExecutionSolutionCEImpl(
                 newActionService,
                 actionPermission,
@@ -159,7 +184,12 @@ class ActionExecutionSolutionCEImplTest {
                 datasourceStorageService,
                 environmentPermission,
                 configService,
-                tenantService);
+                tenantService,
+                actionExecutionResultCache,
+                executeRequestPartReader,
+                executionAnalyticsPublisher,
+                new DatasourceConcurrencyLimiter(actionExecutionConfig, new SimpleMeterRegistry()),
+                new ActionExecutionCoalescer(actionExecutionConfig, new SimpleMeterRegistry()));
 
         ObservationRegistry.ObservationConfig mockObservationConfig =
                 Mockito.mock(ObservationRegistry.ObservationConfig.class);
@@ -422,6 +452,9 @@ class ActionExecutionSolutionCEImplTest {
                             param.getValue());
                 })
                 .verifyComplete();
+
+        // Every part counts towards the size of the request, including the action and the parameter map
+        assertEquals(270, atomicLong.get());
     }
 
     @Test
@@ -451,4 +484,66 @@ class ActionExecutionSolutionCEImplTest {
                 })
                 .verifyComplete();
     }
+
+    @Test
+    public void testEnrichExecutionParams_withSpilledBlobReference_performsSubstitutionCorrectly() throws IOException {
+        Path blobFilePath = Files.createTempFile("appsmith-blob-", ".tmp");
+        Files.writeString(blobFilePath, "xy\\nz", StandardCharsets.ISO_8859_1);
+
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        executeActionDTO.setActionId("testId");
+        executeActionDTO.setViewMode(false);
+        executeActionDTO.setParamProperties(Map.of("k0", new ParamProperty("string", List.of("blobId"))));
+        executeActionDTO.setParameterMap(Map.of("Input1.text", "k0"));
+        executeActionDTO.setBlobValuesMap(Map.of());
+        executeActionDTO.setBlobFilePathsMap(Map.of("blobId", blobFilePath));
+        Param param1 = new Param();
+        param1.setValue("{\"name\": \"randomName\", \"data\": \"blobId\"}");
+        param1.setPseudoBindingName("k0");
+
+        Mono<ExecuteActionDTO> enrichedDto =
+                actionExecutionSolution.enrichExecutionParam(new AtomicLong(), executeActionDTO, List.of(param1));
+
+        StepVerifier.create(enrichedDto)
+                .assertNext(dto -> {
+                    Param param = dto.getParams().get(0);
+                    assertEquals("{\"name\": \"randomName\", \"data\": \"xy\\\\nz\"}", param.getValue());
+                })
+                .verifyComplete();
+
+        executeRequestPartReader.deleteSpilledBlobs(executeActionDTO);
+        assertFalse(Files.exists(blobFilePath));
+    }
+
+    @Test
+    public void testEnrichExecutionParams_withRepeatedSpilledBlobReference_substitutesEveryReference()
+            throws IOException {
+        Path blobFilePath = Files.createTempFile("appsmith-blob-", ".tmp");
+        Files.writeString(blobFilePath, "xy\\nz", StandardCharsets.ISO_8859_1);
+
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        executeActionDTO.setActionId("testId");
+        executeActionDTO.setViewMode(false);
+        executeActionDTO.setParamProperties(
+                Map.of("k0", new ParamProperty("string", List.of("blobId", "otherBlobId"))));
+        executeActionDTO.setParameterMap(Map.of("Input1.text", "k0"));
+        executeActionDTO.setBlobValuesMap(Map.of("otherBlobId", "ab"));
+        executeActionDTO.setBlobFilePathsMap(Map.of("blobId", blobFilePath));
+        Param param1 = new Param();
+        param1.setValue("{\"first\": \"blobId\", \"other\": \"otherBlobId\", \"second\": \"blobId\"}");
+        param1.setPseudoBindingName("k0");
+
+        Mono<ExecuteActionDTO> enrichedDto =
+                actionExecutionSolution.enrichExecutionParam(new AtomicLong(), executeActionDTO, List.of(param1));
+
+        StepVerifier.create(enrichedDto)
+                .assertNext(dto -> {
+                    Param param = dto.getParams().get(0);
+                    assertEquals(
+                            "{\"first\": \"xy\\\\nz\", \"other\": \"ab\", \"second\": \"xy\\\\nz\"}", param.getValue());
+                })
+                .verifyComplete();
+
+        executeRequestPartReader.deleteSpilledBlobs(executeActionDTO);
+    }
 }